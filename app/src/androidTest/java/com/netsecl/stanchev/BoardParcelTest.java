@@ -0,0 +1,97 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+
+package com.netsecl.stanchev;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import android.os.Parcel;
+
+/**
+ * Passes boards through a real Parcel, the way they travel in the intent of
+ * OverflowActivity and in its saved instance state.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class BoardParcelTest extends TestCase {
+
+	/**
+	 * Number of random games played.
+	 */
+	private static final int GAMES = 50;
+
+	/**
+	 * Writes the positions of random games on boards of different sizes to a
+	 * Parcel, reads them back with the creator and plays on with both boards.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void testRoundTrip() {
+		Random random = new Random(20121103L);
+
+		for (int g = 0; g < GAMES; g++) {
+			int size = Board.MIN_BOARD_SIZE
+					+ g % (Board.MAX_BOARD_SIZE - Board.MIN_BOARD_SIZE + 1);
+			Board board = new Board(size);
+			int moves = random.nextInt(4 * size * size);
+
+			for (int m = 0; m < moves && board.end() == false; m++) {
+				board.move(board.randomMove(random));
+			}
+
+			Parcel parcel = Parcel.obtain();
+			board.writeToParcel(parcel, 0);
+			parcel.setDataPosition(0);
+			Board copy = Board.CREATOR.createFromParcel(parcel);
+			parcel.recycle();
+
+			while (true) {
+				assertTrue(Arrays.deepEquals(board.getStones(),
+						copy.getStones()));
+				assertEquals(board.getWho(), copy.getWho());
+				assertEquals(board.getTurn(), copy.getTurn());
+				assertEquals(board.getKey(), copy.getKey());
+				assertEquals(board.getWinner(), copy.getWinner());
+
+				if (board.end() == true) {
+					break;
+				}
+
+				int cell = board.randomMove(random);
+				board.move(cell);
+				copy.move(cell);
+			}
+		}
+	}
+}
@@ -23,7 +23,7 @@
 
 package com.netsecl.stanchev;
 
-import android.graphics.Point;
+import java.util.Random;
 
 /**
  * This is an abstract class used to construct the phases of the AI.
@@ -36,6 +36,22 @@ import android.graphics.Point;
  */
 abstract public class AI {
 
+	/**
+	 * Returned by move when there is no valid move.
+	 */
+	public static final int NO_MOVE = Board.NO_MOVE;
+
+	/**
+	 * Random numbers for the moves, one generator per thread, so the AIs on
+	 * different threads do not wait for each other.
+	 */
+	protected static final ThreadLocal<Random> RANDOM = new ThreadLocal<Random>() {
+		@Override
+		protected Random initialValue() {
+			return (new Random());
+		}
+	};
+
 	/**
 	 * Phase one of the game - when we set 3 stones/deployment moves.
 	 * 
@@ -57,20 +73,71 @@ abstract public class AI {
 	 * 
 	 * @date 13 April 2012
 	 */
-	protected void phaseTwoMove() throws Exception {
+	protected void phaseTwoMove() {
 	}
 
 	/**
 	 * Returns the actual move of the AI.
 	 * 
+	 * @param board
+	 *            The position with the AI on move. It is not changed.
+	 * 
+	 * @return Returns the index x * size + y of the cell of the move, or
+	 *         NO_MOVE if there is no valid move.
+	 * 
 	 * @author Yuriy Stanchev
 	 * 
 	 * @email i_stanchev@ml1.net
 	 * 
 	 * @date 13 April 2012
 	 */
-	public Point move(int stones[][], int who, int onMove) throws Exception {
-		return (null);
+	abstract public int move(Board board);
+
+	/**
+	 * Changes the time for one move. The AIs which do not search ignore it.
+	 * 
+	 * @param timeBudget
+	 *            Time for one move in milliseconds.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void setTimeBudget(long timeBudget) {
+	}
+
+	/**
+	 * Uses the time in which the other player thinks to prepare the next
+	 * move. Called on a worker thread after the move of the AI. The AIs which
+	 * do not search ignore it.
+	 * 
+	 * @param board
+	 *            The position with the other player on move. It is not
+	 *            changed.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void ponder(Board board) {
+	}
+
+	/**
+	 * Asks a move or pondering in progress on another thread to end as soon
+	 * as possible. The AIs which search return the best move found so far,
+	 * the others end their move anyway.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void cancel() {
 	}
 
 }
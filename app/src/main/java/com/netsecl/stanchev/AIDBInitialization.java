@@ -27,8 +27,9 @@ import android.app.Activity;
 import android.os.Bundle;
 
 /**
- * This class is used for the initialization of Normal AI database and for Hard
- * DB creation and tests.
+ * This class is used for Hard DB creation and tests. The coefficients of the
+ * Normal AI are no longer written here by hand - they are in the AI data, and
+ * PatternMiner can mine them again from self-play.
  * 
  * @author Yuriy Stanchev
  * 
@@ -38,12 +39,6 @@ import android.os.Bundle;
  */
 public class AIDBInitialization extends Activity {
 
-	/**
-	 * Create an SQLiteAdapter so we can handle (read/write/delete from) the
-	 * database, in this Normal AI database.
-	 */
-	//private NormalAISQLAdapter sqliteNormalAiHandle = null;
-
 	/**
 	 * Create an SQLiteAdapter so we can handle (read/write/delete from) the
 	 * database, in this Hard AI database.
@@ -66,3136 +61,6 @@ public class AIDBInitialization extends Activity {
 	public void onCreate(Bundle savedInstanceState) {
 		super.onCreate(savedInstanceState);
 
-		/*
-		 * Fill the AI database with coefficients.
-		 */
-		// sqliteNormalAiHandle = new NormalAISQLAdapter(this);
-		// sqliteNormalAiHandle.openToWrite();
-		// sqliteNormalAiHandle.insert(0, 2);
-		// sqliteNormalAiHandle.insert(1, 2);
-		// sqliteNormalAiHandle.insert(2, 2);
-		// sqliteNormalAiHandle.insert(3, 2);
-		// sqliteNormalAiHandle.insert(4, 2);
-		// sqliteNormalAiHandle.insert(5, 2);
-		// sqliteNormalAiHandle.insert(6, 2);
-		// sqliteNormalAiHandle.insert(9, 2);
-		// sqliteNormalAiHandle.insert(10, 2);
-		// sqliteNormalAiHandle.insert(11, 2);
-		// sqliteNormalAiHandle.insert(12, 3);
-		// sqliteNormalAiHandle.insert(13, 3);
-		// sqliteNormalAiHandle.insert(14, 3);
-		// sqliteNormalAiHandle.insert(18, 2);
-		// sqliteNormalAiHandle.insert(19, 2);
-		// sqliteNormalAiHandle.insert(20, 2);
-		// sqliteNormalAiHandle.insert(21, 2);
-		// sqliteNormalAiHandle.insert(22, 3);
-		// sqliteNormalAiHandle.insert(27, 3);
-		// sqliteNormalAiHandle.insert(28, 3);
-		// sqliteNormalAiHandle.insert(29, 3);
-		// sqliteNormalAiHandle.insert(30, 3);
-		// sqliteNormalAiHandle.insert(36, 4);
-		// sqliteNormalAiHandle.insert(37, 4);
-		// sqliteNormalAiHandle.insert(38, 5);
-		// sqliteNormalAiHandle.insert(45, 5);
-		// sqliteNormalAiHandle.insert(46, 5);
-		// sqliteNormalAiHandle.insert(54, 6);
-		// sqliteNormalAiHandle.insert(64, 8);
-		// sqliteNormalAiHandle.insert(65, 8);
-		// sqliteNormalAiHandle.insert(66, 8);
-		// sqliteNormalAiHandle.insert(67, 10);
-		// sqliteNormalAiHandle.insert(68, 10);
-		// sqliteNormalAiHandle.insert(69, 10);
-		// sqliteNormalAiHandle.insert(70, 10);
-		// sqliteNormalAiHandle.insert(73, 10);
-		// sqliteNormalAiHandle.insert(74, 10);
-		// sqliteNormalAiHandle.insert(75, 10);
-		// sqliteNormalAiHandle.insert(76, 10);
-		// sqliteNormalAiHandle.insert(77, 10);
-		// sqliteNormalAiHandle.insert(78, 11);
-		// sqliteNormalAiHandle.insert(82, 10);
-		// sqliteNormalAiHandle.insert(83, 10);
-		// sqliteNormalAiHandle.insert(84, 10);
-		// sqliteNormalAiHandle.insert(85, 10);
-		// sqliteNormalAiHandle.insert(86, 12);
-		// sqliteNormalAiHandle.insert(91, 12);
-		// sqliteNormalAiHandle.insert(92, 12);
-		// sqliteNormalAiHandle.insert(93, 12);
-		// sqliteNormalAiHandle.insert(94, 12);
-		// sqliteNormalAiHandle.insert(100, 12);
-		// sqliteNormalAiHandle.insert(101, 12);
-		// sqliteNormalAiHandle.insert(102, 15);
-		// sqliteNormalAiHandle.insert(109, 12);
-		// sqliteNormalAiHandle.insert(110, 16);
-		// sqliteNormalAiHandle.insert(118, 20);
-		// sqliteNormalAiHandle.insert(128, 1000);
-		// sqliteNormalAiHandle.insert(129, 950);
-		// sqliteNormalAiHandle.insert(130, 950);
-		// sqliteNormalAiHandle.insert(131, 950);
-		// sqliteNormalAiHandle.insert(132, 950);
-		// sqliteNormalAiHandle.insert(133, 95);
-		// sqliteNormalAiHandle.insert(134, 1000);
-		// sqliteNormalAiHandle.insert(137, 700);
-		// sqliteNormalAiHandle.insert(138, 750);
-		// sqliteNormalAiHandle.insert(139, 750);
-		// sqliteNormalAiHandle.insert(140, 750);
-		// sqliteNormalAiHandle.insert(141, 850);
-		// sqliteNormalAiHandle.insert(142, 950);
-		// sqliteNormalAiHandle.insert(146, 800);
-		// sqliteNormalAiHandle.insert(147, 800);
-		// sqliteNormalAiHandle.insert(148, 800);
-		// sqliteNormalAiHandle.insert(149, 900);
-		// sqliteNormalAiHandle.insert(150, 950);
-		// sqliteNormalAiHandle.insert(155, 950);
-		// sqliteNormalAiHandle.insert(156, 950);
-		// sqliteNormalAiHandle.insert(157, 850);
-		// sqliteNormalAiHandle.insert(158, 950);
-		// sqliteNormalAiHandle.insert(164, 850);
-		// sqliteNormalAiHandle.insert(165, 850);
-		// sqliteNormalAiHandle.insert(166, 980);
-		// sqliteNormalAiHandle.insert(173, 850);
-		// sqliteNormalAiHandle.insert(174, 980);
-		// sqliteNormalAiHandle.insert(182, 1000);
-		// sqliteNormalAiHandle.insert(264, 3);
-		// sqliteNormalAiHandle.insert(265, 5);
-		// sqliteNormalAiHandle.insert(266, 4);
-		// sqliteNormalAiHandle.insert(267, 4);
-		// sqliteNormalAiHandle.insert(268, 6);
-		// sqliteNormalAiHandle.insert(269, 7);
-		// sqliteNormalAiHandle.insert(270, 3);
-		// sqliteNormalAiHandle.insert(272, 3);
-		// sqliteNormalAiHandle.insert(273, 4);
-		// sqliteNormalAiHandle.insert(274, 3);
-		// sqliteNormalAiHandle.insert(275, 4);
-		// sqliteNormalAiHandle.insert(276, 4);
-		// sqliteNormalAiHandle.insert(277, 5);
-		// sqliteNormalAiHandle.insert(278, 6);
-		// sqliteNormalAiHandle.insert(280, 5);
-		// sqliteNormalAiHandle.insert(281, 3);
-		// sqliteNormalAiHandle.insert(282, 3);
-		// sqliteNormalAiHandle.insert(283, 3);
-		// sqliteNormalAiHandle.insert(284, 4);
-		// sqliteNormalAiHandle.insert(285, 5);
-		// sqliteNormalAiHandle.insert(286, 6);
-		// sqliteNormalAiHandle.insert(288, 3);
-		// sqliteNormalAiHandle.insert(289, 3);
-		// sqliteNormalAiHandle.insert(290, 3);
-		// sqliteNormalAiHandle.insert(291, 4);
-		// sqliteNormalAiHandle.insert(292, 6);
-		// sqliteNormalAiHandle.insert(293, 7);
-		// sqliteNormalAiHandle.insert(294, 8);
-		// sqliteNormalAiHandle.insert(296, 4);
-		// sqliteNormalAiHandle.insert(297, 5);
-		// sqliteNormalAiHandle.insert(298, 5);
-		// sqliteNormalAiHandle.insert(299, 5);
-		// sqliteNormalAiHandle.insert(300, 6);
-		// sqliteNormalAiHandle.insert(301, 6);
-		// sqliteNormalAiHandle.insert(302, 7);
-		// sqliteNormalAiHandle.insert(304, 8);
-		// sqliteNormalAiHandle.insert(305, 8);
-		// sqliteNormalAiHandle.insert(306, 8);
-		// sqliteNormalAiHandle.insert(307, 8);
-		// sqliteNormalAiHandle.insert(308, 8);
-		// sqliteNormalAiHandle.insert(309, 8);
-		// sqliteNormalAiHandle.insert(310, 8);
-		// sqliteNormalAiHandle.insert(328, 8);
-		// sqliteNormalAiHandle.insert(329, 10);
-		// sqliteNormalAiHandle.insert(330, 10);
-		// sqliteNormalAiHandle.insert(331, 10);
-		// sqliteNormalAiHandle.insert(332, 11);
-		// sqliteNormalAiHandle.insert(333, 11);
-		// sqliteNormalAiHandle.insert(334, 12);
-		// sqliteNormalAiHandle.insert(336, 10);
-		// sqliteNormalAiHandle.insert(337, 10);
-		// sqliteNormalAiHandle.insert(338, 10);
-		// sqliteNormalAiHandle.insert(339, 10);
-		// sqliteNormalAiHandle.insert(340, 10);
-		// sqliteNormalAiHandle.insert(341, 11);
-		// sqliteNormalAiHandle.insert(342, 15);
-		// sqliteNormalAiHandle.insert(344, 13);
-		// sqliteNormalAiHandle.insert(345, 13);
-		// sqliteNormalAiHandle.insert(346, 13);
-		// sqliteNormalAiHandle.insert(347, 13);
-		// sqliteNormalAiHandle.insert(348, 13);
-		// sqliteNormalAiHandle.insert(349, 15);
-		// sqliteNormalAiHandle.insert(350, 18);
-		// sqliteNormalAiHandle.insert(352, 15);
-		// sqliteNormalAiHandle.insert(353, 15);
-		// sqliteNormalAiHandle.insert(354, 15);
-		// sqliteNormalAiHandle.insert(355, 13);
-		// sqliteNormalAiHandle.insert(356, 13);
-		// sqliteNormalAiHandle.insert(357, 13);
-		// sqliteNormalAiHandle.insert(358, 18);
-		// sqliteNormalAiHandle.insert(360, 13);
-		// sqliteNormalAiHandle.insert(361, 13);
-		// sqliteNormalAiHandle.insert(362, 13);
-		// sqliteNormalAiHandle.insert(363, 14);
-		// sqliteNormalAiHandle.insert(364, 15);
-		// sqliteNormalAiHandle.insert(365, 15);
-		// sqliteNormalAiHandle.insert(366, 18);
-		// sqliteNormalAiHandle.insert(368, 18);
-		// sqliteNormalAiHandle.insert(369, 18);
-		// sqliteNormalAiHandle.insert(370, 18);
-		// sqliteNormalAiHandle.insert(371, 18);
-		// sqliteNormalAiHandle.insert(372, 19);
-		// sqliteNormalAiHandle.insert(373, 20);
-		// sqliteNormalAiHandle.insert(374, 25);
-		// sqliteNormalAiHandle.insert(392, 800);
-		// sqliteNormalAiHandle.insert(393, 725);
-		// sqliteNormalAiHandle.insert(394, 750);
-		// sqliteNormalAiHandle.insert(395, 700);
-		// sqliteNormalAiHandle.insert(396, 725);
-		// sqliteNormalAiHandle.insert(397, 750);
-		// sqliteNormalAiHandle.insert(398, 800);
-		// sqliteNormalAiHandle.insert(400, 800);
-		// sqliteNormalAiHandle.insert(401, 750);
-		// sqliteNormalAiHandle.insert(402, 750);
-		// sqliteNormalAiHandle.insert(403, 700);
-		// sqliteNormalAiHandle.insert(404, 700);
-		// sqliteNormalAiHandle.insert(405, 700);
-		// sqliteNormalAiHandle.insert(406, 800);
-		// sqliteNormalAiHandle.insert(408, 800);
-		// sqliteNormalAiHandle.insert(409, 700);
-		// sqliteNormalAiHandle.insert(410, 700);
-		// sqliteNormalAiHandle.insert(411, 650);
-		// sqliteNormalAiHandle.insert(412, 700);
-		// sqliteNormalAiHandle.insert(413, 750);
-		// sqliteNormalAiHandle.insert(414, 800);
-		// sqliteNormalAiHandle.insert(416, 800);
-		// sqliteNormalAiHandle.insert(417, 750);
-		// sqliteNormalAiHandle.insert(418, 750);
-		// sqliteNormalAiHandle.insert(419, 750);
-		// sqliteNormalAiHandle.insert(420, 750);
-		// sqliteNormalAiHandle.insert(421, 750);
-		// sqliteNormalAiHandle.insert(422, 800);
-		// sqliteNormalAiHandle.insert(424, 800);
-		// sqliteNormalAiHandle.insert(425, 750);
-		// sqliteNormalAiHandle.insert(426, 750);
-		// sqliteNormalAiHandle.insert(427, 750);
-		// sqliteNormalAiHandle.insert(428, 750);
-		// sqliteNormalAiHandle.insert(429, 750);
-		// sqliteNormalAiHandle.insert(430, 800);
-		// sqliteNormalAiHandle.insert(432, 850);
-		// sqliteNormalAiHandle.insert(433, 800);
-		// sqliteNormalAiHandle.insert(434, 800);
-		// sqliteNormalAiHandle.insert(435, 800);
-		// sqliteNormalAiHandle.insert(436, 800);
-		// sqliteNormalAiHandle.insert(437, 800);
-		// sqliteNormalAiHandle.insert(438, 850);
-		// sqliteNormalAiHandle.insert(513, 2);
-		// sqliteNormalAiHandle.insert(528, 2);
-		// sqliteNormalAiHandle.insert(529, 2);
-		// sqliteNormalAiHandle.insert(530, 2);
-		// sqliteNormalAiHandle.insert(531, 2);
-		// sqliteNormalAiHandle.insert(532, 3);
-		// sqliteNormalAiHandle.insert(533, 4);
-		// sqliteNormalAiHandle.insert(534, 6);
-		// sqliteNormalAiHandle.insert(536, 2);
-		// sqliteNormalAiHandle.insert(537, 2);
-		// sqliteNormalAiHandle.insert(538, 2);
-		// sqliteNormalAiHandle.insert(539, 2);
-		// sqliteNormalAiHandle.insert(540, 2);
-		// sqliteNormalAiHandle.insert(541, 4);
-		// sqliteNormalAiHandle.insert(542, 8);
-		// sqliteNormalAiHandle.insert(544, 3);
-		// sqliteNormalAiHandle.insert(545, 3);
-		// sqliteNormalAiHandle.insert(546, 3);
-		// sqliteNormalAiHandle.insert(547, 3);
-		// sqliteNormalAiHandle.insert(548, 4);
-		// sqliteNormalAiHandle.insert(549, 5);
-		// sqliteNormalAiHandle.insert(550, 8);
-		// sqliteNormalAiHandle.insert(552, 8);
-		// sqliteNormalAiHandle.insert(553, 8);
-		// sqliteNormalAiHandle.insert(554, 8);
-		// sqliteNormalAiHandle.insert(555, 9);
-		// sqliteNormalAiHandle.insert(556, 9);
-		// sqliteNormalAiHandle.insert(557, 9);
-		// sqliteNormalAiHandle.insert(558, 10);
-		// sqliteNormalAiHandle.insert(560, 10);
-		// sqliteNormalAiHandle.insert(561, 9);
-		// sqliteNormalAiHandle.insert(562, 9);
-		// sqliteNormalAiHandle.insert(563, 11);
-		// sqliteNormalAiHandle.insert(564, 11);
-		// sqliteNormalAiHandle.insert(565, 12);
-		// sqliteNormalAiHandle.insert(566, 13);
-		// sqliteNormalAiHandle.insert(577, 15);
-		// sqliteNormalAiHandle.insert(592, 15);
-		// sqliteNormalAiHandle.insert(593, 15);
-		// sqliteNormalAiHandle.insert(594, 15);
-		// sqliteNormalAiHandle.insert(595, 15);
-		// sqliteNormalAiHandle.insert(596, 15);
-		// sqliteNormalAiHandle.insert(597, 16);
-		// sqliteNormalAiHandle.insert(598, 20);
-		// sqliteNormalAiHandle.insert(600, 20);
-		// sqliteNormalAiHandle.insert(601, 18);
-		// sqliteNormalAiHandle.insert(602, 18);
-		// sqliteNormalAiHandle.insert(603, 13);
-		// sqliteNormalAiHandle.insert(604, 14);
-		// sqliteNormalAiHandle.insert(605, 15);
-		// sqliteNormalAiHandle.insert(606, 20);
-		// sqliteNormalAiHandle.insert(608, 20);
-		// sqliteNormalAiHandle.insert(609, 17);
-		// sqliteNormalAiHandle.insert(610, 15);
-		// sqliteNormalAiHandle.insert(611, 13);
-		// sqliteNormalAiHandle.insert(612, 14);
-		// sqliteNormalAiHandle.insert(613, 18);
-		// sqliteNormalAiHandle.insert(614, 20);
-		// sqliteNormalAiHandle.insert(616, 20);
-		// sqliteNormalAiHandle.insert(617, 18);
-		// sqliteNormalAiHandle.insert(618, 18);
-		// sqliteNormalAiHandle.insert(619, 17);
-		// sqliteNormalAiHandle.insert(620, 18);
-		// sqliteNormalAiHandle.insert(621, 20);
-		// sqliteNormalAiHandle.insert(622, 23);
-		// sqliteNormalAiHandle.insert(624, 25);
-		// sqliteNormalAiHandle.insert(625, 23);
-		// sqliteNormalAiHandle.insert(626, 23);
-		// sqliteNormalAiHandle.insert(627, 23);
-		// sqliteNormalAiHandle.insert(628, 23);
-		// sqliteNormalAiHandle.insert(629, 25);
-		// sqliteNormalAiHandle.insert(630, 25);
-		// sqliteNormalAiHandle.insert(641, 800);
-		// sqliteNormalAiHandle.insert(656, 800);
-		// sqliteNormalAiHandle.insert(657, 750);
-		// sqliteNormalAiHandle.insert(658, 700);
-		// sqliteNormalAiHandle.insert(659, 700);
-		// sqliteNormalAiHandle.insert(660, 750);
-		// sqliteNormalAiHandle.insert(661, 750);
-		// sqliteNormalAiHandle.insert(662, 80);
-		// sqliteNormalAiHandle.insert(664, 800);
-		// sqliteNormalAiHandle.insert(665, 750);
-		// sqliteNormalAiHandle.insert(666, 700);
-		// sqliteNormalAiHandle.insert(667, 700);
-		// sqliteNormalAiHandle.insert(668, 700);
-		// sqliteNormalAiHandle.insert(669, 700);
-		// sqliteNormalAiHandle.insert(670, 800);
-		// sqliteNormalAiHandle.insert(672, 800);
-		// sqliteNormalAiHandle.insert(673, 700);
-		// sqliteNormalAiHandle.insert(674, 700);
-		// sqliteNormalAiHandle.insert(675, 70);
-		// sqliteNormalAiHandle.insert(676, 700);
-		// sqliteNormalAiHandle.insert(677, 700);
-		// sqliteNormalAiHandle.insert(678, 800);
-		// sqliteNormalAiHandle.insert(680, 825);
-		// sqliteNormalAiHandle.insert(681, 750);
-		// sqliteNormalAiHandle.insert(682, 750);
-		// sqliteNormalAiHandle.insert(683, 745);
-		// sqliteNormalAiHandle.insert(684, 745);
-		// sqliteNormalAiHandle.insert(685, 760);
-		// sqliteNormalAiHandle.insert(686, 825);
-		// sqliteNormalAiHandle.insert(688, 85);
-		// sqliteNormalAiHandle.insert(689, 800);
-		// sqliteNormalAiHandle.insert(690, 800);
-		// sqliteNormalAiHandle.insert(691, 760);
-		// sqliteNormalAiHandle.insert(692, 800);
-		// sqliteNormalAiHandle.insert(693, 800);
-		// sqliteNormalAiHandle.insert(694, 850);
-		// sqliteNormalAiHandle.insert(769, 3);
-		// sqliteNormalAiHandle.insert(770, 3);
-		// sqliteNormalAiHandle.insert(792, 4);
-		// sqliteNormalAiHandle.insert(793, 4);
-		// sqliteNormalAiHandle.insert(794, 4);
-		// sqliteNormalAiHandle.insert(795, 5);
-		// sqliteNormalAiHandle.insert(796, 4);
-		// sqliteNormalAiHandle.insert(797, 6);
-		// sqliteNormalAiHandle.insert(798, 7);
-		// sqliteNormalAiHandle.insert(800, 5);
-		// sqliteNormalAiHandle.insert(801, 5);
-		// sqliteNormalAiHandle.insert(802, 5);
-		// sqliteNormalAiHandle.insert(803, 5);
-		// sqliteNormalAiHandle.insert(804, 5);
-		// sqliteNormalAiHandle.insert(805, 6);
-		// sqliteNormalAiHandle.insert(806, 6);
-		// sqliteNormalAiHandle.insert(808, 6);
-		// sqliteNormalAiHandle.insert(809, 6);
-		// sqliteNormalAiHandle.insert(810, 6);
-		// sqliteNormalAiHandle.insert(811, 6);
-		// sqliteNormalAiHandle.insert(812, 6);
-		// sqliteNormalAiHandle.insert(813, 7);
-		// sqliteNormalAiHandle.insert(814, 8);
-		// sqliteNormalAiHandle.insert(816, 8);
-		// sqliteNormalAiHandle.insert(817, 8);
-		// sqliteNormalAiHandle.insert(818, 8);
-		// sqliteNormalAiHandle.insert(819, 7);
-		// sqliteNormalAiHandle.insert(820, 7);
-		// sqliteNormalAiHandle.insert(821, 8);
-		// sqliteNormalAiHandle.insert(822, 10);
-		// sqliteNormalAiHandle.insert(833, 15);
-		// sqliteNormalAiHandle.insert(834, 15);
-		// sqliteNormalAiHandle.insert(856, 15);
-		// sqliteNormalAiHandle.insert(857, 14);
-		// sqliteNormalAiHandle.insert(858, 13);
-		// sqliteNormalAiHandle.insert(859, 13);
-		// sqliteNormalAiHandle.insert(860, 14);
-		// sqliteNormalAiHandle.insert(861, 14);
-		// sqliteNormalAiHandle.insert(862, 14);
-		// sqliteNormalAiHandle.insert(864, 15);
-		// sqliteNormalAiHandle.insert(865, 14);
-		// sqliteNormalAiHandle.insert(866, 12);
-		// sqliteNormalAiHandle.insert(867, 12);
-		// sqliteNormalAiHandle.insert(868, 12);
-		// sqliteNormalAiHandle.insert(869, 13);
-		// sqliteNormalAiHandle.insert(870, 15);
-		// sqliteNormalAiHandle.insert(872, 15);
-		// sqliteNormalAiHandle.insert(873, 14);
-		// sqliteNormalAiHandle.insert(874, 13);
-		// sqliteNormalAiHandle.insert(875, 13);
-		// sqliteNormalAiHandle.insert(876, 13);
-		// sqliteNormalAiHandle.insert(877, 14);
-		// sqliteNormalAiHandle.insert(878, 16);
-		// sqliteNormalAiHandle.insert(880, 20);
-		// sqliteNormalAiHandle.insert(881, 20);
-		// sqliteNormalAiHandle.insert(882, 19);
-		// sqliteNormalAiHandle.insert(883, 19);
-		// sqliteNormalAiHandle.insert(884, 19);
-		// sqliteNormalAiHandle.insert(885, 20);
-		// sqliteNormalAiHandle.insert(886, 25);
-		// sqliteNormalAiHandle.insert(897, 800);
-		// sqliteNormalAiHandle.insert(898, 800);
-		// sqliteNormalAiHandle.insert(920, 800);
-		// sqliteNormalAiHandle.insert(921, 750);
-		// sqliteNormalAiHandle.insert(922, 750);
-		// sqliteNormalAiHandle.insert(923, 700);
-		// sqliteNormalAiHandle.insert(924, 700);
-		// sqliteNormalAiHandle.insert(925, 700);
-		// sqliteNormalAiHandle.insert(926, 800);
-		// sqliteNormalAiHandle.insert(928, 800);
-		// sqliteNormalAiHandle.insert(929, 750);
-		// sqliteNormalAiHandle.insert(930, 700);
-		// sqliteNormalAiHandle.insert(931, 650);
-		// sqliteNormalAiHandle.insert(932, 650);
-		// sqliteNormalAiHandle.insert(933, 750);
-		// sqliteNormalAiHandle.insert(934, 800);
-		// sqliteNormalAiHandle.insert(936, 825);
-		// sqliteNormalAiHandle.insert(937, 760);
-		// sqliteNormalAiHandle.insert(938, 700);
-		// sqliteNormalAiHandle.insert(939, 750);
-		// sqliteNormalAiHandle.insert(940, 760);
-		// sqliteNormalAiHandle.insert(941, 770);
-		// sqliteNormalAiHandle.insert(942, 825);
-		// sqliteNormalAiHandle.insert(944, 900);
-		// sqliteNormalAiHandle.insert(945, 825);
-		// sqliteNormalAiHandle.insert(946, 800);
-		// sqliteNormalAiHandle.insert(947, 800);
-		// sqliteNormalAiHandle.insert(948, 800);
-		// sqliteNormalAiHandle.insert(949, 800);
-		// sqliteNormalAiHandle.insert(950, 900);
-		// sqliteNormalAiHandle.insert(1025, 3);
-		// sqliteNormalAiHandle.insert(1026, 2);
-		// sqliteNormalAiHandle.insert(1027, 2);
-		// sqliteNormalAiHandle.insert(1056, 1);
-		// sqliteNormalAiHandle.insert(1057, 3);
-		// sqliteNormalAiHandle.insert(1058, 5);
-		// sqliteNormalAiHandle.insert(1059, 5);
-		// sqliteNormalAiHandle.insert(1060, 6);
-		// sqliteNormalAiHandle.insert(1061, 7);
-		// sqliteNormalAiHandle.insert(1062, 11);
-		// sqliteNormalAiHandle.insert(1064, 11);
-		// sqliteNormalAiHandle.insert(1065, 10);
-		// sqliteNormalAiHandle.insert(1066, 10);
-		// sqliteNormalAiHandle.insert(1067, 12);
-		// sqliteNormalAiHandle.insert(1068, 12);
-		// sqliteNormalAiHandle.insert(1069, 12);
-		// sqliteNormalAiHandle.insert(1070, 15);
-		// sqliteNormalAiHandle.insert(1072, 17);
-		// sqliteNormalAiHandle.insert(1073, 16);
-		// sqliteNormalAiHandle.insert(1074, 15);
-		// sqliteNormalAiHandle.insert(1075, 15);
-		// sqliteNormalAiHandle.insert(1076, 15);
-		// sqliteNormalAiHandle.insert(1077, 15);
-		// sqliteNormalAiHandle.insert(1078, 15);
-		// sqliteNormalAiHandle.insert(1089, 20);
-		// sqliteNormalAiHandle.insert(1090, 20);
-		// sqliteNormalAiHandle.insert(1091, 20);
-		// sqliteNormalAiHandle.insert(1120, 20);
-		// sqliteNormalAiHandle.insert(1121, 19);
-		// sqliteNormalAiHandle.insert(1122, 19);
-		// sqliteNormalAiHandle.insert(1123, 19);
-		// sqliteNormalAiHandle.insert(1124, 20);
-		// sqliteNormalAiHandle.insert(1125, 21);
-		// sqliteNormalAiHandle.insert(1126, 23);
-		// sqliteNormalAiHandle.insert(1128, 23);
-		// sqliteNormalAiHandle.insert(1129, 22);
-		// sqliteNormalAiHandle.insert(1130, 22);
-		// sqliteNormalAiHandle.insert(1131, 22);
-		// sqliteNormalAiHandle.insert(1132, 22);
-		// sqliteNormalAiHandle.insert(1133, 22);
-		// sqliteNormalAiHandle.insert(1134, 23);
-		// sqliteNormalAiHandle.insert(1136, 25);
-		// sqliteNormalAiHandle.insert(1137, 23);
-		// sqliteNormalAiHandle.insert(1138, 23);
-		// sqliteNormalAiHandle.insert(1139, 23);
-		// sqliteNormalAiHandle.insert(1140, 23);
-		// sqliteNormalAiHandle.insert(1141, 23);
-		// sqliteNormalAiHandle.insert(1142, 25);
-		// sqliteNormalAiHandle.insert(1153, 800);
-		// sqliteNormalAiHandle.insert(1154, 800);
-		// sqliteNormalAiHandle.insert(1155, 800);
-		// sqliteNormalAiHandle.insert(1184, 800);
-		// sqliteNormalAiHandle.insert(1185, 750);
-		// sqliteNormalAiHandle.insert(1186, 700);
-		// sqliteNormalAiHandle.insert(1187, 700);
-		// sqliteNormalAiHandle.insert(1188, 700);
-		// sqliteNormalAiHandle.insert(1189, 700);
-		// sqliteNormalAiHandle.insert(1190, 800);
-		// sqliteNormalAiHandle.insert(1192, 850);
-		// sqliteNormalAiHandle.insert(1193, 725);
-		// sqliteNormalAiHandle.insert(1194, 700);
-		// sqliteNormalAiHandle.insert(1195, 650);
-		// sqliteNormalAiHandle.insert(1196, 700);
-		// sqliteNormalAiHandle.insert(1197, 750);
-		// sqliteNormalAiHandle.insert(1198, 855);
-		// sqliteNormalAiHandle.insert(1200, 900);
-		// sqliteNormalAiHandle.insert(1201, 800);
-		// sqliteNormalAiHandle.insert(1202, 800);
-		// sqliteNormalAiHandle.insert(1203, 800);
-		// sqliteNormalAiHandle.insert(1204, 800);
-		// sqliteNormalAiHandle.insert(1205, 825);
-		// sqliteNormalAiHandle.insert(1206, 900);
-		// sqliteNormalAiHandle.insert(1281, 3);
-		// sqliteNormalAiHandle.insert(1282, 2);
-		// sqliteNormalAiHandle.insert(1283, 2);
-		// sqliteNormalAiHandle.insert(1284, 4);
-		// sqliteNormalAiHandle.insert(1320, 5);
-		// sqliteNormalAiHandle.insert(1321, 5);
-		// sqliteNormalAiHandle.insert(1322, 5);
-		// sqliteNormalAiHandle.insert(1323, 5);
-		// sqliteNormalAiHandle.insert(1324, 6);
-		// sqliteNormalAiHandle.insert(1325, 10);
-		// sqliteNormalAiHandle.insert(1326, 11);
-		// sqliteNormalAiHandle.insert(1328, 12);
-		// sqliteNormalAiHandle.insert(1329, 12);
-		// sqliteNormalAiHandle.insert(1330, 12);
-		// sqliteNormalAiHandle.insert(1331, 11);
-		// sqliteNormalAiHandle.insert(1332, 12);
-		// sqliteNormalAiHandle.insert(1333, 12);
-		// sqliteNormalAiHandle.insert(1334, 12);
-		// sqliteNormalAiHandle.insert(1345, 15);
-		// sqliteNormalAiHandle.insert(1346, 15);
-		// sqliteNormalAiHandle.insert(1347, 15);
-		// sqliteNormalAiHandle.insert(1348, 15);
-		// sqliteNormalAiHandle.insert(1384, 14);
-		// sqliteNormalAiHandle.insert(1385, 14);
-		// sqliteNormalAiHandle.insert(1386, 14);
-		// sqliteNormalAiHandle.insert(1387, 14);
-		// sqliteNormalAiHandle.insert(1388, 14);
-		// sqliteNormalAiHandle.insert(1389, 16);
-		// sqliteNormalAiHandle.insert(1390, 17);
-		// sqliteNormalAiHandle.insert(1392, 17);
-		// sqliteNormalAiHandle.insert(1393, 17);
-		// sqliteNormalAiHandle.insert(1394, 17);
-		// sqliteNormalAiHandle.insert(1395, 16);
-		// sqliteNormalAiHandle.insert(1396, 17);
-		// sqliteNormalAiHandle.insert(1397, 20);
-		// sqliteNormalAiHandle.insert(1398, 25);
-		// sqliteNormalAiHandle.insert(1409, 700);
-		// sqliteNormalAiHandle.insert(1410, 650);
-		// sqliteNormalAiHandle.insert(1411, 625);
-		// sqliteNormalAiHandle.insert(1412, 650);
-		// sqliteNormalAiHandle.insert(1448, 700);
-		// sqliteNormalAiHandle.insert(1449, 600);
-		// sqliteNormalAiHandle.insert(1450, 600);
-		// sqliteNormalAiHandle.insert(1451, 600);
-		// sqliteNormalAiHandle.insert(1452, 650);
-		// sqliteNormalAiHandle.insert(1453, 650);
-		// sqliteNormalAiHandle.insert(1454, 700);
-		// sqliteNormalAiHandle.insert(1456, 800);
-		// sqliteNormalAiHandle.insert(1457, 700);
-		// sqliteNormalAiHandle.insert(1458, 700);
-		// sqliteNormalAiHandle.insert(1459, 650);
-		// sqliteNormalAiHandle.insert(1460, 700);
-		// sqliteNormalAiHandle.insert(1461, 750);
-		// sqliteNormalAiHandle.insert(1462, 800);
-		// sqliteNormalAiHandle.insert(1537, 3);
-		// sqliteNormalAiHandle.insert(1538, 3);
-		// sqliteNormalAiHandle.insert(1539, 4);
-		// sqliteNormalAiHandle.insert(1540, 5);
-		// sqliteNormalAiHandle.insert(1541, 6);
-		// sqliteNormalAiHandle.insert(1584, 5);
-		// sqliteNormalAiHandle.insert(1585, 5);
-		// sqliteNormalAiHandle.insert(1586, 5);
-		// sqliteNormalAiHandle.insert(1587, 5);
-		// sqliteNormalAiHandle.insert(1588, 6);
-		// sqliteNormalAiHandle.insert(1589, 7);
-		// sqliteNormalAiHandle.insert(1590, 5);
-		// sqliteNormalAiHandle.insert(1601, 100);
-		// sqliteNormalAiHandle.insert(1602, 100);
-		// sqliteNormalAiHandle.insert(1603, 100);
-		// sqliteNormalAiHandle.insert(1604, 100);
-		// sqliteNormalAiHandle.insert(1605, 100);
-		// sqliteNormalAiHandle.insert(1648, 100);
-		// sqliteNormalAiHandle.insert(1649, 100);
-		// sqliteNormalAiHandle.insert(1650, 100);
-		// sqliteNormalAiHandle.insert(1651, 100);
-		// sqliteNormalAiHandle.insert(1652, 100);
-		// sqliteNormalAiHandle.insert(1653, 100);
-		// sqliteNormalAiHandle.insert(1654, 100);
-		// sqliteNormalAiHandle.insert(1665, 700);
-		// sqliteNormalAiHandle.insert(1666, 700);
-		// sqliteNormalAiHandle.insert(1667, 700);
-		// sqliteNormalAiHandle.insert(1668, 900);
-		// sqliteNormalAiHandle.insert(1669, 990);
-		// sqliteNormalAiHandle.insert(1712, 1000);
-		// sqliteNormalAiHandle.insert(1713, 900);
-		// sqliteNormalAiHandle.insert(1714, 900);
-		// sqliteNormalAiHandle.insert(1715, 900);
-		// sqliteNormalAiHandle.insert(1716, 900);
-		// sqliteNormalAiHandle.insert(1717, 990);
-		// sqliteNormalAiHandle.insert(1718, 1000);
-		// sqliteNormalAiHandle.insert(2064, 2);
-		// sqliteNormalAiHandle.insert(2072, 2);
-		// sqliteNormalAiHandle.insert(2080, 2);
-		// sqliteNormalAiHandle.insert(2088, 2);
-		// sqliteNormalAiHandle.insert(2096, 2);
-		// sqliteNormalAiHandle.insert(2128, 2);
-		// sqliteNormalAiHandle.insert(2136, 100);
-		// sqliteNormalAiHandle.insert(2144, 100);
-		// sqliteNormalAiHandle.insert(2152, 100);
-		// sqliteNormalAiHandle.insert(2160, 100);
-		// sqliteNormalAiHandle.insert(2192, 700);
-		// sqliteNormalAiHandle.insert(2200, 700);
-		// sqliteNormalAiHandle.insert(2208, 700);
-		// sqliteNormalAiHandle.insert(2216, 700);
-		// sqliteNormalAiHandle.insert(2224, 990);
-		// sqliteNormalAiHandle.insert(2306, 2);
-		// sqliteNormalAiHandle.insert(2307, 2);
-		// sqliteNormalAiHandle.insert(2308, 2);
-		// sqliteNormalAiHandle.insert(2309, 2);
-		// sqliteNormalAiHandle.insert(2310, 2);
-		// sqliteNormalAiHandle.insert(2313, 2);
-		// sqliteNormalAiHandle.insert(2314, 2);
-		// sqliteNormalAiHandle.insert(2315, 2);
-		// sqliteNormalAiHandle.insert(2316, 2);
-		// sqliteNormalAiHandle.insert(2317, 3);
-		// sqliteNormalAiHandle.insert(2318, 4);
-		// sqliteNormalAiHandle.insert(2322, 2);
-		// sqliteNormalAiHandle.insert(2323, 1);
-		// sqliteNormalAiHandle.insert(2324, 2);
-		// sqliteNormalAiHandle.insert(2325, 3);
-		// sqliteNormalAiHandle.insert(2326, 4);
-		// sqliteNormalAiHandle.insert(2331, 1);
-		// sqliteNormalAiHandle.insert(2332, 2);
-		// sqliteNormalAiHandle.insert(2333, 3);
-		// sqliteNormalAiHandle.insert(2334, 4);
-		// sqliteNormalAiHandle.insert(2340, 3);
-		// sqliteNormalAiHandle.insert(2341, 4);
-		// sqliteNormalAiHandle.insert(2342, 5);
-		// sqliteNormalAiHandle.insert(2349, 5);
-		// sqliteNormalAiHandle.insert(2350, 5);
-		// sqliteNormalAiHandle.insert(2358, 6);
-		// sqliteNormalAiHandle.insert(2370, 7);
-		// sqliteNormalAiHandle.insert(2371, 7);
-		// sqliteNormalAiHandle.insert(2372, 7);
-		// sqliteNormalAiHandle.insert(2373, 7);
-		// sqliteNormalAiHandle.insert(2374, 7);
-		// sqliteNormalAiHandle.insert(2377, 495);
-		// sqliteNormalAiHandle.insert(2378, 495);
-		// sqliteNormalAiHandle.insert(2379, 490);
-		// sqliteNormalAiHandle.insert(2380, 490);
-		// sqliteNormalAiHandle.insert(2381, 495);
-		// sqliteNormalAiHandle.insert(2382, 550);
-		// sqliteNormalAiHandle.insert(2386, 490);
-		// sqliteNormalAiHandle.insert(2387, 490);
-		// sqliteNormalAiHandle.insert(2388, 490);
-		// sqliteNormalAiHandle.insert(2389, 490);
-		// sqliteNormalAiHandle.insert(2390, 550);
-		// sqliteNormalAiHandle.insert(2395, 490);
-		// sqliteNormalAiHandle.insert(2396, 490);
-		// sqliteNormalAiHandle.insert(2397, 500);
-		// sqliteNormalAiHandle.insert(2398, 550);
-		// sqliteNormalAiHandle.insert(2404, 500);
-		// sqliteNormalAiHandle.insert(2405, 500);
-		// sqliteNormalAiHandle.insert(2406, 550);
-		// sqliteNormalAiHandle.insert(2413, 525);
-		// sqliteNormalAiHandle.insert(2414, 550);
-		// sqliteNormalAiHandle.insert(2422, 600);
-		// sqliteNormalAiHandle.insert(2434, 690);
-		// sqliteNormalAiHandle.insert(2435, 690);
-		// sqliteNormalAiHandle.insert(2436, 690);
-		// sqliteNormalAiHandle.insert(2437, 690);
-		// sqliteNormalAiHandle.insert(2438, 700);
-		// sqliteNormalAiHandle.insert(2441, 650);
-		// sqliteNormalAiHandle.insert(2442, 650);
-		// sqliteNormalAiHandle.insert(2443, 600);
-		// sqliteNormalAiHandle.insert(2444, 650);
-		// sqliteNormalAiHandle.insert(2445, 650);
-		// sqliteNormalAiHandle.insert(2446, 650);
-		// sqliteNormalAiHandle.insert(2450, 600);
-		// sqliteNormalAiHandle.insert(2451, 600);
-		// sqliteNormalAiHandle.insert(2452, 600);
-		// sqliteNormalAiHandle.insert(2453, 625);
-		// sqliteNormalAiHandle.insert(2454, 700);
-		// sqliteNormalAiHandle.insert(2459, 615);
-		// sqliteNormalAiHandle.insert(2460, 620);
-		// sqliteNormalAiHandle.insert(2461, 625);
-		// sqliteNormalAiHandle.insert(2462, 700);
-		// sqliteNormalAiHandle.insert(2468, 625);
-		// sqliteNormalAiHandle.insert(2469, 625);
-		// sqliteNormalAiHandle.insert(2470, 650);
-		// sqliteNormalAiHandle.insert(2477, 650);
-		// sqliteNormalAiHandle.insert(2478, 700);
-		// sqliteNormalAiHandle.insert(2486, 825);
-		// sqliteNormalAiHandle.insert(2562, 10);
-		// sqliteNormalAiHandle.insert(2563, 10);
-		// sqliteNormalAiHandle.insert(2564, 10);
-		// sqliteNormalAiHandle.insert(2565, 10);
-		// sqliteNormalAiHandle.insert(2566, 10);
-		// sqliteNormalAiHandle.insert(2568, 8);
-		// sqliteNormalAiHandle.insert(2577, 9);
-		// sqliteNormalAiHandle.insert(2578, 6);
-		// sqliteNormalAiHandle.insert(2579, 6);
-		// sqliteNormalAiHandle.insert(2580, 6);
-		// sqliteNormalAiHandle.insert(2581, 6);
-		// sqliteNormalAiHandle.insert(2582, 6);
-		// sqliteNormalAiHandle.insert(2585, 7);
-		// sqliteNormalAiHandle.insert(2586, 6);
-		// sqliteNormalAiHandle.insert(2587, 6);
-		// sqliteNormalAiHandle.insert(2588, 7);
-		// sqliteNormalAiHandle.insert(2589, 7);
-		// sqliteNormalAiHandle.insert(2590, 6);
-		// sqliteNormalAiHandle.insert(2593, 6);
-		// sqliteNormalAiHandle.insert(2594, 7);
-		// sqliteNormalAiHandle.insert(2595, 7);
-		// sqliteNormalAiHandle.insert(2596, 7);
-		// sqliteNormalAiHandle.insert(2597, 8);
-		// sqliteNormalAiHandle.insert(2598, 9);
-		// sqliteNormalAiHandle.insert(2601, 8);
-		// sqliteNormalAiHandle.insert(2602, 7);
-		// sqliteNormalAiHandle.insert(2603, 6);
-		// sqliteNormalAiHandle.insert(2604, 6);
-		// sqliteNormalAiHandle.insert(2605, 6);
-		// sqliteNormalAiHandle.insert(2606, 6);
-		// sqliteNormalAiHandle.insert(2609, 6);
-		// sqliteNormalAiHandle.insert(2610, 6);
-		// sqliteNormalAiHandle.insert(2611, 6);
-		// sqliteNormalAiHandle.insert(2612, 3);
-		// sqliteNormalAiHandle.insert(2613, 4);
-		// sqliteNormalAiHandle.insert(2614, 7);
-		// sqliteNormalAiHandle.insert(2626, 15);
-		// sqliteNormalAiHandle.insert(2627, 15);
-		// sqliteNormalAiHandle.insert(2628, 15);
-		// sqliteNormalAiHandle.insert(2629, 16);
-		// sqliteNormalAiHandle.insert(2630, 17);
-		// sqliteNormalAiHandle.insert(2632, 17);
-		// sqliteNormalAiHandle.insert(2641, 550);
-		// sqliteNormalAiHandle.insert(2642, 550);
-		// sqliteNormalAiHandle.insert(2643, 525);
-		// sqliteNormalAiHandle.insert(2644, 525);
-		// sqliteNormalAiHandle.insert(2645, 550);
-		// sqliteNormalAiHandle.insert(2646, 600);
-		// sqliteNormalAiHandle.insert(2649, 600);
-		// sqliteNormalAiHandle.insert(2650, 580);
-		// sqliteNormalAiHandle.insert(2651, 520);
-		// sqliteNormalAiHandle.insert(2652, 520);
-		// sqliteNormalAiHandle.insert(2653, 520);
-		// sqliteNormalAiHandle.insert(2654, 580);
-		// sqliteNormalAiHandle.insert(2657, 580);
-		// sqliteNormalAiHandle.insert(2658, 580);
-		// sqliteNormalAiHandle.insert(2659, 520);
-		// sqliteNormalAiHandle.insert(2660, 520);
-		// sqliteNormalAiHandle.insert(2661, 525);
-		// sqliteNormalAiHandle.insert(2662, 600);
-		// sqliteNormalAiHandle.insert(2665, 550);
-		// sqliteNormalAiHandle.insert(2666, 540);
-		// sqliteNormalAiHandle.insert(2667, 540);
-		// sqliteNormalAiHandle.insert(2668, 545);
-		// sqliteNormalAiHandle.insert(2669, 560);
-		// sqliteNormalAiHandle.insert(2670, 580);
-		// sqliteNormalAiHandle.insert(2673, 580);
-		// sqliteNormalAiHandle.insert(2674, 580);
-		// sqliteNormalAiHandle.insert(2675, 580);
-		// sqliteNormalAiHandle.insert(2676, 580);
-		// sqliteNormalAiHandle.insert(2677, 590);
-		// sqliteNormalAiHandle.insert(2678, 700);
-		// sqliteNormalAiHandle.insert(2690, 700);
-		// sqliteNormalAiHandle.insert(2691, 700);
-		// sqliteNormalAiHandle.insert(2692, 700);
-		// sqliteNormalAiHandle.insert(2693, 700);
-		// sqliteNormalAiHandle.insert(2694, 800);
-		// sqliteNormalAiHandle.insert(2696, 700);
-		// sqliteNormalAiHandle.insert(2705, 680);
-		// sqliteNormalAiHandle.insert(2706, 670);
-		// sqliteNormalAiHandle.insert(2707, 650);
-		// sqliteNormalAiHandle.insert(2708, 650);
-		// sqliteNormalAiHandle.insert(2709, 670);
-		// sqliteNormalAiHandle.insert(2710, 720);
-		// sqliteNormalAiHandle.insert(2713, 680);
-		// sqliteNormalAiHandle.insert(2714, 650);
-		// sqliteNormalAiHandle.insert(2715, 625);
-		// sqliteNormalAiHandle.insert(2716, 625);
-		// sqliteNormalAiHandle.insert(2717, 650);
-		// sqliteNormalAiHandle.insert(2718, 720);
-		// sqliteNormalAiHandle.insert(2721, 680);
-		// sqliteNormalAiHandle.insert(2722, 650);
-		// sqliteNormalAiHandle.insert(2723, 650);
-		// sqliteNormalAiHandle.insert(2724, 650);
-		// sqliteNormalAiHandle.insert(2725, 650);
-		// sqliteNormalAiHandle.insert(2726, 700);
-		// sqliteNormalAiHandle.insert(2729, 680);
-		// sqliteNormalAiHandle.insert(2730, 650);
-		// sqliteNormalAiHandle.insert(2731, 650);
-		// sqliteNormalAiHandle.insert(2732, 650);
-		// sqliteNormalAiHandle.insert(2733, 700);
-		// sqliteNormalAiHandle.insert(2734, 700);
-		// sqliteNormalAiHandle.insert(2737, 720);
-		// sqliteNormalAiHandle.insert(2738, 700);
-		// sqliteNormalAiHandle.insert(2739, 700);
-		// sqliteNormalAiHandle.insert(2740, 715);
-		// sqliteNormalAiHandle.insert(2741, 725);
-		// sqliteNormalAiHandle.insert(2742, 820);
-		// sqliteNormalAiHandle.insert(2818, 9);
-		// sqliteNormalAiHandle.insert(2819, 5);
-		// sqliteNormalAiHandle.insert(2820, 2);
-		// sqliteNormalAiHandle.insert(2821, 2);
-		// sqliteNormalAiHandle.insert(2822, 2);
-		// sqliteNormalAiHandle.insert(2824, 2);
-		// sqliteNormalAiHandle.insert(2826, 2);
-		// sqliteNormalAiHandle.insert(2832, 2);
-		// sqliteNormalAiHandle.insert(2841, 2);
-		// sqliteNormalAiHandle.insert(2842, 2);
-		// sqliteNormalAiHandle.insert(2843, 2);
-		// sqliteNormalAiHandle.insert(2844, 2);
-		// sqliteNormalAiHandle.insert(2845, 2);
-		// sqliteNormalAiHandle.insert(2846, 2);
-		// sqliteNormalAiHandle.insert(2849, 2);
-		// sqliteNormalAiHandle.insert(2850, 2);
-		// sqliteNormalAiHandle.insert(2851, 2);
-		// sqliteNormalAiHandle.insert(2852, 2);
-		// sqliteNormalAiHandle.insert(2853, 2);
-		// sqliteNormalAiHandle.insert(2854, 2);
-		// sqliteNormalAiHandle.insert(2857, 2);
-		// sqliteNormalAiHandle.insert(2858, 2);
-		// sqliteNormalAiHandle.insert(2859, 2);
-		// sqliteNormalAiHandle.insert(2860, 2);
-		// sqliteNormalAiHandle.insert(2861, 2);
-		// sqliteNormalAiHandle.insert(2862, 8);
-		// sqliteNormalAiHandle.insert(2865, 7);
-		// sqliteNormalAiHandle.insert(2866, 7);
-		// sqliteNormalAiHandle.insert(2867, 6);
-		// sqliteNormalAiHandle.insert(2868, 8);
-		// sqliteNormalAiHandle.insert(2869, 7);
-		// sqliteNormalAiHandle.insert(2870, 7);
-		// sqliteNormalAiHandle.insert(2882, 9);
-		// sqliteNormalAiHandle.insert(2883, 7);
-		// sqliteNormalAiHandle.insert(2884, 8);
-		// sqliteNormalAiHandle.insert(2885, 15);
-		// sqliteNormalAiHandle.insert(2886, 15);
-		// sqliteNormalAiHandle.insert(2888, 16);
-		// sqliteNormalAiHandle.insert(2890, 600);
-		// sqliteNormalAiHandle.insert(2896, 450);
-		// sqliteNormalAiHandle.insert(2905, 600);
-		// sqliteNormalAiHandle.insert(2906, 600);
-		// sqliteNormalAiHandle.insert(2907, 550);
-		// sqliteNormalAiHandle.insert(2908, 560);
-		// sqliteNormalAiHandle.insert(2909, 580);
-		// sqliteNormalAiHandle.insert(2910, 600);
-		// sqliteNormalAiHandle.insert(2913, 580);
-		// sqliteNormalAiHandle.insert(2914, 560);
-		// sqliteNormalAiHandle.insert(2915, 570);
-		// sqliteNormalAiHandle.insert(2916, 570);
-		// sqliteNormalAiHandle.insert(2917, 570);
-		// sqliteNormalAiHandle.insert(2918, 600);
-		// sqliteNormalAiHandle.insert(2921, 620);
-		// sqliteNormalAiHandle.insert(2922, 615);
-		// sqliteNormalAiHandle.insert(2923, 600);
-		// sqliteNormalAiHandle.insert(2924, 580);
-		// sqliteNormalAiHandle.insert(2925, 650);
-		// sqliteNormalAiHandle.insert(2926, 700);
-		// sqliteNormalAiHandle.insert(2929, 750);
-		// sqliteNormalAiHandle.insert(2930, 750);
-		// sqliteNormalAiHandle.insert(2931, 625);
-		// sqliteNormalAiHandle.insert(2932, 625);
-		// sqliteNormalAiHandle.insert(2933, 650);
-		// sqliteNormalAiHandle.insert(2934, 725);
-		// sqliteNormalAiHandle.insert(2946, 720);
-		// sqliteNormalAiHandle.insert(2947, 700);
-		// sqliteNormalAiHandle.insert(2948, 720);
-		// sqliteNormalAiHandle.insert(2949, 725);
-		// sqliteNormalAiHandle.insert(2950, 825);
-		// sqliteNormalAiHandle.insert(2952, 725);
-		// sqliteNormalAiHandle.insert(2954, 680);
-		// sqliteNormalAiHandle.insert(2960, 720);
-		// sqliteNormalAiHandle.insert(2969, 680);
-		// sqliteNormalAiHandle.insert(2970, 650);
-		// sqliteNormalAiHandle.insert(2971, 650);
-		// sqliteNormalAiHandle.insert(2972, 650);
-		// sqliteNormalAiHandle.insert(2973, 680);
-		// sqliteNormalAiHandle.insert(2974, 700);
-		// sqliteNormalAiHandle.insert(2977, 680);
-		// sqliteNormalAiHandle.insert(2978, 650);
-		// sqliteNormalAiHandle.insert(2979, 600);
-		// sqliteNormalAiHandle.insert(2980, 625);
-		// sqliteNormalAiHandle.insert(2981, 650);
-		// sqliteNormalAiHandle.insert(2982, 720);
-		// sqliteNormalAiHandle.insert(2985, 725);
-		// sqliteNormalAiHandle.insert(2986, 650);
-		// sqliteNormalAiHandle.insert(2987, 600);
-		// sqliteNormalAiHandle.insert(2988, 600);
-		// sqliteNormalAiHandle.insert(2989, 700);
-		// sqliteNormalAiHandle.insert(2990, 700);
-		// sqliteNormalAiHandle.insert(2993, 700);
-		// sqliteNormalAiHandle.insert(2994, 700);
-		// sqliteNormalAiHandle.insert(2995, 700);
-		// sqliteNormalAiHandle.insert(2996, 720);
-		// sqliteNormalAiHandle.insert(2997, 725);
-		// sqliteNormalAiHandle.insert(2998, 820);
-		// sqliteNormalAiHandle.insert(3074, 3);
-		// sqliteNormalAiHandle.insert(3075, 4);
-		// sqliteNormalAiHandle.insert(3076, 5);
-		// sqliteNormalAiHandle.insert(3077, 5);
-		// sqliteNormalAiHandle.insert(3078, 6);
-		// sqliteNormalAiHandle.insert(3080, 6);
-		// sqliteNormalAiHandle.insert(3082, 7);
-		// sqliteNormalAiHandle.insert(3083, 6);
-		// sqliteNormalAiHandle.insert(3088, 2);
-		// sqliteNormalAiHandle.insert(3096, 2);
-		// sqliteNormalAiHandle.insert(3105, 4);
-		// sqliteNormalAiHandle.insert(3106, 4);
-		// sqliteNormalAiHandle.insert(3107, 4);
-		// sqliteNormalAiHandle.insert(3108, 4);
-		// sqliteNormalAiHandle.insert(3109, 4);
-		// sqliteNormalAiHandle.insert(3110, 4);
-		// sqliteNormalAiHandle.insert(3113, 5);
-		// sqliteNormalAiHandle.insert(3114, 5);
-		// sqliteNormalAiHandle.insert(3115, 5);
-		// sqliteNormalAiHandle.insert(3116, 5);
-		// sqliteNormalAiHandle.insert(3117, 5);
-		// sqliteNormalAiHandle.insert(3118, 5);
-		// sqliteNormalAiHandle.insert(3121, 5);
-		// sqliteNormalAiHandle.insert(3122, 6);
-		// sqliteNormalAiHandle.insert(3123, 7);
-		// sqliteNormalAiHandle.insert(3124, 8);
-		// sqliteNormalAiHandle.insert(3125, 9);
-		// sqliteNormalAiHandle.insert(3126, 15);
-		// sqliteNormalAiHandle.insert(3138, 13);
-		// sqliteNormalAiHandle.insert(3139, 13);
-		// sqliteNormalAiHandle.insert(3140, 13);
-		// sqliteNormalAiHandle.insert(3141, 50);
-		// sqliteNormalAiHandle.insert(3142, 50);
-		// sqliteNormalAiHandle.insert(3144, 50);
-		// sqliteNormalAiHandle.insert(3146, 500);
-		// sqliteNormalAiHandle.insert(3147, 500);
-		// sqliteNormalAiHandle.insert(3152, 100);
-		// sqliteNormalAiHandle.insert(3160, 100);
-		// sqliteNormalAiHandle.insert(3169, 550);
-		// sqliteNormalAiHandle.insert(3170, 550);
-		// sqliteNormalAiHandle.insert(3171, 550);
-		// sqliteNormalAiHandle.insert(3172, 550);
-		// sqliteNormalAiHandle.insert(3173, 550);
-		// sqliteNormalAiHandle.insert(3174, 600);
-		// sqliteNormalAiHandle.insert(3177, 650);
-		// sqliteNormalAiHandle.insert(3178, 600);
-		// sqliteNormalAiHandle.insert(3179, 600);
-		// sqliteNormalAiHandle.insert(3180, 600);
-		// sqliteNormalAiHandle.insert(3181, 650);
-		// sqliteNormalAiHandle.insert(3182, 670);
-		// sqliteNormalAiHandle.insert(3185, 670);
-		// sqliteNormalAiHandle.insert(3186, 650);
-		// sqliteNormalAiHandle.insert(3187, 650);
-		// sqliteNormalAiHandle.insert(3188, 650);
-		// sqliteNormalAiHandle.insert(3189, 680);
-		// sqliteNormalAiHandle.insert(3190, 725);
-		// sqliteNormalAiHandle.insert(3202, 725);
-		// sqliteNormalAiHandle.insert(3203, 725);
-		// sqliteNormalAiHandle.insert(3204, 725);
-		// sqliteNormalAiHandle.insert(3205, 750);
-		// sqliteNormalAiHandle.insert(3206, 800);
-		// sqliteNormalAiHandle.insert(3208, 725);
-		// sqliteNormalAiHandle.insert(3210, 680);
-		// sqliteNormalAiHandle.insert(3211, 680);
-		// sqliteNormalAiHandle.insert(3216, 720);
-		// sqliteNormalAiHandle.insert(3224, 720);
-		// sqliteNormalAiHandle.insert(3233, 680);
-		// sqliteNormalAiHandle.insert(3234, 650);
-		// sqliteNormalAiHandle.insert(3235, 650);
-		// sqliteNormalAiHandle.insert(3236, 650);
-		// sqliteNormalAiHandle.insert(3237, 680);
-		// sqliteNormalAiHandle.insert(3238, 700);
-		// sqliteNormalAiHandle.insert(3241, 720);
-		// sqliteNormalAiHandle.insert(3242, 680);
-		// sqliteNormalAiHandle.insert(3243, 670);
-		// sqliteNormalAiHandle.insert(3244, 680);
-		// sqliteNormalAiHandle.insert(3245, 690);
-		// sqliteNormalAiHandle.insert(3246, 725);
-		// sqliteNormalAiHandle.insert(3249, 725);
-		// sqliteNormalAiHandle.insert(3250, 720);
-		// sqliteNormalAiHandle.insert(3251, 720);
-		// sqliteNormalAiHandle.insert(3252, 720);
-		// sqliteNormalAiHandle.insert(3253, 725);
-		// sqliteNormalAiHandle.insert(3254, 820);
-		// sqliteNormalAiHandle.insert(3330, 3);
-		// sqliteNormalAiHandle.insert(3331, 4);
-		// sqliteNormalAiHandle.insert(3332, 4);
-		// sqliteNormalAiHandle.insert(3333, 4);
-		// sqliteNormalAiHandle.insert(3334, 4);
-		// sqliteNormalAiHandle.insert(3336, 4);
-		// sqliteNormalAiHandle.insert(3338, 4);
-		// sqliteNormalAiHandle.insert(3339, 4);
-		// sqliteNormalAiHandle.insert(3340, 2);
-		// sqliteNormalAiHandle.insert(3344, 2);
-		// sqliteNormalAiHandle.insert(3352, 2);
-		// sqliteNormalAiHandle.insert(3360, 3);
-		// sqliteNormalAiHandle.insert(3369, 3);
-		// sqliteNormalAiHandle.insert(3370, 2);
-		// sqliteNormalAiHandle.insert(3371, 4);
-		// sqliteNormalAiHandle.insert(3372, 4);
-		// sqliteNormalAiHandle.insert(3373, 7);
-		// sqliteNormalAiHandle.insert(3374, 8);
-		// sqliteNormalAiHandle.insert(3377, 6);
-		// sqliteNormalAiHandle.insert(3378, 5);
-		// sqliteNormalAiHandle.insert(3379, 3);
-		// sqliteNormalAiHandle.insert(3380, 4);
-		// sqliteNormalAiHandle.insert(3381, 4);
-		// sqliteNormalAiHandle.insert(3382, 4);
-		// sqliteNormalAiHandle.insert(3394, 4);
-		// sqliteNormalAiHandle.insert(3395, 4);
-		// sqliteNormalAiHandle.insert(3396, 6);
-		// sqliteNormalAiHandle.insert(3397, 5);
-		// sqliteNormalAiHandle.insert(3398, 4);
-		// sqliteNormalAiHandle.insert(3400, 3);
-		// sqliteNormalAiHandle.insert(3402, 650);
-		// sqliteNormalAiHandle.insert(3403, 650);
-		// sqliteNormalAiHandle.insert(3404, 650);
-		// sqliteNormalAiHandle.insert(3408, 100);
-		// sqliteNormalAiHandle.insert(3416, 100);
-		// sqliteNormalAiHandle.insert(3424, 100);
-		// sqliteNormalAiHandle.insert(3433, 650);
-		// sqliteNormalAiHandle.insert(3434, 650);
-		// sqliteNormalAiHandle.insert(3435, 650);
-		// sqliteNormalAiHandle.insert(3436, 650);
-		// sqliteNormalAiHandle.insert(3437, 650);
-		// sqliteNormalAiHandle.insert(3438, 680);
-		// sqliteNormalAiHandle.insert(3441, 680);
-		// sqliteNormalAiHandle.insert(3442, 680);
-		// sqliteNormalAiHandle.insert(3443, 680);
-		// sqliteNormalAiHandle.insert(3444, 680);
-		// sqliteNormalAiHandle.insert(3445, 680);
-		// sqliteNormalAiHandle.insert(3446, 725);
-		// sqliteNormalAiHandle.insert(3458, 725);
-		// sqliteNormalAiHandle.insert(3459, 725);
-		// sqliteNormalAiHandle.insert(3460, 725);
-		// sqliteNormalAiHandle.insert(3461, 750);
-		// sqliteNormalAiHandle.insert(3462, 825);
-		// sqliteNormalAiHandle.insert(3464, 825);
-		// sqliteNormalAiHandle.insert(3466, 680);
-		// sqliteNormalAiHandle.insert(3467, 680);
-		// sqliteNormalAiHandle.insert(3468, 680);
-		// sqliteNormalAiHandle.insert(3472, 780);
-		// sqliteNormalAiHandle.insert(3480, 780);
-		// sqliteNormalAiHandle.insert(3488, 780);
-		// sqliteNormalAiHandle.insert(3497, 690);
-		// sqliteNormalAiHandle.insert(3498, 700);
-		// sqliteNormalAiHandle.insert(3499, 700);
-		// sqliteNormalAiHandle.insert(3500, 700);
-		// sqliteNormalAiHandle.insert(3501, 725);
-		// sqliteNormalAiHandle.insert(3502, 780);
-		// sqliteNormalAiHandle.insert(3505, 780);
-		// sqliteNormalAiHandle.insert(3506, 760);
-		// sqliteNormalAiHandle.insert(3507, 760);
-		// sqliteNormalAiHandle.insert(3508, 760);
-		// sqliteNormalAiHandle.insert(3509, 780);
-		// sqliteNormalAiHandle.insert(3510, 780);
-		// sqliteNormalAiHandle.insert(3586, 6);
-		// sqliteNormalAiHandle.insert(3587, 7);
-		// sqliteNormalAiHandle.insert(3588, 8);
-		// sqliteNormalAiHandle.insert(3589, 9);
-		// sqliteNormalAiHandle.insert(3590, 7);
-		// sqliteNormalAiHandle.insert(3592, 9);
-		// sqliteNormalAiHandle.insert(3594, 2);
-		// sqliteNormalAiHandle.insert(3595, 3);
-		// sqliteNormalAiHandle.insert(3596, 3);
-		// sqliteNormalAiHandle.insert(3597, 4);
-		// sqliteNormalAiHandle.insert(3600, 6);
-		// sqliteNormalAiHandle.insert(3608, 5);
-		// sqliteNormalAiHandle.insert(3616, 3);
-		// sqliteNormalAiHandle.insert(3624, 4);
-		// sqliteNormalAiHandle.insert(3633, 2);
-		// sqliteNormalAiHandle.insert(3634, 2);
-		// sqliteNormalAiHandle.insert(3635, 2);
-		// sqliteNormalAiHandle.insert(3636, 2);
-		// sqliteNormalAiHandle.insert(3637, 2);
-		// sqliteNormalAiHandle.insert(3638, 2);
-		// sqliteNormalAiHandle.insert(3650, 2);
-		// sqliteNormalAiHandle.insert(3651, 3);
-		// sqliteNormalAiHandle.insert(3652, 4);
-		// sqliteNormalAiHandle.insert(3653, 3);
-		// sqliteNormalAiHandle.insert(3654, 3);
-		// sqliteNormalAiHandle.insert(3656, 3);
-		// sqliteNormalAiHandle.insert(3658, 4);
-		// sqliteNormalAiHandle.insert(3659, 3);
-		// sqliteNormalAiHandle.insert(3660, 3);
-		// sqliteNormalAiHandle.insert(3661, 5);
-		// sqliteNormalAiHandle.insert(3664, 4);
-		// sqliteNormalAiHandle.insert(3672, 4);
-		// sqliteNormalAiHandle.insert(3680, 3);
-		// sqliteNormalAiHandle.insert(3688, 3);
-		// sqliteNormalAiHandle.insert(3697, 765);
-		// sqliteNormalAiHandle.insert(3698, 760);
-		// sqliteNormalAiHandle.insert(3699, 760);
-		// sqliteNormalAiHandle.insert(3700, 760);
-		// sqliteNormalAiHandle.insert(3701, 760);
-		// sqliteNormalAiHandle.insert(3702, 850);
-		// sqliteNormalAiHandle.insert(3714, 850);
-		// sqliteNormalAiHandle.insert(3715, 850);
-		// sqliteNormalAiHandle.insert(3716, 850);
-		// sqliteNormalAiHandle.insert(3717, 870);
-		// sqliteNormalAiHandle.insert(3718, 990);
-		// sqliteNormalAiHandle.insert(3720, 880);
-		// sqliteNormalAiHandle.insert(3722, 780);
-		// sqliteNormalAiHandle.insert(3723, 780);
-		// sqliteNormalAiHandle.insert(3724, 780);
-		// sqliteNormalAiHandle.insert(3725, 780);
-		// sqliteNormalAiHandle.insert(3728, 820);
-		// sqliteNormalAiHandle.insert(3736, 820);
-		// sqliteNormalAiHandle.insert(3744, 820);
-		// sqliteNormalAiHandle.insert(3752, 825);
-		// sqliteNormalAiHandle.insert(3761, 825);
-		// sqliteNormalAiHandle.insert(3762, 825);
-		// sqliteNormalAiHandle.insert(3763, 825);
-		// sqliteNormalAiHandle.insert(3764, 825);
-		// sqliteNormalAiHandle.insert(3765, 825);
-		// sqliteNormalAiHandle.insert(3766, 990);
-		// sqliteNormalAiHandle.insert(4105, 2);
-		// sqliteNormalAiHandle.insert(4113, 2);
-		// sqliteNormalAiHandle.insert(4120, 4);
-		// sqliteNormalAiHandle.insert(4121, 4);
-		// sqliteNormalAiHandle.insert(4128, 5);
-		// sqliteNormalAiHandle.insert(4129, 5);
-		// sqliteNormalAiHandle.insert(4136, 4);
-		// sqliteNormalAiHandle.insert(4137, 4);
-		// sqliteNormalAiHandle.insert(4144, 4);
-		// sqliteNormalAiHandle.insert(4145, 2);
-		// sqliteNormalAiHandle.insert(4169, 25);
-		// sqliteNormalAiHandle.insert(4177, 25);
-		// sqliteNormalAiHandle.insert(4184, 25);
-		// sqliteNormalAiHandle.insert(4185, 25);
-		// sqliteNormalAiHandle.insert(4192, 25);
-		// sqliteNormalAiHandle.insert(4193, 25);
-		// sqliteNormalAiHandle.insert(4200, 25);
-		// sqliteNormalAiHandle.insert(4201, 25);
-		// sqliteNormalAiHandle.insert(4208, 50);
-		// sqliteNormalAiHandle.insert(4209, 25);
-		// sqliteNormalAiHandle.insert(4233, 725);
-		// sqliteNormalAiHandle.insert(4241, 725);
-		// sqliteNormalAiHandle.insert(4248, 800);
-		// sqliteNormalAiHandle.insert(4249, 725);
-		// sqliteNormalAiHandle.insert(4256, 800);
-		// sqliteNormalAiHandle.insert(4257, 725);
-		// sqliteNormalAiHandle.insert(4264, 825);
-		// sqliteNormalAiHandle.insert(4265, 750);
-		// sqliteNormalAiHandle.insert(4272, 880);
-		// sqliteNormalAiHandle.insert(4273, 820);
-		// sqliteNormalAiHandle.insert(4352, 2);
-		// sqliteNormalAiHandle.insert(4355, 3);
-		// sqliteNormalAiHandle.insert(4356, 3);
-		// sqliteNormalAiHandle.insert(4357, 3);
-		// sqliteNormalAiHandle.insert(4358, 3);
-		// sqliteNormalAiHandle.insert(4377, 2);
-		// sqliteNormalAiHandle.insert(4385, 3);
-		// sqliteNormalAiHandle.insert(4393, 3);
-		// sqliteNormalAiHandle.insert(4401, 2);
-		// sqliteNormalAiHandle.insert(4416, 50);
-		// sqliteNormalAiHandle.insert(4419, 50);
-		// sqliteNormalAiHandle.insert(4420, 50);
-		// sqliteNormalAiHandle.insert(4421, 80);
-		// sqliteNormalAiHandle.insert(4422, 80);
-		// sqliteNormalAiHandle.insert(4441, 650);
-		// sqliteNormalAiHandle.insert(4449, 650);
-		// sqliteNormalAiHandle.insert(4457, 680);
-		// sqliteNormalAiHandle.insert(4465, 720);
-		// sqliteNormalAiHandle.insert(4480, 800);
-		// sqliteNormalAiHandle.insert(4483, 720);
-		// sqliteNormalAiHandle.insert(4484, 720);
-		// sqliteNormalAiHandle.insert(4485, 720);
-		// sqliteNormalAiHandle.insert(4486, 820);
-		// sqliteNormalAiHandle.insert(4505, 680);
-		// sqliteNormalAiHandle.insert(4513, 690);
-		// sqliteNormalAiHandle.insert(4521, 700);
-		// sqliteNormalAiHandle.insert(4529, 720);
-		// sqliteNormalAiHandle.insert(4611, 3);
-		// sqliteNormalAiHandle.insert(4612, 4);
-		// sqliteNormalAiHandle.insert(4613, 2);
-		// sqliteNormalAiHandle.insert(4614, 2);
-		// sqliteNormalAiHandle.insert(4616, 2);
-		// sqliteNormalAiHandle.insert(4619, 2);
-		// sqliteNormalAiHandle.insert(4620, 2);
-		// sqliteNormalAiHandle.insert(4621, 3);
-		// sqliteNormalAiHandle.insert(4622, 3);
-		// sqliteNormalAiHandle.insert(4626, 2);
-		// sqliteNormalAiHandle.insert(4627, 2);
-		// sqliteNormalAiHandle.insert(4628, 4);
-		// sqliteNormalAiHandle.insert(4629, 2);
-		// sqliteNormalAiHandle.insert(4630, 2);
-		// sqliteNormalAiHandle.insert(4635, 2);
-		// sqliteNormalAiHandle.insert(4636, 2);
-		// sqliteNormalAiHandle.insert(4637, 3);
-		// sqliteNormalAiHandle.insert(4638, 3);
-		// sqliteNormalAiHandle.insert(4644, 120);
-		// sqliteNormalAiHandle.insert(4645, 125);
-		// sqliteNormalAiHandle.insert(4646, 150);
-		// sqliteNormalAiHandle.insert(4653, 150);
-		// sqliteNormalAiHandle.insert(4654, 200);
-		// sqliteNormalAiHandle.insert(4662, 250);
-		// sqliteNormalAiHandle.insert(4675, 100);
-		// sqliteNormalAiHandle.insert(4676, 100);
-		// sqliteNormalAiHandle.insert(4677, 120);
-		// sqliteNormalAiHandle.insert(4678, 125);
-		// sqliteNormalAiHandle.insert(4680, 125);
-		// sqliteNormalAiHandle.insert(4683, 500);
-		// sqliteNormalAiHandle.insert(4684, 500);
-		// sqliteNormalAiHandle.insert(4685, 550);
-		// sqliteNormalAiHandle.insert(4686, 580);
-		// sqliteNormalAiHandle.insert(4690, 600);
-		// sqliteNormalAiHandle.insert(4691, 600);
-		// sqliteNormalAiHandle.insert(4692, 600);
-		// sqliteNormalAiHandle.insert(4693, 600);
-		// sqliteNormalAiHandle.insert(4694, 600);
-		// sqliteNormalAiHandle.insert(4699, 600);
-		// sqliteNormalAiHandle.insert(4700, 600);
-		// sqliteNormalAiHandle.insert(4701, 650);
-		// sqliteNormalAiHandle.insert(4702, 700);
-		// sqliteNormalAiHandle.insert(4708, 620);
-		// sqliteNormalAiHandle.insert(4709, 650);
-		// sqliteNormalAiHandle.insert(4710, 720);
-		// sqliteNormalAiHandle.insert(4717, 690);
-		// sqliteNormalAiHandle.insert(4718, 720);
-		// sqliteNormalAiHandle.insert(4726, 725);
-		// sqliteNormalAiHandle.insert(4739, 720);
-		// sqliteNormalAiHandle.insert(4740, 720);
-		// sqliteNormalAiHandle.insert(4741, 725);
-		// sqliteNormalAiHandle.insert(4742, 800);
-		// sqliteNormalAiHandle.insert(4744, 725);
-		// sqliteNormalAiHandle.insert(4747, 700);
-		// sqliteNormalAiHandle.insert(4748, 700);
-		// sqliteNormalAiHandle.insert(4749, 725);
-		// sqliteNormalAiHandle.insert(4750, 750);
-		// sqliteNormalAiHandle.insert(4754, 690);
-		// sqliteNormalAiHandle.insert(4755, 690);
-		// sqliteNormalAiHandle.insert(4756, 690);
-		// sqliteNormalAiHandle.insert(4757, 720);
-		// sqliteNormalAiHandle.insert(4758, 725);
-		// sqliteNormalAiHandle.insert(4763, 700);
-		// sqliteNormalAiHandle.insert(4764, 700);
-		// sqliteNormalAiHandle.insert(4765, 710);
-		// sqliteNormalAiHandle.insert(4766, 720);
-		// sqliteNormalAiHandle.insert(4772, 690);
-		// sqliteNormalAiHandle.insert(4773, 695);
-		// sqliteNormalAiHandle.insert(4774, 720);
-		// sqliteNormalAiHandle.insert(4781, 695);
-		// sqliteNormalAiHandle.insert(4782, 750);
-		// sqliteNormalAiHandle.insert(4790, 800);
-		// sqliteNormalAiHandle.insert(4867, 2);
-		// sqliteNormalAiHandle.insert(4868, 3);
-		// sqliteNormalAiHandle.insert(4869, 4);
-		// sqliteNormalAiHandle.insert(4870, 4);
-		// sqliteNormalAiHandle.insert(4872, 3);
-		// sqliteNormalAiHandle.insert(4875, 2);
-		// sqliteNormalAiHandle.insert(4876, 2);
-		// sqliteNormalAiHandle.insert(4877, 3);
-		// sqliteNormalAiHandle.insert(4878, 2);
-		// sqliteNormalAiHandle.insert(4880, 3);
-		// sqliteNormalAiHandle.insert(4881, 3);
-		// sqliteNormalAiHandle.insert(4890, 150);
-		// sqliteNormalAiHandle.insert(4891, 150);
-		// sqliteNormalAiHandle.insert(4892, 150);
-		// sqliteNormalAiHandle.insert(4893, 160);
-		// sqliteNormalAiHandle.insert(4894, 200);
-		// sqliteNormalAiHandle.insert(4898, 200);
-		// sqliteNormalAiHandle.insert(4899, 160);
-		// sqliteNormalAiHandle.insert(4900, 200);
-		// sqliteNormalAiHandle.insert(4901, 215);
-		// sqliteNormalAiHandle.insert(4902, 225);
-		// sqliteNormalAiHandle.insert(4906, 215);
-		// sqliteNormalAiHandle.insert(4907, 210);
-		// sqliteNormalAiHandle.insert(4908, 225);
-		// sqliteNormalAiHandle.insert(4909, 250);
-		// sqliteNormalAiHandle.insert(4910, 270);
-		// sqliteNormalAiHandle.insert(4914, 250);
-		// sqliteNormalAiHandle.insert(4915, 230);
-		// sqliteNormalAiHandle.insert(4916, 250);
-		// sqliteNormalAiHandle.insert(4917, 260);
-		// sqliteNormalAiHandle.insert(4918, 300);
-		// sqliteNormalAiHandle.insert(4931, 100);
-		// sqliteNormalAiHandle.insert(4932, 100);
-		// sqliteNormalAiHandle.insert(4933, 100);
-		// sqliteNormalAiHandle.insert(4934, 100);
-		// sqliteNormalAiHandle.insert(4936, 100);
-		// sqliteNormalAiHandle.insert(4939, 500);
-		// sqliteNormalAiHandle.insert(4940, 550);
-		// sqliteNormalAiHandle.insert(4941, 580);
-		// sqliteNormalAiHandle.insert(4942, 650);
-		// sqliteNormalAiHandle.insert(4944, 625);
-		// sqliteNormalAiHandle.insert(4945, 620);
-		// sqliteNormalAiHandle.insert(4954, 600);
-		// sqliteNormalAiHandle.insert(4955, 600);
-		// sqliteNormalAiHandle.insert(4956, 600);
-		// sqliteNormalAiHandle.insert(4957, 625);
-		// sqliteNormalAiHandle.insert(4958, 700);
-		// sqliteNormalAiHandle.insert(4962, 680);
-		// sqliteNormalAiHandle.insert(4963, 670);
-		// sqliteNormalAiHandle.insert(4964, 680);
-		// sqliteNormalAiHandle.insert(4965, 690);
-		// sqliteNormalAiHandle.insert(4966, 725);
-		// sqliteNormalAiHandle.insert(4970, 660);
-		// sqliteNormalAiHandle.insert(4971, 650);
-		// sqliteNormalAiHandle.insert(4972, 660);
-		// sqliteNormalAiHandle.insert(4973, 680);
-		// sqliteNormalAiHandle.insert(4974, 725);
-		// sqliteNormalAiHandle.insert(4978, 725);
-		// sqliteNormalAiHandle.insert(4979, 725);
-		// sqliteNormalAiHandle.insert(4980, 725);
-		// sqliteNormalAiHandle.insert(4981, 750);
-		// sqliteNormalAiHandle.insert(4982, 775);
-		// sqliteNormalAiHandle.insert(4995, 750);
-		// sqliteNormalAiHandle.insert(4996, 750);
-		// sqliteNormalAiHandle.insert(4997, 750);
-		// sqliteNormalAiHandle.insert(4998, 800);
-		// sqliteNormalAiHandle.insert(5000, 750);
-		// sqliteNormalAiHandle.insert(5003, 680);
-		// sqliteNormalAiHandle.insert(5004, 690);
-		// sqliteNormalAiHandle.insert(5005, 700);
-		// sqliteNormalAiHandle.insert(5006, 725);
-		// sqliteNormalAiHandle.insert(5008, 720);
-		// sqliteNormalAiHandle.insert(5009, 680);
-		// sqliteNormalAiHandle.insert(5018, 670);
-		// sqliteNormalAiHandle.insert(5019, 670);
-		// sqliteNormalAiHandle.insert(5020, 670);
-		// sqliteNormalAiHandle.insert(5021, 690);
-		// sqliteNormalAiHandle.insert(5022, 700);
-		// sqliteNormalAiHandle.insert(5026, 650);
-		// sqliteNormalAiHandle.insert(5027, 650);
-		// sqliteNormalAiHandle.insert(5028, 650);
-		// sqliteNormalAiHandle.insert(5029, 670);
-		// sqliteNormalAiHandle.insert(5030, 700);
-		// sqliteNormalAiHandle.insert(5034, 670);
-		// sqliteNormalAiHandle.insert(5035, 650);
-		// sqliteNormalAiHandle.insert(5036, 650);
-		// sqliteNormalAiHandle.insert(5037, 670);
-		// sqliteNormalAiHandle.insert(5038, 700);
-		// sqliteNormalAiHandle.insert(5042, 700);
-		// sqliteNormalAiHandle.insert(5043, 700);
-		// sqliteNormalAiHandle.insert(5044, 700);
-		// sqliteNormalAiHandle.insert(5045, 750);
-		// sqliteNormalAiHandle.insert(5046, 800);
-		// sqliteNormalAiHandle.insert(5123, 3);
-		// sqliteNormalAiHandle.insert(5124, 4);
-		// sqliteNormalAiHandle.insert(5125, 4);
-		// sqliteNormalAiHandle.insert(5126, 4);
-		// sqliteNormalAiHandle.insert(5128, 5);
-		// sqliteNormalAiHandle.insert(5131, 6);
-		// sqliteNormalAiHandle.insert(5132, 7);
-		// sqliteNormalAiHandle.insert(5133, 8);
-		// sqliteNormalAiHandle.insert(5134, 9);
-		// sqliteNormalAiHandle.insert(5136, 4);
-		// sqliteNormalAiHandle.insert(5137, 6);
-		// sqliteNormalAiHandle.insert(5139, 150);
-		// sqliteNormalAiHandle.insert(5144, 4);
-		// sqliteNormalAiHandle.insert(5145, 7);
-		// sqliteNormalAiHandle.insert(5154, 4);
-		// sqliteNormalAiHandle.insert(5155, 4);
-		// sqliteNormalAiHandle.insert(5156, 4);
-		// sqliteNormalAiHandle.insert(5157, 4);
-		// sqliteNormalAiHandle.insert(5158, 5);
-		// sqliteNormalAiHandle.insert(5162, 160);
-		// sqliteNormalAiHandle.insert(5163, 160);
-		// sqliteNormalAiHandle.insert(5164, 170);
-		// sqliteNormalAiHandle.insert(5165, 200);
-		// sqliteNormalAiHandle.insert(5166, 250);
-		// sqliteNormalAiHandle.insert(5170, 250);
-		// sqliteNormalAiHandle.insert(5171, 250);
-		// sqliteNormalAiHandle.insert(5172, 250);
-		// sqliteNormalAiHandle.insert(5173, 260);
-		// sqliteNormalAiHandle.insert(5174, 700);
-		// sqliteNormalAiHandle.insert(5187, 1);
-		// sqliteNormalAiHandle.insert(5188, 3);
-		// sqliteNormalAiHandle.insert(5189, 4);
-		// sqliteNormalAiHandle.insert(5190, 5);
-		// sqliteNormalAiHandle.insert(5192, 650);
-		// sqliteNormalAiHandle.insert(5195, 625);
-		// sqliteNormalAiHandle.insert(5196, 620);
-		// sqliteNormalAiHandle.insert(5197, 680);
-		// sqliteNormalAiHandle.insert(5198, 690);
-		// sqliteNormalAiHandle.insert(5200, 5);
-		// sqliteNormalAiHandle.insert(5201, 650);
-		// sqliteNormalAiHandle.insert(5203, 600);
-		// sqliteNormalAiHandle.insert(5208, 670);
-		// sqliteNormalAiHandle.insert(5209, 650);
-		// sqliteNormalAiHandle.insert(5218, 550);
-		// sqliteNormalAiHandle.insert(5219, 550);
-		// sqliteNormalAiHandle.insert(5220, 550);
-		// sqliteNormalAiHandle.insert(5221, 550);
-		// sqliteNormalAiHandle.insert(5222, 600);
-		// sqliteNormalAiHandle.insert(5226, 550);
-		// sqliteNormalAiHandle.insert(5227, 550);
-		// sqliteNormalAiHandle.insert(5228, 550);
-		// sqliteNormalAiHandle.insert(5229, 550);
-		// sqliteNormalAiHandle.insert(5230, 550);
-		// sqliteNormalAiHandle.insert(5234, 600);
-		// sqliteNormalAiHandle.insert(5235, 600);
-		// sqliteNormalAiHandle.insert(5236, 600);
-		// sqliteNormalAiHandle.insert(5237, 600);
-		// sqliteNormalAiHandle.insert(5238, 720);
-		// sqliteNormalAiHandle.insert(5251, 700);
-		// sqliteNormalAiHandle.insert(5252, 700);
-		// sqliteNormalAiHandle.insert(5253, 720);
-		// sqliteNormalAiHandle.insert(5254, 800);
-		// sqliteNormalAiHandle.insert(5256, 720);
-		// sqliteNormalAiHandle.insert(5259, 625);
-		// sqliteNormalAiHandle.insert(5260, 625);
-		// sqliteNormalAiHandle.insert(5261, 650);
-		// sqliteNormalAiHandle.insert(5262, 720);
-		// sqliteNormalAiHandle.insert(5264, 700);
-		// sqliteNormalAiHandle.insert(5265, 650);
-		// sqliteNormalAiHandle.insert(5267, 600);
-		// sqliteNormalAiHandle.insert(5272, 600);
-		// sqliteNormalAiHandle.insert(5273, 625);
-		// sqliteNormalAiHandle.insert(5282, 600);
-		// sqliteNormalAiHandle.insert(5283, 600);
-		// sqliteNormalAiHandle.insert(5284, 620);
-		// sqliteNormalAiHandle.insert(5285, 625);
-		// sqliteNormalAiHandle.insert(5286, 700);
-		// sqliteNormalAiHandle.insert(5290, 620);
-		// sqliteNormalAiHandle.insert(5291, 620);
-		// sqliteNormalAiHandle.insert(5292, 620);
-		// sqliteNormalAiHandle.insert(5293, 625);
-		// sqliteNormalAiHandle.insert(5294, 720);
-		// sqliteNormalAiHandle.insert(5298, 700);
-		// sqliteNormalAiHandle.insert(5299, 700);
-		// sqliteNormalAiHandle.insert(5300, 700);
-		// sqliteNormalAiHandle.insert(5301, 700);
-		// sqliteNormalAiHandle.insert(5302, 700);
-		// sqliteNormalAiHandle.insert(5379, 3);
-		// sqliteNormalAiHandle.insert(5380, 5);
-		// sqliteNormalAiHandle.insert(5381, 4);
-		// sqliteNormalAiHandle.insert(5382, 3);
-		// sqliteNormalAiHandle.insert(5384, 4);
-		// sqliteNormalAiHandle.insert(5387, 9);
-		// sqliteNormalAiHandle.insert(5388, 9);
-		// sqliteNormalAiHandle.insert(5389, 10);
-		// sqliteNormalAiHandle.insert(5390, 11);
-		// sqliteNormalAiHandle.insert(5392, 2);
-		// sqliteNormalAiHandle.insert(5393, 8);
-		// sqliteNormalAiHandle.insert(5395, 150);
-		// sqliteNormalAiHandle.insert(5396, 160);
-		// sqliteNormalAiHandle.insert(5400, 4);
-		// sqliteNormalAiHandle.insert(5401, 7);
-		// sqliteNormalAiHandle.insert(5408, 2);
-		// sqliteNormalAiHandle.insert(5409, 9);
-		// sqliteNormalAiHandle.insert(5418, 150);
-		// sqliteNormalAiHandle.insert(5419, 160);
-		// sqliteNormalAiHandle.insert(5420, 180);
-		// sqliteNormalAiHandle.insert(5421, 200);
-		// sqliteNormalAiHandle.insert(5422, 250);
-		// sqliteNormalAiHandle.insert(5426, 250);
-		// sqliteNormalAiHandle.insert(5427, 200);
-		// sqliteNormalAiHandle.insert(5428, 250);
-		// sqliteNormalAiHandle.insert(5429, 250);
-		// sqliteNormalAiHandle.insert(5430, 260);
-		// sqliteNormalAiHandle.insert(5443, 100);
-		// sqliteNormalAiHandle.insert(5444, 100);
-		// sqliteNormalAiHandle.insert(5445, 100);
-		// sqliteNormalAiHandle.insert(5446, 100);
-		// sqliteNormalAiHandle.insert(5448, 550);
-		// sqliteNormalAiHandle.insert(5451, 500);
-		// sqliteNormalAiHandle.insert(5452, 520);
-		// sqliteNormalAiHandle.insert(5453, 550);
-		// sqliteNormalAiHandle.insert(5454, 600);
-		// sqliteNormalAiHandle.insert(5456, 100);
-		// sqliteNormalAiHandle.insert(5457, 550);
-		// sqliteNormalAiHandle.insert(5459, 500);
-		// sqliteNormalAiHandle.insert(5460, 500);
-		// sqliteNormalAiHandle.insert(5464, 100);
-		// sqliteNormalAiHandle.insert(5465, 550);
-		// sqliteNormalAiHandle.insert(5472, 100);
-		// sqliteNormalAiHandle.insert(5473, 550);
-		// sqliteNormalAiHandle.insert(5482, 550);
-		// sqliteNormalAiHandle.insert(5483, 550);
-		// sqliteNormalAiHandle.insert(5484, 550);
-		// sqliteNormalAiHandle.insert(5485, 600);
-		// sqliteNormalAiHandle.insert(5486, 650);
-		// sqliteNormalAiHandle.insert(5490, 650);
-		// sqliteNormalAiHandle.insert(5491, 650);
-		// sqliteNormalAiHandle.insert(5492, 650);
-		// sqliteNormalAiHandle.insert(5493, 680);
-		// sqliteNormalAiHandle.insert(5494, 720);
-		// sqliteNormalAiHandle.insert(5507, 720);
-		// sqliteNormalAiHandle.insert(5508, 720);
-		// sqliteNormalAiHandle.insert(5509, 750);
-		// sqliteNormalAiHandle.insert(5510, 800);
-		// sqliteNormalAiHandle.insert(5512, 750);
-		// sqliteNormalAiHandle.insert(5515, 680);
-		// sqliteNormalAiHandle.insert(5516, 680);
-		// sqliteNormalAiHandle.insert(5517, 680);
-		// sqliteNormalAiHandle.insert(5518, 680);
-		// sqliteNormalAiHandle.insert(5520, 680);
-		// sqliteNormalAiHandle.insert(5521, 680);
-		// sqliteNormalAiHandle.insert(5523, 650);
-		// sqliteNormalAiHandle.insert(5524, 670);
-		// sqliteNormalAiHandle.insert(5528, 720);
-		// sqliteNormalAiHandle.insert(5529, 680);
-		// sqliteNormalAiHandle.insert(5536, 750);
-		// sqliteNormalAiHandle.insert(5537, 690);
-		// sqliteNormalAiHandle.insert(5546, 690);
-		// sqliteNormalAiHandle.insert(5547, 690);
-		// sqliteNormalAiHandle.insert(5548, 690);
-		// sqliteNormalAiHandle.insert(5549, 695);
-		// sqliteNormalAiHandle.insert(5550, 750);
-		// sqliteNormalAiHandle.insert(5554, 725);
-		// sqliteNormalAiHandle.insert(5555, 725);
-		// sqliteNormalAiHandle.insert(5556, 725);
-		// sqliteNormalAiHandle.insert(5557, 750);
-		// sqliteNormalAiHandle.insert(5558, 820);
-		// sqliteNormalAiHandle.insert(5635, 2);
-		// sqliteNormalAiHandle.insert(5636, 3);
-		// sqliteNormalAiHandle.insert(5637, 4);
-		// sqliteNormalAiHandle.insert(5638, 4);
-		// sqliteNormalAiHandle.insert(5640, 5);
-		// sqliteNormalAiHandle.insert(5643, 9);
-		// sqliteNormalAiHandle.insert(5644, 10);
-		// sqliteNormalAiHandle.insert(5645, 15);
-		// sqliteNormalAiHandle.insert(5646, 16);
-		// sqliteNormalAiHandle.insert(5648, 15);
-		// sqliteNormalAiHandle.insert(5649, 16);
-		// sqliteNormalAiHandle.insert(5651, 150);
-		// sqliteNormalAiHandle.insert(5652, 150);
-		// sqliteNormalAiHandle.insert(5653, 160);
-		// sqliteNormalAiHandle.insert(5656, 2);
-		// sqliteNormalAiHandle.insert(5657, 6);
-		// sqliteNormalAiHandle.insert(5664, 8);
-		// sqliteNormalAiHandle.insert(5665, 9);
-		// sqliteNormalAiHandle.insert(5672, 10);
-		// sqliteNormalAiHandle.insert(5673, 2);
-		// sqliteNormalAiHandle.insert(5682, 2);
-		// sqliteNormalAiHandle.insert(5683, 2);
-		// sqliteNormalAiHandle.insert(5684, 2);
-		// sqliteNormalAiHandle.insert(5685, 2);
-		// sqliteNormalAiHandle.insert(5686, 2);
-		// sqliteNormalAiHandle.insert(5699, 15);
-		// sqliteNormalAiHandle.insert(5700, 15);
-		// sqliteNormalAiHandle.insert(5701, 15);
-		// sqliteNormalAiHandle.insert(5702, 20);
-		// sqliteNormalAiHandle.insert(5704, 170);
-		// sqliteNormalAiHandle.insert(5707, 170);
-		// sqliteNormalAiHandle.insert(5708, 170);
-		// sqliteNormalAiHandle.insert(5709, 180);
-		// sqliteNormalAiHandle.insert(5710, 200);
-		// sqliteNormalAiHandle.insert(5712, 240);
-		// sqliteNormalAiHandle.insert(5713, 250);
-		// sqliteNormalAiHandle.insert(5715, 250);
-		// sqliteNormalAiHandle.insert(5716, 260);
-		// sqliteNormalAiHandle.insert(5717, 280);
-		// sqliteNormalAiHandle.insert(5720, 300);
-		// sqliteNormalAiHandle.insert(5721, 680);
-		// sqliteNormalAiHandle.insert(5728, 750);
-		// sqliteNormalAiHandle.insert(5729, 700);
-		// sqliteNormalAiHandle.insert(5736, 14);
-		// sqliteNormalAiHandle.insert(5737, 720);
-		// sqliteNormalAiHandle.insert(5746, 725);
-		// sqliteNormalAiHandle.insert(5747, 725);
-		// sqliteNormalAiHandle.insert(5748, 750);
-		// sqliteNormalAiHandle.insert(5749, 780);
-		// sqliteNormalAiHandle.insert(5750, 820);
-		// sqliteNormalAiHandle.insert(5763, 800);
-		// sqliteNormalAiHandle.insert(5764, 800);
-		// sqliteNormalAiHandle.insert(5765, 820);
-		// sqliteNormalAiHandle.insert(5766, 900);
-		// sqliteNormalAiHandle.insert(5768, 820);
-		// sqliteNormalAiHandle.insert(5771, 725);
-		// sqliteNormalAiHandle.insert(5772, 725);
-		// sqliteNormalAiHandle.insert(5773, 725);
-		// sqliteNormalAiHandle.insert(5774, 820);
-		// sqliteNormalAiHandle.insert(5776, 800);
-		// sqliteNormalAiHandle.insert(5777, 720);
-		// sqliteNormalAiHandle.insert(5779, 700);
-		// sqliteNormalAiHandle.insert(5780, 700);
-		// sqliteNormalAiHandle.insert(5781, 720);
-		// sqliteNormalAiHandle.insert(5784, 800);
-		// sqliteNormalAiHandle.insert(5785, 750);
-		// sqliteNormalAiHandle.insert(5792, 800);
-		// sqliteNormalAiHandle.insert(5793, 720);
-		// sqliteNormalAiHandle.insert(5800, 850);
-		// sqliteNormalAiHandle.insert(5801, 750);
-		// sqliteNormalAiHandle.insert(5810, 800);
-		// sqliteNormalAiHandle.insert(5811, 800);
-		// sqliteNormalAiHandle.insert(5812, 800);
-		// sqliteNormalAiHandle.insert(5813, 820);
-		// sqliteNormalAiHandle.insert(5814, 900);
-		// sqliteNormalAiHandle.insert(6153, 4);
-		// sqliteNormalAiHandle.insert(6154, 6);
-		// sqliteNormalAiHandle.insert(6161, 3);
-		// sqliteNormalAiHandle.insert(6162, 2);
-		// sqliteNormalAiHandle.insert(6169, 7);
-		// sqliteNormalAiHandle.insert(6170, 8);
-		// sqliteNormalAiHandle.insert(6176, 7);
-		// sqliteNormalAiHandle.insert(6177, 5);
-		// sqliteNormalAiHandle.insert(6178, 6);
-		// sqliteNormalAiHandle.insert(6184, 6);
-		// sqliteNormalAiHandle.insert(6185, 7);
-		// sqliteNormalAiHandle.insert(6186, 7);
-		// sqliteNormalAiHandle.insert(6192, 8);
-		// sqliteNormalAiHandle.insert(6193, 9);
-		// sqliteNormalAiHandle.insert(6194, 8);
-		// sqliteNormalAiHandle.insert(6217, 20);
-		// sqliteNormalAiHandle.insert(6218, 19);
-		// sqliteNormalAiHandle.insert(6225, 20);
-		// sqliteNormalAiHandle.insert(6226, 20);
-		// sqliteNormalAiHandle.insert(6233, 20);
-		// sqliteNormalAiHandle.insert(6234, 20);
-		// sqliteNormalAiHandle.insert(6240, 20);
-		// sqliteNormalAiHandle.insert(6241, 20);
-		// sqliteNormalAiHandle.insert(6242, 20);
-		// sqliteNormalAiHandle.insert(6248, 50);
-		// sqliteNormalAiHandle.insert(6249, 50);
-		// sqliteNormalAiHandle.insert(6250, 50);
-		// sqliteNormalAiHandle.insert(6256, 60);
-		// sqliteNormalAiHandle.insert(6257, 50);
-		// sqliteNormalAiHandle.insert(6258, 70);
-		// sqliteNormalAiHandle.insert(6281, 750);
-		// sqliteNormalAiHandle.insert(6282, 750);
-		// sqliteNormalAiHandle.insert(6289, 750);
-		// sqliteNormalAiHandle.insert(6290, 700);
-		// sqliteNormalAiHandle.insert(6297, 700);
-		// sqliteNormalAiHandle.insert(6298, 700);
-		// sqliteNormalAiHandle.insert(6304, 750);
-		// sqliteNormalAiHandle.insert(6305, 750);
-		// sqliteNormalAiHandle.insert(6306, 700);
-		// sqliteNormalAiHandle.insert(6312, 820);
-		// sqliteNormalAiHandle.insert(6313, 750);
-		// sqliteNormalAiHandle.insert(6314, 720);
-		// sqliteNormalAiHandle.insert(6320, 900);
-		// sqliteNormalAiHandle.insert(6321, 850);
-		// sqliteNormalAiHandle.insert(6322, 825);
-		// sqliteNormalAiHandle.insert(6400, 12);
-		// sqliteNormalAiHandle.insert(6404, 20);
-		// sqliteNormalAiHandle.insert(6405, 16);
-		// sqliteNormalAiHandle.insert(6406, 13);
-		// sqliteNormalAiHandle.insert(6418, 12);
-		// sqliteNormalAiHandle.insert(6426, 12);
-		// sqliteNormalAiHandle.insert(6433, 12);
-		// sqliteNormalAiHandle.insert(6434, 12);
-		// sqliteNormalAiHandle.insert(6441, 12);
-		// sqliteNormalAiHandle.insert(6442, 10);
-		// sqliteNormalAiHandle.insert(6449, 10);
-		// sqliteNormalAiHandle.insert(6450, 12);
-		// sqliteNormalAiHandle.insert(6464, 50);
-		// sqliteNormalAiHandle.insert(6468, 25);
-		// sqliteNormalAiHandle.insert(6469, 50);
-		// sqliteNormalAiHandle.insert(6470, 50);
-		// sqliteNormalAiHandle.insert(6482, 600);
-		// sqliteNormalAiHandle.insert(6490, 600);
-		// sqliteNormalAiHandle.insert(6497, 650);
-		// sqliteNormalAiHandle.insert(6498, 600);
-		// sqliteNormalAiHandle.insert(6505, 680);
-		// sqliteNormalAiHandle.insert(6506, 650);
-		// sqliteNormalAiHandle.insert(6513, 720);
-		// sqliteNormalAiHandle.insert(6514, 720);
-		// sqliteNormalAiHandle.insert(6528, 800);
-		// sqliteNormalAiHandle.insert(6532, 750);
-		// sqliteNormalAiHandle.insert(6533, 760);
-		// sqliteNormalAiHandle.insert(6534, 760);
-		// sqliteNormalAiHandle.insert(6546, 720);
-		// sqliteNormalAiHandle.insert(6554, 700);
-		// sqliteNormalAiHandle.insert(6561, 750);
-		// sqliteNormalAiHandle.insert(6562, 720);
-		// sqliteNormalAiHandle.insert(6569, 760);
-		// sqliteNormalAiHandle.insert(6570, 750);
-		// sqliteNormalAiHandle.insert(6577, 750);
-		// sqliteNormalAiHandle.insert(6578, 760);
-		// sqliteNormalAiHandle.insert(6656, 5);
-		// sqliteNormalAiHandle.insert(6660, 3);
-		// sqliteNormalAiHandle.insert(6661, 3);
-		// sqliteNormalAiHandle.insert(6662, 2);
-		// sqliteNormalAiHandle.insert(6664, 3);
-		// sqliteNormalAiHandle.insert(6665, 4);
-		// sqliteNormalAiHandle.insert(6668, 4);
-		// sqliteNormalAiHandle.insert(6669, 5);
-		// sqliteNormalAiHandle.insert(6670, 6);
-		// sqliteNormalAiHandle.insert(6690, 150);
-		// sqliteNormalAiHandle.insert(6698, 160);
-		// sqliteNormalAiHandle.insert(6706, 170);
-		// sqliteNormalAiHandle.insert(6720, 100);
-		// sqliteNormalAiHandle.insert(6724, 100);
-		// sqliteNormalAiHandle.insert(6725, 100);
-		// sqliteNormalAiHandle.insert(6726, 100);
-		// sqliteNormalAiHandle.insert(6728, 100);
-		// sqliteNormalAiHandle.insert(6729, 620);
-		// sqliteNormalAiHandle.insert(6732, 600);
-		// sqliteNormalAiHandle.insert(6733, 620);
-		// sqliteNormalAiHandle.insert(6734, 650);
-		// sqliteNormalAiHandle.insert(6754, 620);
-		// sqliteNormalAiHandle.insert(6762, 600);
-		// sqliteNormalAiHandle.insert(6770, 650);
-		// sqliteNormalAiHandle.insert(6784, 800);
-		// sqliteNormalAiHandle.insert(6788, 700);
-		// sqliteNormalAiHandle.insert(6789, 750);
-		// sqliteNormalAiHandle.insert(6790, 800);
-		// sqliteNormalAiHandle.insert(6792, 750);
-		// sqliteNormalAiHandle.insert(6793, 700);
-		// sqliteNormalAiHandle.insert(6796, 700);
-		// sqliteNormalAiHandle.insert(6797, 720);
-		// sqliteNormalAiHandle.insert(6798, 750);
-		// sqliteNormalAiHandle.insert(6818, 700);
-		// sqliteNormalAiHandle.insert(6826, 720);
-		// sqliteNormalAiHandle.insert(6834, 750);
-		// sqliteNormalAiHandle.insert(6916, 2);
-		// sqliteNormalAiHandle.insert(6917, 5);
-		// sqliteNormalAiHandle.insert(6918, 6);
-		// sqliteNormalAiHandle.insert(6920, 7);
-		// sqliteNormalAiHandle.insert(6924, 5);
-		// sqliteNormalAiHandle.insert(6925, 7);
-		// sqliteNormalAiHandle.insert(6926, 8);
-		// sqliteNormalAiHandle.insert(6928, 8);
-		// sqliteNormalAiHandle.insert(6929, 9);
-		// sqliteNormalAiHandle.insert(6932, 120);
-		// sqliteNormalAiHandle.insert(6933, 150);
-		// sqliteNormalAiHandle.insert(6934, 160);
-		// sqliteNormalAiHandle.insert(6939, 100);
-		// sqliteNormalAiHandle.insert(6940, 110);
-		// sqliteNormalAiHandle.insert(6941, 120);
-		// sqliteNormalAiHandle.insert(6942, 130);
-		// sqliteNormalAiHandle.insert(6948, 150);
-		// sqliteNormalAiHandle.insert(6949, 160);
-		// sqliteNormalAiHandle.insert(6950, 160);
-		// sqliteNormalAiHandle.insert(6957, 165);
-		// sqliteNormalAiHandle.insert(6958, 170);
-		// sqliteNormalAiHandle.insert(6966, 180);
-		// sqliteNormalAiHandle.insert(6980, 100);
-		// sqliteNormalAiHandle.insert(6981, 100);
-		// sqliteNormalAiHandle.insert(6982, 100);
-		// sqliteNormalAiHandle.insert(6984, 100);
-		// sqliteNormalAiHandle.insert(6988, 520);
-		// sqliteNormalAiHandle.insert(6989, 550);
-		// sqliteNormalAiHandle.insert(6990, 560);
-		// sqliteNormalAiHandle.insert(6992, 100);
-		// sqliteNormalAiHandle.insert(6993, 550);
-		// sqliteNormalAiHandle.insert(6996, 500);
-		// sqliteNormalAiHandle.insert(6997, 550);
-		// sqliteNormalAiHandle.insert(6998, 600);
-		// sqliteNormalAiHandle.insert(7003, 480);
-		// sqliteNormalAiHandle.insert(7004, 490);
-		// sqliteNormalAiHandle.insert(7005, 510);
-		// sqliteNormalAiHandle.insert(7006, 520);
-		// sqliteNormalAiHandle.insert(7012, 525);
-		// sqliteNormalAiHandle.insert(7013, 530);
-		// sqliteNormalAiHandle.insert(7014, 550);
-		// sqliteNormalAiHandle.insert(7021, 550);
-		// sqliteNormalAiHandle.insert(7022, 750);
-		// sqliteNormalAiHandle.insert(7030, 780);
-		// sqliteNormalAiHandle.insert(7044, 760);
-		// sqliteNormalAiHandle.insert(7045, 760);
-		// sqliteNormalAiHandle.insert(7046, 800);
-		// sqliteNormalAiHandle.insert(7048, 750);
-		// sqliteNormalAiHandle.insert(7052, 700);
-		// sqliteNormalAiHandle.insert(7053, 750);
-		// sqliteNormalAiHandle.insert(7054, 780);
-		// sqliteNormalAiHandle.insert(7056, 750);
-		// sqliteNormalAiHandle.insert(7057, 725);
-		// sqliteNormalAiHandle.insert(7060, 720);
-		// sqliteNormalAiHandle.insert(7061, 725);
-		// sqliteNormalAiHandle.insert(7062, 760);
-		// sqliteNormalAiHandle.insert(7067, 700);
-		// sqliteNormalAiHandle.insert(7068, 720);
-		// sqliteNormalAiHandle.insert(7069, 725);
-		// sqliteNormalAiHandle.insert(7070, 760);
-		// sqliteNormalAiHandle.insert(7076, 750);
-		// sqliteNormalAiHandle.insert(7077, 750);
-		// sqliteNormalAiHandle.insert(7078, 750);
-		// sqliteNormalAiHandle.insert(7085, 780);
-		// sqliteNormalAiHandle.insert(7086, 790);
-		// sqliteNormalAiHandle.insert(7094, 800);
-		// sqliteNormalAiHandle.insert(7172, 4);
-		// sqliteNormalAiHandle.insert(7173, 5);
-		// sqliteNormalAiHandle.insert(7174, 5);
-		// sqliteNormalAiHandle.insert(7176, 8);
-		// sqliteNormalAiHandle.insert(7180, 10);
-		// sqliteNormalAiHandle.insert(7181, 12);
-		// sqliteNormalAiHandle.insert(7182, 12);
-		// sqliteNormalAiHandle.insert(7184, 10);
-		// sqliteNormalAiHandle.insert(7185, 10);
-		// sqliteNormalAiHandle.insert(7188, 150);
-		// sqliteNormalAiHandle.insert(7189, 160);
-		// sqliteNormalAiHandle.insert(7190, 180);
-		// sqliteNormalAiHandle.insert(7192, 8);
-		// sqliteNormalAiHandle.insert(7193, 9);
-		// sqliteNormalAiHandle.insert(7194, 10);
-		// sqliteNormalAiHandle.insert(7203, 120);
-		// sqliteNormalAiHandle.insert(7204, 125);
-		// sqliteNormalAiHandle.insert(7205, 130);
-		// sqliteNormalAiHandle.insert(7206, 150);
-		// sqliteNormalAiHandle.insert(7211, 160);
-		// sqliteNormalAiHandle.insert(7212, 170);
-		// sqliteNormalAiHandle.insert(7213, 180);
-		// sqliteNormalAiHandle.insert(7214, 200);
-		// sqliteNormalAiHandle.insert(7219, 170);
-		// sqliteNormalAiHandle.insert(7220, 180);
-		// sqliteNormalAiHandle.insert(7221, 200);
-		// sqliteNormalAiHandle.insert(7222, 250);
-		// sqliteNormalAiHandle.insert(7236, 100);
-		// sqliteNormalAiHandle.insert(7237, 100);
-		// sqliteNormalAiHandle.insert(7238, 100);
-		// sqliteNormalAiHandle.insert(7240, 100);
-		// sqliteNormalAiHandle.insert(7244, 600);
-		// sqliteNormalAiHandle.insert(7245, 650);
-		// sqliteNormalAiHandle.insert(7246, 650);
-		// sqliteNormalAiHandle.insert(7248, 650);
-		// sqliteNormalAiHandle.insert(7249, 600);
-		// sqliteNormalAiHandle.insert(7252, 600);
-		// sqliteNormalAiHandle.insert(7253, 650);
-		// sqliteNormalAiHandle.insert(7254, 650);
-		// sqliteNormalAiHandle.insert(7256, 650);
-		// sqliteNormalAiHandle.insert(7257, 620);
-		// sqliteNormalAiHandle.insert(7258, 550);
-		// sqliteNormalAiHandle.insert(7267, 550);
-		// sqliteNormalAiHandle.insert(7268, 610);
-		// sqliteNormalAiHandle.insert(7269, 600);
-		// sqliteNormalAiHandle.insert(7270, 625);
-		// sqliteNormalAiHandle.insert(7275, 615);
-		// sqliteNormalAiHandle.insert(7276, 616);
-		// sqliteNormalAiHandle.insert(7277, 670);
-		// sqliteNormalAiHandle.insert(7278, 680);
-		// sqliteNormalAiHandle.insert(7283, 690);
-		// sqliteNormalAiHandle.insert(7284, 700);
-		// sqliteNormalAiHandle.insert(7285, 720);
-		// sqliteNormalAiHandle.insert(7286, 760);
-		// sqliteNormalAiHandle.insert(7300, 750);
-		// sqliteNormalAiHandle.insert(7301, 750);
-		// sqliteNormalAiHandle.insert(7302, 800);
-		// sqliteNormalAiHandle.insert(7304, 750);
-		// sqliteNormalAiHandle.insert(7308, 700);
-		// sqliteNormalAiHandle.insert(7309, 720);
-		// sqliteNormalAiHandle.insert(7310, 720);
-		// sqliteNormalAiHandle.insert(7312, 720);
-		// sqliteNormalAiHandle.insert(7313, 720);
-		// sqliteNormalAiHandle.insert(7316, 750);
-		// sqliteNormalAiHandle.insert(7317, 760);
-		// sqliteNormalAiHandle.insert(7318, 760);
-		// sqliteNormalAiHandle.insert(7320, 750);
-		// sqliteNormalAiHandle.insert(7321, 720);
-		// sqliteNormalAiHandle.insert(7322, 720);
-		// sqliteNormalAiHandle.insert(7331, 720);
-		// sqliteNormalAiHandle.insert(7332, 720);
-		// sqliteNormalAiHandle.insert(7333, 720);
-		// sqliteNormalAiHandle.insert(7334, 750);
-		// sqliteNormalAiHandle.insert(7339, 725);
-		// sqliteNormalAiHandle.insert(7340, 730);
-		// sqliteNormalAiHandle.insert(7341, 750);
-		// sqliteNormalAiHandle.insert(7342, 760);
-		// sqliteNormalAiHandle.insert(7347, 750);
-		// sqliteNormalAiHandle.insert(7348, 750);
-		// sqliteNormalAiHandle.insert(7349, 780);
-		// sqliteNormalAiHandle.insert(7350, 800);
-		// sqliteNormalAiHandle.insert(7428, 4);
-		// sqliteNormalAiHandle.insert(7429, 4);
-		// sqliteNormalAiHandle.insert(7430, 4);
-		// sqliteNormalAiHandle.insert(7432, 100);
-		// sqliteNormalAiHandle.insert(7436, 100);
-		// sqliteNormalAiHandle.insert(7437, 100);
-		// sqliteNormalAiHandle.insert(7438, 100);
-		// sqliteNormalAiHandle.insert(7440, 5);
-		// sqliteNormalAiHandle.insert(7441, 100);
-		// sqliteNormalAiHandle.insert(7444, 150);
-		// sqliteNormalAiHandle.insert(7445, 160);
-		// sqliteNormalAiHandle.insert(7446, 170);
-		// sqliteNormalAiHandle.insert(7448, 5);
-		// sqliteNormalAiHandle.insert(7449, 100);
-		// sqliteNormalAiHandle.insert(7450, 150);
-		// sqliteNormalAiHandle.insert(7452, 160);
-		// sqliteNormalAiHandle.insert(7456, 3);
-		// sqliteNormalAiHandle.insert(7457, 100);
-		// sqliteNormalAiHandle.insert(7458, 100);
-		// sqliteNormalAiHandle.insert(7467, 480);
-		// sqliteNormalAiHandle.insert(7468, 500);
-		// sqliteNormalAiHandle.insert(7469, 550);
-		// sqliteNormalAiHandle.insert(7470, 570);
-		// sqliteNormalAiHandle.insert(7475, 530);
-		// sqliteNormalAiHandle.insert(7476, 560);
-		// sqliteNormalAiHandle.insert(7477, 570);
-		// sqliteNormalAiHandle.insert(7478, 680);
-		// sqliteNormalAiHandle.insert(7492, 100);
-		// sqliteNormalAiHandle.insert(7493, 100);
-		// sqliteNormalAiHandle.insert(7494, 100);
-		// sqliteNormalAiHandle.insert(7496, 100);
-		// sqliteNormalAiHandle.insert(7500, 600);
-		// sqliteNormalAiHandle.insert(7501, 650);
-		// sqliteNormalAiHandle.insert(7502, 670);
-		// sqliteNormalAiHandle.insert(7504, 680);
-		// sqliteNormalAiHandle.insert(7505, 650);
-		// sqliteNormalAiHandle.insert(7508, 670);
-		// sqliteNormalAiHandle.insert(7509, 670);
-		// sqliteNormalAiHandle.insert(7510, 700);
-		// sqliteNormalAiHandle.insert(7512, 700);
-		// sqliteNormalAiHandle.insert(7513, 690);
-		// sqliteNormalAiHandle.insert(7514, 680);
-		// sqliteNormalAiHandle.insert(7516, 690);
-		// sqliteNormalAiHandle.insert(7520, 100);
-		// sqliteNormalAiHandle.insert(7521, 670);
-		// sqliteNormalAiHandle.insert(7522, 670);
-		// sqliteNormalAiHandle.insert(7531, 680);
-		// sqliteNormalAiHandle.insert(7532, 685);
-		// sqliteNormalAiHandle.insert(7533, 690);
-		// sqliteNormalAiHandle.insert(7534, 725);
-		// sqliteNormalAiHandle.insert(7539, 720);
-		// sqliteNormalAiHandle.insert(7540, 720);
-		// sqliteNormalAiHandle.insert(7541, 720);
-		// sqliteNormalAiHandle.insert(7542, 750);
-		// sqliteNormalAiHandle.insert(7556, 760);
-		// sqliteNormalAiHandle.insert(7557, 770);
-		// sqliteNormalAiHandle.insert(7558, 800);
-		// sqliteNormalAiHandle.insert(7560, 770);
-		// sqliteNormalAiHandle.insert(7564, 725);
-		// sqliteNormalAiHandle.insert(7565, 750);
-		// sqliteNormalAiHandle.insert(7566, 780);
-		// sqliteNormalAiHandle.insert(7568, 760);
-		// sqliteNormalAiHandle.insert(7569, 725);
-		// sqliteNormalAiHandle.insert(7572, 725);
-		// sqliteNormalAiHandle.insert(7573, 725);
-		// sqliteNormalAiHandle.insert(7574, 750);
-		// sqliteNormalAiHandle.insert(7576, 750);
-		// sqliteNormalAiHandle.insert(7577, 750);
-		// sqliteNormalAiHandle.insert(7578, 720);
-		// sqliteNormalAiHandle.insert(7580, 720);
-		// sqliteNormalAiHandle.insert(7584, 750);
-		// sqliteNormalAiHandle.insert(7585, 760);
-		// sqliteNormalAiHandle.insert(7586, 725);
-		// sqliteNormalAiHandle.insert(7595, 720);
-		// sqliteNormalAiHandle.insert(7596, 730);
-		// sqliteNormalAiHandle.insert(7597, 750);
-		// sqliteNormalAiHandle.insert(7598, 780);
-		// sqliteNormalAiHandle.insert(7603, 760);
-		// sqliteNormalAiHandle.insert(7604, 780);
-		// sqliteNormalAiHandle.insert(7605, 790);
-		// sqliteNormalAiHandle.insert(7606, 820);
-		// sqliteNormalAiHandle.insert(7684, 100);
-		// sqliteNormalAiHandle.insert(7685, 100);
-		// sqliteNormalAiHandle.insert(7686, 100);
-		// sqliteNormalAiHandle.insert(7688, 100);
-		// sqliteNormalAiHandle.insert(7692, 100);
-		// sqliteNormalAiHandle.insert(7693, 100);
-		// sqliteNormalAiHandle.insert(7694, 100);
-		// sqliteNormalAiHandle.insert(7696, 680);
-		// sqliteNormalAiHandle.insert(7697, 650);
-		// sqliteNormalAiHandle.insert(7700, 630);
-		// sqliteNormalAiHandle.insert(7701, 640);
-		// sqliteNormalAiHandle.insert(7702, 680);
-		// sqliteNormalAiHandle.insert(7704, 100);
-		// sqliteNormalAiHandle.insert(7705, 100);
-		// sqliteNormalAiHandle.insert(7706, 300);
-		// sqliteNormalAiHandle.insert(7708, 300);
-		// sqliteNormalAiHandle.insert(7709, 500);
-		// sqliteNormalAiHandle.insert(7712, 100);
-		// sqliteNormalAiHandle.insert(7713, 100);
-		// sqliteNormalAiHandle.insert(7714, 300);
-		// sqliteNormalAiHandle.insert(7720, 100);
-		// sqliteNormalAiHandle.insert(7721, 100);
-		// sqliteNormalAiHandle.insert(7722, 300);
-		// sqliteNormalAiHandle.insert(7731, 400);
-		// sqliteNormalAiHandle.insert(7732, 450);
-		// sqliteNormalAiHandle.insert(7733, 500);
-		// sqliteNormalAiHandle.insert(7734, 500);
-		// sqliteNormalAiHandle.insert(7748, 100);
-		// sqliteNormalAiHandle.insert(7749, 100);
-		// sqliteNormalAiHandle.insert(7750, 120);
-		// sqliteNormalAiHandle.insert(7752, 150);
-		// sqliteNormalAiHandle.insert(7756, 160);
-		// sqliteNormalAiHandle.insert(7757, 200);
-		// sqliteNormalAiHandle.insert(7758, 680);
-		// sqliteNormalAiHandle.insert(7760, 100);
-		// sqliteNormalAiHandle.insert(7761, 680);
-		// sqliteNormalAiHandle.insert(7764, 650);
-		// sqliteNormalAiHandle.insert(7765, 650);
-		// sqliteNormalAiHandle.insert(7766, 680);
-		// sqliteNormalAiHandle.insert(7768, 100);
-		// sqliteNormalAiHandle.insert(7769, 630);
-		// sqliteNormalAiHandle.insert(7770, 630);
-		// sqliteNormalAiHandle.insert(7772, 680);
-		// sqliteNormalAiHandle.insert(7773, 690);
-		// sqliteNormalAiHandle.insert(7776, 100);
-		// sqliteNormalAiHandle.insert(7777, 670);
-		// sqliteNormalAiHandle.insert(7778, 650);
-		// sqliteNormalAiHandle.insert(7784, 100);
-		// sqliteNormalAiHandle.insert(7785, 650);
-		// sqliteNormalAiHandle.insert(7786, 620);
-		// sqliteNormalAiHandle.insert(7795, 700);
-		// sqliteNormalAiHandle.insert(7796, 710);
-		// sqliteNormalAiHandle.insert(7797, 725);
-		// sqliteNormalAiHandle.insert(7798, 750);
-		// sqliteNormalAiHandle.insert(7812, 800);
-		// sqliteNormalAiHandle.insert(7813, 820);
-		// sqliteNormalAiHandle.insert(7814, 900);
-		// sqliteNormalAiHandle.insert(7816, 820);
-		// sqliteNormalAiHandle.insert(7820, 750);
-		// sqliteNormalAiHandle.insert(7821, 760);
-		// sqliteNormalAiHandle.insert(7822, 830);
-		// sqliteNormalAiHandle.insert(7824, 800);
-		// sqliteNormalAiHandle.insert(7825, 720);
-		// sqliteNormalAiHandle.insert(7828, 700);
-		// sqliteNormalAiHandle.insert(7829, 720);
-		// sqliteNormalAiHandle.insert(7830, 720);
-		// sqliteNormalAiHandle.insert(7832, 800);
-		// sqliteNormalAiHandle.insert(7833, 720);
-		// sqliteNormalAiHandle.insert(7834, 700);
-		// sqliteNormalAiHandle.insert(7836, 700);
-		// sqliteNormalAiHandle.insert(7837, 715);
-		// sqliteNormalAiHandle.insert(7840, 800);
-		// sqliteNormalAiHandle.insert(7841, 720);
-		// sqliteNormalAiHandle.insert(7842, 700);
-		// sqliteNormalAiHandle.insert(7848, 820);
-		// sqliteNormalAiHandle.insert(7849, 750);
-		// sqliteNormalAiHandle.insert(7850, 720);
-		// sqliteNormalAiHandle.insert(7859, 800);
-		// sqliteNormalAiHandle.insert(7860, 800);
-		// sqliteNormalAiHandle.insert(7861, 820);
-		// sqliteNormalAiHandle.insert(7862, 900);
-		// sqliteNormalAiHandle.insert(8201, 4);
-		// sqliteNormalAiHandle.insert(8202, 4);
-		// sqliteNormalAiHandle.insert(8203, 3);
-		// sqliteNormalAiHandle.insert(8209, 4);
-		// sqliteNormalAiHandle.insert(8210, 2);
-		// sqliteNormalAiHandle.insert(8211, 1);
-		// sqliteNormalAiHandle.insert(8217, 3);
-		// sqliteNormalAiHandle.insert(8218, 3);
-		// sqliteNormalAiHandle.insert(8219, 2);
-		// sqliteNormalAiHandle.insert(8225, 1);
-		// sqliteNormalAiHandle.insert(8226, 4);
-		// sqliteNormalAiHandle.insert(8227, 3);
-		// sqliteNormalAiHandle.insert(8232, 2);
-		// sqliteNormalAiHandle.insert(8233, 2);
-		// sqliteNormalAiHandle.insert(8234, 2);
-		// sqliteNormalAiHandle.insert(8235, 2);
-		// sqliteNormalAiHandle.insert(8240, 2);
-		// sqliteNormalAiHandle.insert(8241, 2);
-		// sqliteNormalAiHandle.insert(8242, 2);
-		// sqliteNormalAiHandle.insert(8243, 4);
-		// sqliteNormalAiHandle.insert(8265, 3);
-		// sqliteNormalAiHandle.insert(8266, 2);
-		// sqliteNormalAiHandle.insert(8267, 2);
-		// sqliteNormalAiHandle.insert(8273, 25);
-		// sqliteNormalAiHandle.insert(8274, 25);
-		// sqliteNormalAiHandle.insert(8275, 25);
-		// sqliteNormalAiHandle.insert(8281, 30);
-		// sqliteNormalAiHandle.insert(8282, 25);
-		// sqliteNormalAiHandle.insert(8283, 20);
-		// sqliteNormalAiHandle.insert(8289, 100);
-		// sqliteNormalAiHandle.insert(8290, 100);
-		// sqliteNormalAiHandle.insert(8291, 100);
-		// sqliteNormalAiHandle.insert(8296, 100);
-		// sqliteNormalAiHandle.insert(8297, 100);
-		// sqliteNormalAiHandle.insert(8298, 100);
-		// sqliteNormalAiHandle.insert(8299, 100);
-		// sqliteNormalAiHandle.insert(8304, 100);
-		// sqliteNormalAiHandle.insert(8305, 100);
-		// sqliteNormalAiHandle.insert(8306, 100);
-		// sqliteNormalAiHandle.insert(8307, 100);
-		// sqliteNormalAiHandle.insert(8329, 780);
-		// sqliteNormalAiHandle.insert(8330, 770);
-		// sqliteNormalAiHandle.insert(8331, 780);
-		// sqliteNormalAiHandle.insert(8337, 770);
-		// sqliteNormalAiHandle.insert(8338, 760);
-		// sqliteNormalAiHandle.insert(8339, 750);
-		// sqliteNormalAiHandle.insert(8345, 725);
-		// sqliteNormalAiHandle.insert(8346, 700);
-		// sqliteNormalAiHandle.insert(8347, 700);
-		// sqliteNormalAiHandle.insert(8353, 725);
-		// sqliteNormalAiHandle.insert(8354, 720);
-		// sqliteNormalAiHandle.insert(8355, 700);
-		// sqliteNormalAiHandle.insert(8360, 780);
-		// sqliteNormalAiHandle.insert(8361, 750);
-		// sqliteNormalAiHandle.insert(8362, 725);
-		// sqliteNormalAiHandle.insert(8363, 725);
-		// sqliteNormalAiHandle.insert(8368, 900);
-		// sqliteNormalAiHandle.insert(8369, 820);
-		// sqliteNormalAiHandle.insert(8370, 810);
-		// sqliteNormalAiHandle.insert(8371, 800);
-		// sqliteNormalAiHandle.insert(8448, 4);
-		// sqliteNormalAiHandle.insert(8453, 25);
-		// sqliteNormalAiHandle.insert(8454, 40);
-		// sqliteNormalAiHandle.insert(8466, 50);
-		// sqliteNormalAiHandle.insert(8467, 11);
-		// sqliteNormalAiHandle.insert(8474, 12);
-		// sqliteNormalAiHandle.insert(8475, 10);
-		// sqliteNormalAiHandle.insert(8482, 9);
-		// sqliteNormalAiHandle.insert(8483, 8);
-		// sqliteNormalAiHandle.insert(8489, 15);
-		// sqliteNormalAiHandle.insert(8490, 20);
-		// sqliteNormalAiHandle.insert(8491, 25);
-		// sqliteNormalAiHandle.insert(8497, 25);
-		// sqliteNormalAiHandle.insert(8498, 50);
-		// sqliteNormalAiHandle.insert(8499, 50);
-		// sqliteNormalAiHandle.insert(8512, 680);
-		// sqliteNormalAiHandle.insert(8517, 670);
-		// sqliteNormalAiHandle.insert(8518, 680);
-		// sqliteNormalAiHandle.insert(8530, 610);
-		// sqliteNormalAiHandle.insert(8531, 600);
-		// sqliteNormalAiHandle.insert(8538, 600);
-		// sqliteNormalAiHandle.insert(8539, 620);
-		// sqliteNormalAiHandle.insert(8546, 600);
-		// sqliteNormalAiHandle.insert(8547, 625);
-		// sqliteNormalAiHandle.insert(8553, 640);
-		// sqliteNormalAiHandle.insert(8554, 620);
-		// sqliteNormalAiHandle.insert(8555, 635);
-		// sqliteNormalAiHandle.insert(8561, 650);
-		// sqliteNormalAiHandle.insert(8562, 625);
-		// sqliteNormalAiHandle.insert(8563, 625);
-		// sqliteNormalAiHandle.insert(8576, 820);
-		// sqliteNormalAiHandle.insert(8581, 760);
-		// sqliteNormalAiHandle.insert(8582, 850);
-		// sqliteNormalAiHandle.insert(8594, 650);
-		// sqliteNormalAiHandle.insert(8595, 650);
-		// sqliteNormalAiHandle.insert(8602, 650);
-		// sqliteNormalAiHandle.insert(8603, 650);
-		// sqliteNormalAiHandle.insert(8610, 650);
-		// sqliteNormalAiHandle.insert(8611, 650);
-		// sqliteNormalAiHandle.insert(8617, 690);
-		// sqliteNormalAiHandle.insert(8618, 680);
-		// sqliteNormalAiHandle.insert(8619, 680);
-		// sqliteNormalAiHandle.insert(8625, 750);
-		// sqliteNormalAiHandle.insert(8626, 725);
-		// sqliteNormalAiHandle.insert(8627, 700);
-		// sqliteNormalAiHandle.insert(8704, 100);
-		// sqliteNormalAiHandle.insert(8709, 100);
-		// sqliteNormalAiHandle.insert(8710, 100);
-		// sqliteNormalAiHandle.insert(8712, 100);
-		// sqliteNormalAiHandle.insert(8713, 100);
-		// sqliteNormalAiHandle.insert(8717, 100);
-		// sqliteNormalAiHandle.insert(8718, 100);
-		// sqliteNormalAiHandle.insert(8731, 120);
-		// sqliteNormalAiHandle.insert(8739, 120);
-		// sqliteNormalAiHandle.insert(8746, 140);
-		// sqliteNormalAiHandle.insert(8747, 140);
-		// sqliteNormalAiHandle.insert(8754, 145);
-		// sqliteNormalAiHandle.insert(8755, 150);
-		// sqliteNormalAiHandle.insert(8768, 100);
-		// sqliteNormalAiHandle.insert(8773, 100);
-		// sqliteNormalAiHandle.insert(8774, 100);
-		// sqliteNormalAiHandle.insert(8776, 100);
-		// sqliteNormalAiHandle.insert(8777, 670);
-		// sqliteNormalAiHandle.insert(8781, 670);
-		// sqliteNormalAiHandle.insert(8782, 650);
-		// sqliteNormalAiHandle.insert(8795, 620);
-		// sqliteNormalAiHandle.insert(8803, 625);
-		// sqliteNormalAiHandle.insert(8810, 625);
-		// sqliteNormalAiHandle.insert(8811, 625);
-		// sqliteNormalAiHandle.insert(8818, 680);
-		// sqliteNormalAiHandle.insert(8819, 680);
-		// sqliteNormalAiHandle.insert(8832, 800);
-		// sqliteNormalAiHandle.insert(8837, 750);
-		// sqliteNormalAiHandle.insert(8838, 800);
-		// sqliteNormalAiHandle.insert(8840, 700);
-		// sqliteNormalAiHandle.insert(8841, 690);
-		// sqliteNormalAiHandle.insert(8845, 680);
-		// sqliteNormalAiHandle.insert(8846, 650);
-		// sqliteNormalAiHandle.insert(8859, 600);
-		// sqliteNormalAiHandle.insert(8867, 600);
-		// sqliteNormalAiHandle.insert(8874, 650);
-		// sqliteNormalAiHandle.insert(8875, 650);
-		// sqliteNormalAiHandle.insert(8882, 700);
-		// sqliteNormalAiHandle.insert(8883, 700);
-		// sqliteNormalAiHandle.insert(8960, 2);
-		// sqliteNormalAiHandle.insert(8965, 2);
-		// sqliteNormalAiHandle.insert(8966, 1);
-		// sqliteNormalAiHandle.insert(8968, 2);
-		// sqliteNormalAiHandle.insert(8969, 2);
-		// sqliteNormalAiHandle.insert(8973, 3);
-		// sqliteNormalAiHandle.insert(8974, 4);
-		// sqliteNormalAiHandle.insert(8976, 2);
-		// sqliteNormalAiHandle.insert(8977, 3);
-		// sqliteNormalAiHandle.insert(8978, 120);
-		// sqliteNormalAiHandle.insert(8981, 160);
-		// sqliteNormalAiHandle.insert(8982, 150);
-		// sqliteNormalAiHandle.insert(9003, 120);
-		// sqliteNormalAiHandle.insert(9011, 125);
-		// sqliteNormalAiHandle.insert(9024, 100);
-		// sqliteNormalAiHandle.insert(9029, 100);
-		// sqliteNormalAiHandle.insert(9030, 720);
-		// sqliteNormalAiHandle.insert(9032, 680);
-		// sqliteNormalAiHandle.insert(9033, 650);
-		// sqliteNormalAiHandle.insert(9037, 650);
-		// sqliteNormalAiHandle.insert(9038, 625);
-		// sqliteNormalAiHandle.insert(9040, 6);
-		// sqliteNormalAiHandle.insert(9041, 620);
-		// sqliteNormalAiHandle.insert(9042, 600);
-		// sqliteNormalAiHandle.insert(9045, 580);
-		// sqliteNormalAiHandle.insert(9046, 600);
-		// sqliteNormalAiHandle.insert(9067, 550);
-		// sqliteNormalAiHandle.insert(9075, 580);
-		// sqliteNormalAiHandle.insert(9088, 800);
-		// sqliteNormalAiHandle.insert(9093, 750);
-		// sqliteNormalAiHandle.insert(9094, 800);
-		// sqliteNormalAiHandle.insert(9096, 720);
-		// sqliteNormalAiHandle.insert(9097, 680);
-		// sqliteNormalAiHandle.insert(9101, 680);
-		// sqliteNormalAiHandle.insert(9102, 720);
-		// sqliteNormalAiHandle.insert(9104, 700);
-		// sqliteNormalAiHandle.insert(9105, 680);
-		// sqliteNormalAiHandle.insert(9106, 650);
-		// sqliteNormalAiHandle.insert(9109, 680);
-		// sqliteNormalAiHandle.insert(9110, 700);
-		// sqliteNormalAiHandle.insert(9131, 650);
-		// sqliteNormalAiHandle.insert(9139, 700);
-		// sqliteNormalAiHandle.insert(9221, 6);
-		// sqliteNormalAiHandle.insert(9222, 7);
-		// sqliteNormalAiHandle.insert(9224, 12);
-		// sqliteNormalAiHandle.insert(9229, 16);
-		// sqliteNormalAiHandle.insert(9230, 15);
-		// sqliteNormalAiHandle.insert(9232, 12);
-		// sqliteNormalAiHandle.insert(9233, 12);
-		// sqliteNormalAiHandle.insert(9237, 150);
-		// sqliteNormalAiHandle.insert(9238, 150);
-		// sqliteNormalAiHandle.insert(9240, 100);
-		// sqliteNormalAiHandle.insert(9241, 100);
-		// sqliteNormalAiHandle.insert(9242, 100);
-		// sqliteNormalAiHandle.insert(9245, 150);
-		// sqliteNormalAiHandle.insert(9246, 200);
-		// sqliteNormalAiHandle.insert(9252, 170);
-		// sqliteNormalAiHandle.insert(9253, 180);
-		// sqliteNormalAiHandle.insert(9254, 190);
-		// sqliteNormalAiHandle.insert(9261, 220);
-		// sqliteNormalAiHandle.insert(9262, 225);
-		// sqliteNormalAiHandle.insert(9270, 250);
-		// sqliteNormalAiHandle.insert(9285, 100);
-		// sqliteNormalAiHandle.insert(9286, 100);
-		// sqliteNormalAiHandle.insert(9288, 100);
-		// sqliteNormalAiHandle.insert(9293, 300);
-		// sqliteNormalAiHandle.insert(9294, 320);
-		// sqliteNormalAiHandle.insert(9296, 100);
-		// sqliteNormalAiHandle.insert(9297, 600);
-		// sqliteNormalAiHandle.insert(9301, 600);
-		// sqliteNormalAiHandle.insert(9302, 620);
-		// sqliteNormalAiHandle.insert(9304, 625);
-		// sqliteNormalAiHandle.insert(9305, 640);
-		// sqliteNormalAiHandle.insert(9306, 650);
-		// sqliteNormalAiHandle.insert(9309, 640);
-		// sqliteNormalAiHandle.insert(9310, 680);
-		// sqliteNormalAiHandle.insert(9316, 580);
-		// sqliteNormalAiHandle.insert(9317, 600);
-		// sqliteNormalAiHandle.insert(9318, 625);
-		// sqliteNormalAiHandle.insert(9325, 650);
-		// sqliteNormalAiHandle.insert(9326, 670);
-		// sqliteNormalAiHandle.insert(9334, 680);
-		// sqliteNormalAiHandle.insert(9349, 700);
-		// sqliteNormalAiHandle.insert(9350, 720);
-		// sqliteNormalAiHandle.insert(9352, 750);
-		// sqliteNormalAiHandle.insert(9357, 720);
-		// sqliteNormalAiHandle.insert(9358, 750);
-		// sqliteNormalAiHandle.insert(9360, 750);
-		// sqliteNormalAiHandle.insert(9361, 760);
-		// sqliteNormalAiHandle.insert(9365, 720);
-		// sqliteNormalAiHandle.insert(9366, 750);
-		// sqliteNormalAiHandle.insert(9368, 750);
-		// sqliteNormalAiHandle.insert(9369, 725);
-		// sqliteNormalAiHandle.insert(9370, 720);
-		// sqliteNormalAiHandle.insert(9373, 725);
-		// sqliteNormalAiHandle.insert(9374, 750);
-		// sqliteNormalAiHandle.insert(9380, 730);
-		// sqliteNormalAiHandle.insert(9381, 740);
-		// sqliteNormalAiHandle.insert(9382, 750);
-		// sqliteNormalAiHandle.insert(9389, 760);
-		// sqliteNormalAiHandle.insert(9390, 770);
-		// sqliteNormalAiHandle.insert(9398, 800);
-		// sqliteNormalAiHandle.insert(9477, 3);
-		// sqliteNormalAiHandle.insert(9478, 2);
-		// sqliteNormalAiHandle.insert(9480, 5);
-		// sqliteNormalAiHandle.insert(9485, 3);
-		// sqliteNormalAiHandle.insert(9486, 2);
-		// sqliteNormalAiHandle.insert(9488, 4);
-		// sqliteNormalAiHandle.insert(9489, 100);
-		// sqliteNormalAiHandle.insert(9493, 150);
-		// sqliteNormalAiHandle.insert(9494, 160);
-		// sqliteNormalAiHandle.insert(9496, 4);
-		// sqliteNormalAiHandle.insert(9497, 8);
-		// sqliteNormalAiHandle.insert(9498, 150);
-		// sqliteNormalAiHandle.insert(9501, 160);
-		// sqliteNormalAiHandle.insert(9502, 170);
-		// sqliteNormalAiHandle.insert(9504, 8);
-		// sqliteNormalAiHandle.insert(9505, 9);
-		// sqliteNormalAiHandle.insert(9506, 150);
-		// sqliteNormalAiHandle.insert(9507, 160);
-		// sqliteNormalAiHandle.insert(9516, 200);
-		// sqliteNormalAiHandle.insert(9517, 250);
-		// sqliteNormalAiHandle.insert(9518, 250);
-		// sqliteNormalAiHandle.insert(9524, 300);
-		// sqliteNormalAiHandle.insert(9525, 300);
-		// sqliteNormalAiHandle.insert(9526, 300);
-		// sqliteNormalAiHandle.insert(9541, 100);
-		// sqliteNormalAiHandle.insert(9542, 100);
-		// sqliteNormalAiHandle.insert(9544, 100);
-		// sqliteNormalAiHandle.insert(9549, 600);
-		// sqliteNormalAiHandle.insert(9550, 650);
-		// sqliteNormalAiHandle.insert(9552, 100);
-		// sqliteNormalAiHandle.insert(9553, 650);
-		// sqliteNormalAiHandle.insert(9557, 660);
-		// sqliteNormalAiHandle.insert(9558, 670);
-		// sqliteNormalAiHandle.insert(9560, 100);
-		// sqliteNormalAiHandle.insert(9561, 600);
-		// sqliteNormalAiHandle.insert(9562, 650);
-		// sqliteNormalAiHandle.insert(9565, 660);
-		// sqliteNormalAiHandle.insert(9566, 670);
-		// sqliteNormalAiHandle.insert(9568, 100);
-		// sqliteNormalAiHandle.insert(9569, 680);
-		// sqliteNormalAiHandle.insert(9570, 650);
-		// sqliteNormalAiHandle.insert(9571, 650);
-		// sqliteNormalAiHandle.insert(9580, 680);
-		// sqliteNormalAiHandle.insert(9581, 690);
-		// sqliteNormalAiHandle.insert(9582, 695);
-		// sqliteNormalAiHandle.insert(9588, 700);
-		// sqliteNormalAiHandle.insert(9589, 700);
-		// sqliteNormalAiHandle.insert(9590, 720);
-		// sqliteNormalAiHandle.insert(9605, 750);
-		// sqliteNormalAiHandle.insert(9606, 825);
-		// sqliteNormalAiHandle.insert(9608, 750);
-		// sqliteNormalAiHandle.insert(9613, 750);
-		// sqliteNormalAiHandle.insert(9614, 760);
-		// sqliteNormalAiHandle.insert(9616, 750);
-		// sqliteNormalAiHandle.insert(9617, 750);
-		// sqliteNormalAiHandle.insert(9621, 750);
-		// sqliteNormalAiHandle.insert(9622, 760);
-		// sqliteNormalAiHandle.insert(9624, 760);
-		// sqliteNormalAiHandle.insert(9625, 780);
-		// sqliteNormalAiHandle.insert(9626, 720);
-		// sqliteNormalAiHandle.insert(9629, 725);
-		// sqliteNormalAiHandle.insert(9630, 760);
-		// sqliteNormalAiHandle.insert(9632, 770);
-		// sqliteNormalAiHandle.insert(9633, 725);
-		// sqliteNormalAiHandle.insert(9634, 730);
-		// sqliteNormalAiHandle.insert(9635, 720);
-		// sqliteNormalAiHandle.insert(9644, 740);
-		// sqliteNormalAiHandle.insert(9645, 745);
-		// sqliteNormalAiHandle.insert(9646, 760);
-		// sqliteNormalAiHandle.insert(9652, 765);
-		// sqliteNormalAiHandle.insert(9653, 770);
-		// sqliteNormalAiHandle.insert(9654, 800);
-		// sqliteNormalAiHandle.insert(9733, 6);
-		// sqliteNormalAiHandle.insert(9734, 8);
-		// sqliteNormalAiHandle.insert(9736, 9);
-		// sqliteNormalAiHandle.insert(9741, 10);
-		// sqliteNormalAiHandle.insert(9742, 10);
-		// sqliteNormalAiHandle.insert(9744, 3);
-		// sqliteNormalAiHandle.insert(9745, 4);
-		// sqliteNormalAiHandle.insert(9749, 150);
-		// sqliteNormalAiHandle.insert(9750, 200);
-		// sqliteNormalAiHandle.insert(9752, 5);
-		// sqliteNormalAiHandle.insert(9753, 8);
-		// sqliteNormalAiHandle.insert(9754, 160);
-		// sqliteNormalAiHandle.insert(9757, 180);
-		// sqliteNormalAiHandle.insert(9758, 200);
-		// sqliteNormalAiHandle.insert(9760, 5);
-		// sqliteNormalAiHandle.insert(9761, 50);
-		// sqliteNormalAiHandle.insert(9762, 180);
-		// sqliteNormalAiHandle.insert(9763, 200);
-		// sqliteNormalAiHandle.insert(9765, 220);
-		// sqliteNormalAiHandle.insert(9768, 4);
-		// sqliteNormalAiHandle.insert(9769, 5);
-		// sqliteNormalAiHandle.insert(9770, 230);
-		// sqliteNormalAiHandle.insert(9771, 250);
-		// sqliteNormalAiHandle.insert(9780, 500);
-		// sqliteNormalAiHandle.insert(9781, 550);
-		// sqliteNormalAiHandle.insert(9782, 550);
-		// sqliteNormalAiHandle.insert(9797, 120);
-		// sqliteNormalAiHandle.insert(9798, 100);
-		// sqliteNormalAiHandle.insert(9800, 750);
-		// sqliteNormalAiHandle.insert(9805, 700);
-		// sqliteNormalAiHandle.insert(9806, 750);
-		// sqliteNormalAiHandle.insert(9808, 720);
-		// sqliteNormalAiHandle.insert(9809, 650);
-		// sqliteNormalAiHandle.insert(9813, 620);
-		// sqliteNormalAiHandle.insert(9814, 680);
-		// sqliteNormalAiHandle.insert(9816, 100);
-		// sqliteNormalAiHandle.insert(9817, 650);
-		// sqliteNormalAiHandle.insert(9818, 680);
-		// sqliteNormalAiHandle.insert(9821, 700);
-		// sqliteNormalAiHandle.insert(9822, 720);
-		// sqliteNormalAiHandle.insert(9824, 100);
-		// sqliteNormalAiHandle.insert(9825, 700);
-		// sqliteNormalAiHandle.insert(9826, 700);
-		// sqliteNormalAiHandle.insert(9827, 680);
-		// sqliteNormalAiHandle.insert(9829, 690);
-		// sqliteNormalAiHandle.insert(9832, 100);
-		// sqliteNormalAiHandle.insert(9833, 690);
-		// sqliteNormalAiHandle.insert(9834, 685);
-		// sqliteNormalAiHandle.insert(9835, 680);
-		// sqliteNormalAiHandle.insert(9844, 750);
-		// sqliteNormalAiHandle.insert(9845, 780);
-		// sqliteNormalAiHandle.insert(9846, 800);
-		// sqliteNormalAiHandle.insert(9861, 850);
-		// sqliteNormalAiHandle.insert(9862, 900);
-		// sqliteNormalAiHandle.insert(9864, 800);
-		// sqliteNormalAiHandle.insert(9869, 780);
-		// sqliteNormalAiHandle.insert(9870, 825);
-		// sqliteNormalAiHandle.insert(9872, 800);
-		// sqliteNormalAiHandle.insert(9873, 725);
-		// sqliteNormalAiHandle.insert(9877, 725);
-		// sqliteNormalAiHandle.insert(9878, 800);
-		// sqliteNormalAiHandle.insert(9880, 800);
-		// sqliteNormalAiHandle.insert(9881, 725);
-		// sqliteNormalAiHandle.insert(9882, 700);
-		// sqliteNormalAiHandle.insert(9885, 725);
-		// sqliteNormalAiHandle.insert(9886, 800);
-		// sqliteNormalAiHandle.insert(9888, 800);
-		// sqliteNormalAiHandle.insert(9889, 720);
-		// sqliteNormalAiHandle.insert(9890, 725);
-		// sqliteNormalAiHandle.insert(9891, 725);
-		// sqliteNormalAiHandle.insert(9893, 750);
-		// sqliteNormalAiHandle.insert(9896, 760);
-		// sqliteNormalAiHandle.insert(9897, 750);
-		// sqliteNormalAiHandle.insert(9898, 725);
-		// sqliteNormalAiHandle.insert(9899, 725);
-		// sqliteNormalAiHandle.insert(9908, 800);
-		// sqliteNormalAiHandle.insert(9909, 820);
-		// sqliteNormalAiHandle.insert(9910, 900);
-		// sqliteNormalAiHandle.insert(10249, 7);
-		// sqliteNormalAiHandle.insert(10250, 7);
-		// sqliteNormalAiHandle.insert(10251, 7);
-		// sqliteNormalAiHandle.insert(10252, 5);
-		// sqliteNormalAiHandle.insert(10257, 5);
-		// sqliteNormalAiHandle.insert(10258, 7);
-		// sqliteNormalAiHandle.insert(10259, 7);
-		// sqliteNormalAiHandle.insert(10260, 6);
-		// sqliteNormalAiHandle.insert(10265, 6);
-		// sqliteNormalAiHandle.insert(10266, 7);
-		// sqliteNormalAiHandle.insert(10267, 9);
-		// sqliteNormalAiHandle.insert(10268, 8);
-		// sqliteNormalAiHandle.insert(10273, 5);
-		// sqliteNormalAiHandle.insert(10274, 6);
-		// sqliteNormalAiHandle.insert(10275, 8);
-		// sqliteNormalAiHandle.insert(10276, 7);
-		// sqliteNormalAiHandle.insert(10281, 4);
-		// sqliteNormalAiHandle.insert(10282, 4);
-		// sqliteNormalAiHandle.insert(10283, 5);
-		// sqliteNormalAiHandle.insert(10284, 5);
-		// sqliteNormalAiHandle.insert(10288, 8);
-		// sqliteNormalAiHandle.insert(10289, 6);
-		// sqliteNormalAiHandle.insert(10290, 4);
-		// sqliteNormalAiHandle.insert(10291, 5);
-		// sqliteNormalAiHandle.insert(10292, 6);
-		// sqliteNormalAiHandle.insert(10313, 100);
-		// sqliteNormalAiHandle.insert(10314, 100);
-		// sqliteNormalAiHandle.insert(10315, 100);
-		// sqliteNormalAiHandle.insert(10316, 100);
-		// sqliteNormalAiHandle.insert(10321, 25);
-		// sqliteNormalAiHandle.insert(10322, 25);
-		// sqliteNormalAiHandle.insert(10323, 25);
-		// sqliteNormalAiHandle.insert(10324, 25);
-		// sqliteNormalAiHandle.insert(10329, 100);
-		// sqliteNormalAiHandle.insert(10330, 100);
-		// sqliteNormalAiHandle.insert(10331, 100);
-		// sqliteNormalAiHandle.insert(10332, 100);
-		// sqliteNormalAiHandle.insert(10337, 100);
-		// sqliteNormalAiHandle.insert(10338, 100);
-		// sqliteNormalAiHandle.insert(10339, 100);
-		// sqliteNormalAiHandle.insert(10340, 100);
-		// sqliteNormalAiHandle.insert(10345, 100);
-		// sqliteNormalAiHandle.insert(10346, 100);
-		// sqliteNormalAiHandle.insert(10347, 100);
-		// sqliteNormalAiHandle.insert(10348, 100);
-		// sqliteNormalAiHandle.insert(10352, 100);
-		// sqliteNormalAiHandle.insert(10353, 100);
-		// sqliteNormalAiHandle.insert(10354, 100);
-		// sqliteNormalAiHandle.insert(10355, 100);
-		// sqliteNormalAiHandle.insert(10356, 100);
-		// sqliteNormalAiHandle.insert(10377, 780);
-		// sqliteNormalAiHandle.insert(10378, 770);
-		// sqliteNormalAiHandle.insert(10379, 760);
-		// sqliteNormalAiHandle.insert(10380, 770);
-		// sqliteNormalAiHandle.insert(10385, 770);
-		// sqliteNormalAiHandle.insert(10386, 765);
-		// sqliteNormalAiHandle.insert(10387, 760);
-		// sqliteNormalAiHandle.insert(10388, 760);
-		// sqliteNormalAiHandle.insert(10393, 770);
-		// sqliteNormalAiHandle.insert(10394, 760);
-		// sqliteNormalAiHandle.insert(10395, 750);
-		// sqliteNormalAiHandle.insert(10396, 740);
-		// sqliteNormalAiHandle.insert(10401, 740);
-		// sqliteNormalAiHandle.insert(10402, 750);
-		// sqliteNormalAiHandle.insert(10403, 750);
-		// sqliteNormalAiHandle.insert(10404, 760);
-		// sqliteNormalAiHandle.insert(10409, 790);
-		// sqliteNormalAiHandle.insert(10410, 780);
-		// sqliteNormalAiHandle.insert(10411, 780);
-		// sqliteNormalAiHandle.insert(10412, 750);
-		// sqliteNormalAiHandle.insert(10416, 990);
-		// sqliteNormalAiHandle.insert(10417, 850);
-		// sqliteNormalAiHandle.insert(10418, 820);
-		// sqliteNormalAiHandle.insert(10419, 820);
-		// sqliteNormalAiHandle.insert(10420, 820);
-		// sqliteNormalAiHandle.insert(10496, 3);
-		// sqliteNormalAiHandle.insert(10502, 5);
-		// sqliteNormalAiHandle.insert(10514, 5);
-		// sqliteNormalAiHandle.insert(10515, 6);
-		// sqliteNormalAiHandle.insert(10516, 6);
-		// sqliteNormalAiHandle.insert(10522, 5);
-		// sqliteNormalAiHandle.insert(10523, 3);
-		// sqliteNormalAiHandle.insert(10524, 4);
-		// sqliteNormalAiHandle.insert(10530, 5);
-		// sqliteNormalAiHandle.insert(10531, 4);
-		// sqliteNormalAiHandle.insert(10532, 3);
-		// sqliteNormalAiHandle.insert(10538, 4);
-		// sqliteNormalAiHandle.insert(10539, 5);
-		// sqliteNormalAiHandle.insert(10540, 6);
-		// sqliteNormalAiHandle.insert(10545, 4);
-		// sqliteNormalAiHandle.insert(10546, 8);
-		// sqliteNormalAiHandle.insert(10547, 7);
-		// sqliteNormalAiHandle.insert(10548, 5);
-		// sqliteNormalAiHandle.insert(10560, 100);
-		// sqliteNormalAiHandle.insert(10566, 100);
-		// sqliteNormalAiHandle.insert(10578, 660);
-		// sqliteNormalAiHandle.insert(10579, 650);
-		// sqliteNormalAiHandle.insert(10580, 650);
-		// sqliteNormalAiHandle.insert(10586, 645);
-		// sqliteNormalAiHandle.insert(10587, 650);
-		// sqliteNormalAiHandle.insert(10588, 660);
-		// sqliteNormalAiHandle.insert(10594, 660);
-		// sqliteNormalAiHandle.insert(10595, 660);
-		// sqliteNormalAiHandle.insert(10596, 665);
-		// sqliteNormalAiHandle.insert(10602, 660);
-		// sqliteNormalAiHandle.insert(10603, 650);
-		// sqliteNormalAiHandle.insert(10604, 770);
-		// sqliteNormalAiHandle.insert(10609, 780);
-		// sqliteNormalAiHandle.insert(10610, 780);
-		// sqliteNormalAiHandle.insert(10611, 780);
-		// sqliteNormalAiHandle.insert(10612, 780);
-		// sqliteNormalAiHandle.insert(10624, 820);
-		// sqliteNormalAiHandle.insert(10630, 820);
-		// sqliteNormalAiHandle.insert(10642, 715);
-		// sqliteNormalAiHandle.insert(10643, 720);
-		// sqliteNormalAiHandle.insert(10644, 725);
-		// sqliteNormalAiHandle.insert(10650, 720);
-		// sqliteNormalAiHandle.insert(10651, 720);
-		// sqliteNormalAiHandle.insert(10652, 725);
-		// sqliteNormalAiHandle.insert(10658, 720);
-		// sqliteNormalAiHandle.insert(10659, 720);
-		// sqliteNormalAiHandle.insert(10660, 700);
-		// sqliteNormalAiHandle.insert(10666, 690);
-		// sqliteNormalAiHandle.insert(10667, 670);
-		// sqliteNormalAiHandle.insert(10668, 685);
-		// sqliteNormalAiHandle.insert(10673, 760);
-		// sqliteNormalAiHandle.insert(10674, 750);
-		// sqliteNormalAiHandle.insert(10675, 700);
-		// sqliteNormalAiHandle.insert(10676, 100);
-		// sqliteNormalAiHandle.insert(10752, 100);
-		// sqliteNormalAiHandle.insert(10758, 100);
-		// sqliteNormalAiHandle.insert(10760, 100);
-		// sqliteNormalAiHandle.insert(10761, 100);
-		// sqliteNormalAiHandle.insert(10766, 100);
-		// sqliteNormalAiHandle.insert(10779, 150);
-		// sqliteNormalAiHandle.insert(10780, 160);
-		// sqliteNormalAiHandle.insert(10787, 150);
-		// sqliteNormalAiHandle.insert(10788, 150);
-		// sqliteNormalAiHandle.insert(10795, 170);
-		// sqliteNormalAiHandle.insert(10796, 170);
-		// sqliteNormalAiHandle.insert(10802, 160);
-		// sqliteNormalAiHandle.insert(10803, 150);
-		// sqliteNormalAiHandle.insert(10804, 150);
-		// sqliteNormalAiHandle.insert(10816, 120);
-		// sqliteNormalAiHandle.insert(10822, 120);
-		// sqliteNormalAiHandle.insert(10824, 100);
-		// sqliteNormalAiHandle.insert(10825, 670);
-		// sqliteNormalAiHandle.insert(10830, 680);
-		// sqliteNormalAiHandle.insert(10843, 615);
-		// sqliteNormalAiHandle.insert(10844, 620);
-		// sqliteNormalAiHandle.insert(10851, 625);
-		// sqliteNormalAiHandle.insert(10852, 645);
-		// sqliteNormalAiHandle.insert(10859, 645);
-		// sqliteNormalAiHandle.insert(10860, 650);
-		// sqliteNormalAiHandle.insert(10866, 670);
-		// sqliteNormalAiHandle.insert(10867, 680);
-		// sqliteNormalAiHandle.insert(10868, 680);
-		// sqliteNormalAiHandle.insert(10880, 800);
-		// sqliteNormalAiHandle.insert(10886, 800);
-		// sqliteNormalAiHandle.insert(10888, 760);
-		// sqliteNormalAiHandle.insert(10889, 720);
-		// sqliteNormalAiHandle.insert(10894, 750);
-		// sqliteNormalAiHandle.insert(10907, 700);
-		// sqliteNormalAiHandle.insert(10908, 760);
-		// sqliteNormalAiHandle.insert(10915, 760);
-		// sqliteNormalAiHandle.insert(10916, 755);
-		// sqliteNormalAiHandle.insert(10923, 745);
-		// sqliteNormalAiHandle.insert(10924, 745);
-		// sqliteNormalAiHandle.insert(10930, 780);
-		// sqliteNormalAiHandle.insert(10931, 760);
-		// sqliteNormalAiHandle.insert(10932, 750);
-		// sqliteNormalAiHandle.insert(11008, 100);
-		// sqliteNormalAiHandle.insert(11014, 100);
-		// sqliteNormalAiHandle.insert(11016, 100);
-		// sqliteNormalAiHandle.insert(11017, 100);
-		// sqliteNormalAiHandle.insert(11022, 100);
-		// sqliteNormalAiHandle.insert(11024, 680);
-		// sqliteNormalAiHandle.insert(11025, 580);
-		// sqliteNormalAiHandle.insert(11026, 520);
-		// sqliteNormalAiHandle.insert(11030, 580);
-		// sqliteNormalAiHandle.insert(11044, 550);
-		// sqliteNormalAiHandle.insert(11052, 700);
-		// sqliteNormalAiHandle.insert(11059, 650);
-		// sqliteNormalAiHandle.insert(11060, 670);
-		// sqliteNormalAiHandle.insert(11072, 100);
-		// sqliteNormalAiHandle.insert(11078, 100);
-		// sqliteNormalAiHandle.insert(11080, 100);
-		// sqliteNormalAiHandle.insert(11081, 700);
-		// sqliteNormalAiHandle.insert(11086, 700);
-		// sqliteNormalAiHandle.insert(11088, 100);
-		// sqliteNormalAiHandle.insert(11089, 690);
-		// sqliteNormalAiHandle.insert(11090, 680);
-		// sqliteNormalAiHandle.insert(11094, 720);
-		// sqliteNormalAiHandle.insert(11108, 690);
-		// sqliteNormalAiHandle.insert(11116, 680);
-		// sqliteNormalAiHandle.insert(11123, 700);
-		// sqliteNormalAiHandle.insert(11124, 720);
-		// sqliteNormalAiHandle.insert(11136, 820);
-		// sqliteNormalAiHandle.insert(11142, 820);
-		// sqliteNormalAiHandle.insert(11144, 800);
-		// sqliteNormalAiHandle.insert(11145, 800);
-		// sqliteNormalAiHandle.insert(11150, 750);
-		// sqliteNormalAiHandle.insert(11152, 720);
-		// sqliteNormalAiHandle.insert(11153, 720);
-		// sqliteNormalAiHandle.insert(11154, 710);
-		// sqliteNormalAiHandle.insert(11158, 780);
-		// sqliteNormalAiHandle.insert(11172, 740);
-		// sqliteNormalAiHandle.insert(11180, 745);
-		// sqliteNormalAiHandle.insert(11187, 780);
-		// sqliteNormalAiHandle.insert(11188, 780);
-		// sqliteNormalAiHandle.insert(11264, 7);
-		// sqliteNormalAiHandle.insert(11270, 7);
-		// sqliteNormalAiHandle.insert(11272, 2);
-		// sqliteNormalAiHandle.insert(11273, 50);
-		// sqliteNormalAiHandle.insert(11278, 60);
-		// sqliteNormalAiHandle.insert(11280, 9);
-		// sqliteNormalAiHandle.insert(11281, 9);
-		// sqliteNormalAiHandle.insert(11282, 150);
-		// sqliteNormalAiHandle.insert(11286, 150);
-		// sqliteNormalAiHandle.insert(11288, 3);
-		// sqliteNormalAiHandle.insert(11289, 100);
-		// sqliteNormalAiHandle.insert(11290, 150);
-		// sqliteNormalAiHandle.insert(11291, 160);
-		// sqliteNormalAiHandle.insert(11294, 180);
-		// sqliteNormalAiHandle.insert(11316, 200);
-		// sqliteNormalAiHandle.insert(11328, 100);
-		// sqliteNormalAiHandle.insert(11334, 100);
-		// sqliteNormalAiHandle.insert(11336, 100);
-		// sqliteNormalAiHandle.insert(11337, 650);
-		// sqliteNormalAiHandle.insert(11342, 720);
-		// sqliteNormalAiHandle.insert(11344, 720);
-		// sqliteNormalAiHandle.insert(11345, 680);
-		// sqliteNormalAiHandle.insert(11346, 650);
-		// sqliteNormalAiHandle.insert(11350, 720);
-		// sqliteNormalAiHandle.insert(11352, 100);
-		// sqliteNormalAiHandle.insert(11353, 670);
-		// sqliteNormalAiHandle.insert(11354, 650);
-		// sqliteNormalAiHandle.insert(11355, 620);
-		// sqliteNormalAiHandle.insert(11358, 730);
-		// sqliteNormalAiHandle.insert(11380, 740);
-		// sqliteNormalAiHandle.insert(11392, 840);
-		// sqliteNormalAiHandle.insert(11398, 840);
-		// sqliteNormalAiHandle.insert(11400, 720);
-		// sqliteNormalAiHandle.insert(11401, 715);
-		// sqliteNormalAiHandle.insert(11406, 715);
-		// sqliteNormalAiHandle.insert(11408, 100);
-		// sqliteNormalAiHandle.insert(11409, 720);
-		// sqliteNormalAiHandle.insert(11410, 720);
-		// sqliteNormalAiHandle.insert(11414, 760);
-		// sqliteNormalAiHandle.insert(11416, 100);
-		// sqliteNormalAiHandle.insert(11417, 730);
-		// sqliteNormalAiHandle.insert(11418, 725);
-		// sqliteNormalAiHandle.insert(11419, 715);
-		// sqliteNormalAiHandle.insert(11422, 750);
-		// sqliteNormalAiHandle.insert(11444, 760);
-		// sqliteNormalAiHandle.insert(11526, 5);
-		// sqliteNormalAiHandle.insert(11528, 5);
-		// sqliteNormalAiHandle.insert(11534, 100);
-		// sqliteNormalAiHandle.insert(11536, 5);
-		// sqliteNormalAiHandle.insert(11537, 100);
-		// sqliteNormalAiHandle.insert(11542, 150);
-		// sqliteNormalAiHandle.insert(11544, 6);
-		// sqliteNormalAiHandle.insert(11545, 100);
-		// sqliteNormalAiHandle.insert(11546, 150);
-		// sqliteNormalAiHandle.insert(11550, 160);
-		// sqliteNormalAiHandle.insert(11552, 100);
-		// sqliteNormalAiHandle.insert(11553, 100);
-		// sqliteNormalAiHandle.insert(11554, 170);
-		// sqliteNormalAiHandle.insert(11555, 170);
-		// sqliteNormalAiHandle.insert(11558, 250);
-		// sqliteNormalAiHandle.insert(11565, 200);
-		// sqliteNormalAiHandle.insert(11566, 250);
-		// sqliteNormalAiHandle.insert(11574, 300);
-		// sqliteNormalAiHandle.insert(11590, 100);
-		// sqliteNormalAiHandle.insert(11592, 100);
-		// sqliteNormalAiHandle.insert(11598, 400);
-		// sqliteNormalAiHandle.insert(11600, 100);
-		// sqliteNormalAiHandle.insert(11601, 400);
-		// sqliteNormalAiHandle.insert(11606, 500);
-		// sqliteNormalAiHandle.insert(11608, 100);
-		// sqliteNormalAiHandle.insert(11609, 650);
-		// sqliteNormalAiHandle.insert(11610, 620);
-		// sqliteNormalAiHandle.insert(11614, 680);
-		// sqliteNormalAiHandle.insert(11616, 100);
-		// sqliteNormalAiHandle.insert(11617, 670);
-		// sqliteNormalAiHandle.insert(11618, 650);
-		// sqliteNormalAiHandle.insert(11619, 650);
-		// sqliteNormalAiHandle.insert(11622, 680);
-		// sqliteNormalAiHandle.insert(11629, 660);
-		// sqliteNormalAiHandle.insert(11630, 680);
-		// sqliteNormalAiHandle.insert(11638, 680);
-		// sqliteNormalAiHandle.insert(11654, 850);
-		// sqliteNormalAiHandle.insert(11656, 79);
-		// sqliteNormalAiHandle.insert(11662, 795);
-		// sqliteNormalAiHandle.insert(11664, 795);
-		// sqliteNormalAiHandle.insert(11665, 795);
-		// sqliteNormalAiHandle.insert(11670, 795);
-		// sqliteNormalAiHandle.insert(11672, 790);
-		// sqliteNormalAiHandle.insert(11673, 780);
-		// sqliteNormalAiHandle.insert(11674, 750);
-		// sqliteNormalAiHandle.insert(11678, 780);
-		// sqliteNormalAiHandle.insert(11680, 780);
-		// sqliteNormalAiHandle.insert(11681, 750);
-		// sqliteNormalAiHandle.insert(11682, 725);
-		// sqliteNormalAiHandle.insert(11683, 725);
-		// sqliteNormalAiHandle.insert(11686, 825);
-		// sqliteNormalAiHandle.insert(11693, 800);
-		// sqliteNormalAiHandle.insert(11694, 780);
-		// sqliteNormalAiHandle.insert(11702, 880);
-		// sqliteNormalAiHandle.insert(11782, 100);
-		// sqliteNormalAiHandle.insert(11784, 100);
-		// sqliteNormalAiHandle.insert(11790, 100);
-		// sqliteNormalAiHandle.insert(11792, 100);
-		// sqliteNormalAiHandle.insert(11793, 100);
-		// sqliteNormalAiHandle.insert(11798, 500);
-		// sqliteNormalAiHandle.insert(11800, 100);
-		// sqliteNormalAiHandle.insert(11801, 100);
-		// sqliteNormalAiHandle.insert(11802, 450);
-		// sqliteNormalAiHandle.insert(11806, 500);
-		// sqliteNormalAiHandle.insert(11808, 5);
-		// sqliteNormalAiHandle.insert(11809, 4);
-		// sqliteNormalAiHandle.insert(11810, 300);
-		// sqliteNormalAiHandle.insert(11811, 250);
-		// sqliteNormalAiHandle.insert(11814, 300);
-		// sqliteNormalAiHandle.insert(11816, 100);
-		// sqliteNormalAiHandle.insert(11817, 100);
-		// sqliteNormalAiHandle.insert(11818, 515);
-		// sqliteNormalAiHandle.insert(11819, 520);
-		// sqliteNormalAiHandle.insert(11820, 520);
-		// sqliteNormalAiHandle.insert(11829, 525);
-		// sqliteNormalAiHandle.insert(11830, 500);
-		// sqliteNormalAiHandle.insert(11846, 525);
-		// sqliteNormalAiHandle.insert(11848, 300);
-		// sqliteNormalAiHandle.insert(11854, 700);
-		// sqliteNormalAiHandle.insert(11856, 700);
-		// sqliteNormalAiHandle.insert(11857, 700);
-		// sqliteNormalAiHandle.insert(11862, 700);
-		// sqliteNormalAiHandle.insert(11864, 300);
-		// sqliteNormalAiHandle.insert(11865, 650);
-		// sqliteNormalAiHandle.insert(11866, 700);
-		// sqliteNormalAiHandle.insert(11870, 750);
-		// sqliteNormalAiHandle.insert(11872, 650);
-		// sqliteNormalAiHandle.insert(11873, 725);
-		// sqliteNormalAiHandle.insert(11874, 725);
-		// sqliteNormalAiHandle.insert(11875, 700);
-		// sqliteNormalAiHandle.insert(11878, 750);
-		// sqliteNormalAiHandle.insert(11880, 550);
-		// sqliteNormalAiHandle.insert(11881, 700);
-		// sqliteNormalAiHandle.insert(11882, 780);
-		// sqliteNormalAiHandle.insert(11883, 780);
-		// sqliteNormalAiHandle.insert(11884, 790);
-		// sqliteNormalAiHandle.insert(11893, 790);
-		// sqliteNormalAiHandle.insert(11894, 790);
-		// sqliteNormalAiHandle.insert(11910, 990);
-		// sqliteNormalAiHandle.insert(11912, 850);
-		// sqliteNormalAiHandle.insert(11918, 850);
-		// sqliteNormalAiHandle.insert(11920, 825);
-		// sqliteNormalAiHandle.insert(11921, 725);
-		// sqliteNormalAiHandle.insert(11926, 760);
-		// sqliteNormalAiHandle.insert(11928, 750);
-		// sqliteNormalAiHandle.insert(11929, 750);
-		// sqliteNormalAiHandle.insert(11930, 725);
-		// sqliteNormalAiHandle.insert(11934, 850);
-		// sqliteNormalAiHandle.insert(11936, 850);
-		// sqliteNormalAiHandle.insert(11937, 760);
-		// sqliteNormalAiHandle.insert(11938, 750);
-		// sqliteNormalAiHandle.insert(11939, 750);
-		// sqliteNormalAiHandle.insert(11942, 850);
-		// sqliteNormalAiHandle.insert(11944, 850);
-		// sqliteNormalAiHandle.insert(11945, 800);
-		// sqliteNormalAiHandle.insert(11946, 750);
-		// sqliteNormalAiHandle.insert(11947, 750);
-		// sqliteNormalAiHandle.insert(11948, 750);
-		// sqliteNormalAiHandle.insert(11957, 850);
-		// sqliteNormalAiHandle.insert(11958, 990);
-		// sqliteNormalAiHandle.insert(12297, 2);
-		// sqliteNormalAiHandle.insert(12298, 2);
-		// sqliteNormalAiHandle.insert(12299, 3);
-		// sqliteNormalAiHandle.insert(12300, 3);
-		// sqliteNormalAiHandle.insert(12301, 3);
-		// sqliteNormalAiHandle.insert(12305, 4);
-		// sqliteNormalAiHandle.insert(12306, 4);
-		// sqliteNormalAiHandle.insert(12307, 4);
-		// sqliteNormalAiHandle.insert(12308, 3);
-		// sqliteNormalAiHandle.insert(12309, 3);
-		// sqliteNormalAiHandle.insert(12313, 2);
-		// sqliteNormalAiHandle.insert(12314, 3);
-		// sqliteNormalAiHandle.insert(12315, 3);
-		// sqliteNormalAiHandle.insert(12316, 3);
-		// sqliteNormalAiHandle.insert(12317, 3);
-		// sqliteNormalAiHandle.insert(12321, 2);
-		// sqliteNormalAiHandle.insert(12322, 2);
-		// sqliteNormalAiHandle.insert(12323, 3);
-		// sqliteNormalAiHandle.insert(12324, 2);
-		// sqliteNormalAiHandle.insert(12325, 4);
-		// sqliteNormalAiHandle.insert(12329, 2);
-		// sqliteNormalAiHandle.insert(12330, 2);
-		// sqliteNormalAiHandle.insert(12331, 2);
-		// sqliteNormalAiHandle.insert(12332, 4);
-		// sqliteNormalAiHandle.insert(12333, 5);
-		// sqliteNormalAiHandle.insert(12337, 4);
-		// sqliteNormalAiHandle.insert(12338, 3);
-		// sqliteNormalAiHandle.insert(12339, 3);
-		// sqliteNormalAiHandle.insert(12340, 2);
-		// sqliteNormalAiHandle.insert(12341, 3);
-		// sqliteNormalAiHandle.insert(12361, 300);
-		// sqliteNormalAiHandle.insert(12362, 300);
-		// sqliteNormalAiHandle.insert(12363, 300);
-		// sqliteNormalAiHandle.insert(12364, 300);
-		// sqliteNormalAiHandle.insert(12365, 300);
-		// sqliteNormalAiHandle.insert(12369, 100);
-		// sqliteNormalAiHandle.insert(12370, 100);
-		// sqliteNormalAiHandle.insert(12371, 100);
-		// sqliteNormalAiHandle.insert(12372, 100);
-		// sqliteNormalAiHandle.insert(12373, 100);
-		// sqliteNormalAiHandle.insert(12377, 300);
-		// sqliteNormalAiHandle.insert(12378, 300);
-		// sqliteNormalAiHandle.insert(12379, 300);
-		// sqliteNormalAiHandle.insert(12380, 350);
-		// sqliteNormalAiHandle.insert(12381, 400);
-		// sqliteNormalAiHandle.insert(12385, 450);
-		// sqliteNormalAiHandle.insert(12386, 450);
-		// sqliteNormalAiHandle.insert(12387, 450);
-		// sqliteNormalAiHandle.insert(12388, 450);
-		// sqliteNormalAiHandle.insert(12389, 450);
-		// sqliteNormalAiHandle.insert(12393, 450);
-		// sqliteNormalAiHandle.insert(12394, 450);
-		// sqliteNormalAiHandle.insert(12395, 450);
-		// sqliteNormalAiHandle.insert(12396, 450);
-		// sqliteNormalAiHandle.insert(12397, 450);
-		// sqliteNormalAiHandle.insert(12401, 450);
-		// sqliteNormalAiHandle.insert(12402, 450);
-		// sqliteNormalAiHandle.insert(12403, 450);
-		// sqliteNormalAiHandle.insert(12404, 450);
-		// sqliteNormalAiHandle.insert(12405, 450);
-		// sqliteNormalAiHandle.insert(12425, 825);
-		// sqliteNormalAiHandle.insert(12426, 820);
-		// sqliteNormalAiHandle.insert(12427, 820);
-		// sqliteNormalAiHandle.insert(12428, 820);
-		// sqliteNormalAiHandle.insert(12429, 825);
-		// sqliteNormalAiHandle.insert(12433, 820);
-		// sqliteNormalAiHandle.insert(12434, 800);
-		// sqliteNormalAiHandle.insert(12435, 800);
-		// sqliteNormalAiHandle.insert(12436, 800);
-		// sqliteNormalAiHandle.insert(12437, 820);
-		// sqliteNormalAiHandle.insert(12441, 820);
-		// sqliteNormalAiHandle.insert(12442, 800);
-		// sqliteNormalAiHandle.insert(12443, 800);
-		// sqliteNormalAiHandle.insert(12444, 800);
-		// sqliteNormalAiHandle.insert(12445, 820);
-		// sqliteNormalAiHandle.insert(12449, 820);
-		// sqliteNormalAiHandle.insert(12450, 800);
-		// sqliteNormalAiHandle.insert(12451, 800);
-		// sqliteNormalAiHandle.insert(12452, 800);
-		// sqliteNormalAiHandle.insert(12453, 825);
-		// sqliteNormalAiHandle.insert(12457, 850);
-		// sqliteNormalAiHandle.insert(12458, 825);
-		// sqliteNormalAiHandle.insert(12459, 825);
-		// sqliteNormalAiHandle.insert(12460, 825);
-		// sqliteNormalAiHandle.insert(12461, 850);
-		// sqliteNormalAiHandle.insert(12465, 990);
-		// sqliteNormalAiHandle.insert(12466, 950);
-		// sqliteNormalAiHandle.insert(12467, 900);
-		// sqliteNormalAiHandle.insert(12468, 950);
-		// sqliteNormalAiHandle.insert(12469, 990);
-		// sqliteNormalAiHandle.insert(12544, 10);
-		// sqliteNormalAiHandle.insert(12562, 12);
-		// sqliteNormalAiHandle.insert(12563, 12);
-		// sqliteNormalAiHandle.insert(12564, 12);
-		// sqliteNormalAiHandle.insert(12565, 12);
-		// sqliteNormalAiHandle.insert(12570, 12);
-		// sqliteNormalAiHandle.insert(12571, 12);
-		// sqliteNormalAiHandle.insert(12572, 12);
-		// sqliteNormalAiHandle.insert(12573, 12);
-		// sqliteNormalAiHandle.insert(12578, 12);
-		// sqliteNormalAiHandle.insert(12579, 12);
-		// sqliteNormalAiHandle.insert(12580, 12);
-		// sqliteNormalAiHandle.insert(12581, 12);
-		// sqliteNormalAiHandle.insert(12586, 12);
-		// sqliteNormalAiHandle.insert(12587, 12);
-		// sqliteNormalAiHandle.insert(12588, 12);
-		// sqliteNormalAiHandle.insert(12589, 12);
-		// sqliteNormalAiHandle.insert(12594, 12);
-		// sqliteNormalAiHandle.insert(12595, 12);
-		// sqliteNormalAiHandle.insert(12596, 12);
-		// sqliteNormalAiHandle.insert(12597, 12);
-		// sqliteNormalAiHandle.insert(12608, 650);
-		// sqliteNormalAiHandle.insert(12626, 600);
-		// sqliteNormalAiHandle.insert(12627, 600);
-		// sqliteNormalAiHandle.insert(12628, 600);
-		// sqliteNormalAiHandle.insert(12629, 650);
-		// sqliteNormalAiHandle.insert(12634, 650);
-		// sqliteNormalAiHandle.insert(12635, 650);
-		// sqliteNormalAiHandle.insert(12636, 700);
-		// sqliteNormalAiHandle.insert(12637, 700);
-		// sqliteNormalAiHandle.insert(12642, 650);
-		// sqliteNormalAiHandle.insert(12643, 650);
-		// sqliteNormalAiHandle.insert(12644, 650);
-		// sqliteNormalAiHandle.insert(12645, 690);
-		// sqliteNormalAiHandle.insert(12650, 680);
-		// sqliteNormalAiHandle.insert(12651, 680);
-		// sqliteNormalAiHandle.insert(12652, 700);
-		// sqliteNormalAiHandle.insert(12653, 725);
-		// sqliteNormalAiHandle.insert(12658, 690);
-		// sqliteNormalAiHandle.insert(12659, 680);
-		// sqliteNormalAiHandle.insert(12660, 680);
-		// sqliteNormalAiHandle.insert(12661, 680);
-		// sqliteNormalAiHandle.insert(12672, 800);
-		// sqliteNormalAiHandle.insert(12690, 725);
-		// sqliteNormalAiHandle.insert(12691, 725);
-		// sqliteNormalAiHandle.insert(12692, 725);
-		// sqliteNormalAiHandle.insert(12693, 750);
-		// sqliteNormalAiHandle.insert(12698, 715);
-		// sqliteNormalAiHandle.insert(12699, 710);
-		// sqliteNormalAiHandle.insert(12700, 715);
-		// sqliteNormalAiHandle.insert(12701, 715);
-		// sqliteNormalAiHandle.insert(12706, 715);
-		// sqliteNormalAiHandle.insert(12707, 715);
-		// sqliteNormalAiHandle.insert(12708, 715);
-		// sqliteNormalAiHandle.insert(12709, 725);
-		// sqliteNormalAiHandle.insert(12714, 725);
-		// sqliteNormalAiHandle.insert(12715, 725);
-		// sqliteNormalAiHandle.insert(12716, 725);
-		// sqliteNormalAiHandle.insert(12717, 750);
-		// sqliteNormalAiHandle.insert(12722, 820);
-		// sqliteNormalAiHandle.insert(12723, 820);
-		// sqliteNormalAiHandle.insert(12724, 820);
-		// sqliteNormalAiHandle.insert(12725, 850);
-		// sqliteNormalAiHandle.insert(12800, 5);
-		// sqliteNormalAiHandle.insert(12808, 10);
-		// sqliteNormalAiHandle.insert(12809, 15);
-		// sqliteNormalAiHandle.insert(12827, 400);
-		// sqliteNormalAiHandle.insert(12828, 500);
-		// sqliteNormalAiHandle.insert(12829, 520);
-		// sqliteNormalAiHandle.insert(12835, 550);
-		// sqliteNormalAiHandle.insert(12836, 550);
-		// sqliteNormalAiHandle.insert(12837, 550);
-		// sqliteNormalAiHandle.insert(12843, 550);
-		// sqliteNormalAiHandle.insert(12844, 550);
-		// sqliteNormalAiHandle.insert(12845, 550);
-		// sqliteNormalAiHandle.insert(12851, 550);
-		// sqliteNormalAiHandle.insert(12852, 550);
-		// sqliteNormalAiHandle.insert(12853, 550);
-		// sqliteNormalAiHandle.insert(12864, 100);
-		// sqliteNormalAiHandle.insert(12872, 100);
-		// sqliteNormalAiHandle.insert(12873, 670);
-		// sqliteNormalAiHandle.insert(12891, 600);
-		// sqliteNormalAiHandle.insert(12892, 625);
-		// sqliteNormalAiHandle.insert(12893, 650);
-		// sqliteNormalAiHandle.insert(12899, 600);
-		// sqliteNormalAiHandle.insert(12900, 600);
-		// sqliteNormalAiHandle.insert(12901, 625);
-		// sqliteNormalAiHandle.insert(12907, 625);
-		// sqliteNormalAiHandle.insert(12908, 625);
-		// sqliteNormalAiHandle.insert(12909, 650);
-		// sqliteNormalAiHandle.insert(12915, 720);
-		// sqliteNormalAiHandle.insert(12916, 700);
-		// sqliteNormalAiHandle.insert(12917, 725);
-		// sqliteNormalAiHandle.insert(12928, 900);
-		// sqliteNormalAiHandle.insert(12936, 800);
-		// sqliteNormalAiHandle.insert(12937, 725);
-		// sqliteNormalAiHandle.insert(12955, 700);
-		// sqliteNormalAiHandle.insert(12956, 700);
-		// sqliteNormalAiHandle.insert(12957, 720);
-		// sqliteNormalAiHandle.insert(12963, 700);
-		// sqliteNormalAiHandle.insert(12964, 725);
-		// sqliteNormalAiHandle.insert(12965, 700);
-		// sqliteNormalAiHandle.insert(12971, 720);
-		// sqliteNormalAiHandle.insert(12972, 720);
-		// sqliteNormalAiHandle.insert(12973, 825);
-		// sqliteNormalAiHandle.insert(12979, 800);
-		// sqliteNormalAiHandle.insert(12980, 820);
-		// sqliteNormalAiHandle.insert(12981, 825);
-		// sqliteNormalAiHandle.insert(13056, 2);
-		// sqliteNormalAiHandle.insert(13064, 3);
-		// sqliteNormalAiHandle.insert(13065, 3);
-		// sqliteNormalAiHandle.insert(13072, 3);
-		// sqliteNormalAiHandle.insert(13073, 3);
-		// sqliteNormalAiHandle.insert(13074, 200);
-		// sqliteNormalAiHandle.insert(13092, 125);
-		// sqliteNormalAiHandle.insert(13093, 150);
-		// sqliteNormalAiHandle.insert(13100, 150);
-		// sqliteNormalAiHandle.insert(13101, 150);
-		// sqliteNormalAiHandle.insert(13108, 150);
-		// sqliteNormalAiHandle.insert(13109, 200);
-		// sqliteNormalAiHandle.insert(13120, 100);
-		// sqliteNormalAiHandle.insert(13128, 100);
-		// sqliteNormalAiHandle.insert(13129, 625);
-		// sqliteNormalAiHandle.insert(13136, 125);
-		// sqliteNormalAiHandle.insert(13137, 625);
-		// sqliteNormalAiHandle.insert(13138, 600);
-		// sqliteNormalAiHandle.insert(13156, 600);
-		// sqliteNormalAiHandle.insert(13157, 700);
-		// sqliteNormalAiHandle.insert(13164, 700);
-		// sqliteNormalAiHandle.insert(13165, 850);
-		// sqliteNormalAiHandle.insert(13172, 800);
-		// sqliteNormalAiHandle.insert(13173, 800);
-		// sqliteNormalAiHandle.insert(13184, 900);
-		// sqliteNormalAiHandle.insert(13192, 825);
-		// sqliteNormalAiHandle.insert(13193, 725);
-		// sqliteNormalAiHandle.insert(13200, 800);
-		// sqliteNormalAiHandle.insert(13201, 725);
-		// sqliteNormalAiHandle.insert(13202, 700);
-		// sqliteNormalAiHandle.insert(13220, 700);
-		// sqliteNormalAiHandle.insert(13221, 720);
-		// sqliteNormalAiHandle.insert(13228, 720);
-		// sqliteNormalAiHandle.insert(13229, 725);
-		// sqliteNormalAiHandle.insert(13236, 815);
-		// sqliteNormalAiHandle.insert(13237, 825);
-		// sqliteNormalAiHandle.insert(13312, 4);
-		// sqliteNormalAiHandle.insert(13320, 5);
-		// sqliteNormalAiHandle.insert(13321, 5);
-		// sqliteNormalAiHandle.insert(13328, 9);
-		// sqliteNormalAiHandle.insert(13329, 10);
-		// sqliteNormalAiHandle.insert(13330, 150);
-		// sqliteNormalAiHandle.insert(13336, 1);
-		// sqliteNormalAiHandle.insert(13337, 5);
-		// sqliteNormalAiHandle.insert(13338, 120);
-		// sqliteNormalAiHandle.insert(13339, 120);
-		// sqliteNormalAiHandle.insert(13357, 120);
-		// sqliteNormalAiHandle.insert(13365, 125);
-		// sqliteNormalAiHandle.insert(13376, 100);
-		// sqliteNormalAiHandle.insert(13384, 100);
-		// sqliteNormalAiHandle.insert(13385, 550);
-		// sqliteNormalAiHandle.insert(13392, 120);
-		// sqliteNormalAiHandle.insert(13393, 550);
-		// sqliteNormalAiHandle.insert(13394, 500);
-		// sqliteNormalAiHandle.insert(13400, 100);
-		// sqliteNormalAiHandle.insert(13401, 650);
-		// sqliteNormalAiHandle.insert(13402, 625);
-		// sqliteNormalAiHandle.insert(13403, 600);
-		// sqliteNormalAiHandle.insert(13421, 725);
-		// sqliteNormalAiHandle.insert(13429, 800);
-		// sqliteNormalAiHandle.insert(13440, 825);
-		// sqliteNormalAiHandle.insert(13448, 800);
-		// sqliteNormalAiHandle.insert(13449, 725);
-		// sqliteNormalAiHandle.insert(13456, 800);
-		// sqliteNormalAiHandle.insert(13457, 700);
-		// sqliteNormalAiHandle.insert(13458, 700);
-		// sqliteNormalAiHandle.insert(13464, 700);
-		// sqliteNormalAiHandle.insert(13465, 700);
-		// sqliteNormalAiHandle.insert(13466, 700);
-		// sqliteNormalAiHandle.insert(13467, 650);
-		// sqliteNormalAiHandle.insert(13485, 525);
-		// sqliteNormalAiHandle.insert(13493, 825);
-		// sqliteNormalAiHandle.insert(13568, 3);
-		// sqliteNormalAiHandle.insert(13576, 3);
-		// sqliteNormalAiHandle.insert(13577, 3);
-		// sqliteNormalAiHandle.insert(13584, 3);
-		// sqliteNormalAiHandle.insert(13585, 3);
-		// sqliteNormalAiHandle.insert(13586, 150);
-		// sqliteNormalAiHandle.insert(13592, 3);
-		// sqliteNormalAiHandle.insert(13593, 3);
-		// sqliteNormalAiHandle.insert(13594, 125);
-		// sqliteNormalAiHandle.insert(13595, 125);
-		// sqliteNormalAiHandle.insert(13600, 10);
-		// sqliteNormalAiHandle.insert(13601, 15);
-		// sqliteNormalAiHandle.insert(13602, 300);
-		// sqliteNormalAiHandle.insert(13603, 300);
-		// sqliteNormalAiHandle.insert(13604, 300);
-		// sqliteNormalAiHandle.insert(13632, 100);
-		// sqliteNormalAiHandle.insert(13640, 100);
-		// sqliteNormalAiHandle.insert(13641, 500);
-		// sqliteNormalAiHandle.insert(13648, 100);
-		// sqliteNormalAiHandle.insert(13649, 500);
-		// sqliteNormalAiHandle.insert(13650, 500);
-		// sqliteNormalAiHandle.insert(13656, 100);
-		// sqliteNormalAiHandle.insert(13657, 625);
-		// sqliteNormalAiHandle.insert(13658, 600);
-		// sqliteNormalAiHandle.insert(13659, 600);
-		// sqliteNormalAiHandle.insert(13664, 100);
-		// sqliteNormalAiHandle.insert(13665, 650);
-		// sqliteNormalAiHandle.insert(13666, 600);
-		// sqliteNormalAiHandle.insert(13667, 600);
-		// sqliteNormalAiHandle.insert(13668, 600);
-		// sqliteNormalAiHandle.insert(13696, 990);
-		// sqliteNormalAiHandle.insert(13704, 850);
-		// sqliteNormalAiHandle.insert(13705, 850);
-		// sqliteNormalAiHandle.insert(13712, 825);
-		// sqliteNormalAiHandle.insert(13713, 725);
-		// sqliteNormalAiHandle.insert(13714, 700);
-		// sqliteNormalAiHandle.insert(13720, 815);
-		// sqliteNormalAiHandle.insert(13721, 725);
-		// sqliteNormalAiHandle.insert(13722, 700);
-		// sqliteNormalAiHandle.insert(13723, 710);
-		// sqliteNormalAiHandle.insert(13728, 800);
-		// sqliteNormalAiHandle.insert(13729, 750);
-		// sqliteNormalAiHandle.insert(13730, 725);
-		// sqliteNormalAiHandle.insert(13731, 700);
-		// sqliteNormalAiHandle.insert(13732, 725);
-		// sqliteNormalAiHandle.insert(13832, 10);
-		// sqliteNormalAiHandle.insert(13840, 9);
-		// sqliteNormalAiHandle.insert(13841, 10);
-		// sqliteNormalAiHandle.insert(13848, 12);
-		// sqliteNormalAiHandle.insert(13849, 13);
-		// sqliteNormalAiHandle.insert(13850, 15);
-		// sqliteNormalAiHandle.insert(13856, 15);
-		// sqliteNormalAiHandle.insert(13857, 15);
-		// sqliteNormalAiHandle.insert(13858, 210);
-		// sqliteNormalAiHandle.insert(13859, 200);
-		// sqliteNormalAiHandle.insert(13864, 15);
-		// sqliteNormalAiHandle.insert(13865, 15);
-		// sqliteNormalAiHandle.insert(13866, 200);
-		// sqliteNormalAiHandle.insert(13867, 200);
-		// sqliteNormalAiHandle.insert(13868, 250);
-		// sqliteNormalAiHandle.insert(13878, 300);
-		// sqliteNormalAiHandle.insert(13896, 100);
-		// sqliteNormalAiHandle.insert(13904, 100);
-		// sqliteNormalAiHandle.insert(13905, 550);
-		// sqliteNormalAiHandle.insert(13912, 600);
-		// sqliteNormalAiHandle.insert(13913, 550);
-		// sqliteNormalAiHandle.insert(13914, 500);
-		// sqliteNormalAiHandle.insert(13920, 600);
-		// sqliteNormalAiHandle.insert(13921, 550);
-		// sqliteNormalAiHandle.insert(13922, 500);
-		// sqliteNormalAiHandle.insert(13923, 500);
-		// sqliteNormalAiHandle.insert(13928, 100);
-		// sqliteNormalAiHandle.insert(13929, 750);
-		// sqliteNormalAiHandle.insert(13930, 750);
-		// sqliteNormalAiHandle.insert(13931, 750);
-		// sqliteNormalAiHandle.insert(13932, 800);
-		// sqliteNormalAiHandle.insert(13942, 850);
-		// sqliteNormalAiHandle.insert(13960, 950);
-		// sqliteNormalAiHandle.insert(13968, 800);
-		// sqliteNormalAiHandle.insert(13969, 700);
-		// sqliteNormalAiHandle.insert(13976, 800);
-		// sqliteNormalAiHandle.insert(13977, 710);
-		// sqliteNormalAiHandle.insert(13978, 700);
-		// sqliteNormalAiHandle.insert(13984, 800);
-		// sqliteNormalAiHandle.insert(13985, 700);
-		// sqliteNormalAiHandle.insert(13986, 700);
-		// sqliteNormalAiHandle.insert(13987, 700);
-		// sqliteNormalAiHandle.insert(13992, 950);
-		// sqliteNormalAiHandle.insert(13993, 750);
-		// sqliteNormalAiHandle.insert(13994, 750);
-		// sqliteNormalAiHandle.insert(13995, 700);
-		// sqliteNormalAiHandle.insert(13996, 750);
-		// sqliteNormalAiHandle.insert(14006, 1000);
-		// sqliteNormalAiHandle.close();
-
-		/*
-		 * Tests if everything is fine with the database.
-		 */
-		// long[] coefficient = new long[5];
-		// coefficient[0] = 1;
-		// coefficient[1] = 2;
-		// coefficient[2] = 3;
-		// coefficient[3] = 4;
-		// coefficient[4] = 5;
-		// sqliteNormalAiHandle = new NormalAISQLAdapter(this);
-		// sqliteNormalAiHandle.openToRead();
-		// Integer string = sqliteNormalAiHandle.obtainCoefficient(coefficient);
-		// Log.i("NORMALAI", "Coeff is: " + string);
-		// sqliteNormalAiHandle.close();
-
 		/*
 		 * Open Hard AI for writing.
 		 */
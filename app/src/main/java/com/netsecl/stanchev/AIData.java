@@ -0,0 +1,505 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * The data of the AIs - the coefficients of the Normal AI and the weight sets
+ * of the Hard AI neural networks - in one binary file which is mapped in
+ * memory and read in place, without a copy and without a database.
+ * 
+ * The file is little-endian. The header is the magic, the version, the length
+ * of the sections and the CRC32 checksum of the sections, each an int. Each
+ * section is a tag and the length of its body, each an int, and the body. All
+ * sections start at a multiple of 8 bytes.
+ * 
+ * The pattern section holds the number of key bits, a reserved int and one
+ * short coefficient per aperture key, as described in PatternTable. The
+ * weight section holds the number of sets and a reserved int, then for each
+ * set the sizes of the input, hidden and output layers and the number of
+ * weights as ints, the fitness and the weights as doubles, in the order of
+ * ANN3Layers.getWeights. The plus pattern section holds the coefficients of
+ * the apertures of radius 2, as described in PlusPatternTable. The file is
+ * built by AIDataBuilder.
+ * 
+ * The asset has to be stored without compression, so it can be mapped.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class AIData {
+
+	/**
+	 * Name of the data in the assets.
+	 */
+	public static final String ASSET_NAME = "ai.bin";
+
+	/**
+	 * First int of the file - "OVAI" in little-endian order.
+	 */
+	static final int MAGIC = 0x4941564F;
+
+	/**
+	 * Version of the file format.
+	 */
+	static final int VERSION = 1;
+
+	/**
+	 * Length of the header in bytes.
+	 */
+	static final int HEADER_BYTES = 16;
+
+	/**
+	 * Length of the tag and the length of a section in bytes.
+	 */
+	static final int SECTION_HEADER_BYTES = 8;
+
+	/**
+	 * Tag of the section with the coefficients of the Normal AI.
+	 */
+	static final int PATTERN_SECTION = 1;
+
+	/**
+	 * Tag of the section with the weight sets of the Hard AI.
+	 */
+	static final int WEIGHT_SECTION = 2;
+
+	/**
+	 * Tag of the section with the plus patterns of the Normal AI.
+	 */
+	static final int PLUS_PATTERN_SECTION = 3;
+
+	/**
+	 * Length of the fixed part of one weight set in bytes.
+	 */
+	static final int WEIGHT_SET_BYTES = 24;
+
+	/**
+	 * The data of the assets, or null until it is needed.
+	 */
+	private static volatile AIData instance = null;
+
+	/**
+	 * If the data of the assets can not be mapped. The failure is kept, so
+	 * the later calls do not open and check the asset again.
+	 */
+	private static volatile boolean failed = false;
+
+	/**
+	 * Tag of the log messages.
+	 */
+	private static final String TAG = "AIData";
+
+	/**
+	 * Coefficient of each aperture key.
+	 */
+	private ShortBuffer patterns = null;
+
+	/**
+	 * Number of key bits of the patterns.
+	 */
+	private int patternBits = 0;
+
+	/**
+	 * The body of the weight section, or null if there is no such section.
+	 */
+	private ByteBuffer weights = null;
+
+	/**
+	 * The body of the plus pattern section, or null if there is no such
+	 * section.
+	 */
+	private ByteBuffer plusPatterns = null;
+
+	/**
+	 * Time to map and check the data in nanoseconds.
+	 */
+	private long loadTime = 0;
+
+	/**
+	 * Used only by read.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private AIData() {
+	}
+
+	/**
+	 * Reads the data from a buffer in place. The buffer is only checked, the
+	 * values are read from it when they are needed.
+	 * 
+	 * @param buffer
+	 *            The whole file, from its position to its limit.
+	 * 
+	 * @return Returns the data.
+	 * 
+	 * @throws IOException
+	 *             If the data is not in the expected format or the checksum
+	 *             does not match.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static AIData read(ByteBuffer buffer) throws IOException {
+		ByteBuffer data = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+
+		if (data.remaining() < HEADER_BYTES || data.getInt(0) != MAGIC) {
+			throw (new IOException("Incorrect AI data!"));
+		}
+
+		if (data.getInt(4) != VERSION) {
+			throw (new IOException("Incorrect AI data version!"));
+		}
+
+		int length = data.getInt(8);
+		if (length < 0 || length > data.remaining() - HEADER_BYTES) {
+			throw (new IOException("Incorrect AI data length!"));
+		}
+
+		data.position(HEADER_BYTES);
+		data.limit(HEADER_BYTES + length);
+		if (checksum(data) != data.getInt(12)) {
+			throw (new IOException("Incorrect AI data checksum!"));
+		}
+
+		AIData result = new AIData();
+		while (data.remaining() >= SECTION_HEADER_BYTES) {
+			int tag = data.getInt();
+			int size = data.getInt();
+
+			if (size < 0 || size > data.remaining() || size % 8 != 0) {
+				throw (new IOException("Incorrect AI data section!"));
+			}
+
+			ByteBuffer body = data.slice().order(ByteOrder.LITTLE_ENDIAN);
+			body.limit(size);
+			data.position(data.position() + size);
+
+			if (tag == PATTERN_SECTION) {
+				result.patternBits = body.getInt(0);
+				if (result.patternBits != PatternTable.KEY_BITS
+						|| size < 8 + 2 * (1 << result.patternBits)) {
+					throw (new IOException("Incorrect AI data patterns!"));
+				}
+
+				body.position(8);
+				result.patterns = body.slice().order(ByteOrder.LITTLE_ENDIAN)
+						.asShortBuffer();
+			}
+
+			if (tag == WEIGHT_SECTION) {
+				result.weights = body;
+			}
+
+			if (tag == PLUS_PATTERN_SECTION) {
+				result.plusPatterns = body;
+			}
+		}
+
+		return (result);
+	}
+
+	/**
+	 * Calculates the CRC32 checksum of the remaining bytes of a buffer,
+	 * without changing its position.
+	 * 
+	 * @param buffer
+	 *            The bytes.
+	 * 
+	 * @return Returns the checksum.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	static int checksum(ByteBuffer buffer) {
+		ByteBuffer bytes = buffer.duplicate();
+		byte chunk[] = new byte[4096];
+		CRC32 crc = new CRC32();
+
+		while (bytes.hasRemaining() == true) {
+			int count = Math.min(chunk.length, bytes.remaining());
+			bytes.get(chunk, 0, count);
+			crc.update(chunk, 0, count);
+		}
+
+		return ((int) crc.getValue());
+	}
+
+	/**
+	 * Maps a data file in memory.
+	 * 
+	 * @param file
+	 *            The file.
+	 * 
+	 * @return Returns the data.
+	 * 
+	 * @throws IOException
+	 *             If the file can not be read or is not correct.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static AIData map(File file) throws IOException {
+		long begin = System.nanoTime();
+
+		FileInputStream in = new FileInputStream(file);
+		try {
+			FileChannel channel = in.getChannel();
+			AIData data = read(channel.map(FileChannel.MapMode.READ_ONLY, 0,
+					channel.size()));
+			data.loadTime = System.nanoTime() - begin;
+
+			return (data);
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Maps the data in the assets in memory. The asset is a part of the
+	 * application package, so only its part of the package is mapped.
+	 * 
+	 * @param context
+	 *            Context with the assets.
+	 * 
+	 * @return Returns the data.
+	 * 
+	 * @throws IOException
+	 *             If the asset can not be mapped or is not correct.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static AIData map(Context context) throws IOException {
+		long begin = System.nanoTime();
+
+		AssetFileDescriptor descriptor = context.getAssets().openFd(ASSET_NAME);
+		try {
+			FileInputStream in = descriptor.createInputStream();
+			try {
+				AIData data = read(in.getChannel().map(
+						FileChannel.MapMode.READ_ONLY,
+						descriptor.getStartOffset(), descriptor.getLength()));
+				data.loadTime = System.nanoTime() - begin;
+
+				return (data);
+			} finally {
+				in.close();
+			}
+		} finally {
+			descriptor.close();
+		}
+	}
+
+	/**
+	 * Gives the data of the assets, mapping it on the first call. A failed
+	 * mapping is not tried again. Safe to call from any thread.
+	 * 
+	 * @param context
+	 *            Context with the assets.
+	 * 
+	 * @return Returns the data, or null if it can not be read.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static AIData getInstance(Context context) {
+		AIData data = instance;
+
+		if (data == null && failed == false) {
+			synchronized (AIData.class) {
+				data = instance;
+
+				if (data == null && failed == false && context != null) {
+					try {
+						data = map(context);
+						instance = data;
+					} catch (IOException e) {
+						failed = true;
+						Log.w(TAG, "The AI data can not be mapped!", e);
+					}
+				}
+			}
+		}
+
+		return (data);
+	}
+
+	/**
+	 * The coefficients of the Normal AI.
+	 * 
+	 * @return Returns one coefficient per aperture key, or null if the data
+	 *         has no patterns.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public ShortBuffer getPatterns() {
+		if (patterns == null) {
+			return (null);
+		}
+
+		return (patterns.duplicate());
+	}
+
+	/**
+	 * The coefficients of the apertures of radius 2 of the Normal AI.
+	 * 
+	 * @return Returns the body of the plus pattern section, read by
+	 *         PlusPatternTable, or null if the data has no such section.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public ByteBuffer getPlusPatterns() {
+		if (plusPatterns == null) {
+			return (null);
+		}
+
+		return (plusPatterns.duplicate().order(ByteOrder.LITTLE_ENDIAN));
+	}
+
+	/**
+	 * Finds the weight set with the best fitness for a neural network.
+	 * 
+	 * @param input
+	 *            Size of the input layer.
+	 * 
+	 * @param hidden
+	 *            Size of the hidden layer.
+	 * 
+	 * @param output
+	 *            Size of the output layer.
+	 * 
+	 * @return Returns a copy of the weights, or null if there is no set for
+	 *         these sizes.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public double[] findWeights(int input, int hidden, int output) {
+		if (weights == null || weights.limit() < 8) {
+			return (null);
+		}
+
+		int sets = weights.getInt(0);
+		int best = -1;
+		int bestCount = 0;
+		double bestFitness = 0.0;
+
+		for (int s = 0, offset = 8; s < sets
+				&& offset + WEIGHT_SET_BYTES <= weights.limit(); s++) {
+			int count = weights.getInt(offset + 12);
+			double fitness = weights.getDouble(offset + 16);
+
+			if (count < 0) {
+				return (null);
+			}
+
+			if (weights.getInt(offset) == input
+					&& weights.getInt(offset + 4) == hidden
+					&& weights.getInt(offset + 8) == output
+					&& (best == -1 || fitness > bestFitness)) {
+				best = offset + WEIGHT_SET_BYTES;
+				bestCount = count;
+				bestFitness = fitness;
+			}
+
+			offset += WEIGHT_SET_BYTES + 8 * count;
+		}
+
+		if (best == -1 || best + 8 * bestCount > weights.limit()) {
+			return (null);
+		}
+
+		ByteBuffer bytes = weights.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		bytes.position(best);
+		DoubleBuffer values = bytes.slice().order(ByteOrder.LITTLE_ENDIAN)
+				.asDoubleBuffer();
+
+		double result[] = new double[bestCount];
+		values.get(result);
+
+		return (result);
+	}
+
+	/**
+	 * Time to map and check the data - the cold start of the AIs.
+	 * 
+	 * @return Returns the time in nanoseconds.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public long getLoadTime() {
+		return (loadTime);
+	}
+}
@@ -0,0 +1,1057 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Artificial Intelligence which looks ahead. Negamax alpha-beta search on the
+ * board with iterative deepening, a transposition table and move ordering by
+ * the table move, killer moves and the history heuristic. The search of one
+ * move stops when its time budget is used.
+ * 
+ * With more than one thread the search is Lazy SMP - helper threads search
+ * the same position at staggered depths and share the transposition table
+ * with the main thread, which fills it faster. The move is the one of the
+ * main thread.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class AlphaBetaAI extends AI {
+
+	/**
+	 * Default time for one move in milliseconds.
+	 */
+	public static final long DEFAULT_TIME_BUDGET = 1000;
+
+	/**
+	 * Default size of the transposition table in MB.
+	 */
+	public static final int DEFAULT_TABLE_SIZE = 4;
+
+	/**
+	 * Score of a won position. Wins in fewer moves score higher.
+	 */
+	private static final int WIN = 1000000;
+
+	/**
+	 * Larger than any score.
+	 */
+	private static final int INFINITY = WIN + 1;
+
+	/**
+	 * Deepest search, in moves from the root.
+	 */
+	private static final int MAX_PLY = 64;
+
+	/**
+	 * Scores above this one are wins in a known number of moves.
+	 */
+	private static final int WIN_BOUND = WIN - MAX_PLY;
+
+	/**
+	 * The clock and the interrupt of the thread are checked once per this many
+	 * nodes. Must be a power of two.
+	 */
+	private static final int CLOCK_CHECK_NODES = 1024;
+
+	/**
+	 * Ordering score of the move from the transposition table.
+	 */
+	private static final int TABLE_MOVE_ORDER = 1 << 30;
+
+	/**
+	 * Ordering score of the first killer move.
+	 */
+	private static final int KILLER_ORDER = 1 << 29;
+
+	/**
+	 * When a history score passes this one all history scores are halved,
+	 * so the history moves stay below the killer moves and the table move.
+	 */
+	private static final int HISTORY_LIMIT = 1 << 24;
+
+	/**
+	 * Number of the most likely replies of the other player searched while
+	 * pondering.
+	 */
+	private static final int PONDER_REPLIES = 3;
+
+	/**
+	 * Time for one move in milliseconds.
+	 */
+	private long timeBudget;
+
+	/**
+	 * Deepest iteration of the search, for searches to a fixed depth.
+	 */
+	private int depthLimit = MAX_PLY - 1;
+
+	/**
+	 * Searchers of the helper threads. Empty for a single thread search.
+	 */
+	private final AlphaBetaAI helpers[];
+
+	/**
+	 * Threads of the helpers. Created with the first search.
+	 */
+	private ExecutorService pool = null;
+
+	/**
+	 * Results of searched positions.
+	 */
+	private final TranspositionTable table;
+
+	/**
+	 * The searched position. Moves are made and taken back on it.
+	 */
+	private Board board = null;
+
+	/**
+	 * Two moves per ply which caused the last beta cutoffs.
+	 */
+	private int killers[][] = new int[MAX_PLY][2];
+
+	/**
+	 * For each cell - how much its moves caused beta cutoffs.
+	 */
+	private int history[] = null;
+
+	/**
+	 * Generated moves of each ply.
+	 */
+	private int moves[][] = null;
+
+	/**
+	 * Ordering scores of the generated moves of each ply.
+	 */
+	private int orders[][] = null;
+
+	/**
+	 * Best move found at the root in the current iteration.
+	 */
+	private int rootBest = NO_MOVE;
+
+	/**
+	 * Symmetries of the root position, used to skip symmetric moves.
+	 */
+	private int rootStabilizer = Symmetry.IDENTITY_MASK;
+
+	/**
+	 * Time at which the search has to stop, from System.nanoTime().
+	 */
+	private long deadline = 0;
+
+	/**
+	 * Set when the time budget is used, when the thread is interrupted, or by
+	 * the main thread for a helper. The unfinished iteration is dropped.
+	 */
+	private volatile boolean stopped = false;
+
+	/**
+	 * Number of positions visited by the last search.
+	 */
+	private long nodes = 0;
+
+	/**
+	 * Duration of the last search in nanoseconds.
+	 */
+	private long elapsed = 0;
+
+	/**
+	 * Depth of the last finished iteration of the last search.
+	 */
+	private int depth = 0;
+
+	/**
+	 * Score of the best move of the last finished iteration.
+	 */
+	private int score = 0;
+
+	/**
+	 * Set while pondering. Cleared by cancel to end the pondering. A cancel
+	 * which comes before the pondering starts is seen as the interrupt of
+	 * the pondering thread, as this flag is set when it starts.
+	 */
+	private volatile boolean pondering = false;
+
+	/**
+	 * Zobrist keys of the pondered positions.
+	 */
+	private final long ponderKeys[] = new long[PONDER_REPLIES];
+
+	/**
+	 * Turns of the pondered positions.
+	 */
+	private final int ponderTurns[] = new int[PONDER_REPLIES];
+
+	/**
+	 * Best moves found for the pondered positions.
+	 */
+	private final int ponderMoves[] = new int[PONDER_REPLIES];
+
+	/**
+	 * Number of the pondered positions.
+	 */
+	private int pondered = 0;
+
+	/**
+	 * Creates the AI with the default time budget and its own transposition
+	 * table.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public AlphaBetaAI() {
+		this(DEFAULT_TIME_BUDGET, new TranspositionTable(DEFAULT_TABLE_SIZE));
+	}
+
+	/**
+	 * Creates the AI.
+	 * 
+	 * @param timeBudget
+	 *            Time for one move in milliseconds.
+	 * 
+	 * @param table
+	 *            Transposition table for the search.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public AlphaBetaAI(long timeBudget, TranspositionTable table) {
+		this(timeBudget, table, 1);
+	}
+
+	/**
+	 * Creates the AI with a multi-threaded search.
+	 * 
+	 * @param timeBudget
+	 *            Time for one move in milliseconds.
+	 * 
+	 * @param table
+	 *            Transposition table shared by all threads.
+	 * 
+	 * @param threads
+	 *            Number of search threads, the calling one included.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public AlphaBetaAI(long timeBudget, TranspositionTable table, int threads) {
+		super();
+
+		if (threads < 1) {
+			throw (new IllegalArgumentException("Incorrect number of threads!"));
+		}
+
+		this.timeBudget = timeBudget;
+		this.table = table;
+
+		helpers = new AlphaBetaAI[threads - 1];
+		for (int i = 0; i < helpers.length; i++) {
+			helpers[i] = new AlphaBetaAI(timeBudget, table, 1);
+		}
+	}
+
+	/**
+	 * Changes the time for one move.
+	 * 
+	 * @param timeBudget
+	 *            Time for one move in milliseconds.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Override
+	public void setTimeBudget(long timeBudget) {
+		this.timeBudget = timeBudget;
+	}
+
+	/**
+	 * Limits the depth of the search. The search stops at the limit or at the
+	 * end of its time, whichever comes first.
+	 * 
+	 * @param depthLimit
+	 *            Deepest iteration in moves.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void setDepthLimit(int depthLimit) {
+		this.depthLimit = Math.max(1, Math.min(depthLimit, MAX_PLY - 1));
+		for (AlphaBetaAI helper : helpers) {
+			helper.depthLimit = this.depthLimit;
+		}
+	}
+
+	/**
+	 * Stops the search in progress. The search returns the best move found
+	 * so far.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Override
+	public void cancel() {
+		pondering = false;
+		stopped = true;
+		for (AlphaBetaAI helper : helpers) {
+			helper.stopped = true;
+		}
+	}
+
+	/**
+	 * Stops the helper threads. Searches after that use only the calling
+	 * thread.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public synchronized void shutdown() {
+		if (pool != null) {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Number of positions visited by the last search, in all threads.
+	 * 
+	 * @return Returns the number of nodes.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public long getNodes() {
+		return (nodes);
+	}
+
+	/**
+	 * Speed of the last search.
+	 * 
+	 * @return Returns the visited positions per second.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public long getNodesPerSecond() {
+		if (elapsed <= 0) {
+			return (0);
+		}
+
+		return (nodes * 1000000000L / elapsed);
+	}
+
+	/**
+	 * Depth of the last finished iteration of the last search.
+	 * 
+	 * @return Returns the depth in moves.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int getDepth() {
+		return (depth);
+	}
+
+	/**
+	 * Score of the move chosen by the last search, for the player on move.
+	 * 
+	 * @return Returns the score.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int getScore() {
+		return (score);
+	}
+
+	/**
+	 * Scores a position for the player on move, without looking ahead. Each
+	 * cell counts twice as much as each stone.
+	 * 
+	 * @param board
+	 *            The position.
+	 * 
+	 * @return Returns the score of the position.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static int evaluate(Board board) {
+		int who = board.getWho();
+
+		return (2 * (board.getStoneCount(who) - board.getStoneCount(-who))
+				+ board.getMass(who) - board.getMass(-who));
+	}
+
+	/**
+	 * Generates the valid moves of a ply with their ordering scores.
+	 * 
+	 * @param ply
+	 *            Distance from the root.
+	 * 
+	 * @param tableMove
+	 *            Move from the transposition table or NO_MOVE.
+	 * 
+	 * @return Returns the number of moves.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private int generate(int ply, int tableMove) {
+		int list[] = moves[ply];
+		int order[] = orders[ply];
+		int who = board.getWho();
+		boolean deployment = (board.getTurn() < Board.NUMBER_OF_DEPLOYMENT_MOVES);
+		int count = 0;
+
+		for (int cell = 0; cell < list.length; cell++) {
+			int value = board.stoneAt(cell);
+
+			if (deployment == true) {
+				if (value != Board.EMPTY_CELL) {
+					continue;
+				}
+
+				/*
+				 * Moves symmetric to an already generated one lead to
+				 * symmetric positions.
+				 */
+				if (ply == 0
+						&& Symmetry.isCanonicalMove(board.getSize(),
+								rootStabilizer, cell) == false) {
+					continue;
+				}
+			} else if (value * who <= 0) {
+				continue;
+			}
+
+			list[count] = cell;
+			if (cell == tableMove) {
+				order[count] = TABLE_MOVE_ORDER;
+			} else if (cell == killers[ply][0]) {
+				order[count] = KILLER_ORDER;
+			} else if (cell == killers[ply][1]) {
+				order[count] = KILLER_ORDER - 1;
+			} else {
+				order[count] = history[cell] + Math.abs(value);
+			}
+			count++;
+		}
+
+		return (count);
+	}
+
+	/**
+	 * Moves the move with the best ordering score to a position of the list.
+	 * 
+	 * @param ply
+	 *            Distance from the root.
+	 * 
+	 * @param from
+	 *            Position to be filled. Moves before it are already searched.
+	 * 
+	 * @param count
+	 *            Number of moves.
+	 * 
+	 * @return Returns the selected move.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private int select(int ply, int from, int count) {
+		int list[] = moves[ply];
+		int order[] = orders[ply];
+
+		int best = from;
+		for (int i = from + 1; i < count; i++) {
+			if (order[i] > order[best]) {
+				best = i;
+			}
+		}
+
+		int move = list[best];
+		list[best] = list[from];
+		list[from] = move;
+
+		int value = order[best];
+		order[best] = order[from];
+		order[from] = value;
+
+		return (move);
+	}
+
+	/**
+	 * Score from the transposition table as seen from the current ply. Wins
+	 * are stored as distance from the stored position.
+	 * 
+	 * @param score
+	 *            Score from the table.
+	 * 
+	 * @param ply
+	 *            Distance from the root.
+	 * 
+	 * @return Returns the score for the search.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static int fromTable(int score, int ply) {
+		if (score > WIN_BOUND) {
+			return (score - ply);
+		}
+		if (score < -WIN_BOUND) {
+			return (score + ply);
+		}
+
+		return (score);
+	}
+
+	/**
+	 * Score for the transposition table, see fromTable.
+	 * 
+	 * @param score
+	 *            Score from the search.
+	 * 
+	 * @param ply
+	 *            Distance from the root.
+	 * 
+	 * @return Returns the score for the table.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static int toTable(int score, int ply) {
+		if (score > WIN_BOUND) {
+			return (score + ply);
+		}
+		if (score < -WIN_BOUND) {
+			return (score - ply);
+		}
+
+		return (score);
+	}
+
+	/**
+	 * Negamax alpha-beta search of the current position.
+	 * 
+	 * @param depth
+	 *            Remaining depth in moves.
+	 * 
+	 * @param alpha
+	 *            Score the player on move is already sure of.
+	 * 
+	 * @param beta
+	 *            Score the other player is already sure of.
+	 * 
+	 * @param ply
+	 *            Distance from the root.
+	 * 
+	 * @return Returns the score of the position for the player on move.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private int search(int depth, int alpha, int beta, int ply) {
+		nodes++;
+		if ((nodes & (CLOCK_CHECK_NODES - 1)) == 0
+				&& (System.nanoTime() - deadline > 0 || Thread.currentThread()
+						.isInterrupted() == true)) {
+			stopped = true;
+		}
+		if (stopped == true) {
+			return (0);
+		}
+
+		/*
+		 * The game is over - the player who moved last has conquered all
+		 * cells.
+		 */
+		if (board.end() == true) {
+			int winner = board.getWinner();
+			return ((winner == board.getWho()) ? WIN - ply : -(WIN - ply));
+		}
+
+		if (depth <= 0 || ply >= MAX_PLY - 1) {
+			return (evaluate(board));
+		}
+
+		long key = board.getKey();
+		long data = table.probe(key);
+		int tableMove = NO_MOVE;
+
+		if (data != TranspositionTable.MISS) {
+			int move = TranspositionTable.getMove(data);
+			if (move != TranspositionTable.NO_MOVE) {
+				tableMove = move;
+			}
+
+			if (ply > 0 && TranspositionTable.getDepth(data) >= depth) {
+				int stored = fromTable(TranspositionTable.getScore(data), ply);
+				int bound = TranspositionTable.getBound(data);
+
+				if (bound == TranspositionTable.BOUND_EXACT
+						|| (bound == TranspositionTable.BOUND_LOWER && stored >= beta)
+						|| (bound == TranspositionTable.BOUND_UPPER && stored <= alpha)) {
+					return (stored);
+				}
+			}
+		}
+
+		int count = generate(ply, tableMove);
+		if (count == 0) {
+			return (evaluate(board));
+		}
+
+		int start = alpha;
+		int best = -INFINITY;
+		int bestMove = NO_MOVE;
+
+		for (int i = 0; i < count; i++) {
+			int move = select(ply, i, count);
+
+			board.makeMove(move);
+			int value = -search(depth - 1, -beta, -alpha, ply + 1);
+			board.unmakeMove();
+
+			if (stopped == true) {
+				return (0);
+			}
+
+			if (value > best) {
+				best = value;
+				bestMove = move;
+				if (ply == 0) {
+					rootBest = move;
+				}
+			}
+
+			if (value > alpha) {
+				alpha = value;
+			}
+
+			/*
+			 * The other player will not allow this position.
+			 */
+			if (alpha >= beta) {
+				if (killers[ply][0] != move) {
+					killers[ply][1] = killers[ply][0];
+					killers[ply][0] = move;
+				}
+				history[move] += depth * depth;
+				if (history[move] > HISTORY_LIMIT) {
+					for (int cell = 0; cell < history.length; cell++) {
+						history[cell] /= 2;
+					}
+				}
+				break;
+			}
+		}
+
+		int bound = TranspositionTable.BOUND_EXACT;
+		if (best <= start) {
+			bound = TranspositionTable.BOUND_UPPER;
+		} else if (best >= beta) {
+			bound = TranspositionTable.BOUND_LOWER;
+		}
+		table.store(key, bestMove, toTable(best, ply), depth, bound);
+
+		return (best);
+	}
+
+	/**
+	 * Searches a position with growing depth until the time budget is used.
+	 * 
+	 * @param position
+	 *            The position. It is searched on a copy.
+	 * 
+	 * @param deadline
+	 *            Time at which the search has to stop, from System.nanoTime().
+	 * 
+	 * @param first
+	 *            Depth of the first iteration.
+	 * 
+	 * @param main
+	 *            True for the main thread, which stops when the next
+	 *            iteration would not finish in time. Helpers search until
+	 *            they are stopped.
+	 * 
+	 * @return Returns the index of the cell of the best move or NO_MOVE.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private int deepen(Board position, long deadline, int first, boolean main) {
+		long begin = System.nanoTime();
+		int cells = position.getCellCount();
+
+		board = new Board(position.getStones(), position.getWho(),
+				position.getTurn());
+		if (history == null || history.length != cells) {
+			history = new int[cells];
+			moves = new int[MAX_PLY][cells];
+			orders = new int[MAX_PLY][cells];
+		}
+		for (int i = 0; i < cells; i++) {
+			history[i] /= 4;
+		}
+		for (int i = 0; i < MAX_PLY; i++) {
+			killers[i][0] = NO_MOVE;
+			killers[i][1] = NO_MOVE;
+		}
+
+		rootStabilizer = Symmetry.stabilizer(board);
+		this.deadline = deadline;
+		nodes = 0;
+		depth = 0;
+		score = 0;
+
+		/*
+		 * Until the first iteration ends any valid move will do.
+		 */
+		int best = NO_MOVE;
+		if (generate(0, NO_MOVE) > 0) {
+			best = moves[0][0];
+		}
+
+		for (int d = first; d <= depthLimit && best != NO_MOVE; d++) {
+			rootBest = NO_MOVE;
+			int value = search(d, -INFINITY, INFINITY, 0);
+
+			if (stopped == true) {
+				break;
+			}
+
+			best = rootBest;
+			depth = d;
+			score = value;
+
+			/*
+			 * The game is decided, or the next iteration would not finish in
+			 * the remaining time.
+			 */
+			if (Math.abs(value) > WIN_BOUND) {
+				break;
+			}
+			if (main == true
+					&& (System.nanoTime() - begin) * 2 > deadline - begin) {
+				break;
+			}
+		}
+
+		board = null;
+
+		return (best);
+	}
+
+	/**
+	 * Searches a position until the time budget is used, with the helper
+	 * threads if there are any.
+	 * 
+	 * @param board
+	 *            The position. Each thread searches its own copy.
+	 * 
+	 * @return Returns the index of the cell of the best move or NO_MOVE.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int search(final Board board) {
+		long begin = System.nanoTime();
+		final long deadline = begin + timeBudget * 1000000L;
+
+		table.newSearch();
+		stopped = false;
+
+		List<Future<Integer>> running = new ArrayList<Future<Integer>>();
+		synchronized (this) {
+			if (helpers.length > 0 && pool == null) {
+				pool = Executors.newFixedThreadPool(helpers.length,
+						new ThreadFactory() {
+							public Thread newThread(Runnable runnable) {
+								Thread thread = new Thread(runnable,
+										"AlphaBetaAI");
+								thread.setDaemon(true);
+								return (thread);
+							}
+						});
+			}
+
+			for (int i = 0; i < helpers.length && pool.isShutdown() == false; i++) {
+				final AlphaBetaAI helper = helpers[i];
+
+				/*
+				 * Every second helper is one move ahead of the main thread, so
+				 * the threads do not all search the same tree at once.
+				 */
+				final int first = 1 + (i + 1) % 2;
+
+				helper.stopped = false;
+				running.add(pool.submit(new Callable<Integer>() {
+					public Integer call() {
+						return (helper.deepen(board, deadline, first, false));
+					}
+				}));
+			}
+		}
+
+		int best = deepen(board, deadline, 1, true);
+
+		for (AlphaBetaAI helper : helpers) {
+			helper.stopped = true;
+		}
+		for (int i = 0; i < running.size(); i++) {
+			try {
+				running.get(i).get();
+				nodes += helpers[i].nodes;
+			} catch (Exception exception) {
+				/*
+				 * A failed helper only loses its share of the table entries.
+				 */
+			}
+		}
+
+		elapsed = System.nanoTime() - begin;
+
+		return (best);
+	}
+
+	/**
+	 * Finds the most likely moves of the player on move - the ones which
+	 * leave the best position for the player without looking ahead.
+	 * 
+	 * @param position
+	 *            The position. Moves are made and taken back on it.
+	 * 
+	 * @return Returns the cells of up to PONDER_REPLIES moves, the most
+	 *         likely first.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static int[] likelyMoves(Board position) {
+		int cells[] = new int[PONDER_REPLIES];
+		int scores[] = new int[PONDER_REPLIES];
+		int count = 0;
+
+		for (int cell = 0; cell < position.getCellCount(); cell++) {
+			if (position.makeMove(cell) == false) {
+				continue;
+			}
+
+			/*
+			 * Scored for the other player, who is on move now.
+			 */
+			int value = -evaluate(position);
+			if (position.end() == true) {
+				value = INFINITY;
+			}
+			position.unmakeMove();
+
+			int i = Math.min(count, PONDER_REPLIES - 1);
+			if (count == PONDER_REPLIES && value <= scores[i]) {
+				continue;
+			}
+			for (; i > 0 && scores[i - 1] < value; i--) {
+				cells[i] = cells[i - 1];
+				scores[i] = scores[i - 1];
+			}
+			cells[i] = cell;
+			scores[i] = value;
+			count = Math.min(count + 1, PONDER_REPLIES);
+		}
+
+		int moves[] = new int[count];
+		System.arraycopy(cells, 0, moves, 0, count);
+
+		return (moves);
+	}
+
+	/**
+	 * Searches the replies to the most likely moves of the other player while
+	 * the other player thinks. The best replies are kept for the next move,
+	 * and the transposition table is warm for the other moves. Runs until the
+	 * likely moves are searched, until cancel or until the thread is
+	 * interrupted. The interrupt is not cleared, so it also stops a cancel
+	 * which came before the pondering started.
+	 * 
+	 * @param board
+	 *            The position with the other player on move. It is not
+	 *            changed.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Override
+	public void ponder(Board board) {
+		pondering = true;
+		pondered = 0;
+
+		Board position = new Board(board.getStones(), board.getWho(),
+				board.getTurn());
+		int replies[] = likelyMoves(position);
+
+		for (int i = 0; i < replies.length && pondering == true
+				&& Thread.currentThread().isInterrupted() == false; i++) {
+			position.makeMove(replies[i]);
+
+			if (position.end() == false) {
+				int move = search(position);
+
+				/*
+				 * A search cut by cancel or by an interrupt is not kept.
+				 */
+				if (pondering == true
+						&& Thread.currentThread().isInterrupted() == false
+						&& move != NO_MOVE) {
+					ponderKeys[pondered] = position.getKey();
+					ponderTurns[pondered] = position.getTurn();
+					ponderMoves[pondered] = move;
+					pondered++;
+				}
+			}
+
+			position.unmakeMove();
+		}
+
+		pondering = false;
+	}
+
+	/**
+	 * Implements the move of the Artificial Intelligence.
+	 * 
+	 * @param board
+	 *            The position with the AI on move. It is not changed.
+	 * 
+	 * @return Returns the cell on which the AI will move its piece, or
+	 *         NO_MOVE.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Override
+	public int move(Board board) {
+		int move = NO_MOVE;
+
+		/*
+		 * We check if the board has been incorrectly initialized.
+		 */
+		if (board == null) {
+			return (NO_MOVE);
+		}
+
+		/*
+		 * The reply to a pondered move is already known.
+		 */
+		for (int i = 0; i < pondered; i++) {
+			if (ponderKeys[i] == board.getKey()
+					&& ponderTurns[i] == board.getTurn()) {
+				move = ponderMoves[i];
+			}
+		}
+		pondered = 0;
+
+		if (move == NO_MOVE) {
+			move = search(board);
+		}
+
+		return (move);
+	}
+}
@@ -0,0 +1,378 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+import java.io.Serializable;
+
+/**
+ * Bitboard implementation of the game logic for the default 8x8 board. The
+ * position is kept in 64-bit masks - one bit per cell with index x * 8 + y -
+ * and the overflow cascades are resolved for all cells at once with shifts and
+ * masks. It has the same move/end/getWinner contract as {@link Board}.
+ *
+ * @author Yuriy Stanchev
+ *
+ * @email i_stanchev@ml1.net
+ *
+ * @date 17 Oct 2026
+ */
+public class BitBoard implements Serializable {
+
+	/**
+	 * Cells with y == 0. Used to stop the shift to y + 1 wrapping into the
+	 * next column.
+	 */
+	private static final long FIRST_ROW = 0x0101010101010101L;
+
+	/**
+	 * Cells with y == 7. Used to stop the shift to y - 1 wrapping into the
+	 * previous column.
+	 */
+	private static final long LAST_ROW = 0x8080808080808080L;
+
+	/**
+	 * Used as a version control in the class.
+	 */
+	public static final long serialVersionUID = 1L;
+
+	/**
+	 * Cells owned by the positive player.
+	 */
+	private long positive = 0L;
+
+	/**
+	 * Cells holding a stone of size 1.
+	 */
+	private long size1 = 0L;
+
+	/**
+	 * Cells holding a stone of size 2.
+	 */
+	private long size2 = 0L;
+
+	/**
+	 * Cells holding a stone of size 3.
+	 */
+	private long size3 = 0L;
+
+	/**
+	 * First six turns players are putting stones with size of two.
+	 */
+	private int turn = 0;
+
+	/**
+	 * Use +1 for the positive player and -1 for the negative player.
+	 */
+	public int who = 0;
+
+	/**
+	 * Refills the cells in the case of "overflowing". All cells which reach
+	 * four stones are emptied in the same step and each of their neighbours
+	 * gets one stone of the player on move. The stone counts are kept as
+	 * three bit planes during the cascade, so one step costs a handful of
+	 * shifts and logical operations regardless of the number of overflowing
+	 * cells.
+	 *
+	 * @param cell
+	 *            Mask with the single bit of the cell on which the player
+	 *            moves.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	private void refill(long cell) {
+		/*
+		 * Binary planes of the stone count in each cell - count = c0 + 2 * c1
+		 * + 4 * c2. Before each step all counts are at most 3, and a cell can
+		 * get at most 4 stones from its neighbours, so three planes are
+		 * enough.
+		 */
+		long c0 = size1 | size3;
+		long c1 = size2 | size3;
+		long c2 = 0L;
+		long touched = cell;
+
+		long carry = c0 & cell;
+		c0 ^= cell;
+		c2 = c1 & carry;
+		c1 ^= carry;
+
+		while (c2 != 0L) {
+			long overflow = c2;
+
+			/*
+			 * Four stones are taken from each overflowing cell.
+			 */
+			c2 = 0L;
+
+			long up = overflow >>> 8;
+			long down = overflow << 8;
+			long left = (overflow >>> 1) & ~LAST_ROW;
+			long right = (overflow << 1) & ~FIRST_ROW;
+			touched |= up | down | left | right;
+
+			/*
+			 * Add one stone to the neighbours in each direction.
+			 */
+			carry = c0 & up;
+			c0 ^= up;
+			c2 |= c1 & carry;
+			c1 ^= carry;
+
+			carry = c0 & down;
+			c0 ^= down;
+			c2 |= c1 & carry;
+			c1 ^= carry;
+
+			carry = c0 & left;
+			c0 ^= left;
+			c2 |= c1 & carry;
+			c1 ^= carry;
+
+			carry = c0 & right;
+			c0 ^= right;
+			c2 |= c1 & carry;
+			c1 ^= carry;
+		}
+
+		size1 = c0 & ~c1;
+		size2 = c1 & ~c0;
+		size3 = c0 & c1;
+
+		/*
+		 * Every touched cell is conquered by the player on move.
+		 */
+		if (who > 0) {
+			positive |= touched;
+		} else {
+			positive &= ~touched;
+		}
+		positive &= size1 | size2 | size3;
+	}
+
+	/**
+	 * Used as class constructor. Board initialization - the board is empty and
+	 * the positive player begins first.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public BitBoard() {
+		super();
+		who = Board.POSITIVE_PLAYER;
+		turn = 0;
+	}
+
+	/**
+	 * This method is used by the game to check who has won at the end of the
+	 * game.
+	 *
+	 * @return Returns a positive or negative number from which we decide who
+	 *         has won.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public int getWinner() {
+		long occupied = size1 | size2 | size3;
+
+		if (occupied == 0L) {
+			return (0);
+		}
+
+		/*
+		 * The lowest bit is the first cell in the x, y scan order of Board.
+		 */
+		if ((positive & occupied & -occupied) != 0L) {
+			return (Board.POSITIVE_PLAYER);
+		}
+
+		return (Board.NEGATIVE_PLAYER);
+	}
+
+	/**
+	 * This will tell us how many turns between the players were made.
+	 *
+	 * @return turn Returns the number of turns taken.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public int getTurn() {
+		return (turn);
+	}
+
+	/**
+	 * Handles the movement of the stones.
+	 *
+	 * @param x
+	 *            Index of a cell in the 2 dimensional board array.
+	 *
+	 * @param y
+	 *            Index of a cell in the 2 dimensional board array.
+	 *
+	 * @param who
+	 *            Defines who will be next on the move.
+	 *
+	 * @return Returns if the stone has been moved.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public boolean move(int x, int y, int who) {
+
+		if (x < Board.BOARD_MIN_INDEX || y < Board.BOARD_MIN_INDEX) {
+			return (false);
+		}
+
+		if (x >= Board.BOARD_MAX_INDEX || y >= Board.BOARD_MAX_INDEX) {
+			return (false);
+		}
+
+		if (who == 0) {
+			who = this.who;
+		}
+
+		if (this.who != who) {
+			return (false);
+		}
+
+		long cell = 1L << (x * Board.BOARD_SIZE + y);
+		long occupied = size1 | size2 | size3;
+
+		/*
+		 * Initialization game move.
+		 */
+		if (turn < Board.NUMBER_OF_DEPLOYMENT_MOVES && (occupied & cell) == 0L) {
+			size2 |= cell;
+			if (who > 0) {
+				positive |= cell;
+			}
+			this.who = -this.who;
+			turn++;
+
+			return (true);
+		}
+
+		/*
+		 * Regular game move.
+		 */
+		long own = (who > 0) ? positive : (occupied & ~positive);
+		if (turn >= Board.NUMBER_OF_DEPLOYMENT_MOVES && (own & cell) != 0L) {
+			refill(cell);
+			this.who = -this.who;
+			turn++;
+
+			return (true);
+		}
+
+		return (false);
+	}
+
+	/**
+	 * Get the values of all stones in a newly allocated array, in the same
+	 * layout as {@link Board#getStones()}.
+	 *
+	 * @return Returns an array holding all the stones.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public int[][] getStones() {
+		int stones[][] = new int[Board.BOARD_SIZE][Board.BOARD_SIZE];
+
+		for (int i = 0, k = 0; i < Board.BOARD_SIZE; i++) {
+			for (int j = 0; j < Board.BOARD_SIZE; j++, k++) {
+				long cell = 1L << k;
+				int size = 0;
+				if ((size1 & cell) != 0L) {
+					size = 1;
+				} else if ((size2 & cell) != 0L) {
+					size = 2;
+				} else if ((size3 & cell) != 0L) {
+					size = 3;
+				}
+				stones[i][j] = ((positive & cell) != 0L) ? size : -size;
+			}
+		}
+
+		return (stones);
+	}
+
+	/**
+	 * Who's turn it is.
+	 *
+	 * @return Returns who is next to move a stone.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public int getWho() {
+		return (this.who);
+	}
+
+	/**
+	 * Decide if the game has reached it's end.
+	 *
+	 * @return Returns if all cells are occupied by the negative or the positive
+	 *         player.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public boolean end() {
+
+		if (turn < Board.NUMBER_OF_DEPLOYMENT_MOVES) {
+			return (false);
+		}
+
+		long occupied = size1 | size2 | size3;
+
+		return (positive == 0L || (occupied & ~positive) == 0L);
+	}
+}
@@ -23,7 +23,11 @@
 
 package com.netsecl.stanchev;
 
-import java.io.Serializable;
+import android.os.Parcel;
+import android.os.Parcelable;
+
+import java.util.Arrays;
+import java.util.Random;
 
 /**
  * This class is used for the game logic.
@@ -34,12 +38,18 @@ import java.io.Serializable;
  * 
  * @date 11 Mar 2012
  */
-public class Board implements Serializable {
+public class Board implements Parcelable {
+
+	/**
+	 * What kind of stones are on the board. Cell x, y is kept at index x *
+	 * size + y.
+	 */
+	private int stones[];
 
 	/**
-	 * What kind of stones are on the board.
+	 * Number of cells in one row or column of this board.
 	 */
-	private int stones[][] = new int[BOARD_SIZE][BOARD_SIZE];
+	private int size;
 
 	/**
 	 * First six turns players are putting stones with size of two.
@@ -57,10 +67,21 @@ public class Board implements Serializable {
 	public static final int BOARD_MIN_INDEX = 0;
 
 	/**
-	 * Defines the maximum board index. The board "boarder".
+	 * Defines the maximum board index of the default board. The board
+	 * "boarder".
 	 */
 	public static final int BOARD_MAX_INDEX = 8;
 
+	/**
+	 * Defines the smallest supported board size.
+	 */
+	public static final int MIN_BOARD_SIZE = 4;
+
+	/**
+	 * Defines the largest supported board size.
+	 */
+	public static final int MAX_BOARD_SIZE = 16;
+
 	/**
 	 * This is the positive player constant.
 	 */
@@ -106,268 +127,469 @@ public class Board implements Serializable {
 	 */
 	public static final int NEGATIVE_PIECE_SIZE_1 = -1;
 
-	/**
-	 * Used as a version control in the class.
-	 */
-	public static final long serialVersionUID = 1L;
-
 	/**
 	 * Defines the number of initial turns, first 6 (default) turns are with
 	 * size 2. 3 from negative and 3 from positive player.
 	 */
 	public static final int NUMBER_OF_DEPLOYMENT_MOVES = 6;
 
+	/**
+	 * Cell index which stands for no move.
+	 */
+	public static final int NO_MOVE = -1;
+
+	/**
+	 * Number of bytes before the cells in the binary form of the board - size,
+	 * player on move and four bytes of the turn.
+	 */
+	private static final int HEADER_BYTES = 6;
+
+	/**
+	 * Recreates boards passed in an Intent or saved in the instance state of
+	 * an Activity.
+	 */
+	public static final Parcelable.Creator<Board> CREATOR = new Parcelable.Creator<Board>() {
+		public Board createFromParcel(Parcel source) {
+			return (fromBytes(source.createByteArray()));
+		}
+
+		public Board[] newArray(int size) {
+			return (new Board[size]);
+		}
+	};
+
 	/**
 	 * Use +1 for the positive player and -1 for the negative player.
 	 */
 	public int who = 0;
 
 	/**
-	 * Refills the cells in the case of "overflowing". Handles the logic used
-	 * for setting the stones.
-	 * 
-	 * @param x
-	 *            index of a cell in the 2 dimensional board array.
+	 * Number of different cell values - from NEGATIVE_PIECE_SIZE_3 to
+	 * POSITIVE_PIECE_SIZE_3.
+	 */
+	private static final int CELL_VALUES = 7;
+
+	/**
+	 * Random keys of each cell value in each cell. The keys of the empty
+	 * cells are zero, so the key of the empty board is zero. The seed is
+	 * fixed, so keys can be stored and compared between runs.
+	 */
+	private static final long ZOBRIST[] = new long[MAX_BOARD_SIZE
+			* MAX_BOARD_SIZE * CELL_VALUES];
+
+	/**
+	 * Random key of the negative player being on move.
+	 */
+	private static final long ZOBRIST_NEGATIVE;
+
+	/**
+	 * Neighbour tables of each board size, built when the first board of the
+	 * size is created. The neighbours of cell c are NEIGHBOURS[size][k] for k
+	 * from NEIGHBOUR_START[size][c] to NEIGHBOUR_START[size][c + 1] - 1.
+	 */
+	private static final int NEIGHBOUR_START[][] = new int[MAX_BOARD_SIZE + 1][];
+
+	/**
+	 * See NEIGHBOUR_START.
+	 */
+	private static final int NEIGHBOURS[][] = new int[MAX_BOARD_SIZE + 1][];
+
+	/**
+	 * Neighbour table of the default board, ready before any board is created.
+	 */
+	private static final int DEFAULT_NEIGHBOUR_START[];
+
+	/**
+	 * Neighbour table of the default board, ready before any board is created.
+	 */
+	private static final int DEFAULT_NEIGHBOURS[];
+
+	static {
+		Random random = new Random(0x0F10F10F10L);
+
+		for (int i = 0; i < ZOBRIST.length; i++) {
+			if (i % CELL_VALUES != CELL_VALUES / 2) {
+				ZOBRIST[i] = random.nextLong();
+			}
+		}
+
+		ZOBRIST_NEGATIVE = random.nextLong();
+
+		buildNeighbours(BOARD_SIZE);
+		DEFAULT_NEIGHBOUR_START = NEIGHBOUR_START[BOARD_SIZE];
+		DEFAULT_NEIGHBOURS = NEIGHBOURS[BOARD_SIZE];
+	}
+
+	/**
+	 * Neighbour table of the size of this board, see NEIGHBOUR_START.
+	 */
+	private int neighbourStart[] = null;
+
+	/**
+	 * Neighbour table of the size of this board, see NEIGHBOURS.
+	 */
+	private int neighbours[] = null;
+
+	/**
+	 * Zobrist key of the position - the cells and the player on move. It is
+	 * updated with the cells changed by each move.
+	 */
+	private long key = 0L;
+
+	/**
+	 * If the Zobrist key is updated by the moves. Cleared only by the offline
+	 * measurements, to get the cost of a move without the key.
+	 */
+	boolean hashed = true;
+
+	/**
+	 * Number of cells owned by the positive player.
+	 */
+	private int positiveStones = 0;
+
+	/**
+	 * Number of cells owned by the negative player.
+	 */
+	private int negativeStones = 0;
+
+	/**
+	 * Sum of the stones of the positive player.
+	 */
+	private int positiveMass = 0;
+
+	/**
+	 * Sum of the stones of the negative player.
+	 */
+	private int negativeMass = 0;
+
+	/**
+	 * One bit per cell for the cells of the negative player, followed by one
+	 * bit per cell for the cells of the positive player. The empty cells are
+	 * the cells in neither mask.
+	 */
+	private long cellMasks[] = null;
+
+	/**
+	 * Number of long words in one mask.
+	 */
+	private int maskWords = 0;
+
+	/**
+	 * Set by the refill when the player on move conquers the last cell of the
+	 * other player.
+	 */
+	private boolean decided = false;
+
+	/**
+	 * Cells waiting to overflow. Used as a ring buffer by the refill, so the
+	 * cascade is resolved without recursion and without allocations.
+	 */
+	private int queue[] = null;
+
+	/**
+	 * Cells changed by the made moves, followed by the cells changed by the
+	 * current move. Each cell is written once per move.
+	 */
+	private int undoCells[] = null;
+
+	/**
+	 * Values of the journaled cells before the move which changed them.
+	 */
+	private int undoValues[] = null;
+
+	/**
+	 * Start of the journal entries of each made move.
+	 */
+	private int undoFrames[] = null;
+
+	/**
+	 * Number of the move which last journaled each cell.
+	 */
+	private int marks[] = null;
+
+	/**
+	 * Number of the current move, used to journal each cell only once.
+	 */
+	private int stamp = 0;
+
+	/**
+	 * Number of journal entries which belong to the made moves.
+	 */
+	private int undoTop = 0;
+
+	/**
+	 * Journal write position of the current move.
+	 */
+	private int journal = 0;
+
+	/**
+	 * Number of made moves which can be taken back.
+	 */
+	private int frames = 0;
+
+	/**
+	 * Builds the neighbour table of a board size. The cells on the margins of
+	 * the board simply have fewer neighbours, so the refill needs no bounds
+	 * checks.
 	 * 
-	 * @param y
-	 *            index of a cell in the 2 dimensional board array.
+	 * @param size
+	 *            Number of cells in one row or column.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
 	 * @email i_stanchev@ml1.net
 	 * 
-	 * @date 11 Mar 2012
+	 * @date 17 Oct 2026
 	 */
-	private void refill(int x, int y) {
-		/*
-		 * Case of overflowing outside the margins of the board.
-		 */
-
-		if (x < BOARD_MIN_INDEX) {
-			return;
-		}
-
-		if (y < BOARD_MIN_INDEX) {
+	private static synchronized void buildNeighbours(int size) {
+		if (NEIGHBOURS[size] != null) {
 			return;
 		}
 
-		if (x >= BOARD_MAX_INDEX) {
-			return;
-		}
+		int start[] = new int[size * size + 1];
+		int list[] = new int[4 * size * size];
+		int k = 0;
 
-		if (y >= BOARD_MAX_INDEX) {
-			return;
-		}
+		for (int x = 0, cell = 0; x < size; x++) {
+			for (int y = 0; y < size; y++, cell++) {
+				start[cell] = k;
 
-		/*
-		 * If the value of a cell is positive and it is negatives players turn -
-		 * we change the value of the cell.
-		 */
-		if (stones[x][y] > 0 && who < 0) {
-			stones[x][y] = -stones[x][y];
-		}
-		/*
-		 * Analogical, but for the other player.
-		 */
-		if (stones[x][y] < 0 && who > 0) {
-			stones[x][y] = -stones[x][y];
+				if (x > BOARD_MIN_INDEX) {
+					list[k++] = cell - size;
+				}
+				if (y > BOARD_MIN_INDEX) {
+					list[k++] = cell - 1;
+				}
+				if (x + 1 < size) {
+					list[k++] = cell + size;
+				}
+				if (y + 1 < size) {
+					list[k++] = cell + 1;
+				}
+			}
 		}
+		start[size * size] = k;
 
-		stones[x][y] += who;
-
-		// TODO May be it can be more than 4.
-		int amount = Math.abs(stones[x][y]);
-		if (amount < 4) {
-			return;
-		} else if (amount == 4) {
-			stones[x][y] = EMPTY_CELL;
-
-			refill(x - 1, y);
-			refill(x, y - 1);
-			refill(x + 1, y);
-			refill(x, y + 1);
-		} else {
-			System.err.println("More than four stones in the cell!!!");
-		}
+		NEIGHBOUR_START[size] = start;
+		NEIGHBOURS[size] = Arrays.copyOf(list, k);
 	}
 
 	/**
-	 * Used as class constructor. Board initialization - sets all stones to 0
-	 * and defines who will begin first.
+	 * Takes the neighbour tables of the size of this board. The tables of the
+	 * default board are always ready, the others are built once per size.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
 	 * @email i_stanchev@ml1.net
 	 * 
-	 * @date 11 Mar 2012
+	 * @date 17 Oct 2026
 	 */
-	public Board() {
-		super();
-		who = POSITIVE_PLAYER;
-		turn = 0;
-		for (int i = 0; i < stones.length; i++) {
-			for (int j = 0; j < stones[i].length; j++) {
-				stones[i][j] = EMPTY_CELL;
-			}
+	private void attachNeighbours() {
+		if (size == BOARD_SIZE) {
+			neighbourStart = DEFAULT_NEIGHBOUR_START;
+			neighbours = DEFAULT_NEIGHBOURS;
+			return;
 		}
+
+		buildNeighbours(size);
+		neighbourStart = NEIGHBOUR_START[size];
+		neighbours = NEIGHBOURS[size];
 	}
 
 	/**
-	 * This method is used by the game to check who has won at the end of the
-	 * game.
-	 * 
-	 * @return Returns a positive or negative number from which we decide who
-	 *         has won.
+	 * Prepares the journal for a new move. The arrays grow only when the
+	 * made moves fill them, so a search reuses the same memory for all nodes.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
 	 * @email i_stanchev@ml1.net
 	 * 
-	 * @date 08 Apr 2012
+	 * @date 17 Oct 2026
 	 */
-	public int getWinner() {
-		for (int i = 0; i < stones.length; i++) {
-			for (int j = 0; j < stones[i].length; j++) {
-				if (stones[i][j] != EMPTY_CELL) {
-					return (stones[i][j] / Math.abs(stones[i][j]));
-				}
-			}
+	private void prepareJournal() {
+		int cells = stones.length;
+
+		if (undoCells == null) {
+			undoCells = new int[4 * cells];
+			undoValues = new int[4 * cells];
+			undoFrames = new int[16];
+			marks = new int[cells];
+			stamp = 0;
+			undoTop = 0;
+			frames = 0;
 		}
 
-		return (0);
+		if (undoCells.length - undoTop < cells) {
+			undoCells = Arrays.copyOf(undoCells, 2 * undoCells.length);
+			undoValues = Arrays.copyOf(undoValues, 2 * undoValues.length);
+		}
+
+		stamp++;
+		if (stamp == 0) {
+			Arrays.fill(marks, 0);
+			stamp = 1;
+		}
+
+		journal = undoTop;
 	}
 
 	/**
-	 * This will tell us how many turns between the players were made.
+	 * Journals the value of a cell before the current move changes it.
 	 * 
-	 * @return turn Returns the number of turns taken.
+	 * @param cell
+	 *            Index x * size + y of the cell.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
 	 * @email i_stanchev@ml1.net
 	 * 
-	 * @date 11 Mar 2012
+	 * @date 17 Oct 2026
 	 */
-	public int getTurn() {
-		return (turn);
+	private void record(int cell) {
+		if (marks[cell] != stamp) {
+			marks[cell] = stamp;
+			undoCells[journal] = cell;
+			undoValues[journal] = stones[cell];
+			journal++;
+		}
 	}
 
 	/**
-	 * Handles the movement of the stones.
-	 * 
-	 * @param x
-	 *            Index of a cell in the 2 dimensional board array.
+	 * Puts one stone of the player on move in a cell. The cell is conquered
+	 * if it belongs to the other player.
 	 * 
-	 * @param y
-	 *            Index of a cell in the 2 dimensional board array.
-	 * 
-	 * @param who
-	 *            Defines who will be next on the move.
+	 * @param cell
+	 *            Index x * size + y of the cell.
 	 * 
-	 * @return Returns if the stone has been moved.
+	 * @return Returns true if the cell has just reached four stones.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
 	 * @email i_stanchev@ml1.net
 	 * 
-	 * @date 11 Mar 2012
+	 * @date 17 Oct 2026
 	 */
-	public boolean move(int x, int y, int who) {
-
-		if (x < BOARD_MIN_INDEX) {
-			return (false);
-		}
-
-		if (y < BOARD_MIN_INDEX) {
-			return (false);
-		}
-
-		if (x >= BOARD_MAX_INDEX) {
-			return (false);
-		}
-
-		if (y >= BOARD_MAX_INDEX) {
-			return (false);
-		}
-
-		if (who == 0) {
-			who = this.who;
-		}
+	private boolean add(int cell) {
+		record(cell);
 
-		if (this.who != who) {
-			return (false);
-		}
+		int value = stones[cell];
+		boolean conquered = (value * who < 0);
 
 		/*
-		 * Initialization game move.
+		 * If the cell belongs to the other player we change the value of the
+		 * cell.
 		 */
-		if (turn < NUMBER_OF_DEPLOYMENT_MOVES && stones[x][y] == EMPTY_CELL) {
-			stones[x][y] = 2 * who;
-			this.who = -this.who;
-			turn++;
-
-			return (true);
+		if (conquered == true) {
+			value = -value;
 		}
 
+		value += who;
+		set(cell, value);
+
 		/*
-		 * Regular game move.
+		 * The last cell of the other player has been conquered.
 		 */
-		if (turn >= NUMBER_OF_DEPLOYMENT_MOVES && stones[x][y] != EMPTY_CELL
-				&& stones[x][y] / Math.abs(stones[x][y]) == who) {
-			refill(x, y);
-			this.who = -this.who;
-			turn++;
-
-			return (true);
+		if (conquered == true
+				&& (who > 0 ? negativeStones : positiveStones) == 0) {
+			decided = true;
 		}
 
-		return (false);
+		return (value == 4 * who);
 	}
 
 	/**
-	 * Get the values of all stones in a cloned array.
+	 * Changes the value of a cell and keeps the stone counters up to date.
 	 * 
-	 * @return Returns a clone of the array holding all the stones.
+	 * @param cell
+	 *            Index x * size + y of the cell.
+	 * 
+	 * @param value
+	 *            New value of the cell.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
 	 * @email i_stanchev@ml1.net
 	 * 
-	 * @date 11 Mar 2012
+	 * @date 17 Oct 2026
 	 */
-	public int[][] getStones() {
-		int stones[][] = new int[this.stones.length][];
+	private void set(int cell, int value) {
+		int old = stones[cell];
 
-		for (int i = 0; i < this.stones.length; i++) {
-			stones[i] = new int[this.stones[i].length];
+		if (old > 0) {
+			positiveStones--;
+			positiveMass -= old;
+		} else if (old < 0) {
+			negativeStones--;
+			negativeMass += old;
+		}
 
-			for (int j = 0; j < this.stones[i].length; j++) {
-				stones[i][j] = this.stones[i][j];
-			}
+		if (value > 0) {
+			positiveStones++;
+			positiveMass += value;
+		} else if (value < 0) {
+			negativeStones++;
+			negativeMass -= value;
 		}
-		return (stones);
+
+		stones[cell] = value;
+
+		/*
+		 * A cell which changes its owner moves to the mask of the new owner.
+		 * The sign bits tell which masks change, so there are no branches.
+		 */
+		int word = cell >>> 6;
+		cellMasks[word] ^= (long) ((old ^ value) >>> 31) << cell;
+		cellMasks[maskWords + word] ^= (long) ((-old ^ -value) >>> 31) << cell;
 	}
 
 	/**
-	 * Who's turn it is.
-	 * 
-	 * @return Returns who is next to move a stone.
+	 * Calculates the stone counters and the cell masks from all cells.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
 	 * @email i_stanchev@ml1.net
 	 * 
-	 * @date 11 Mar 2012
+	 * @date 17 Oct 2026
 	 */
-	public int getWho() {
-		return (this.who);
+	private void countStones() {
+		positiveStones = 0;
+		negativeStones = 0;
+		positiveMass = 0;
+		negativeMass = 0;
+
+		if (cellMasks == null) {
+			maskWords = (stones.length + 63) >>> 6;
+			cellMasks = new long[2 * maskWords];
+		}
+		Arrays.fill(cellMasks, 0L);
+
+		for (int cell = 0; cell < stones.length; cell++) {
+			if (stones[cell] > 0) {
+				positiveStones++;
+				positiveMass += stones[cell];
+				cellMasks[maskWords + (cell >>> 6)] |= 1L << cell;
+			} else if (stones[cell] < 0) {
+				negativeStones++;
+				negativeMass -= stones[cell];
+				cellMasks[cell >>> 6] |= 1L << cell;
+			}
+		}
 	}
 
 	/**
-	 * Decide if the game has reached it's end.
+	 * Refills the cells in the case of "overflowing". Handles the logic used
+	 * for setting the stones.
 	 * 
-	 * @return Returns if all cells are occupied by the negative or the positive
-	 *         player.
+	 * A cell is in the queue exactly while it holds four or more stones, so
+	 * the queue never needs more places than there are cells. The order in
+	 * which the cells overflow does not change the final position.
+	 * 
+	 * Once the last cell of the other player is conquered the game is decided
+	 * and the cascade stops. The cells still waiting in the queue lose their
+	 * overflowing stones without passing them to the neighbours.
+	 * 
+	 * @param cell
+	 *            Index x * size + y of the cell.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
@@ -375,27 +597,870 @@ public class Board implements Serializable {
 	 * 
 	 * @date 11 Mar 2012
 	 */
-	public boolean end() {
+	private void refill(int cell) {
+		if (queue == null) {
+			queue = new int[stones.length];
+		}
 
-		if (turn < NUMBER_OF_DEPLOYMENT_MOVES) {
-			return (false);
+		int start[] = neighbourStart;
+		int list[] = neighbours;
+		int head = 0;
+		int tail = 0;
+		int waiting = 0;
+		decided = false;
+
+		if (add(cell) == true) {
+			queue[tail++] = cell;
+			waiting++;
 		}
 
-		boolean hasNegative = false;
-		boolean hasPositive = false;
+		while (waiting > 0 && decided == false) {
+			cell = queue[head];
+			head = (head + 1 == queue.length) ? 0 : head + 1;
+			waiting--;
 
-		for (int j = 0; j < BOARD_SIZE; j++) {
-			for (int i = 0; i < BOARD_SIZE; i++) {
-				if (stones[i][j] < 0) {
-					hasNegative = true;
-				}
+			/*
+			 * Four stones overflow to the neighbours. The ones overflowing
+			 * outside the margins of the board are lost.
+			 */
+			set(cell, stones[cell] - 4 * who);
 
-				if (stones[i][j] > 0) {
-					hasPositive = true;
+			for (int k = start[cell], end = start[cell + 1]; k < end; k++) {
+				if (add(list[k]) == true) {
+					queue[tail] = list[k];
+					tail = (tail + 1 == queue.length) ? 0 : tail + 1;
+					waiting++;
 				}
 			}
+
+			/*
+			 * The cell got new stones while it was waiting in the queue.
+			 */
+			if (stones[cell] * who >= 4) {
+				queue[tail] = cell;
+				tail = (tail + 1 == queue.length) ? 0 : tail + 1;
+				waiting++;
+			}
+		}
+
+		for (; waiting > 0; waiting--) {
+			cell = queue[head];
+			head = (head + 1 == queue.length) ? 0 : head + 1;
+
+			while (stones[cell] * who >= 4) {
+				set(cell, stones[cell] - 4 * who);
+			}
+		}
+	}
+
+	/**
+	 * Loads the given values of the cells and plays a cascade from one of them
+	 * with the refill of the board, for the offline measurements. The stone
+	 * counters are rebuilt, the changed cells are journaled as in a move, but
+	 * the key, the turn and the player on move stay as they are and the move
+	 * can not be taken back.
+	 * 
+	 * @param values
+	 *            Values of the cells, index x * size + y.
+	 * 
+	 * @param cell
+	 *            Index x * size + y of the played cell.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	void refill(int values[], int cell) {
+		System.arraycopy(values, 0, stones, 0, stones.length);
+		countStones();
+		prepareJournal();
+		refill(cell);
+	}
+
+	/**
+	 * Used as class constructor. Board initialization - sets all stones to 0
+	 * and defines who will begin first.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 11 Mar 2012
+	 */
+	public Board() {
+		this(BOARD_SIZE);
+	}
+
+	/**
+	 * Creates an empty board with a given size.
+	 * 
+	 * @param size
+	 *            Number of cells in one row or column, from MIN_BOARD_SIZE to
+	 *            MAX_BOARD_SIZE.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public Board(int size) {
+		super();
+
+		if (size < MIN_BOARD_SIZE || size > MAX_BOARD_SIZE) {
+			throw (new IllegalArgumentException("Incorrect board size!"));
+		}
+
+		this.size = size;
+		stones = new int[size * size];
+		who = POSITIVE_PLAYER;
+		turn = 0;
+		attachNeighbours();
+		countStones();
+	}
+
+	/**
+	 * Creates a board with a known position. The size of the board is taken
+	 * from the array.
+	 * 
+	 * @param stones
+	 *            Values of the cells in the 2 dimensional board array. The
+	 *            array is copied.
+	 * 
+	 * @param who
+	 *            Defines who will be next on the move.
+	 * 
+	 * @param turn
+	 *            Number of turns taken until now.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public Board(int stones[][], int who, int turn) {
+		this(stones.length);
+		this.who = who;
+		this.turn = turn;
+		for (int i = 0; i < size; i++) {
+			System.arraycopy(stones[i], 0, this.stones, i * size, size);
+		}
+		key = computeKey();
+		countStones();
+	}
+
+	/**
+	 * This method is used by the game to check who has won at the end of the
+	 * game.
+	 * 
+	 * @return Returns a positive or negative number from which we decide who
+	 *         has won, or 0 while both players have stones.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 08 Apr 2012
+	 */
+	public int getWinner() {
+		if (negativeStones == 0 && positiveStones > 0) {
+			return (POSITIVE_PLAYER);
+		}
+
+		if (positiveStones == 0 && negativeStones > 0) {
+			return (NEGATIVE_PLAYER);
+		}
+
+		return (0);
+	}
+
+	/**
+	 * Number of cells owned by a player.
+	 * 
+	 * @param who
+	 *            POSITIVE_PLAYER or NEGATIVE_PLAYER.
+	 * 
+	 * @return Returns the number of cells of the player.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int getStoneCount(int who) {
+		return ((who > 0) ? positiveStones : negativeStones);
+	}
+
+	/**
+	 * Sum of the stones of a player.
+	 * 
+	 * @param who
+	 *            POSITIVE_PLAYER or NEGATIVE_PLAYER.
+	 * 
+	 * @return Returns the sum of the stone sizes of the player.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int getMass(int who) {
+		return ((who > 0) ? positiveMass : negativeMass);
+	}
+
+	/**
+	 * This will tell us how many turns between the players were made.
+	 * 
+	 * @return turn Returns the number of turns taken.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 11 Mar 2012
+	 */
+	public int getTurn() {
+		return (turn);
+	}
+
+	/**
+	 * Number of cells in one row or column of the board.
+	 * 
+	 * @return Returns the board size.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int getSize() {
+		return (size);
+	}
+
+	/**
+	 * Number of all cells of the board. Cell indices are from 0 to this number
+	 * minus one.
+	 * 
+	 * @return Returns size * size.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int getCellCount() {
+		return (stones.length);
+	}
+
+	/**
+	 * Number of valid moves of the player on move - the empty cells during
+	 * the deployment and the own cells after it. Kept up to date by the moves,
+	 * so it costs nothing.
+	 * 
+	 * @return Returns the number of valid moves.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int getValidMoveCount() {
+		if (turn < NUMBER_OF_DEPLOYMENT_MOVES) {
+			return (stones.length - positiveStones - negativeStones);
+		}
+
+		return ((who > 0) ? positiveStones : negativeStones);
+	}
+
+	/**
+	 * One of the valid moves of the player on move, in the order of the
+	 * cells. The cell is found in the mask of the valid moves with one step
+	 * per word and one step per lower cell in the word.
+	 * 
+	 * @param index
+	 *            From 0 to getValidMoveCount() - 1.
+	 * 
+	 * @return Returns the index x * size + y of the cell of the move.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int getValidMove(int index) {
+		if (index < 0 || index >= getValidMoveCount()) {
+			throw (new IllegalArgumentException("Incorrect move index!"));
+		}
+
+		boolean deployment = (turn < NUMBER_OF_DEPLOYMENT_MOVES);
+
+		for (int word = 0;; word++) {
+			long bits;
+			if (deployment == true) {
+				bits = ~(cellMasks[word] | cellMasks[maskWords + word]);
+
+				/*
+				 * The bits after the last cell are not empty cells.
+				 */
+				if (stones.length - (word << 6) < 64) {
+					bits &= (1L << stones.length) - 1;
+				}
+			} else {
+				bits = cellMasks[(who > 0) ? maskWords + word : word];
+			}
+
+			int count = Long.bitCount(bits);
+
+			if (index < count) {
+				for (; index > 0; index--) {
+					bits &= bits - 1;
+				}
+
+				return ((word << 6) + Long.numberOfTrailingZeros(bits));
+			}
+
+			index -= count;
+		}
+	}
+
+	/**
+	 * Selects a valid move of the player on move with equal probability,
+	 * with a single random number.
+	 * 
+	 * @param random
+	 *            Source of the random number.
+	 * 
+	 * @return Returns the index x * size + y of the cell of the move, or
+	 *         NO_MOVE if there is no valid move.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int randomMove(Random random) {
+		int count = getValidMoveCount();
+
+		if (count == 0) {
+			return (NO_MOVE);
+		}
+
+		return (getValidMove(random.nextInt(count)));
+	}
+
+	/**
+	 * Handles the movement of the stones.
+	 * 
+	 * @param x
+	 *            index of a cell in the 2 dimensional board array.
+	 * 
+	 * @param y
+	 *            index of a cell in the 2 dimensional board array.
+	 * 
+	 * @param who
+	 *            Defines who will be next on the move.
+	 * 
+	 * @return Returns if the stone has been moved.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 11 Mar 2012
+	 */
+	public boolean move(int x, int y, int who) {
+
+		if (x < BOARD_MIN_INDEX) {
+			return (false);
+		}
+
+		if (y < BOARD_MIN_INDEX) {
+			return (false);
+		}
+
+		if (x >= size) {
+			return (false);
+		}
+
+		if (y >= size) {
+			return (false);
+		}
+
+		if (who == 0) {
+			who = this.who;
+		}
+
+		if (this.who != who) {
+			return (false);
+		}
+
+		return (play(x * size + y));
+	}
+
+	/**
+	 * Moves the player on move in a cell. Like {@link #move(int, int, int)},
+	 * the move can not be taken back.
+	 * 
+	 * @param cell
+	 *            Index x * size + y of the cell, or NO_MOVE.
+	 * 
+	 * @return Returns if the stone has been moved.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public boolean move(int cell) {
+		if (cell < 0 || cell >= stones.length) {
+			return (false);
+		}
+
+		return (play(cell));
+	}
+
+	/**
+	 * Plays the player on move in a cell, if the move is valid.
+	 * 
+	 * @param cell
+	 *            Index x * size + y of the cell.
+	 * 
+	 * @return Returns if the stone has been moved.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private boolean play(int cell) {
+		/*
+		 * Initialization game move.
+		 */
+		if (turn < NUMBER_OF_DEPLOYMENT_MOVES && stones[cell] == EMPTY_CELL) {
+			prepareJournal();
+			record(cell);
+			set(cell, 2 * who);
+			finishMove();
+
+			return (true);
+		}
+
+		/*
+		 * Regular game move.
+		 */
+		if (turn >= NUMBER_OF_DEPLOYMENT_MOVES && stones[cell] * who > 0) {
+			prepareJournal();
+			refill(cell);
+			finishMove();
+
+			return (true);
+		}
+
+		return (false);
+	}
+
+	/**
+	 * Calculates the Zobrist key of the position from all cells.
+	 * 
+	 * @return Returns the key of the position.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	long computeKey() {
+		long key = (who < 0) ? ZOBRIST_NEGATIVE : 0L;
+
+		for (int cell = 0; cell < stones.length; cell++) {
+			key ^= ZOBRIST[cell * CELL_VALUES + stones[cell] + 3];
+		}
+
+		return (key);
+	}
+
+	/**
+	 * Calculates the Zobrist key the position would have with its cells moved
+	 * to other places, for example by a symmetry of the board.
+	 * 
+	 * @param permutation
+	 *            New index of each cell.
+	 * 
+	 * @return Returns the key of the moved position.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	long computeKey(int permutation[]) {
+		long key = (who < 0) ? ZOBRIST_NEGATIVE : 0L;
+
+		for (int cell = 0; cell < stones.length; cell++) {
+			key ^= ZOBRIST[permutation[cell] * CELL_VALUES + stones[cell] + 3];
+		}
+
+		return (key);
+	}
+
+	/**
+	 * Updates the Zobrist key with the cells journaled by the current move and
+	 * passes the move to the other player.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private void finishMove() {
+		for (int k = undoTop; k < journal && hashed == true; k++) {
+			int cell = undoCells[k];
+			key ^= ZOBRIST[cell * CELL_VALUES + undoValues[k] + 3]
+					^ ZOBRIST[cell * CELL_VALUES + stones[cell] + 3];
+		}
+
+		key ^= ZOBRIST_NEGATIVE;
+		this.who = -this.who;
+		turn++;
+	}
+
+	/**
+	 * Zobrist key of the position. Equal positions with the same player on
+	 * move have equal keys.
+	 * 
+	 * @return Returns the 64-bit key of the position.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public long getKey() {
+		return (key);
+	}
+
+	/**
+	 * Makes a move which can be taken back with {@link #unmakeMove()}. Only
+	 * the cells changed by the move are journaled, so a search can walk any
+	 * number of positions on one board without allocations. Moves made with
+	 * {@link #move(int, int, int)} can not be taken back.
+	 * 
+	 * @param cell
+	 *            Index x * size + y of the cell.
+	 * 
+	 * @return Returns if the stone has been moved.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public boolean makeMove(int cell) {
+		if (cell < 0 || cell >= stones.length) {
+			return (false);
+		}
+
+		if (play(cell) == false) {
+			return (false);
+		}
+
+		if (frames == undoFrames.length) {
+			undoFrames = Arrays.copyOf(undoFrames, 2 * undoFrames.length);
+		}
+		undoFrames[frames++] = undoTop;
+		undoTop = journal;
+
+		return (true);
+	}
+
+	/**
+	 * Takes back the last move made with {@link #makeMove(int)}.
+	 * 
+	 * @return Returns false if there is no move to be taken back.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public boolean unmakeMove() {
+		if (frames == 0) {
+			return (false);
+		}
+
+		int start = undoFrames[--frames];
+		for (int k = undoTop - 1; k >= start; k--) {
+			int cell = undoCells[k];
+			key ^= ZOBRIST[cell * CELL_VALUES + stones[cell] + 3]
+					^ ZOBRIST[cell * CELL_VALUES + undoValues[k] + 3];
+			set(cell, undoValues[k]);
+		}
+		undoTop = start;
+
+		key ^= ZOBRIST_NEGATIVE;
+		who = -who;
+		turn--;
+
+		return (true);
+	}
+
+	/**
+	 * Get the values of all stones in a cloned array.
+	 * 
+	 * @return Returns a clone of the array holding all the stones.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 11 Mar 2012
+	 */
+	public int[][] getStones() {
+		return (copyStones(null));
+	}
+
+	/**
+	 * Value of one cell, read directly from the board without copying.
+	 * 
+	 * @param x
+	 *            index of a cell in the 2 dimensional board array.
+	 * 
+	 * @param y
+	 *            index of a cell in the 2 dimensional board array.
+	 * 
+	 * @return Returns the signed number of stones in the cell.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int stoneAt(int x, int y) {
+		return (stones[x * size + y]);
+	}
+
+	/**
+	 * Value of one cell, read directly from the board without copying.
+	 * 
+	 * @param cell
+	 *            Index x * size + y of the cell.
+	 * 
+	 * @return Returns the signed number of stones in the cell.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int stoneAt(int cell) {
+		return (stones[cell]);
+	}
+
+	/**
+	 * Copies the values of all stones in an array given by the caller. Used
+	 * when the values have to be changed without changing the board.
+	 * 
+	 * @param buffer
+	 *            Array to be filled. A new one is allocated if it is null or
+	 *            of a different size.
+	 * 
+	 * @return Returns the filled array.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int[][] copyStones(int buffer[][]) {
+		if (buffer == null || buffer.length != size) {
+			buffer = new int[size][size];
+		}
+
+		for (int i = 0; i < size; i++) {
+			System.arraycopy(stones, i * size, buffer[i], 0, size);
+		}
+
+		return (buffer);
+	}
+
+	/**
+	 * Writes the board in its binary form - the size, the player on move, the
+	 * turn and one nibble per cell with the cell value plus 3. The default
+	 * board takes 38 bytes.
+	 * 
+	 * @return Returns the bytes of the board.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public byte[] toBytes() {
+		byte bytes[] = new byte[HEADER_BYTES + (stones.length + 1) / 2];
+
+		bytes[0] = (byte) size;
+		bytes[1] = (byte) who;
+		bytes[2] = (byte) (turn >>> 24);
+		bytes[3] = (byte) (turn >>> 16);
+		bytes[4] = (byte) (turn >>> 8);
+		bytes[5] = (byte) turn;
+
+		for (int cell = 0; cell < stones.length; cell++) {
+			bytes[HEADER_BYTES + cell / 2] |= (stones[cell] + 3) << (4 * (cell % 2));
+		}
+
+		return (bytes);
+	}
+
+	/**
+	 * Reads a board from its binary form, see {@link #toBytes()}.
+	 * 
+	 * @param bytes
+	 *            The bytes of the board.
+	 * 
+	 * @return Returns the board.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the bytes do not describe a valid board.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static Board fromBytes(byte bytes[]) {
+		if (bytes == null || bytes.length < HEADER_BYTES) {
+			throw (new IllegalArgumentException("Incorrect board data!"));
+		}
+
+		Board board = new Board(bytes[0]);
+
+		if (bytes.length != HEADER_BYTES + (board.stones.length + 1) / 2) {
+			throw (new IllegalArgumentException("Incorrect board data!"));
+		}
+
+		if (bytes[1] != POSITIVE_PLAYER && bytes[1] != NEGATIVE_PLAYER) {
+			throw (new IllegalArgumentException("Incorrect player!"));
+		}
+
+		board.who = bytes[1];
+		board.turn = (bytes[2] & 0xFF) << 24 | (bytes[3] & 0xFF) << 16
+				| (bytes[4] & 0xFF) << 8 | (bytes[5] & 0xFF);
+
+		if (board.turn < 0) {
+			throw (new IllegalArgumentException("Incorrect turn!"));
+		}
+
+		for (int cell = 0; cell < board.stones.length; cell++) {
+			int value = (bytes[HEADER_BYTES + cell / 2] >>> (4 * (cell % 2))) & 0x0F;
+
+			if (value > 2 * POSITIVE_PIECE_SIZE_3) {
+				throw (new IllegalArgumentException("Incorrect board data!"));
+			}
+
+			board.stones[cell] = value - 3;
+		}
+
+		board.key = board.computeKey();
+		board.countStones();
+
+		return (board);
+	}
+
+	/**
+	 * The board has no special contents like file descriptors.
+	 * 
+	 * @return Returns 0.
+	 * 
+	 * @see android.os.Parcelable#describeContents()
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int describeContents() {
+		return (0);
+	}
+
+	/**
+	 * Writes the board in a Parcel as a single byte array.
+	 * 
+	 * @param dest
+	 *            The Parcel to write to.
+	 * 
+	 * @param flags
+	 *            Additional flags about how the object should be written.
+	 * 
+	 * @see android.os.Parcelable#writeToParcel(android.os.Parcel, int)
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void writeToParcel(Parcel dest, int flags) {
+		dest.writeByteArray(toBytes());
+	}
+
+	/**
+	 * Who's turn it is.
+	 * 
+	 * @return Returns who is next to move a stone.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 11 Mar 2012
+	 */
+	public int getWho() {
+		return (this.who);
+	}
+
+	/**
+	 * Decide if the game has reached it's end.
+	 * 
+	 * @return Returns if all cells are occupied by the negative or the positive
+	 *         player.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 11 Mar 2012
+	 */
+	public boolean end() {
+
+		if (turn < NUMBER_OF_DEPLOYMENT_MOVES) {
+			return (false);
 		}
 
-		return (!(hasNegative && hasPositive));
+		return (positiveStones == 0 || negativeStones == 0);
 	}
 }
@@ -23,8 +23,6 @@
 
 package com.netsecl.stanchev;
 
-import android.graphics.Point;
-
 /**
  * This is the class that implements the easy AI and enables users to play
  * against the computer.
@@ -38,28 +36,18 @@ import android.graphics.Point;
 public class EasyAI extends AI {
 
 	/**
-	 * What kind of stones are on the board.
-	 */
-	private int stones[][];
-
-	/**
-	 * Uses +1 for the positive player and -1 for the negative player.
+	 * The position with the AI on move.
 	 */
-	private int who;
+	private Board board;
 
 	/**
-	 * Defines the number of turns.
+	 * Holds the cell for the AI move.
 	 */
-	private int onMove;
+	private int move = NO_MOVE;
 
 	/**
-	 * Holds the coordinates for the AI move.
-	 */
-	private Point coordinates = new Point();
-
-	/**
-	 * This method finds a random empty cell and sets the coordinates for the
-	 * move of the computer in the first phase of the game.
+	 * This method finds a random empty cell and sets the cell for the move of
+	 * the computer in the first phase of the game.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
@@ -72,11 +60,7 @@ public class EasyAI extends AI {
 		/*
 		 * Find empty cell.
 		 */
-		do {
-			coordinates.x = (int) (Math.random() * stones.length);
-			coordinates.y = (int) (Math.random() * stones[coordinates.x].length);
-		} while (onMove < Board.NUMBER_OF_DEPLOYMENT_MOVES
-				&& stones[coordinates.x][coordinates.y] != Board.EMPTY_CELL);
+		move = board.randomMove(RANDOM.get());
 	}
 
 	/**
@@ -89,56 +73,22 @@ public class EasyAI extends AI {
 	 * @date 9 April 2012
 	 */
 	@Override
-	protected void phaseTwoMove() throws Exception {
-		/*
-		 * Check for possible move.
-		 */
-		boolean found = false;
-		for (int i = 0; i < stones.length && found == false; i++) {
-			for (int j = 0; j < stones[i].length && found == false; j++) {
-				if (stones[i][j] != Board.EMPTY_CELL
-						&& stones[i][j] / Math.abs(stones[i][j]) == who) {
-					found = true;
-				}
-			}
-		}
-
-		/*
-		 * Handle not available move situation.
-		 */
-		if (found == false) {
-			throw (new Exception("There is not valid move!"));
-		}
-
+	protected void phaseTwoMove() {
 		/*
-		 * We find which cell is occupied by the AI player and if we have found
-		 * an occupied cell we move there.
+		 * One of the cells occupied by the AI player, or NO_MOVE if there is
+		 * not any.
 		 */
-		while (found == true) {
-			coordinates.x = (int) (Math.random() * stones.length);
-			coordinates.y = (int) (Math.random() * stones[coordinates.x].length);
-
-			if (stones[coordinates.x][coordinates.y] != Board.EMPTY_CELL
-					&& stones[coordinates.x][coordinates.y]
-							/ Math.abs(stones[coordinates.x][coordinates.y]) == who) {
-				break;
-			}
-		}
+		move = board.randomMove(RANDOM.get());
 	}
 
 	/**
 	 * Implements the move of the Artificial Intelligence.
 	 * 
-	 * @param stones
-	 *            Defines the stones on the board.
-	 * 
-	 * @param who
-	 *            Defines who will be next on the move.
-	 * 
-	 * @param onMove
-	 *            Defines the number of turns.
+	 * @param board
+	 *            The position with the AI on move. It is not changed.
 	 * 
-	 * @return Returns the coordinates on which the AI will move its piece.
+	 * @return Returns the cell on which the AI will move its piece, or
+	 *         NO_MOVE.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
@@ -146,47 +96,35 @@ public class EasyAI extends AI {
 	 * 
 	 * @date 27 Mar 2012
 	 */
-	public Point move(int stones[][], int who, int onMove) throws Exception {
-		this.stones = stones;
-		this.who = who;
-		this.onMove = onMove;
+	@Override
+	public int move(Board board) {
+		this.board = board;
+		move = NO_MOVE;
 
 		/*
 		 * We check if the board has been incorrectly initialized.
 		 */
-		if (stones == null) {
-			throw (new Exception("Incorrect board!"));
-		}
-
-		/*
-		 * We check if the player that is on the board is correctly initialized.
-		 */
-		if (who != Board.NEGATIVE_PLAYER && who != Board.POSITIVE_PLAYER) {
-			throw (new Exception("Incorrect player!"));
+		if (board == null) {
+			return (NO_MOVE);
 		}
 
 		/*
 		 * Phase one A.I.
 		 */
-		if (onMove < Board.NUMBER_OF_DEPLOYMENT_MOVES) {
+		if (board.getTurn() < Board.NUMBER_OF_DEPLOYMENT_MOVES) {
 			phaseOneMove();
 		}
 
-		/*
-		 * If it is deployment move do not calculate rising position.
-		 */
-		if (onMove < Board.NUMBER_OF_DEPLOYMENT_MOVES) {
-			return (coordinates);
-		}
-
 		/*
 		 * Select valid move on phase two.
 		 */
-		if (onMove >= Board.NUMBER_OF_DEPLOYMENT_MOVES) {
+		if (board.getTurn() >= Board.NUMBER_OF_DEPLOYMENT_MOVES) {
 			phaseTwoMove();
 		}
 
-		return (coordinates);
+		this.board = null;
+
+		return (move);
 	}
 
 }
@@ -0,0 +1,547 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+/**
+ * Exact solver of the endgame. When the other player has only a few cells
+ * left, the cascades are forced and the game tree is small enough to be
+ * searched to its end. Iterative deepening on the number of moves with a
+ * transposition table proves a win or a loss, and the first depth at which a
+ * win is proven gives the shortest win.
+ * 
+ * Scores are WIN - n for a win in n moves, -(WIN - n) for a loss in n moves
+ * and UNKNOWN when nothing is proven within the searched depth.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class EndgameSolver {
+
+	/**
+	 * Default time for one solution in milliseconds.
+	 */
+	public static final long DEFAULT_TIME_BUDGET = 200;
+
+	/**
+	 * Default size of the transposition table in MB.
+	 */
+	public static final int DEFAULT_TABLE_SIZE = 1;
+
+	/**
+	 * The solver is used when the other player has at most this many cells.
+	 */
+	public static final int DEFAULT_THRESHOLD = 4;
+
+	/**
+	 * Returned by solve when the position is a proven win.
+	 */
+	public static final int RESULT_WIN = 1;
+
+	/**
+	 * Returned by solve when the position is a proven loss.
+	 */
+	public static final int RESULT_LOSS = -1;
+
+	/**
+	 * Returned by solve when nothing is proven in the time budget.
+	 */
+	public static final int RESULT_UNKNOWN = 0;
+
+	/**
+	 * Returned by getMove when there is no solved move.
+	 */
+	public static final int NO_MOVE = Board.NO_MOVE;
+
+	/**
+	 * Score of a position which is won now.
+	 */
+	private static final int WIN = 1000000;
+
+	/**
+	 * Score when nothing is proven.
+	 */
+	private static final int UNKNOWN = 0;
+
+	/**
+	 * Longest solved game, in moves.
+	 */
+	private static final int MAX_DEPTH = 64;
+
+	/**
+	 * The clock is checked once per this many nodes. Must be a power of two.
+	 */
+	private static final int CLOCK_CHECK_NODES = 1024;
+
+	/**
+	 * Time for one solution in milliseconds.
+	 */
+	private long timeBudget;
+
+	/**
+	 * Largest number of cells of the other player at which the solver is
+	 * used.
+	 */
+	private final int threshold;
+
+	/**
+	 * Proven and unproven positions. Proven ones are stored at the largest
+	 * depth.
+	 */
+	private final TranspositionTable table;
+
+	/**
+	 * The solved position. Moves are made and taken back on it.
+	 */
+	private Board board = null;
+
+	/**
+	 * Generated moves of each ply.
+	 */
+	private int moves[][] = null;
+
+	/**
+	 * Ordering scores of the generated moves of each ply.
+	 */
+	private int orders[][] = null;
+
+	/**
+	 * Time at which the solution has to stop, from System.nanoTime().
+	 */
+	private long deadline = 0;
+
+	/**
+	 * Set when the time budget is used or by cancel.
+	 */
+	private volatile boolean stopped = false;
+
+	/**
+	 * Number of positions visited by the last solution.
+	 */
+	private long nodes = 0;
+
+	/**
+	 * Best move at the root of the last solution.
+	 */
+	private int move = NO_MOVE;
+
+	/**
+	 * Number of moves to the end of the game of the last solution.
+	 */
+	private int distance = 0;
+
+	/**
+	 * Creates the solver with the defaults.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public EndgameSolver() {
+		this(DEFAULT_TIME_BUDGET, DEFAULT_THRESHOLD, new TranspositionTable(
+				DEFAULT_TABLE_SIZE));
+	}
+
+	/**
+	 * Creates the solver.
+	 * 
+	 * @param timeBudget
+	 *            Time for one solution in milliseconds.
+	 * 
+	 * @param threshold
+	 *            Largest number of cells of the other player at which the
+	 *            solver is used.
+	 * 
+	 * @param table
+	 *            Transposition table of the solver. It can not be shared with
+	 *            a search, the scores mean different things.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public EndgameSolver(long timeBudget, int threshold,
+			TranspositionTable table) {
+		if (threshold < 1) {
+			throw (new IllegalArgumentException("Incorrect threshold!"));
+		}
+
+		this.timeBudget = timeBudget;
+		this.threshold = threshold;
+		this.table = table;
+	}
+
+	/**
+	 * Changes the time for one solution.
+	 * 
+	 * @param timeBudget
+	 *            Time for one solution in milliseconds.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void setTimeBudget(long timeBudget) {
+		this.timeBudget = timeBudget;
+	}
+
+	/**
+	 * Stops the solution in progress on another thread. It ends as unknown.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void cancel() {
+		stopped = true;
+	}
+
+	/**
+	 * Decides if a position is for the solver - the other player is down to
+	 * a few cells, while the player on move has more. Right after the
+	 * deployment both players have few cells, but the game is far from its
+	 * end.
+	 * 
+	 * @param board
+	 *            The position.
+	 * 
+	 * @return Returns true if the solver should be tried.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public boolean applies(Board board) {
+		int who = board.getWho();
+
+		return (board.getTurn() >= Board.NUMBER_OF_DEPLOYMENT_MOVES
+				&& board.end() == false
+				&& board.getStoneCount(-who) <= threshold
+				&& board.getStoneCount(who) > threshold);
+	}
+
+	/**
+	 * Best move of the last solution. For a win it is the first move of the
+	 * shortest win, for a loss the move which resists longest.
+	 * 
+	 * @return Returns the index of the cell of the move or NO_MOVE.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int getMove() {
+		return (move);
+	}
+
+	/**
+	 * Length of the game after the last solved position.
+	 * 
+	 * @return Returns the number of moves to the end of the game.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int getDistance() {
+		return (distance);
+	}
+
+	/**
+	 * Number of positions visited by the last solution.
+	 * 
+	 * @return Returns the number of nodes.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public long getNodes() {
+		return (nodes);
+	}
+
+	/**
+	 * Decides if a cell touches a cell of the other player, so its overflow
+	 * conquers.
+	 * 
+	 * @param cell
+	 *            Index x * size + y of the cell.
+	 * 
+	 * @return Returns true if a neighbour belongs to the other player.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private boolean attacks(int cell) {
+		int size = board.getSize();
+		int x = cell / size;
+		int y = cell % size;
+		int other = -board.getWho();
+
+		return ((x > 0 && board.stoneAt(cell - size) * other > 0)
+				|| (x < size - 1 && board.stoneAt(cell + size) * other > 0)
+				|| (y > 0 && board.stoneAt(cell - 1) * other > 0)
+				|| (y < size - 1 && board.stoneAt(cell + 1) * other > 0));
+	}
+
+	/**
+	 * Generates the moves of a ply. The cells which touch the other player
+	 * go first, and the larger stones first, as they overflow sooner.
+	 * 
+	 * @param ply
+	 *            Distance from the root.
+	 * 
+	 * @return Returns the number of moves.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private int generate(int ply) {
+		int list[] = moves[ply];
+		int order[] = orders[ply];
+		int who = board.getWho();
+		int count = 0;
+
+		for (int cell = 0; cell < list.length; cell++) {
+			int value = board.stoneAt(cell) * who;
+			if (value <= 0) {
+				continue;
+			}
+
+			if (attacks(cell) == true) {
+				value += Board.POSITIVE_PIECE_SIZE_3;
+			}
+
+			/*
+			 * Insertion by the ordering score, the lists are short.
+			 */
+			int i = count++;
+			for (; i > 0 && order[i - 1] < value; i--) {
+				list[i] = list[i - 1];
+				order[i] = order[i - 1];
+			}
+			list[i] = cell;
+			order[i] = value;
+		}
+
+		return (count);
+	}
+
+	/**
+	 * Proves the current position within a number of moves.
+	 * 
+	 * @param depth
+	 *            Remaining number of moves.
+	 * 
+	 * @param ply
+	 *            Distance from the root.
+	 * 
+	 * @return Returns the score for the player on move.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private int solve(int depth, int ply) {
+		nodes++;
+		if ((nodes & (CLOCK_CHECK_NODES - 1)) == 0
+				&& System.nanoTime() - deadline > 0) {
+			stopped = true;
+		}
+		if (stopped == true) {
+			return (UNKNOWN);
+		}
+
+		/*
+		 * The player who moved last has conquered all cells.
+		 */
+		if (board.end() == true) {
+			return (-WIN);
+		}
+
+		if (depth <= 0) {
+			return (UNKNOWN);
+		}
+
+		long key = board.getKey();
+		long data = table.probe(key);
+		int tableMove = NO_MOVE;
+
+		if (data != TranspositionTable.MISS) {
+			int stored = TranspositionTable.getScore(data);
+
+			/*
+			 * A loss is proven at any depth. A win is used only if it is
+			 * short enough, a shorter one may exist.
+			 */
+			if (ply > 0
+					&& (stored < 0 || (stored > 0 && WIN - stored <= depth) || (stored == UNKNOWN && TranspositionTable
+							.getDepth(data) >= depth))) {
+				return (stored);
+			}
+
+			if (TranspositionTable.getMove(data) != TranspositionTable.NO_MOVE) {
+				tableMove = TranspositionTable.getMove(data);
+			}
+		}
+
+		int count = generate(ply);
+		int best = -WIN - 1;
+		int bestMove = NO_MOVE;
+
+		for (int i = -1; i < count; i++) {
+
+			/*
+			 * The move of the last proof goes first.
+			 */
+			int cell = (i < 0) ? tableMove : moves[ply][i];
+			if (cell == NO_MOVE || (i >= 0 && cell == tableMove)) {
+				continue;
+			}
+
+			board.makeMove(cell);
+			int value = -solve(depth - 1, ply + 1);
+			board.unmakeMove();
+
+			if (stopped == true) {
+				return (UNKNOWN);
+			}
+
+			/*
+			 * One more move to the end of the game.
+			 */
+			if (value > 0) {
+				value--;
+			} else if (value < 0) {
+				value++;
+			}
+
+			if (value > best) {
+				best = value;
+				bestMove = cell;
+				if (ply == 0) {
+					move = cell;
+				}
+			}
+
+			/*
+			 * Any win proves the position. The root looks for the shortest.
+			 */
+			if (best > 0 && ply > 0) {
+				break;
+			}
+		}
+
+		if (bestMove == NO_MOVE) {
+			return (UNKNOWN);
+		}
+
+		int stored = (best == UNKNOWN) ? depth : TranspositionTable.MAX_DEPTH;
+		table.store(key, bestMove, best, stored,
+				TranspositionTable.BOUND_EXACT);
+
+		return (best);
+	}
+
+	/**
+	 * Solves a position until it is proven or the time budget is used.
+	 * 
+	 * @param board
+	 *            The position. It is solved on a copy.
+	 * 
+	 * @return Returns RESULT_WIN, RESULT_LOSS or RESULT_UNKNOWN for the player
+	 *         on move. The move and the distance are read with getMove and
+	 *         getDistance.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int solve(Board board) {
+		int cells = board.getCellCount();
+
+		this.board = new Board(board.getStones(), board.getWho(),
+				board.getTurn());
+		if (moves == null || moves[0].length != cells) {
+			moves = new int[MAX_DEPTH + 1][cells];
+			orders = new int[MAX_DEPTH + 1][cells];
+		}
+
+		table.newSearch();
+		deadline = System.nanoTime() + timeBudget * 1000000L;
+		stopped = false;
+		nodes = 0;
+		move = NO_MOVE;
+		distance = 0;
+
+		int result = RESULT_UNKNOWN;
+		for (int depth = 1; depth <= MAX_DEPTH && result == RESULT_UNKNOWN; depth++) {
+			int value = solve(depth, 0);
+
+			if (stopped == true) {
+				break;
+			}
+
+			if (value != UNKNOWN) {
+				distance = WIN - Math.abs(value);
+				result = (value > 0) ? RESULT_WIN : RESULT_LOSS;
+			}
+		}
+
+		if (result == RESULT_UNKNOWN) {
+			move = NO_MOVE;
+		}
+		this.board = null;
+
+		return (result);
+	}
+}
@@ -23,7 +23,15 @@
 
 package com.netsecl.stanchev;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import android.app.Activity;
 import android.app.AlertDialog;
 import android.content.Context;
@@ -34,7 +42,6 @@ import android.graphics.BitmapFactory;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
-import android.graphics.Point;
 import android.media.AudioManager;
 import android.media.SoundPool;
 import android.os.Vibrator;
@@ -140,6 +147,71 @@ public class GameView extends View {
 	 */
 	AI ai = null;
 
+	/**
+	 * Book of the deployment moves, read once for the expert AI. Null if it
+	 * can not be read.
+	 */
+	private static OpeningBook book = null;
+
+	/**
+	 * If reading the book has been tried already.
+	 */
+	private static boolean bookRead = false;
+
+	/**
+	 * Book of the deployment moves of the AI of this game. Null for the other
+	 * AIs, which keep their own deployment moves. It is set and read only on
+	 * the AI thread.
+	 */
+	private OpeningBook aiBook = null;
+
+	/**
+	 * Solver of the endgame, for the expert AI. Null for the other AIs, which
+	 * do not always finish a won game by the shortest line.
+	 */
+	private EndgameSolver solver = null;
+
+	/**
+	 * Runs the AI moves one at a time, away from the UI thread.
+	 */
+	private final ExecutorService aiExecutor = Executors
+			.newSingleThreadExecutor();
+
+	/**
+	 * The AI move in progress, or null when the human is on move.
+	 */
+	private Future<?> aiTask = null;
+
+	/**
+	 * The pondering in progress or waiting, or null.
+	 */
+	private Future<?> ponderTask = null;
+
+	/**
+	 * Number of the last started or cancelled AI move. Results of older moves
+	 * are dropped.
+	 */
+	private int aiRequest = 0;
+
+	/**
+	 * Time for one AI move in milliseconds, by difficulty.
+	 */
+	private long aiTimeBudget = 0;
+
+	/**
+	 * Stops the AI move in progress when its time is over, or null. A new one
+	 * is made for each move and is posted by the worker when the solver and
+	 * when the AI begin, each for its own time, so a move queued behind the
+	 * pondering gets its whole time.
+	 */
+	private Runnable aiDeadline = null;
+
+	/**
+	 * Source of the moves played for the AI when it has not given a valid
+	 * one.
+	 */
+	private final Random random = new Random();
+
 	/**
 	 * Sound preferences boolean.
 	 */
@@ -154,8 +226,9 @@ public class GameView extends View {
 	 * Preference if the player is playing against the computer.
 	 */
 	private boolean oneplayer = (preferences.getBoolean("easy", true)
-			| preferences.getBoolean("normal", true) | preferences.getBoolean(
-			"hard", true));
+			| preferences.getBoolean("normal", true)
+			| preferences.getBoolean("hard", true) | preferences.getBoolean(
+			"expert", false));
 
 	/**
 	 * Vibration for the game.
@@ -178,6 +251,38 @@ public class GameView extends View {
 	 */
 	public static final int SOUND_WRONGMOVE = 3;
 
+	/**
+	 * Time for one move of the easy AI in milliseconds.
+	 */
+	public static final long EASY_TIME_BUDGET = 250;
+
+	/**
+	 * Time for one move of the normal AI in milliseconds.
+	 */
+	public static final long NORMAL_TIME_BUDGET = 500;
+
+	/**
+	 * Time for one move of the hard AI in milliseconds.
+	 */
+	public static final long HARD_TIME_BUDGET = 1000;
+
+	/**
+	 * Time for one move of the expert AI in milliseconds.
+	 */
+	public static final long EXPERT_TIME_BUDGET = AlphaBetaAI.DEFAULT_TIME_BUDGET;
+
+	/**
+	 * Time after the time budget in which the AI has to end its move before
+	 * it is cancelled.
+	 */
+	private static final long AI_DEADLINE_GRACE = 100;
+
+	/**
+	 * The endgame solver may use this part of the time for one AI move. The
+	 * AI gets the rest.
+	 */
+	private static final long SOLVER_SHARE = 2;
+
 	/**
 	 * Plays a sound on incorrect move and vibrates.
 	 * 
@@ -238,10 +343,24 @@ public class GameView extends View {
 		 */
 		invalidate();
 
-		/*
-		 * Did the game end? If yes call the onHighscore method and check if we
-		 * have a high score.
-		 */
+		checkEnd();
+
+		humanDidMove = false;
+
+		return (humanDidMove);
+	}
+
+	/**
+	 * Checks if the game has ended after a move. If yes call the onHighscore
+	 * method and check if we have a high score.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private void checkEnd() {
 		if (board.end() == true) {
 			String whoWon = "";
 			if (board.getWho() < 0) {
@@ -269,10 +388,251 @@ public class GameView extends View {
 			} catch (Exception ex) {
 			}
 		}
+	}
 
-		humanDidMove = false;
+	/**
+	 * Starts the move of the AI on the worker thread. The result is posted
+	 * back to the UI thread.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private void startAiMove() {
+		final int request = ++aiRequest;
+		final int turn = board.getTurn();
+		final int who = board.getWho();
 
-		return (humanDidMove);
+		/*
+		 * The AI gets its own copy, because the board is drawn meanwhile.
+		 */
+		final int stones[][] = board.getStones();
+
+		/*
+		 * The deadline stops whatever runs for the move, the solver or the
+		 * AI, and does nothing once the move is over.
+		 */
+		final Runnable deadline = new Runnable() {
+			public void run() {
+				if (request == aiRequest) {
+					ai.cancel();
+					if (solver != null) {
+						solver.cancel();
+					}
+				}
+			}
+		};
+		aiDeadline = deadline;
+
+		final long timeBudget = aiTimeBudget;
+		aiTask = aiExecutor.submit(new Runnable() {
+			public void run() {
+
+				/*
+				 * The deployment moves cost a single lookup.
+				 */
+				Board position = new Board(stones, who, turn);
+				int cell = AI.NO_MOVE;
+				if (aiBook != null) {
+					cell = aiBook.lookup(position);
+				}
+
+				/*
+				 * A proven win is played directly, the shortest one. The
+				 * solver gets a share of the time of the move, and its own
+				 * deadline. The time is counted from here, not from the
+				 * submit, as the move may wait for the pondering to end.
+				 */
+				long begin = System.nanoTime();
+				if (cell == AI.NO_MOVE && solver != null
+						&& solver.applies(position) == true) {
+					solver.setTimeBudget(timeBudget / SOLVER_SHARE);
+					postDelayed(deadline, timeBudget / SOLVER_SHARE
+							+ AI_DEADLINE_GRACE);
+
+					if (solver.solve(position) == EndgameSolver.RESULT_WIN) {
+						cell = solver.getMove();
+					}
+
+					removeCallbacks(deadline);
+				}
+
+				/*
+				 * The AI gets the time which the solver left.
+				 */
+				if (cell == AI.NO_MOVE) {
+					long left = Math.max(0, timeBudget
+							- (System.nanoTime() - begin) / 1000000L);
+
+					ai.setTimeBudget(left);
+					postDelayed(deadline, left + AI_DEADLINE_GRACE);
+					cell = ai.move(position);
+				}
+
+				final int result = cell;
+				post(new Runnable() {
+					public void run() {
+						finishAiMove(request, turn, result);
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Plays the move of the AI on the UI thread. A random valid move is
+	 * played instead of a missing or an invalid one.
+	 * 
+	 * @param request
+	 *            Number of the AI move.
+	 * 
+	 * @param turn
+	 *            Turn for which the move was searched.
+	 * 
+	 * @param cell
+	 *            The cell of the move, or NO_MOVE if the AI did not find one.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private void finishAiMove(int request, int turn, int cell) {
+
+		/*
+		 * A cancelled move, or one for a position which is already gone.
+		 */
+		if (request != aiRequest || turn != board.getTurn()) {
+			return;
+		}
+
+		removeCallbacks(aiDeadline);
+		aiDeadline = null;
+		aiTask = null;
+
+		/*
+		 * The AI has to move in any case, otherwise the human would play with
+		 * the stones of the AI.
+		 */
+		if (board.move(cell) == false) {
+			board.move(board.randomMove(random));
+		}
+
+		invalidate();
+		checkEnd();
+
+		if (board.end() == false) {
+			startPonder();
+		}
+	}
+
+	/**
+	 * Lets the AI prepare its next move on the worker thread while the human
+	 * thinks. The next AI move waits for the pondering to be cancelled.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private void startPonder() {
+		final Board position = new Board(board.getStones(), board.getWho(),
+				board.getTurn());
+
+		ponderTask = aiExecutor.submit(new Runnable() {
+			public void run() {
+				ai.ponder(position);
+			}
+		});
+	}
+
+	/**
+	 * Ends the pondering before the next AI move. A pondering which has not
+	 * started does not run, and one which runs is interrupted, so the cancel
+	 * is not lost if it comes before the pondering checks it.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private void stopPonder() {
+		if (ponderTask != null) {
+			ponderTask.cancel(true);
+			ponderTask = null;
+		}
+
+		ai.cancel();
+	}
+
+	/**
+	 * Cancels the AI move in progress, when the activity is paused.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void onPause() {
+		aiRequest++;
+		removeCallbacks(aiDeadline);
+		aiDeadline = null;
+
+		/*
+		 * Stops the pondering too.
+		 */
+		if (ai != null) {
+			stopPonder();
+		}
+		if (solver != null) {
+			solver.cancel();
+		}
+
+		if (aiTask != null) {
+			aiTask.cancel(true);
+			aiTask = null;
+		}
+	}
+
+	/**
+	 * Restarts the AI move, when the activity is resumed with the AI on move.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void onResume() {
+		if (oneplayer == true && ai != null && aiTask == null
+				&& board.end() == false
+				&& board.getWho() == Board.NEGATIVE_PLAYER) {
+			startAiMove();
+		}
+	}
+
+	/**
+	 * Stops the worker thread of the AI, when the view is removed.
+	 * 
+	 * @see android.view.View#onDetachedFromWindow()
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Override
+	protected void onDetachedFromWindow() {
+		onPause();
+		aiExecutor.shutdownNow();
+		super.onDetachedFromWindow();
 	}
 
 	/**
@@ -427,7 +787,6 @@ public class GameView extends View {
 			int oldHeight) {
 		this.width = (newWidth < newHeight) ? newWidth : newHeight;
 		this.height = width;
-		cell = this.height / 8;
 		super.onSizeChanged(newWidth, newHeight, oldWidth, oldHeight);
 	}
 
@@ -452,12 +811,18 @@ public class GameView extends View {
 		 */
 		String whoIs = null;
 
-		int stones[][] = board.getStones();
-		for (int j = 0; j < Board.BOARD_SIZE; j++) {
-			for (int i = 0; i < Board.BOARD_SIZE; i++) {
+		/*
+		 * The board size can differ between games.
+		 */
+		int size = board.getSize();
+		cell = height / size;
+
+		for (int j = 0; j < size; j++) {
+			for (int i = 0; i < size; i++) {
 				Bitmap stone = null;
-				if (stones[i][j] < 0) {
-					switch (Math.abs(stones[i][j])) {
+				int value = board.stoneAt(i, j);
+				if (value < 0) {
+					switch (-value) {
 					case 1:
 						stone = pulls[3];
 						points += 1;
@@ -471,8 +836,8 @@ public class GameView extends View {
 						points += 3;
 						break;
 					}
-				} else if (stones[i][j] > 0) {
-					switch (Math.abs(stones[i][j])) {
+				} else if (value > 0) {
+					switch (value) {
 					case 1:
 						stone = pulls[2];
 						points += 1;
@@ -510,18 +875,18 @@ public class GameView extends View {
 		/*
 		 * Initialization of board lines.
 		 */
-		for (int l = 0; l <= Board.BOARD_SIZE; l++) {
+		for (int l = 0; l <= size; l++) {
 			/*
 			 * Draw vertical lines.
 			 */
-			canvas.drawLine(l * height / Board.BOARD_SIZE, 0, l * height
-					/ Board.BOARD_SIZE, height, line);
+			canvas.drawLine(l * height / size, 0, l * height / size, height,
+					line);
 
 			/*
 			 * Draw horizontal lines.
 			 */
-			canvas.drawLine(0, l * height / Board.BOARD_SIZE, height, l
-					* height / Board.BOARD_SIZE, line);
+			canvas.drawLine(0, l * height / size, height, l * height / size,
+					line);
 		}
 
 		LinearLayout layout = new LinearLayout(context);
@@ -580,26 +945,75 @@ public class GameView extends View {
 
 	/**
 	 * We use the context object of the GameView so we can return a coefficient
-	 * to the AI and it can make a correct move.
+	 * to the AI and it can make a correct move. The coefficients are mapped
+	 * from the AI data once, on the first call.
 	 * 
-	 * @param keys
+	 * @param key
 	 *            This is the variable that holds the current combination of
 	 *            stones that is checked.
 	 * 
+	 * @return Returns the coefficient, or PatternTable.NO_COEFFICIENT.
+	 * 
 	 * @author Yuriy Stanchev
 	 * 
 	 * @email i_stanchev@ml1.net
 	 * 
 	 * @date 11 Mar 2012
 	 */
-	public static int obtainNormalAi(long keys[]) {
-		final NormalAISQLAdapter sqlitehandle = new NormalAISQLAdapter(context);
+	public static int obtainNormalAi(int key) {
+		return (PatternTable.getInstance(context).coefficient(key));
+	}
 
-		sqlitehandle.openToRead();
-		Integer evaluation = sqlitehandle.obtainCoefficient(keys);
-		sqlitehandle.close();
+	/**
+	 * We use the context object of the GameView so we can return the
+	 * coefficient of an aperture of radius 2 to the AI. The coefficients are
+	 * mapped from the AI data once, on the first call.
+	 * 
+	 * @param key
+	 *            Key of the aperture, reduced by PlusPatternTable.canonical.
+	 * 
+	 * @return Returns the coefficient, or PlusPatternTable.NO_COEFFICIENT.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static int obtainNormalAiPlus(int key) {
+		return (PlusPatternTable.getInstance(context).coefficient(key));
+	}
+
+	/**
+	 * We use the context object of the GameView so we can return the weights
+	 * of a neural network to the AI.
+	 * 
+	 * @param input
+	 *            Size of the input layer.
+	 * 
+	 * @param hidden
+	 *            Size of the hidden layer.
+	 * 
+	 * @param output
+	 *            Size of the output layer.
+	 * 
+	 * @return Returns the fittest weights for these sizes, or null if there
+	 *         are none.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static double[] obtainHardAi(int input, int hidden, int output) {
+		AIData data = AIData.getInstance(context);
+
+		if (data == null) {
+			return (null);
+		}
 
-		return (evaluation);
+		return (data.findWeights(input, hidden, output));
 	}
 
 	/**
@@ -648,24 +1062,26 @@ public class GameView extends View {
 	public boolean onTouchEvent(MotionEvent event) {
 		boolean humanDidMove = false;
 		if (event.getAction() == MotionEvent.ACTION_DOWN) {
+
+			/*
+			 * The human waits while the AI is on move.
+			 */
+			if (aiTask != null) {
+				return (true);
+			}
+
 			humanDidMove = board.move(
-					(int) (Board.BOARD_SIZE * event.getX() / width),
-					(int) (Board.BOARD_SIZE * event.getY() / height), 0);
-
-			if (humanDidMove == true && oneplayer == true) {
-				// TODO Give time to the human player to see his/her move, by
-				// using timer.
-				try {
-					Thread.sleep(0);
-				} catch (InterruptedException e) {
-				}
+					(int) (board.getSize() * event.getX() / width),
+					(int) (board.getSize() * event.getY() / height), 0);
 
-				try {
-					Point coordinates = ai.move(board.getStones(),
-							board.getWho(), board.getTurn());
-					board.move(coordinates.x, coordinates.y, 0);
-				} catch (Exception e) {
-				}
+			/*
+			 * The human move is drawn while the AI thinks. The pondering
+			 * ends first, the reply may already be known.
+			 */
+			if (humanDidMove == true && oneplayer == true
+					&& board.end() == false) {
+				stopPonder();
+				startAiMove();
 			}
 		} else {
 			return (super.onTouchEvent(event));
@@ -685,6 +1101,42 @@ public class GameView extends View {
 
 	}
 
+	/**
+	 * Reads the book of the deployment moves from the assets, only the first
+	 * time.
+	 * 
+	 * @param context
+	 *            Context with the assets.
+	 * 
+	 * @return Returns the book, or null if it can not be read.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static synchronized OpeningBook readOpeningBook(Context context) {
+		if (bookRead == true) {
+			return (book);
+		}
+		bookRead = true;
+
+		try {
+			InputStream in = new BufferedInputStream(context.getAssets().open(
+					OpeningBook.ASSET_NAME));
+			try {
+				book = OpeningBook.read(in);
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			book = null;
+		}
+
+		return (book);
+	}
+
 	/**
 	 * Constructor of the Class. We get here the context and board instance that
 	 * we passed from the game menu.
@@ -712,13 +1164,57 @@ public class GameView extends View {
 		if (oneplayer == true) {
 			if (preferences.getBoolean("easy", true) == true) {
 				ai = new EasyAI();
+				aiTimeBudget = EASY_TIME_BUDGET;
 			}
 			if (preferences.getBoolean("normal", false) == true) {
 				ai = new NormalAI();
+				aiTimeBudget = NORMAL_TIME_BUDGET;
+
+				/*
+				 * The coefficients are read on the AI thread before the first
+				 * move is needed.
+				 */
+				aiExecutor.submit(new Runnable() {
+					public void run() {
+						PatternTable.getInstance(GameView.context);
+						PlusPatternTable.getInstance(GameView.context);
+					}
+				});
 			}
 			if (preferences.getBoolean("hard", false) == true) {
 				ai = new HardAI();
+				aiTimeBudget = HARD_TIME_BUDGET;
+
+				/*
+				 * The weights are mapped on the AI thread before the first
+				 * move is needed, not on the UI thread.
+				 */
+				aiExecutor.submit(new Runnable() {
+					public void run() {
+						AIData.getInstance(GameView.context);
+					}
+				});
 			}
+			if (preferences.getBoolean("expert", false) == true) {
+				ai = new AlphaBetaAI();
+				aiTimeBudget = EXPERT_TIME_BUDGET;
+			}
+		}
+
+		/*
+		 * The book and the solver play the best moves they know and suit the
+		 * searching expert AI only. The easy, normal and hard AIs do not
+		 * search, so their strength is left as it is and the difficulty
+		 * levels stay apart. The book is read on the AI thread, before the
+		 * first move of the AI is taken from the same queue.
+		 */
+		if (ai instanceof AlphaBetaAI) {
+			solver = new EndgameSolver();
+			aiExecutor.submit(new Runnable() {
+				public void run() {
+					aiBook = readOpeningBook(GameView.context);
+				}
+			});
 		}
 
 		background = new Paint();
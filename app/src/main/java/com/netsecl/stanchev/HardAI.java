@@ -23,8 +23,6 @@
 
 package com.netsecl.stanchev;
 
-import android.graphics.Point;
-
 /**
  * Artificial Intelligence based on Artificial Neural Networks.
  * 
@@ -37,24 +35,25 @@ import android.graphics.Point;
 public class HardAI extends AI {
 
 	/**
-	 * Creates a new instance of the neural network layer.
+	 * The neural network, or null until the first move. It is created on the
+	 * thread of the moves, so the AI data is not read on the UI thread.
 	 */
 	private ANN3Layers ann = null;
 
 	/**
-	 * What kind of stones are on the board.
+	 * Number of board cells the neural network is created for.
 	 */
-	private int stones[][];
+	private int cells = 0;
 
 	/**
-	 * Uses +1 for the positive player and -1 for the negative player.
+	 * The position with the AI on move.
 	 */
-	private int who;
+	private Board board;
 
 	/**
-	 * Holds the coordinates for the AI move.
+	 * Holds the cell for the AI move.
 	 */
-	private Point coordinates = new Point();
+	private int move = NO_MOVE;
 
 	/**
 	 * Prepare the input information in an appropriate manner for the neural
@@ -69,29 +68,17 @@ public class HardAI extends AI {
 	 * @date 13 Mar 2012
 	 */
 	private double[] prepareAnnInput() {
-		int size = 0;
-
-		/*
-		 * Calculate input size.
-		 */
-		for (int i = 0; i < stones.length; i++) {
-			for (int j = 0; j < stones[i].length; j++) {
-				// TODO Take in mind that ANN should consider positive and
-				// negative player.
-				stones[i][j] = (-who) * stones[i][j];
-				size++;
-			}
-		}
+		double values[] = new double[board.getCellCount()];
 
-		double values[] = new double[size];
+		// TODO Take in mind that ANN should consider positive and
+		// negative player.
+		int who = board.getWho();
 
 		/*
 		 * Scale stones information to ANN input [0.0 - 1.0].
 		 */
-		for (int i = 0, k = 0; i < stones.length; i++) {
-			for (int j = 0; j < stones[i].length; j++, k++) {
-				values[k] = (stones[i][j] + 3.0) / 6.0;
-			}
+		for (int k = 0; k < values.length; k++) {
+			values[k] = ((-who) * board.stoneAt(k) + 3.0) / 6.0;
 		}
 
 		return (values);
@@ -104,7 +91,7 @@ public class HardAI extends AI {
 	 * @param annOutput
 	 *            The output of the ANN with evaluation of each board cell.
 	 * 
-	 * @return Best selected cell.
+	 * @return Best selected cell or NO_MOVE.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
@@ -112,22 +99,19 @@ public class HardAI extends AI {
 	 * 
 	 * @date 13 Mar 2012
 	 */
-	private Point calculateCoordinatesPhaseTwo(double[] annOutput) {
-		Point coordinates = null;
+	private int calculateCoordinatesPhaseTwo(double[] annOutput) {
+		int cell = NO_MOVE;
+		int who = board.getWho();
 
 		double best = 0.0;
-		for (int i = 0, k = 0; i < stones.length; i++) {
-			for (int j = 0; j < stones[i].length; j++, k++) {
-				if (stones[i][j] != 0
-						&& stones[i][j] / Math.abs(stones[i][j]) == who
-						&& annOutput[k] > best) {
-					coordinates = new Point(i, j);
-					best = annOutput[k];
-				}
+		for (int k = 0; k < annOutput.length; k++) {
+			if (board.stoneAt(k) * who > 0 && annOutput[k] > best) {
+				cell = k;
+				best = annOutput[k];
 			}
 		}
 
-		return (coordinates);
+		return (cell);
 	}
 
 	/**
@@ -137,7 +121,7 @@ public class HardAI extends AI {
 	 * @param annOutput
 	 *            The output of the ANN with evaluation of each board cell.
 	 * 
-	 * @return Best selected cell.
+	 * @return Best selected cell or NO_MOVE.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
@@ -145,52 +129,65 @@ public class HardAI extends AI {
 	 * 
 	 * @date 13 Mar 2012
 	 */
-	private Point calculateCoordinatesPhaseOne(double[] annOutput) {
-		Point coordinates = null;
+	private int calculateCoordinatesPhaseOne(double[] annOutput) {
+		int cell = NO_MOVE;
 
 		double best = 0.0;
-		for (int i = 0, k = 0; i < stones.length; i++) {
-			for (int j = 0; j < stones[i].length; j++, k++) {
-				if (stones[i][j] == Board.EMPTY_CELL && annOutput[k] > best) {
-					coordinates = new Point(i, j);
-					best = annOutput[k];
-				}
+		for (int k = 0; k < annOutput.length; k++) {
+			if (board.stoneAt(k) == Board.EMPTY_CELL && annOutput[k] > best) {
+				cell = k;
+				best = annOutput[k];
 			}
 		}
 
-		return (coordinates);
+		return (cell);
 	}
 
 	/**
-	 * Sets the weights on the neural networks on a random basis.
+	 * Creates the neural network for a board with a given number of cells
+	 * and sets the fittest weights of the AI data for it, or weights on a
+	 * random basis if the data has none.
+	 * 
+	 * @param cells
+	 *            Number of board cells - one input and one output per cell.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
 	 * @email i_stanchev@ml1.net
 	 * 
-	 * @date 13 Mar 2012
+	 * @date 17 Oct 2026
 	 */
-	public HardAI() {
-		// TODO Load ANN info from DB.
-
-		ann = new ANN3Layers(0, 64, 65, 64);
-
-		// String data = "-1.0 0.0 1.0";
-		// String values[] = data.split( "\\s+" );
-
-		double weights[] = ann.getWeights();
-		for (int i = 0; i < weights.length; i++) {
-			// TODO Set weights taken from DB.
-			weights[i] = Math.random() - 0.5;
-			// weights[i] = (new Double(values[i]));
+	private void createAnn(int cells) {
+		this.cells = cells;
+		ann = new ANN3Layers(0, cells, cells + 1, cells);
+
+		double weights[] = GameView.obtainHardAi(cells, cells + 1, cells);
+		if (weights == null) {
+			weights = ann.getWeights();
+			for (int i = 0; i < weights.length; i++) {
+				weights[i] = Math.random() - 0.5;
+			}
 		}
 		ann.setWeights(weights);
 	}
 
+	/**
+	 * Creates the AI. The neural network is created by the first move, for
+	 * the size of its board.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 13 Mar 2012
+	 */
+	public HardAI() {
+	}
+
 	/**
 	 * Internal ANN reference getter.
 	 * 
-	 * @return Internal ANN reference.
+	 * @return Internal ANN reference, or null before the first move.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
@@ -214,15 +211,13 @@ public class HardAI extends AI {
 	 */
 	@Override
 	protected void phaseOneMove() {
-		coordinates = null;
-
 		ann.loadInput(prepareAnnInput());
 		ann.feedForward();
 
 		/*
 		 * Find empty cell.
 		 */
-		coordinates = calculateCoordinatesPhaseOne(ann.storeOutput());
+		move = calculateCoordinatesPhaseOne(ann.storeOutput());
 	}
 
 	/**
@@ -236,31 +231,24 @@ public class HardAI extends AI {
 	 * @date 9 April 2012
 	 */
 	@Override
-	protected void phaseTwoMove() throws Exception {
-		coordinates = null;
-
+	protected void phaseTwoMove() {
 		ann.loadInput(prepareAnnInput());
 		ann.feedForward();
-		coordinates = calculateCoordinatesPhaseTwo(ann.storeOutput());
 
-		if (coordinates == null) {
-			throw (new Exception("There is not valid move!"));
-		}
+		/*
+		 * NO_MOVE if there is not valid move.
+		 */
+		move = calculateCoordinatesPhaseTwo(ann.storeOutput());
 	}
 
 	/**
 	 * Implements the move of the Artificial Intelligence.
 	 * 
-	 * @param stones
-	 *            Defines the stones on the board.
+	 * @param board
+	 *            The position with the AI on move. It is not changed.
 	 * 
-	 * @param who
-	 *            Defines who will be next on the move.
-	 * 
-	 * @param onMove
-	 *            Defines the number of turns.
-	 * 
-	 * @return Returns the coordinates on which the AI will move its piece.
+	 * @return Returns the cell on which the AI will move its piece, or
+	 *         NO_MOVE.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
@@ -268,46 +256,43 @@ public class HardAI extends AI {
 	 * 
 	 * @date 13 Mar 2012
 	 */
-	public Point move(int stones[][], int who, int onMove) throws Exception {
-		this.stones = stones;
-		this.who = who;
+	@Override
+	public int move(Board board) {
+		this.board = board;
+		move = NO_MOVE;
 
 		/*
 		 * We check if the board has been incorrectly initialized.
 		 */
-		if (stones == null) {
-			throw (new Exception("Incorrect board!"));
+		if (board == null) {
+			return (NO_MOVE);
 		}
 
 		/*
-		 * We check if the player that is on the board is correctly initialized.
+		 * The network has one input and one output for each cell, so it is
+		 * created by the first move and again when the board size changes.
 		 */
-		if (who != Board.NEGATIVE_PLAYER && who != Board.POSITIVE_PLAYER) {
-			throw (new Exception("Incorrect player!"));
+		if (ann == null || board.getCellCount() != cells) {
+			createAnn(board.getCellCount());
 		}
 
 		/*
 		 * Phase one A.I.
 		 */
-		if (onMove < Board.NUMBER_OF_DEPLOYMENT_MOVES) {
+		if (board.getTurn() < Board.NUMBER_OF_DEPLOYMENT_MOVES) {
 			phaseOneMove();
 		}
 
-		/*
-		 * If it is deployment move do not calculate rising position.
-		 */
-		if (onMove < Board.NUMBER_OF_DEPLOYMENT_MOVES) {
-			return (coordinates);
-		}
-
 		/*
 		 * Select valid move on phase two.
 		 */
-		if (onMove >= Board.NUMBER_OF_DEPLOYMENT_MOVES) {
+		if (board.getTurn() >= Board.NUMBER_OF_DEPLOYMENT_MOVES) {
 			phaseTwoMove();
 		}
 
-		return (coordinates);
+		this.board = null;
+
+		return (move);
 	}
 
 	/**
@@ -323,6 +308,8 @@ public class HardAI extends AI {
 	 * @date 16 Mar 2012
 	 */
 	void storeAnnFitness(double fitness) {
-		ann.setFitness(fitness);
+		if (ann != null) {
+			ann.setFitness(fitness);
+		}
 	}
 }
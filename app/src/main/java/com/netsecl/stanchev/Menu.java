@@ -23,11 +23,6 @@
 
 package com.netsecl.stanchev;
 
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-
 import android.app.Activity;
 import android.content.Intent;
 import android.os.Bundle;
@@ -47,22 +42,6 @@ import android.widget.Button;
  */
 public class Menu extends Activity implements OnClickListener {
 
-	/**
-	 * Name of the AI database file holding the Normal AI database table and
-	 * Hard AI database table.
-	 */
-	private static final String DATABASE_NAME = "ai.db";
-
-	/**
-	 * Path to the AI database file.
-	 */
-	private final String DATABASE_PATH = "/data/data/com.netsecl.stanchev/databases/";
-
-	/**
-	 * Full path to the AI database file.
-	 */
-	private final String path_DB = DATABASE_PATH + DATABASE_NAME;
-
 	/**
 	 * Shared preferences of the game.
 	 */
@@ -78,46 +57,6 @@ public class Menu extends Activity implements OnClickListener {
 	 */
 	//public static ScoreNinjaAdapter scoreNinjaAdapter;
 
-	/**
-	 * Private method used to copy the database file for the Normal and Hard AI.
-	 * 
-	 * @author Yuriy Stanchev
-	 * 
-	 * @email i_stanchev@ml1.net
-	 * 
-	 * @date 11 Mar 2012
-	 */
-	private void databaseCopy() {
-		InputStream copy;
-		try {
-			/*
-			 * Get the file from the assets folder.
-			 */
-			copy = getAssets().open(DATABASE_NAME);
-			/*
-			 * Open an empty output stream.
-			 */
-			OutputStream dbOut = new FileOutputStream(path_DB);
-			/*
-			 * Copy the file.
-			 */
-			byte[] buffer = new byte[1024];
-			int length;
-			while ((length = copy.read(buffer)) > 0) {
-				dbOut.write(buffer, 0, length);
-			}
-			/*
-			 * Close all streams.
-			 */
-			dbOut.flush();
-			dbOut.close();
-			copy.close();
-
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-	}
-
 	/**
 	 * Called when the activity is first created.
 	 * 
@@ -168,16 +107,6 @@ public class Menu extends Activity implements OnClickListener {
 		highscoreButton.setOnClickListener(this);
 		
 //		leaderboardButton.setOnClickListener(this);
-		/*
-		 * Used to create the database if it doesn't exist on the SD Card.
-		 */
-		NormalAISQLAdapter sqliteNormalAiHandle = new NormalAISQLAdapter(this);
-		sqliteNormalAiHandle.openToRead();
-		sqliteNormalAiHandle.close();
-		/*
-		 * Used to copy the database once it is initialized.
-		 */
-		databaseCopy();
 
 		/*
 		 * Initialize the ScoreNinja Adapter.
@@ -258,7 +187,7 @@ public class Menu extends Activity implements OnClickListener {
 		case R.id.bNew:
 			Intent game = new Intent(Menu.this, OverflowActivity.class);
 			Board board = new Board();
-			game.putExtra("board", board);
+			game.putExtra(OverflowActivity.BOARD_KEY, board);
 			startActivity(game);
 			break;
 
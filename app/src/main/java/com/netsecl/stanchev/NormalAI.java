@@ -23,8 +23,7 @@
 
 package com.netsecl.stanchev;
 
-import android.graphics.Point;
-import java.util.Vector;
+import java.util.Arrays;
 
 /**
  * This class is used for the implementation of the Normal AI of the game.
@@ -38,93 +37,163 @@ import java.util.Vector;
 public class NormalAI extends AI {
 
 	/**
-	 * Defines the maximum number of valid moves to be generated.
+	 * Neighbours of a cell up to two steps in the four directions - the cells
+	 * one step up, left, right and down, which the aperture sees, and then
+	 * the cells two steps up, left, right and down. The plus pattern of the
+	 * cell sees all of them.
 	 */
-	private static final int MAX_NUMBER_CELLS_CHECK = 10;
+	private static final int PLUS_NEIGHBOURS = 8;
 
 	/**
-	 * This determines the size for the aperture size, used for move evaluation.
+	 * The position with the AI on move.
 	 */
-	private static final int APERTURE_SIZE = 3;
+	private Board board;
 
 	/**
-	 * What kind of stones are on the board.
+	 * Holds the cell for the AI move.
 	 */
-	private int stones[][];
+	private int move = NO_MOVE;
 
 	/**
-	 * Uses +1 for the positive player and -1 for the negative player.
+	 * Neighbours of each cell, PLUS_NEIGHBOURS per cell, or -1 outside the
+	 * margins of the board. Prepared for the size of the last board.
 	 */
-	private int who;
+	private int apertures[] = null;
 
 	/**
-	 * Defines the number of turns.
+	 * Size of the board the apertures are prepared for.
 	 */
-	private int onMove;
+	private int apertureSize = 0;
 
 	/**
-	 * Holds the coordinates for the AI move.
+	 * Values of the cells at the last move, or null if the cache is empty.
 	 */
-	private Point coordinates = new Point();
+	private int seen[] = null;
 
 	/**
-	 * Finds randomly one valid move and returns the coordinates.
-	 * 
-	 * @return Valid move coordinates.
+	 * Player on move at the last move. The keys are seen from its side.
+	 */
+	private int seenWho = 0;
+
+	/**
+	 * Cached aperture key of each cell, or -1 if the cell has none.
+	 */
+	private int cellKeys[] = null;
+
+	/**
+	 * Cached plus pattern key of each cell, reduced by the symmetries, or -1
+	 * if the cell has none.
+	 */
+	private int plusKeys[] = null;
+
+	/**
+	 * Cached coefficient of each cell.
+	 */
+	private int evaluations[] = null;
+
+	/**
+	 * Set for the cells whose aperture has changed since the last move.
+	 */
+	private boolean changed[] = null;
+
+	/**
+	 * Prepares the cells in the aperture of each cell for the size of the
+	 * board.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
 	 * @email i_stanchev@ml1.net
 	 * 
-	 * @date 9 April 2012
+	 * @date 17 Oct 2026
 	 */
-	private Point findRandomValidMove() {
-		Point coordinates = new Point();
+	private void prepareApertures() {
+		int size = board.getSize();
 
-		/*
-		 * We find which cell is occupied by the AI player and if we have found
-		 * an occupied cell we move there.
-		 */
-		while (true) {
-			coordinates.x = (int) (Math.random() * stones.length);
-			coordinates.y = (int) (Math.random() * stones[coordinates.x].length);
-
-			if (stones[coordinates.x][coordinates.y] != Board.EMPTY_CELL
-					&& stones[coordinates.x][coordinates.y]
-							/ Math.abs(stones[coordinates.x][coordinates.y]) == who) {
-				break;
-			}
+		if (apertures != null && apertureSize == size) {
+			return;
 		}
 
-		return (coordinates);
+		apertureSize = size;
+		apertures = new int[PLUS_NEIGHBOURS * size * size];
+		cellKeys = new int[size * size];
+		plusKeys = new int[size * size];
+		evaluations = new int[size * size];
+		changed = new boolean[size * size];
+		seen = null;
+		Arrays.fill(cellKeys, -1);
+		Arrays.fill(plusKeys, -1);
+
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				int k = PLUS_NEIGHBOURS * (x * size + y);
+				apertures[k + 0] = (y > 0) ? x * size + y - 1 : -1;
+				apertures[k + 1] = (x > 0) ? (x - 1) * size + y : -1;
+				apertures[k + 2] = (x < size - 1) ? (x + 1) * size + y : -1;
+				apertures[k + 3] = (y < size - 1) ? x * size + y + 1 : -1;
+				apertures[k + 4] = (y > 1) ? x * size + y - 2 : -1;
+				apertures[k + 5] = (x > 1) ? (x - 2) * size + y : -1;
+				apertures[k + 6] = (x < size - 2) ? (x + 2) * size + y : -1;
+				apertures[k + 7] = (y < size - 2) ? x * size + y + 2 : -1;
+			}
+		}
 	}
 
 	/**
-	 * This method returns a set of valid possible moves.
-	 * 
-	 * @return Returns a valid set of moves.
+	 * Marks the cells whose apertures have changed since the last move - the
+	 * changed cells and the cells up to two steps from them in the four
+	 * directions - and remembers the new
+	 * values of the cells. All cells are marked the first time and when the
+	 * other player is on move.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
 	 * @email i_stanchev@ml1.net
 	 * 
-	 * @date 9 April 2012
+	 * @date 17 Oct 2026
 	 */
-	private Vector<Point> generateSetOfValidMoves() {
-		Vector<Point> moves = new Vector<Point>();
+	private void findChanges() {
+		int cells = board.getCellCount();
+
+		if (seen == null || seenWho != board.getWho()) {
+			seen = new int[cells];
+			seenWho = board.getWho();
 
-		for (int i = 0; i < MAX_NUMBER_CELLS_CHECK; i++) {
-			moves.add(findRandomValidMove());
+			for (int cell = 0; cell < cells; cell++) {
+				seen[cell] = board.stoneAt(cell);
+				changed[cell] = true;
+			}
+
+			return;
 		}
 
-		return (moves);
+		for (int cell = 0; cell < cells; cell++) {
+			int value = board.stoneAt(cell);
+
+			if (value == seen[cell]) {
+				continue;
+			}
+
+			seen[cell] = value;
+			changed[cell] = true;
+			for (int k = PLUS_NEIGHBOURS * cell, end = k
+					+ PLUS_NEIGHBOURS; k < end; k++) {
+				if (apertures[k] >= 0) {
+					changed[apertures[k]] = true;
+				}
+			}
+		}
 	}
 
 	/**
-	 * This method selects the best possible move from the generated possible
-	 * moves.
+	 * This method selects the best possible move from all cells of the AI
+	 * player. A cell is evaluated by the coefficient of its plus pattern of
+	 * radius 2, which sees the chain reactions of two steps, and by the
+	 * coefficient of its aperture if the plus pattern is not known. Only the
+	 * cells whose apertures have changed since the last move are evaluated
+	 * again, the others keep their cached coefficient, so a move costs about
+	 * as much as the cascade before it.
 	 * 
-	 * @return Returns coordinates of the best possible move.
+	 * @return Returns the cell of the best possible move.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
@@ -132,103 +201,50 @@ public class NormalAI extends AI {
 	 * 
 	 * @date 9 April 2012
 	 */
-	private Point selectBestMove() {
-		Vector<Point> moves = generateSetOfValidMoves();
+	private int selectBestMove() {
+		prepareApertures();
+		findChanges();
 
-		Point best = moves.get(0);
+		int who = board.getWho();
+		int best = NO_MOVE;
 		int bestEvaluation = 0;
-		for (int k = 0; k < moves.size(); k++) {
-			Point current = moves.get(k);
-
-			int aperture[][] = new int[APERTURE_SIZE][APERTURE_SIZE];
-			for (int j = 0; j < APERTURE_SIZE; j++) {
-				for (int i = 0; i < APERTURE_SIZE; i++) {
-					aperture[i][j] = Board.EMPTY_CELL;
-				}
+		for (int cell = 0; cell < board.getCellCount(); cell++) {
+			if (board.stoneAt(cell) * who <= 0) {
+				continue;
 			}
 
-			/*
-			 * Fill aperture.
-			 */
-			int x = current.x;
-			int y = current.y;
-			for (int j = 0; j < APERTURE_SIZE; j++) {
-				for (int i = 0; i < APERTURE_SIZE; i++) {
-					int m = x - APERTURE_SIZE / 2 + i;
-					int n = y - APERTURE_SIZE / 2 + j;
-
-					if (m < 0 || n < 0 || m >= stones.length) {
-						continue;
-					} else if (n >= stones[m].length) {
-						continue;
-					}
-
-					aperture[i][j] = stones[m][n];
-				}
+			if (best == NO_MOVE) {
+				best = cell;
 			}
 
 			/*
-			 * Aperture should be only for the positive player.
+			 * Equal keys after a change keep their coefficient.
 			 */
-			if (aperture[APERTURE_SIZE / 2][APERTURE_SIZE / 2] < 0) {
-				for (int j = 0; j < APERTURE_SIZE; j++) {
-					for (int i = 0; i < APERTURE_SIZE; i++) {
-						aperture[i][j] = -aperture[i][j];
+			if (changed[cell] == true) {
+				changed[cell] = false;
+
+				int key = PatternTable.key(board, cell);
+				int plusKey = PlusPatternTable.canonical(PlusPatternTable.key(
+						board, cell));
+				if (key != cellKeys[cell] || plusKey != plusKeys[cell]) {
+					cellKeys[cell] = key;
+					plusKeys[cell] = plusKey;
+					evaluations[cell] = GameView.obtainNormalAiPlus(plusKey);
+					if (evaluations[cell] == PlusPatternTable.NO_COEFFICIENT) {
+						evaluations[cell] = GameView.obtainNormalAi(key);
 					}
 				}
 			}
 
-			/*
-			 * Convert aperture to map key value for all five combinations.
-			 */
-			long keys[] = new long[5];
-
-			/*
-			 * Flip horizontal combination.
-			 */
-			keys[0] = (aperture[1][2] + 3) << 11 | (aperture[0][1] + 3) << 8
-					| (aperture[1][1] - 1) << 6 | (aperture[2][1] + 3) << 3
-					| (aperture[1][0] + 3) << 0;
-
-			/*
-			 * Flip vertical combination.
-			 */
-			keys[1] = (aperture[1][0] + 3) << 11 | (aperture[2][1] + 3) << 8
-					| (aperture[1][1] - 1) << 6 | (aperture[0][1] + 3) << 3
-					| (aperture[1][2] + 3) << 0;
-
-			/*
-			 * Flip primary diagonal combination.
-			 */
-			keys[2] = (aperture[0][1] + 3) << 11 | (aperture[1][0] + 3) << 8
-					| (aperture[1][1] - 1) << 6 | (aperture[1][2] + 3) << 3
-					| (aperture[2][1] + 3) << 0;
-
-			/*
-			 * Flip secondary diagonal combination.
-			 */
-			keys[3] = (aperture[2][1] + 3) << 11 | (aperture[1][2] + 3) << 8
-					| (aperture[1][1] - 1) << 6 | (aperture[1][0] + 3) << 3
-					| (aperture[0][1] + 3) << 0;
-
-			/*
-			 * Original combination.
-			 */
-			keys[4] = (aperture[1][0] + 3) << 11 | (aperture[0][1] + 3) << 8
-					| (aperture[1][1] - 1) << 6 | (aperture[2][1] + 3) << 3
-					| (aperture[1][2] + 3) << 0;
-
-			/*
-			 * Evaluate move.
-			 */
-			Integer evaluation = GameView.obtainNormalAi(keys);
+			int evaluation = evaluations[cell];
 
 			/*
 			 * If current move is better than the known until now save current
-			 * move info as best.
+			 * move info as best. The first of equal moves in the order of the
+			 * cells is kept, so the move does not depend on chance.
 			 */
-			if (evaluation != null && bestEvaluation < evaluation.intValue()) {
-				best = current;
+			if (bestEvaluation < evaluation) {
+				best = cell;
 				bestEvaluation = evaluation;
 			}
 		}
@@ -237,8 +253,8 @@ public class NormalAI extends AI {
 	}
 
 	/**
-	 * This method finds a random empty cell and sets the coordinates for the
-	 * move of the computer in the first phase of the game.
+	 * This method finds a random empty cell and sets the cell for the move of
+	 * the computer in the first phase of the game.
 	 * 
 	 * @author Yuriy Stanchev
 	 * 
@@ -251,11 +267,7 @@ public class NormalAI extends AI {
 		/*
 		 * Find empty cell.
 		 */
-		do {
-			coordinates.x = (int) (Math.random() * stones.length);
-			coordinates.y = (int) (Math.random() * stones[coordinates.x].length);
-		} while (onMove < Board.NUMBER_OF_DEPLOYMENT_MOVES
-				&& stones[coordinates.x][coordinates.y] != Board.EMPTY_CELL);
+		move = board.randomMove(RANDOM.get());
 	}
 
 	/**
@@ -269,37 +281,31 @@ public class NormalAI extends AI {
 	 * @date 9 April 2012
 	 */
 	@Override
-	protected void phaseTwoMove() throws Exception {
-		/*
-		 * Check for possible move.
-		 */
-		boolean found = false;
-		for (int i = 0; i < stones.length && found == false; i++) {
-			for (int j = 0; j < stones[i].length && found == false; j++) {
-				if (stones[i][j] != Board.EMPTY_CELL
-						&& stones[i][j] / Math.abs(stones[i][j]) == who) {
-					found = true;
-				}
-			}
-		}
-
+	protected void phaseTwoMove() {
 		/*
 		 * Handle not available move situation.
 		 */
-		if (found == false) {
-			throw (new Exception("There is no valid move!"));
+		if (board.getStoneCount(board.getWho()) == 0) {
+			move = NO_MOVE;
+			return;
 		}
 
 		/*
 		 * Select best move on phase two.
 		 */
-		coordinates = selectBestMove();
+		move = selectBestMove();
 	}
 
 	/**
 	 * This method gathers all stages together and returns the result of them as
 	 * a valid move.
 	 * 
+	 * @param board
+	 *            The position with the AI on move. It is not changed.
+	 * 
+	 * @return Returns the cell on which the AI will move its piece, or
+	 *         NO_MOVE.
+	 * 
 	 * @author Yuriy Stanchev
 	 * 
 	 * @email i_stanchev@ml1.net
@@ -307,47 +313,34 @@ public class NormalAI extends AI {
 	 * @date 9 April 2012
 	 */
 	@Override
-	public Point move(int stones[][], int who, int onMove) throws Exception {
-		this.stones = stones;
-		this.who = who;
-		this.onMove = onMove;
+	public int move(Board board) {
+		this.board = board;
+		move = NO_MOVE;
 
 		/*
 		 * We check if the board has been incorrectly initialized.
 		 */
-		if (stones == null) {
-			throw (new Exception("Incorrect board!"));
-		}
-
-		/*
-		 * We check if the player that is on the board is correctly initialized.
-		 */
-		if (who != Board.NEGATIVE_PLAYER && who != Board.POSITIVE_PLAYER) {
-			throw (new Exception("Incorrect player!"));
+		if (board == null) {
+			return (NO_MOVE);
 		}
 
 		/*
 		 * Phase one A.I.
 		 */
-		if (onMove < Board.NUMBER_OF_DEPLOYMENT_MOVES) {
+		if (board.getTurn() < Board.NUMBER_OF_DEPLOYMENT_MOVES) {
 			phaseOneMove();
 		}
 
-		/*
-		 * If it is deployment move do not calculate rising position.
-		 */
-		if (onMove < Board.NUMBER_OF_DEPLOYMENT_MOVES) {
-			return (coordinates);
-		}
-
 		/*
 		 * Select valid move on phase two.
 		 */
-		if (onMove >= Board.NUMBER_OF_DEPLOYMENT_MOVES) {
+		if (board.getTurn() >= Board.NUMBER_OF_DEPLOYMENT_MOVES) {
 			phaseTwoMove();
 		}
 
-		return (coordinates);
+		this.board = null;
+
+		return (move);
 	}
 
 }
@@ -26,7 +26,6 @@ package com.netsecl.stanchev;
 import android.app.Activity;
 import android.content.ContentValues;
 import android.content.Context;
-import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 import android.database.sqlite.SQLiteDatabase.CursorFactory;
@@ -325,33 +324,4 @@ public class NormalAISQLAdapter extends Activity {
 		values.put(KEY_COEFF, coeff);
 		sqLiteDatabase.update(DATABASE_TABLE, values, KEY_ID + "=" + id, null);
 	}
-
-	/**
-	 * Get the coefficient of the current combination.
-	 * 
-	 * @param keys
-	 *            Set of keys to be checked into the database.
-	 * 
-	 * @return Returns the coefficient of the combination.
-	 * 
-	 * @author Yuriy Stanchev
-	 * 
-	 * @email i_stanchev@ml1.net
-	 * 
-	 * @date 10 April 2012
-	 */
-	public Integer obtainCoefficient(long keys[]) {
-		Integer value = null;
-
-		Cursor cursor = this.sqLiteDatabase.rawQuery("SELECT " + KEY_COEFF
-				+ " FROM " + DATABASE_TABLE + " WHERE " + KEY_COMBINATION
-				+ " = " + keys[0] + " OR " + keys[1] + " OR " + keys[2]
-				+ " OR " + keys[3] + " OR " + keys[4], null);
-
-		if (cursor.moveToFirst() == true) {
-			value = Integer.parseInt(cursor.getString(0));
-		}
-
-		return (value);
-	}
 }
\ No newline at end of file
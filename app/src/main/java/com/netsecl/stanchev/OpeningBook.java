@@ -0,0 +1,238 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Book of the deployment moves. Each position of the deployment phase is
+ * stored once for all its symmetric copies, by the Zobrist key of its
+ * canonical representative, with the best move in the canonical position.
+ * The keys are sorted, so a lookup is one binary search.
+ * 
+ * The file is the header - magic, version, board size and number of entries -
+ * followed by the entries, each a long key and a char move, in the big-endian
+ * order of DataOutputStream. It is built by OpeningBookBuilder.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class OpeningBook {
+
+	/**
+	 * Name of the book in the assets.
+	 */
+	public static final String ASSET_NAME = "opening.bin";
+
+	/**
+	 * Returned by lookup when the position is not in the book.
+	 */
+	public static final int NO_MOVE = Board.NO_MOVE;
+
+	/**
+	 * First int of the file - "OVBK".
+	 */
+	private static final int MAGIC = 0x4F56424B;
+
+	/**
+	 * Version of the file format.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Size of the board of the book.
+	 */
+	private final int size;
+
+	/**
+	 * Sorted canonical keys of the positions.
+	 */
+	private final long keys[];
+
+	/**
+	 * Best move of each position, as a cell of the canonical position.
+	 */
+	private final char moves[];
+
+	/**
+	 * Creates a book.
+	 * 
+	 * @param size
+	 *            Size of the board of the book.
+	 * 
+	 * @param keys
+	 *            Sorted canonical keys of the positions.
+	 * 
+	 * @param moves
+	 *            Best move of each position in the canonical position.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	OpeningBook(int size, long keys[], char moves[]) {
+		this.size = size;
+		this.keys = keys;
+		this.moves = moves;
+	}
+
+	/**
+	 * Reads a book.
+	 * 
+	 * @param in
+	 *            Stream with the book. It is not closed.
+	 * 
+	 * @return Returns the book.
+	 * 
+	 * @throws IOException
+	 *             If the stream can not be read or does not hold a book.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static OpeningBook read(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(in);
+
+		if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+			throw (new IOException("Incorrect opening book!"));
+		}
+
+		int size = data.readInt();
+		int count = data.readInt();
+		if (size < Board.MIN_BOARD_SIZE || size > Board.MAX_BOARD_SIZE
+				|| count < 0) {
+			throw (new IOException("Incorrect opening book!"));
+		}
+
+		long keys[] = new long[count];
+		char moves[] = new char[count];
+		for (int i = 0; i < count; i++) {
+			keys[i] = data.readLong();
+			moves[i] = data.readChar();
+
+			if (i > 0 && keys[i] <= keys[i - 1] || moves[i] >= size * size) {
+				throw (new IOException("Incorrect opening book!"));
+			}
+		}
+
+		return (new OpeningBook(size, keys, moves));
+	}
+
+	/**
+	 * Writes the book.
+	 * 
+	 * @param out
+	 *            Stream for the book. It is flushed, not closed.
+	 * 
+	 * @throws IOException
+	 *             If the stream can not be written.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void write(OutputStream out) throws IOException {
+		DataOutputStream data = new DataOutputStream(out);
+
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		data.writeInt(size);
+		data.writeInt(keys.length);
+		for (int i = 0; i < keys.length; i++) {
+			data.writeLong(keys[i]);
+			data.writeChar(moves[i]);
+		}
+
+		data.flush();
+	}
+
+	/**
+	 * Number of positions in the book.
+	 * 
+	 * @return Returns the number of entries.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int size() {
+		return (keys.length);
+	}
+
+	/**
+	 * Finds the book move of a position.
+	 * 
+	 * @param board
+	 *            The position.
+	 * 
+	 * @return Returns the index of the cell of the move, or NO_MOVE if the
+	 *         position is not in the book.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int lookup(Board board) {
+		if (board.getSize() != size
+				|| board.getTurn() >= Board.NUMBER_OF_DEPLOYMENT_MOVES) {
+			return (NO_MOVE);
+		}
+
+		int transform = Symmetry.canonicalTransform(board);
+		long key = board.getKey();
+		if (transform != Symmetry.IDENTITY) {
+			key = board.computeKey(Symmetry.permutations(size)[transform]);
+		}
+
+		int index = Arrays.binarySearch(keys, key);
+		if (index < 0) {
+			return (NO_MOVE);
+		}
+
+		/*
+		 * The stored move is a cell of the canonical position.
+		 */
+		return (Symmetry.transformCell(size, Symmetry.inverse(transform),
+				moves[index]));
+	}
+}
@@ -37,7 +37,17 @@ import android.os.Bundle;
  * @date 11 Mar 2012
  */
 public class OverflowActivity extends Activity {
-	
+
+	/**
+	 * Key of the board in the Intent and in the saved instance state.
+	 */
+	static final String BOARD_KEY = "board";
+
+	/**
+	 * The view with the game in progress.
+	 */
+	private GameView view = null;
+
 	/**
 	 * Called when the activity is first created.
 	 * 
@@ -54,10 +64,71 @@ public class OverflowActivity extends Activity {
 	@Override
 	public void onCreate(Bundle bundle) {
 		super.onCreate(bundle);
-		Intent intent = getIntent();
-		Bundle extras = intent.getExtras();
-		Board board = (Board) extras.get("board");
-		GameView view = new GameView(this, board);
+
+		/*
+		 * A recreated activity continues the game in progress instead of the
+		 * one it was started with.
+		 */
+		Board board = null;
+		if (bundle != null) {
+			board = bundle.getParcelable(BOARD_KEY);
+		}
+		if (board == null) {
+			Intent intent = getIntent();
+			Bundle extras = intent.getExtras();
+			board = extras.getParcelable(BOARD_KEY);
+		}
+
+		view = new GameView(this, board);
 		setContentView(view);
 	}
+
+	/**
+	 * Cancels the AI move in progress, so it does not run in the background.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Override
+	protected void onPause() {
+		view.onPause();
+		super.onPause();
+	}
+
+	/**
+	 * Continues the AI move which was cancelled by onPause.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Override
+	protected void onResume() {
+		super.onResume();
+		view.onResume();
+	}
+
+	/**
+	 * Saves the game in progress, so it survives the recreation of the
+	 * activity.
+	 * 
+	 * @param bundle
+	 *            is used to save the state of the Activity.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Override
+	protected void onSaveInstanceState(Bundle bundle) {
+		super.onSaveInstanceState(bundle);
+		bundle.putParcelable(BOARD_KEY, view.board);
+	}
 }
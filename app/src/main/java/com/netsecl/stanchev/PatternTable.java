@@ -0,0 +1,265 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+import android.content.Context;
+
+import java.nio.ShortBuffer;
+
+/**
+ * Coefficients of the apertures used by the Normal AI, read in place from the
+ * mapped AI data. An aperture key holds the cells up, left, center, right and
+ * down of a move, seen as if the move is of the positive player, in 14 bits.
+ * 
+ * An aperture matches a stored combination if one of its five combinations -
+ * the original and the four flips - is stored. The flips are their own
+ * inverses, so each stored combination is written under all its five
+ * combinations when the table is built, and a lookup is a single read.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class PatternTable {
+
+	/**
+	 * Number of bits of an aperture key.
+	 */
+	public static final int KEY_BITS = 14;
+
+	/**
+	 * Number of the combinations of one aperture.
+	 */
+	public static final int COMBINATIONS = 5;
+
+	/**
+	 * Returned by coefficient for an aperture which is not stored. The stored
+	 * coefficients are positive.
+	 */
+	public static final int NO_COEFFICIENT = 0;
+
+	/**
+	 * The table of the AI data, or null until it is needed.
+	 */
+	private static volatile PatternTable instance = null;
+
+	/**
+	 * Coefficient of each aperture key.
+	 */
+	private final ShortBuffer coefficients;
+
+	/**
+	 * Creates the table from the rows of the normalai table.
+	 * 
+	 * @param rows
+	 *            Pairs of a combination and its coefficient, one after the
+	 *            other, in the order of the database. The first matching row
+	 *            wins, as in the database query.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	PatternTable(long rows[]) {
+		short table[] = new short[1 << KEY_BITS];
+
+		for (int r = 0; r + 1 < rows.length; r += 2) {
+			if (rows[r] < 0 || rows[r] >= table.length || rows[r + 1] <= 0
+					|| rows[r + 1] > Short.MAX_VALUE) {
+				throw (new IllegalArgumentException("Incorrect pattern data!"));
+			}
+
+			for (int c = 0; c < COMBINATIONS; c++) {
+				int key = combination((int) rows[r], c);
+
+				if (table[key] == NO_COEFFICIENT) {
+					table[key] = (short) rows[r + 1];
+				}
+			}
+		}
+
+		coefficients = ShortBuffer.wrap(table);
+	}
+
+	/**
+	 * Creates the table over coefficients which are already built.
+	 * 
+	 * @param coefficients
+	 *            One coefficient per aperture key. Read in place.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	PatternTable(ShortBuffer coefficients) {
+		if (coefficients.remaining() < 1 << KEY_BITS) {
+			throw (new IllegalArgumentException("Incorrect pattern data!"));
+		}
+
+		this.coefficients = coefficients.slice();
+	}
+
+	/**
+	 * Gives the table of the AI data, mapping the data on the first call. If
+	 * the data can not be read the table is empty. Safe to call from any
+	 * thread.
+	 * 
+	 * @param context
+	 *            Context with the assets.
+	 * 
+	 * @return Returns the table.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static PatternTable getInstance(Context context) {
+		PatternTable table = instance;
+
+		if (table == null) {
+			synchronized (PatternTable.class) {
+				table = instance;
+
+				if (table == null) {
+					AIData data = AIData.getInstance(context);
+
+					if (data != null && data.getPatterns() != null) {
+						table = new PatternTable(data.getPatterns());
+					} else {
+						table = new PatternTable(new long[0]);
+					}
+
+					instance = table;
+				}
+			}
+		}
+
+		return (table);
+	}
+
+	/**
+	 * One of the combinations of an aperture.
+	 * 
+	 * @param key
+	 *            Key of the original combination.
+	 * 
+	 * @param combination
+	 *            0 for the horizontal flip, 1 for the vertical flip, 2 for the
+	 *            flip over the primary diagonal, 3 for the flip over the
+	 *            secondary diagonal and 4 for the original.
+	 * 
+	 * @return Returns the key of the combination.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static int combination(int key, int combination) {
+		int up = (key >>> 11) & 0x07;
+		int left = (key >>> 8) & 0x07;
+		int center = (key >>> 6) & 0x03;
+		int right = (key >>> 3) & 0x07;
+		int down = (key >>> 0) & 0x07;
+
+		switch (combination) {
+		case 0:
+			return (down << 11 | left << 8 | center << 6 | right << 3 | up);
+		case 1:
+			return (up << 11 | right << 8 | center << 6 | left << 3 | down);
+		case 2:
+			return (left << 11 | up << 8 | center << 6 | down << 3 | right);
+		case 3:
+			return (right << 11 | down << 8 | center << 6 | up << 3 | left);
+		case 4:
+			return (key);
+		}
+
+		throw (new IllegalArgumentException("Incorrect combination!"));
+	}
+
+	/**
+	 * Calculates the key of the original combination of the aperture of a
+	 * cell, seen from the side of the player on move. The cells outside the
+	 * margins of the board are empty. The one calculation of the key, for
+	 * the lookups of NormalAI and for the mining of PatternMiner.
+	 * 
+	 * @param board
+	 *            The position.
+	 * 
+	 * @param cell
+	 *            Index x * size + y of a cell of the player on move.
+	 * 
+	 * @return Returns the key - up, left, center, right and down.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static int key(Board board, int cell) {
+		int size = board.getSize();
+		int who = board.getWho();
+		int x = cell / size;
+		int y = cell % size;
+
+		int up = (y > 0) ? who * board.stoneAt(x, y - 1) : 0;
+		int left = (x > 0) ? who * board.stoneAt(x - 1, y) : 0;
+		int right = (x < size - 1) ? who * board.stoneAt(x + 1, y) : 0;
+		int down = (y < size - 1) ? who * board.stoneAt(x, y + 1) : 0;
+		int center = who * board.stoneAt(cell);
+
+		return ((up + 3) << 11 | (left + 3) << 8 | (center - 1) << 6
+				| (right + 3) << 3 | (down + 3) << 0);
+	}
+
+	/**
+	 * Coefficient of an aperture.
+	 * 
+	 * @param key
+	 *            Key of the original combination of the aperture.
+	 * 
+	 * @return Returns the coefficient, or NO_COEFFICIENT if the aperture is
+	 *         not stored.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int coefficient(int key) {
+		return (coefficients.get(key));
+	}
+}
@@ -0,0 +1,627 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+
+/**
+ * Coefficients of the plus-shaped apertures of radius 2 used by the Normal
+ * AI, read in place from the mapped AI data. The aperture of a move holds the
+ * cell of the move and the two cells in each of the four directions, so it
+ * sees the chain reactions which the 3x3 aperture misses.
+ * 
+ * An aperture key holds the center as its stones minus one in 2 bits and then
+ * the four arms - up, right, down and left - in 6 bits each. An arm holds the
+ * near cell and the far cell in 3 bits each, as their value plus 3 or
+ * OFF_BOARD. The aperture is seen as if the move is of the positive player.
+ * The eight symmetries of the board turn the arms into each other, and only
+ * the smallest of the eight keys is stored.
+ * 
+ * The key space is too large for a direct table, so the stored keys are found
+ * by a minimal perfect hash - the keys are split in buckets by one hash, and
+ * each bucket has a displacement which sends its keys to free places by a
+ * second hash. A lookup is two hashes and three reads. The keys are kept as
+ * well, so apertures which are not stored are recognized.
+ * 
+ * The data is little-endian - the number of keys and of buckets, each an int,
+ * the displacement of each bucket and the key of each place, as ints, and the
+ * coefficient of each place, as shorts. It is built by PlusPatternBuilder.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class PlusPatternTable {
+
+	/**
+	 * Distance of the far cells of the arms from the center.
+	 */
+	public static final int RADIUS = 2;
+
+	/**
+	 * Returned by coefficient for an aperture which is not stored. The stored
+	 * coefficients are positive.
+	 */
+	public static final int NO_COEFFICIENT = 0;
+
+	/**
+	 * Value of a cell outside the margins of the board in a key.
+	 */
+	static final int OFF_BOARD = 7;
+
+	/**
+	 * Number of bits of one arm in a key.
+	 */
+	private static final int ARM_BITS = 6;
+
+	/**
+	 * Bits of one arm in a key.
+	 */
+	private static final int ARM_MASK = (1 << ARM_BITS) - 1;
+
+	/**
+	 * Average number of keys in a bucket.
+	 */
+	private static final int BUCKET_KEYS = 4;
+
+	/**
+	 * Largest displacement tried for a bucket.
+	 */
+	private static final int MAX_DISPLACEMENT = 1 << 24;
+
+	/**
+	 * Directions of the arms - up, right, down and left - as x and y steps.
+	 */
+	private static final int ARM_STEPS[][] = { { 0, -1 }, { 1, 0 }, { 0, 1 },
+			{ -1, 0 } };
+
+	/**
+	 * The table of the AI data, or null until it is needed.
+	 */
+	private static volatile PlusPatternTable instance = null;
+
+	/**
+	 * Tag of the log messages.
+	 */
+	private static final String TAG = "PlusPatternTable";
+
+	/**
+	 * Displacement of each bucket.
+	 */
+	private final IntBuffer displacements;
+
+	/**
+	 * Key of each place.
+	 */
+	private final IntBuffer keys;
+
+	/**
+	 * Coefficient of each place.
+	 */
+	private final ShortBuffer coefficients;
+
+	/**
+	 * Creates the table over its arrays.
+	 * 
+	 * @param displacements
+	 *            Displacement of each bucket.
+	 * 
+	 * @param keys
+	 *            Key of each place.
+	 * 
+	 * @param coefficients
+	 *            Coefficient of each place.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private PlusPatternTable(IntBuffer displacements, IntBuffer keys,
+			ShortBuffer coefficients) {
+		this.displacements = displacements;
+		this.keys = keys;
+		this.coefficients = coefficients;
+	}
+
+	/**
+	 * Builds the minimal perfect hash of the keys. The largest buckets are
+	 * placed first, while most places are free.
+	 * 
+	 * @param keys
+	 *            Canonical keys, each once.
+	 * 
+	 * @param coefficients
+	 *            Positive coefficient of each key.
+	 * 
+	 * @return Returns the table.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static PlusPatternTable build(int keys[], short coefficients[]) {
+		if (keys.length != coefficients.length) {
+			throw (new IllegalArgumentException("Incorrect pattern data!"));
+		}
+
+		int count = keys.length;
+		int buckets = Math.max(1, (count + BUCKET_KEYS - 1) / BUCKET_KEYS);
+
+		/*
+		 * Sort the keys by bucket, with the start of each bucket.
+		 */
+		int starts[] = new int[buckets + 1];
+		for (int i = 0; i < count; i++) {
+			starts[bucket(keys[i], buckets) + 1]++;
+		}
+		for (int b = 0; b < buckets; b++) {
+			starts[b + 1] += starts[b];
+		}
+		int sorted[] = new int[count];
+		int next[] = Arrays.copyOf(starts, buckets);
+		for (int i = 0; i < count; i++) {
+			sorted[next[bucket(keys[i], buckets)]++] = i;
+		}
+
+		/*
+		 * The buckets in the order of their size, the largest first. The
+		 * size is in the high bits, so one sort orders both.
+		 */
+		long order[] = new long[buckets];
+		for (int b = 0; b < buckets; b++) {
+			order[b] = (long) (starts[b] - starts[b + 1]) << 32 | b;
+		}
+		Arrays.sort(order);
+
+		int displacements[] = new int[buckets];
+		int placeKeys[] = new int[count];
+		short placeCoefficients[] = new short[count];
+		boolean taken[] = new boolean[count];
+		int places[] = new int[BUCKET_KEYS * 16];
+
+		for (long entry : order) {
+			int b = (int) entry;
+			int start = starts[b];
+			int size = starts[b + 1] - start;
+
+			if (size == 0) {
+				continue;
+			}
+			if (size > places.length) {
+				places = new int[size];
+			}
+
+			int d = 0;
+			for (;; d++) {
+				if (d == MAX_DISPLACEMENT) {
+					throw (new IllegalArgumentException(
+							"Incorrect pattern data - equal keys!"));
+				}
+
+				int placed = 0;
+				for (; placed < size; placed++) {
+					int place = place(keys[sorted[start + placed]], d, count);
+
+					if (taken[place] == true) {
+						break;
+					}
+
+					taken[place] = true;
+					places[placed] = place;
+				}
+
+				if (placed == size) {
+					break;
+				}
+
+				for (int i = 0; i < placed; i++) {
+					taken[places[i]] = false;
+				}
+			}
+
+			displacements[b] = d;
+			for (int i = 0; i < size; i++) {
+				int k = sorted[start + i];
+
+				if (coefficients[k] <= NO_COEFFICIENT) {
+					throw (new IllegalArgumentException(
+							"Incorrect pattern coefficient!"));
+				}
+
+				placeKeys[places[i]] = keys[k];
+				placeCoefficients[places[i]] = coefficients[k];
+			}
+		}
+
+		return (new PlusPatternTable(IntBuffer.wrap(displacements),
+				IntBuffer.wrap(placeKeys), ShortBuffer.wrap(placeCoefficients)));
+	}
+
+	/**
+	 * Reads a table in place.
+	 * 
+	 * @param buffer
+	 *            The data, from its position to its limit.
+	 * 
+	 * @return Returns the table.
+	 * 
+	 * @throws IOException
+	 *             If the data is not in the expected format.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static PlusPatternTable read(ByteBuffer buffer) throws IOException {
+		ByteBuffer data = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+
+		if (data.remaining() < 8) {
+			throw (new IOException("Incorrect plus pattern data!"));
+		}
+
+		int count = data.getInt(0);
+		int buckets = data.getInt(4);
+		if (count < 0 || buckets < 1
+				|| data.remaining() < 8 + 4L * buckets + 6L * count) {
+			throw (new IOException("Incorrect plus pattern data!"));
+		}
+
+		data.position(8);
+		IntBuffer displacements = slice(data, 4 * buckets).asIntBuffer();
+		IntBuffer keys = slice(data, 4 * count).asIntBuffer();
+		ShortBuffer coefficients = slice(data, 2 * count).asShortBuffer();
+
+		return (new PlusPatternTable(displacements, keys, coefficients));
+	}
+
+	/**
+	 * Cuts the next bytes of a buffer.
+	 * 
+	 * @param data
+	 *            The buffer. Its position moves after the bytes.
+	 * 
+	 * @param bytes
+	 *            Number of bytes.
+	 * 
+	 * @return Returns the bytes in little-endian order.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static ByteBuffer slice(ByteBuffer data, int bytes) {
+		ByteBuffer part = data.slice();
+		part.limit(bytes);
+		data.position(data.position() + bytes);
+
+		return (part.order(ByteOrder.LITTLE_ENDIAN));
+	}
+
+	/**
+	 * Number of bytes written by write.
+	 * 
+	 * @return Returns the size of the data.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int bytes() {
+		return (8 + 4 * displacements.limit() + 6 * keys.limit());
+	}
+
+	/**
+	 * Writes the table in the format read by read.
+	 * 
+	 * @param out
+	 *            Little-endian buffer with at least bytes() free bytes.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void write(ByteBuffer out) {
+		out.putInt(keys.limit());
+		out.putInt(displacements.limit());
+		for (int b = 0; b < displacements.limit(); b++) {
+			out.putInt(displacements.get(b));
+		}
+		for (int p = 0; p < keys.limit(); p++) {
+			out.putInt(keys.get(p));
+		}
+		for (int p = 0; p < coefficients.limit(); p++) {
+			out.putShort(coefficients.get(p));
+		}
+	}
+
+	/**
+	 * Gives the table of the AI data, mapping the data on the first call. If
+	 * the data has no such table the table is empty. Safe to call from any
+	 * thread.
+	 * 
+	 * @param context
+	 *            Context with the assets.
+	 * 
+	 * @return Returns the table.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static PlusPatternTable getInstance(Context context) {
+		PlusPatternTable table = instance;
+
+		if (table == null) {
+			synchronized (PlusPatternTable.class) {
+				table = instance;
+
+				if (table == null) {
+					AIData data = AIData.getInstance(context);
+
+					table = null;
+					if (data != null && data.getPlusPatterns() != null) {
+						try {
+							table = read(data.getPlusPatterns());
+						} catch (IOException e) {
+							Log.w(TAG, "The plus patterns can not be read!", e);
+						}
+					}
+					if (table == null) {
+						table = build(new int[0], new short[0]);
+					}
+
+					instance = table;
+				}
+			}
+		}
+
+		return (table);
+	}
+
+	/**
+	 * Mixes the bits of a key with a seed.
+	 * 
+	 * @param key
+	 *            The key.
+	 * 
+	 * @param seed
+	 *            The seed.
+	 * 
+	 * @return Returns the hash, not negative.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static int hash(int key, int seed) {
+		int h = key * 0x9E3779B1 + seed * 0x85EBCA6B;
+		h ^= h >>> 16;
+		h *= 0x7FEB352D;
+		h ^= h >>> 15;
+		h *= 0x846CA68B;
+		h ^= h >>> 16;
+
+		return (h & 0x7FFFFFFF);
+	}
+
+	/**
+	 * Bucket of a key.
+	 * 
+	 * @param key
+	 *            The key.
+	 * 
+	 * @param buckets
+	 *            Number of buckets.
+	 * 
+	 * @return Returns the bucket.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static int bucket(int key, int buckets) {
+		return (hash(key, 0) % buckets);
+	}
+
+	/**
+	 * Place of a key for a displacement of its bucket.
+	 * 
+	 * @param key
+	 *            The key.
+	 * 
+	 * @param displacement
+	 *            Displacement of the bucket.
+	 * 
+	 * @param count
+	 *            Number of places.
+	 * 
+	 * @return Returns the place.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static int place(int key, int displacement, int count) {
+		return (hash(key, displacement + 1) % count);
+	}
+
+	/**
+	 * Calculates the key of the aperture of a cell, seen from the side of the
+	 * player on move.
+	 * 
+	 * @param board
+	 *            The position.
+	 * 
+	 * @param cell
+	 *            Index x * size + y of a cell of the player on move.
+	 * 
+	 * @return Returns the key, not reduced by the symmetries.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static int key(Board board, int cell) {
+		int size = board.getSize();
+		int who = board.getWho();
+		int x = cell / size;
+		int y = cell % size;
+
+		int key = who * board.stoneAt(cell) - 1;
+		for (int a = 0; a < ARM_STEPS.length; a++) {
+			int arm = 0;
+
+			for (int d = 1; d <= RADIUS; d++) {
+				int m = x + d * ARM_STEPS[a][0];
+				int n = y + d * ARM_STEPS[a][1];
+				int value = OFF_BOARD;
+
+				if (m >= 0 && n >= 0 && m < size && n < size) {
+					value = who * board.stoneAt(m, n) + 3;
+				}
+
+				arm = arm << 3 | value;
+			}
+
+			key = key << ARM_BITS | arm;
+		}
+
+		return (key);
+	}
+
+	/**
+	 * Reduces a key by the symmetries of the board - the four rotations turn
+	 * the arms round, and the reflections reverse their order.
+	 * 
+	 * @param key
+	 *            Key of an aperture.
+	 * 
+	 * @return Returns the smallest key of the symmetric apertures.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static int canonical(int key) {
+		int center = key >>> (4 * ARM_BITS);
+
+		int best = key;
+		for (int r = 0; r < 4; r++) {
+			int turned = center;
+			int reflected = center;
+
+			for (int a = 0; a < 4; a++) {
+				turned = turned << ARM_BITS
+						| (key >>> ((3 - ((a + r) & 3)) * ARM_BITS)) & ARM_MASK;
+				reflected = reflected << ARM_BITS
+						| (key >>> ((3 - ((r - a) & 3)) * ARM_BITS)) & ARM_MASK;
+			}
+
+			best = Math.min(best, Math.min(turned, reflected));
+		}
+
+		return (best);
+	}
+
+	/**
+	 * Number of stored apertures.
+	 * 
+	 * @return Returns the number of keys.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int size() {
+		return (keys.limit());
+	}
+
+	/**
+	 * Coefficient of an aperture.
+	 * 
+	 * @param key
+	 *            Key of the aperture, reduced by canonical.
+	 * 
+	 * @return Returns the coefficient, or NO_COEFFICIENT if the aperture is
+	 *         not stored.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int coefficient(int key) {
+		int count = keys.limit();
+
+		if (count == 0) {
+			return (NO_COEFFICIENT);
+		}
+
+		int place = place(key,
+				displacements.get(bucket(key, displacements.limit())), count);
+
+		if (keys.get(place) != key) {
+			return (NO_COEFFICIENT);
+		}
+
+		return (coefficients.get(place));
+	}
+}
@@ -68,6 +68,11 @@ public class SettingsActivity extends Activity implements OnClickListener {
 	 */
 	private RadioButton hard;
 	
+	/**
+	 * A radio button to enable the look ahead AI against the Human.
+	 */
+	private RadioButton expert;
+	
 	
 	/**
 	 * A radio button to enable the Human vs Human game.
@@ -82,7 +87,7 @@ public class SettingsActivity extends Activity implements OnClickListener {
 	/**
 	 * Boolean array that holds if a setting is enabled or not. 
 	 */
-	private boolean[] settingsHolder = new boolean[5];
+	private boolean[] settingsHolder = new boolean[6];
 	
 	/**
 	 * Sets the settings from one state to another.
@@ -99,9 +104,11 @@ public class SettingsActivity extends Activity implements OnClickListener {
 		vibration.setText(settingsHolder[1] ? "Vibrate on" : "Vibrate off");
 		vibration.setChecked(settingsHolder[1]);
 		easy.setChecked(settingsHolder[2]);
-		human.setChecked(!settingsHolder[2]);
+		human.setChecked(!(settingsHolder[2] || settingsHolder[3]
+				|| settingsHolder[4] || settingsHolder[5]));
 		normal.setChecked(settingsHolder[3]);
 		hard.setChecked(settingsHolder[4]);
+		expert.setChecked(settingsHolder[5]);
 	
 	}
 
@@ -126,6 +133,8 @@ public class SettingsActivity extends Activity implements OnClickListener {
 		settingsHolder[3] = settings.getBoolean("normal", false);
 		
 		settingsHolder[4] = settings.getBoolean("hard", false);
+		
+		settingsHolder[5] = settings.getBoolean("expert", false);
 	}
 
 	/**
@@ -157,6 +166,8 @@ public class SettingsActivity extends Activity implements OnClickListener {
 		
 		hard = (RadioButton) findViewById(R.id.hard);
 		
+		expert = (RadioButton) findViewById(R.id.expert);
+		
 		human = (RadioButton) findViewById(R.id.human);
 		
 		back = (Button) findViewById(R.id.back);
@@ -174,6 +185,8 @@ public class SettingsActivity extends Activity implements OnClickListener {
 		
 		hard.setOnClickListener(this);
 		
+		expert.setOnClickListener(this);
+		
 		human.setOnClickListener(this);
 		
 		back.setOnClickListener(this);
@@ -217,24 +230,35 @@ public class SettingsActivity extends Activity implements OnClickListener {
 			editor.putBoolean("easy", true);
 			editor.putBoolean("normal", false);
 			editor.putBoolean("hard", false);
+			editor.putBoolean("expert", false);
 			break;
 			
 		case R.id.normal:
 			editor.putBoolean("normal", true);
 			editor.putBoolean("easy", false);
 			editor.putBoolean("hard", false);
+			editor.putBoolean("expert", false);
 			break;
 			
 		case R.id.hard:
 			editor.putBoolean("hard", true);
 			editor.putBoolean("easy", false);
 			editor.putBoolean("normal", false);
+			editor.putBoolean("expert", false);
+			break;
+			
+		case R.id.expert:
+			editor.putBoolean("expert", true);
+			editor.putBoolean("easy", false);
+			editor.putBoolean("normal", false);
+			editor.putBoolean("hard", false);
 			break;
 			
 		case R.id.human:
 			editor.putBoolean("easy", false);
 			editor.putBoolean("normal", false);
 			editor.putBoolean("hard", false);
+			editor.putBoolean("expert", false);
 			break;
 
 			
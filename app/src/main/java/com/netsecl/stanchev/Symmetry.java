@@ -0,0 +1,357 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+/**
+ * The eight symmetries of the square board - rotations and reflections. The
+ * rules of the game do not change under them, so positions which are
+ * symmetric to each other have equal values and can share one entry in
+ * caches, opening books and datasets.
+ * 
+ * Each symmetry is a permutation of the cell indices, precomputed once per
+ * board size, so the positions are never copied.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public final class Symmetry {
+
+	/**
+	 * Number of the symmetries of the square.
+	 */
+	public static final int TRANSFORMS = 8;
+
+	/**
+	 * The transform which leaves every cell in its place.
+	 */
+	public static final int IDENTITY = 0;
+
+	/**
+	 * Mask of the symmetries of a position with no symmetry.
+	 */
+	public static final int IDENTITY_MASK = 1 << IDENTITY;
+
+	/**
+	 * Transform which undoes each transform. The rotations at 90 and 270
+	 * degrees undo each other, all other transforms undo themselves.
+	 */
+	private static final int INVERSE[] = { 0, 3, 2, 1, 4, 5, 6, 7 };
+
+	/**
+	 * For each board size and transform - the new index of each cell.
+	 */
+	private static final int PERMUTATIONS[][][] = new int[Board.MAX_BOARD_SIZE + 1][][];
+
+	/**
+	 * Permutations of the default board, ready before first use.
+	 */
+	private static final int DEFAULT_PERMUTATIONS[][] = buildPermutations(Board.BOARD_SIZE);
+
+	/**
+	 * Only static methods.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private Symmetry() {
+	}
+
+	/**
+	 * Permutations of the cells of a board size. The ones of the default
+	 * board are always ready, the others are built on first use.
+	 * 
+	 * @param size
+	 *            Number of cells in one row or column.
+	 * 
+	 * @return Returns the new index of each cell for each transform.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	static int[][] permutations(int size) {
+		if (size == Board.BOARD_SIZE) {
+			return (DEFAULT_PERMUTATIONS);
+		}
+
+		return (buildPermutations(size));
+	}
+
+	/**
+	 * Builds the permutations of the cells of a board size, once per size.
+	 * 
+	 * @param size
+	 *            Number of cells in one row or column.
+	 * 
+	 * @return Returns the new index of each cell for each transform.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static synchronized int[][] buildPermutations(int size) {
+		if (PERMUTATIONS[size] != null) {
+			return (PERMUTATIONS[size]);
+		}
+
+		int table[][] = new int[TRANSFORMS][size * size];
+		int last = size - 1;
+
+		for (int x = 0; x < size; x++) {
+			for (int y = 0; y < size; y++) {
+				int cell = x * size + y;
+
+				/*
+				 * Identity, rotations at 90, 180 and 270 degrees, the two
+				 * axis reflections and the two diagonal reflections.
+				 */
+				table[0][cell] = x * size + y;
+				table[1][cell] = y * size + (last - x);
+				table[2][cell] = (last - x) * size + (last - y);
+				table[3][cell] = (last - y) * size + x;
+				table[4][cell] = (last - x) * size + y;
+				table[5][cell] = x * size + (last - y);
+				table[6][cell] = y * size + x;
+				table[7][cell] = (last - y) * size + (last - x);
+			}
+		}
+
+		PERMUTATIONS[size] = table;
+		return (table);
+	}
+
+	/**
+	 * The transform which undoes a transform.
+	 * 
+	 * @param transform
+	 *            Transform from 0 to TRANSFORMS - 1.
+	 * 
+	 * @return Returns the inverse transform.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static int inverse(int transform) {
+		return (INVERSE[transform]);
+	}
+
+	/**
+	 * Where a cell goes under a transform. Used to map moves between a
+	 * position and its canonical representative.
+	 * 
+	 * @param size
+	 *            Number of cells in one row or column.
+	 * 
+	 * @param transform
+	 *            Transform from 0 to TRANSFORMS - 1.
+	 * 
+	 * @param cell
+	 *            Index x * size + y of the cell.
+	 * 
+	 * @return Returns the index of the transformed cell.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static int transformCell(int size, int transform, int cell) {
+		return (permutations(size)[transform][cell]);
+	}
+
+	/**
+	 * Compares two transformed copies of a position cell by cell, without
+	 * building them.
+	 * 
+	 * @param board
+	 *            The position.
+	 * 
+	 * @param first
+	 *            Inverse permutation of the first transform.
+	 * 
+	 * @param second
+	 *            Inverse permutation of the second transform.
+	 * 
+	 * @return Returns a negative number, zero or a positive number if the
+	 *         first copy is lexicographically smaller, equal or greater.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static int compare(Board board, int first[], int second[]) {
+		for (int cell = 0; cell < first.length; cell++) {
+			int difference = board.stoneAt(first[cell])
+					- board.stoneAt(second[cell]);
+
+			if (difference != 0) {
+				return (difference);
+			}
+		}
+
+		return (0);
+	}
+
+	/**
+	 * Finds the transform which gives the lexicographically smallest copy of
+	 * the position. All symmetric positions have the same smallest copy, so it
+	 * represents the whole symmetry class.
+	 * 
+	 * @param board
+	 *            The position.
+	 * 
+	 * @return Returns the transform to the canonical representative.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static int canonicalTransform(Board board) {
+		int table[][] = permutations(board.getSize());
+		int best = IDENTITY;
+
+		/*
+		 * Cell i of the copy made by transform t holds the stone of cell
+		 * table[inverse(t)][i] of the position.
+		 */
+		for (int t = 1; t < TRANSFORMS; t++) {
+			if (compare(board, table[INVERSE[t]], table[INVERSE[best]]) < 0) {
+				best = t;
+			}
+		}
+
+		return (best);
+	}
+
+	/**
+	 * Zobrist key of the canonical representative of the position. Equal for
+	 * all symmetric positions with the same player on move.
+	 * 
+	 * @param board
+	 *            The position.
+	 * 
+	 * @return Returns the key of the symmetry class.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static long canonicalKey(Board board) {
+		int transform = canonicalTransform(board);
+
+		if (transform == IDENTITY) {
+			return (board.getKey());
+		}
+
+		return (board.computeKey(permutations(board.getSize())[transform]));
+	}
+
+	/**
+	 * Finds the transforms which leave the position unchanged.
+	 * 
+	 * @param board
+	 *            The position.
+	 * 
+	 * @return Returns a mask with bit t set for each such transform t. The
+	 *         identity is always in the mask.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static int stabilizer(Board board) {
+		int table[][] = permutations(board.getSize());
+		int mask = IDENTITY_MASK;
+
+		for (int t = 1; t < TRANSFORMS; t++) {
+			if (compare(board, table[t], table[IDENTITY]) == 0) {
+				mask |= 1 << t;
+			}
+		}
+
+		return (mask);
+	}
+
+	/**
+	 * Decides if a move has to be searched in a position with the given
+	 * symmetries. Moves which a symmetry of the position maps to each other
+	 * lead to symmetric positions, so only the one with the smallest cell
+	 * index is searched.
+	 * 
+	 * @param size
+	 *            Number of cells in one row or column.
+	 * 
+	 * @param stabilizer
+	 *            Mask of the symmetries of the position, see
+	 *            {@link #stabilizer(Board)}.
+	 * 
+	 * @param cell
+	 *            Index x * size + y of the cell of the move.
+	 * 
+	 * @return Returns false if a symmetric move with a smaller cell index
+	 *         exists.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static boolean isCanonicalMove(int size, int stabilizer, int cell) {
+		if (stabilizer == IDENTITY_MASK) {
+			return (true);
+		}
+
+		int table[][] = permutations(size);
+		for (int t = 1; t < TRANSFORMS; t++) {
+			if ((stabilizer & (1 << t)) != 0 && table[t][cell] < cell) {
+				return (false);
+			}
+		}
+
+		return (true);
+	}
+}
@@ -0,0 +1,430 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+import java.util.Arrays;
+
+/**
+ * Cache of searched positions, keyed by the Zobrist key of the position.
+ * Cascades end in the same position whatever order the cells overflow in,
+ * so many move orders transpose into one position.
+ * 
+ * The table is a fixed array of longs. Each bucket has two entries - the
+ * first keeps the deepest search, the second is always replaced. An entry is
+ * two longs - the key XOR the data, and the data. Several search threads can
+ * read and write without locks: an entry torn by a concurrent write fails
+ * the XOR check and is seen as a miss.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class TranspositionTable {
+
+	/**
+	 * The score is an upper bound - the search failed low.
+	 */
+	public static final int BOUND_UPPER = 1;
+
+	/**
+	 * The score is a lower bound - the search failed high.
+	 */
+	public static final int BOUND_LOWER = 2;
+
+	/**
+	 * The score is exact.
+	 */
+	public static final int BOUND_EXACT = 3;
+
+	/**
+	 * Stored instead of a move when the search found no best move.
+	 */
+	public static final int NO_MOVE = 0xFFFF;
+
+	/**
+	 * Returned by probe when the position is not in the table.
+	 */
+	public static final long MISS = 0L;
+
+	/**
+	 * Number of longs of one entry.
+	 */
+	private static final int ENTRY_LONGS = 2;
+
+	/**
+	 * Number of longs of one bucket - the depth-preferred and the
+	 * always-replace entry.
+	 */
+	private static final int BUCKET_LONGS = 2 * ENTRY_LONGS;
+
+	/**
+	 * Layout of the data long - move in bits 0-15, score in bits 16-47, depth
+	 * in bits 48-55, bound in bits 56-57 and search generation in bits 58-63.
+	 */
+	private static final int SCORE_SHIFT = 16;
+
+	/**
+	 * See SCORE_SHIFT.
+	 */
+	private static final int DEPTH_SHIFT = 48;
+
+	/**
+	 * See SCORE_SHIFT.
+	 */
+	private static final int BOUND_SHIFT = 56;
+
+	/**
+	 * See SCORE_SHIFT.
+	 */
+	private static final int GENERATION_SHIFT = 58;
+
+	/**
+	 * Largest depth which can be stored.
+	 */
+	public static final int MAX_DEPTH = 0xFF;
+
+	/**
+	 * The entries, BUCKET_LONGS longs per bucket.
+	 */
+	private final long table[];
+
+	/**
+	 * Number of buckets minus one. The number of buckets is a power of two.
+	 */
+	private final int mask;
+
+	/**
+	 * Number of the current search, used to replace entries left by older
+	 * searches first.
+	 */
+	private volatile int generation = 0;
+
+	/**
+	 * Creates a table which takes about the given amount of memory.
+	 * 
+	 * @param megabytes
+	 *            Size of the table in MB. Rounded down to a power of two
+	 *            number of buckets.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public TranspositionTable(int megabytes) {
+		if (megabytes < 1 || megabytes > 1024) {
+			throw (new IllegalArgumentException("Incorrect table size!"));
+		}
+
+		long buckets = (megabytes * 1024L * 1024L) / (BUCKET_LONGS * 8);
+		buckets = Long.highestOneBit(buckets);
+
+		table = new long[(int) (buckets * BUCKET_LONGS)];
+		mask = (int) (buckets - 1);
+	}
+
+	/**
+	 * Packs the information of one search into the data of an entry.
+	 * 
+	 * @param move
+	 *            Best move or NO_MOVE.
+	 * 
+	 * @param score
+	 *            Score of the position.
+	 * 
+	 * @param depth
+	 *            Depth of the search, from 0 to MAX_DEPTH.
+	 * 
+	 * @param bound
+	 *            BOUND_UPPER, BOUND_LOWER or BOUND_EXACT.
+	 * 
+	 * @param generation
+	 *            Number of the search.
+	 * 
+	 * @return Returns the packed data.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static long pack(int move, int score, int depth, int bound,
+			int generation) {
+		return ((move & 0xFFFFL) | (score & 0xFFFFFFFFL) << SCORE_SHIFT
+				| (long) depth << DEPTH_SHIFT | (long) bound << BOUND_SHIFT
+				| (long) (generation & 0x3F) << GENERATION_SHIFT);
+	}
+
+	/**
+	 * Best move of a probed entry.
+	 * 
+	 * @param data
+	 *            Data returned by probe.
+	 * 
+	 * @return Returns the move or NO_MOVE.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static int getMove(long data) {
+		return ((int) (data & 0xFFFF));
+	}
+
+	/**
+	 * Score of a probed entry.
+	 * 
+	 * @param data
+	 *            Data returned by probe.
+	 * 
+	 * @return Returns the score.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static int getScore(long data) {
+		return ((int) (data >>> SCORE_SHIFT));
+	}
+
+	/**
+	 * Search depth of a probed entry.
+	 * 
+	 * @param data
+	 *            Data returned by probe.
+	 * 
+	 * @return Returns the depth.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static int getDepth(long data) {
+		return ((int) (data >>> DEPTH_SHIFT) & 0xFF);
+	}
+
+	/**
+	 * Bound type of a probed entry.
+	 * 
+	 * @param data
+	 *            Data returned by probe.
+	 * 
+	 * @return Returns BOUND_UPPER, BOUND_LOWER or BOUND_EXACT.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static int getBound(long data) {
+		return ((int) (data >>> BOUND_SHIFT) & 0x03);
+	}
+
+	/**
+	 * Search generation of the data of an entry.
+	 * 
+	 * @param data
+	 *            Data of an entry.
+	 * 
+	 * @return Returns the generation modulo 64.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static int getGeneration(long data) {
+		return ((int) (data >>> GENERATION_SHIFT));
+	}
+
+	/**
+	 * Looks for a position in the table.
+	 * 
+	 * @param key
+	 *            Zobrist key of the position.
+	 * 
+	 * @return Returns the data of the entry, to be read with getMove,
+	 *         getScore, getDepth and getBound, or MISS.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public long probe(long key) {
+		int index = ((int) key & mask) * BUCKET_LONGS;
+
+		for (int i = index; i < index + BUCKET_LONGS; i += ENTRY_LONGS) {
+			long data = table[i + 1];
+
+			/*
+			 * Both longs are read once, so a concurrent write can only make
+			 * the check fail.
+			 */
+			if (data != MISS && (table[i] ^ data) == key) {
+				return (data);
+			}
+		}
+
+		return (MISS);
+	}
+
+	/**
+	 * Stores the result of a search. The depth-preferred entry is replaced by
+	 * the same position, by a search at least as deep or by a search of the
+	 * current generation over an older one. Otherwise the result goes into
+	 * the always-replace entry.
+	 * 
+	 * @param key
+	 *            Zobrist key of the position.
+	 * 
+	 * @param move
+	 *            Best move or NO_MOVE. NO_MOVE keeps the move already stored
+	 *            for the position.
+	 * 
+	 * @param score
+	 *            Score of the position.
+	 * 
+	 * @param depth
+	 *            Depth of the search. Larger depths are stored as MAX_DEPTH.
+	 * 
+	 * @param bound
+	 *            BOUND_UPPER, BOUND_LOWER or BOUND_EXACT.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void store(long key, int move, int score, int depth, int bound) {
+		int index = ((int) key & mask) * BUCKET_LONGS;
+		int current = generation & 0x3F;
+
+		if (depth > MAX_DEPTH) {
+			depth = MAX_DEPTH;
+		}
+		if (depth < 0) {
+			depth = 0;
+		}
+
+		long preferred = table[index + 1];
+		boolean same = (preferred != MISS && (table[index] ^ preferred) == key);
+
+		int slot = index + ENTRY_LONGS;
+		if (same == true || preferred == MISS || depth >= getDepth(preferred)
+				|| getGeneration(preferred) != current) {
+			slot = index;
+		}
+
+		if (move == NO_MOVE) {
+			long old = probe(key);
+			if (old != MISS) {
+				move = getMove(old);
+			}
+		}
+
+		long data = pack(move, score, depth, bound, current);
+		table[slot] = key ^ data;
+		table[slot + 1] = data;
+	}
+
+	/**
+	 * Starts a new search. Entries of older searches are replaced first.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void newSearch() {
+		generation++;
+	}
+
+	/**
+	 * Removes all entries.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void clear() {
+		Arrays.fill(table, 0L);
+	}
+
+	/**
+	 * Number of entries the table can hold.
+	 * 
+	 * @return Returns the capacity of the table.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int capacity() {
+		return (table.length / ENTRY_LONGS);
+	}
+
+	/**
+	 * Estimates how full the table is from its first entries.
+	 * 
+	 * @return Returns the used entries per thousand.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int usage() {
+		int entries = Math.min(1000, capacity());
+		int used = 0;
+
+		for (int i = 0; i < entries; i++) {
+			if (table[i * ENTRY_LONGS + 1] != MISS) {
+				used++;
+			}
+		}
+
+		return (used * 1000 / entries);
+	}
+}
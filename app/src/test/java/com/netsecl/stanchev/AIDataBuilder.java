@@ -0,0 +1,346 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Offline builder of the AI data file. Reads the exported normalai and hardai
+ * tables of the old AI database and writes them in the format of AIData.
+ * 
+ * The patterns are read one row per line - the combination and the
+ * coefficient, in the order of the ids, as written by
+ * sqlite3 ai.db "select combination, coefficient from normalai order by id".
+ * The weight sets are read one set per line - the sizes of the input, hidden
+ * and output layers, the fitness and the weights. The plus patterns are read
+ * from the file written by PlusPatternBuilder.
+ * 
+ * Usage: AIDataBuilder [-plus plus] patterns [weights] file
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class AIDataBuilder {
+
+	/**
+	 * The coefficients of the Normal AI.
+	 */
+	private PatternTable patterns = null;
+
+	/**
+	 * The weight sets - sizes of the layers, fitness and weights.
+	 */
+	private final List<double[]> weightSets = new ArrayList<double[]>();
+
+	/**
+	 * The coefficients of the apertures of radius 2 of the Normal AI.
+	 */
+	private PlusPatternTable plusPatterns = null;
+
+	/**
+	 * Sets the coefficients of the Normal AI.
+	 * 
+	 * @param patterns
+	 *            The coefficients.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void setPatterns(PatternTable patterns) {
+		this.patterns = patterns;
+	}
+
+	/**
+	 * Sets the coefficients of the apertures of radius 2 of the Normal AI.
+	 * 
+	 * @param plusPatterns
+	 *            The coefficients.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void setPlusPatterns(PlusPatternTable plusPatterns) {
+		this.plusPatterns = plusPatterns;
+	}
+
+	/**
+	 * Adds a weight set of the Hard AI.
+	 * 
+	 * @param input
+	 *            Size of the input layer.
+	 * 
+	 * @param hidden
+	 *            Size of the hidden layer.
+	 * 
+	 * @param output
+	 *            Size of the output layer.
+	 * 
+	 * @param fitness
+	 *            Fitness of the set.
+	 * 
+	 * @param weights
+	 *            Weights in the order of ANN3Layers.getWeights.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void addWeights(int input, int hidden, int output, double fitness,
+			double weights[]) {
+		if (weights.length != (input + 1) * (hidden + 1) + (hidden + 1)
+				* (output + 1)) {
+			throw (new IllegalArgumentException("Incorrect number of weights!"));
+		}
+
+		double set[] = new double[4 + weights.length];
+		set[0] = input;
+		set[1] = hidden;
+		set[2] = output;
+		set[3] = fitness;
+		System.arraycopy(weights, 0, set, 4, weights.length);
+		weightSets.add(set);
+	}
+
+	/**
+	 * Builds the file in memory.
+	 * 
+	 * @return Returns the whole file.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public byte[] build() {
+		int keys = 1 << PatternTable.KEY_BITS;
+		int patternBytes = (patterns == null) ? 0
+				: AIData.SECTION_HEADER_BYTES + 8 + 2 * keys;
+
+		int weightBytes = AIData.SECTION_HEADER_BYTES + 8;
+		for (double set[] : weightSets) {
+			weightBytes += AIData.WEIGHT_SET_BYTES + 8 * (set.length - 4);
+		}
+
+		/*
+		 * Sections start at a multiple of 8 bytes.
+		 */
+		int plusBytes = (plusPatterns == null) ? 0
+				: AIData.SECTION_HEADER_BYTES + (plusPatterns.bytes() + 7) / 8
+						* 8;
+
+		ByteBuffer buffer = ByteBuffer.allocate(
+				AIData.HEADER_BYTES + patternBytes + weightBytes + plusBytes)
+				.order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.putInt(AIData.MAGIC);
+		buffer.putInt(AIData.VERSION);
+		buffer.putInt(patternBytes + weightBytes + plusBytes);
+		buffer.putInt(0);
+
+		if (patterns != null) {
+			buffer.putInt(AIData.PATTERN_SECTION);
+			buffer.putInt(8 + 2 * keys);
+			buffer.putInt(PatternTable.KEY_BITS);
+			buffer.putInt(0);
+			for (int key = 0; key < keys; key++) {
+				buffer.putShort((short) patterns.coefficient(key));
+			}
+		}
+
+		buffer.putInt(AIData.WEIGHT_SECTION);
+		buffer.putInt(weightBytes - AIData.SECTION_HEADER_BYTES);
+		buffer.putInt(weightSets.size());
+		buffer.putInt(0);
+		for (double set[] : weightSets) {
+			buffer.putInt((int) set[0]);
+			buffer.putInt((int) set[1]);
+			buffer.putInt((int) set[2]);
+			buffer.putInt(set.length - 4);
+			for (int i = 3; i < set.length; i++) {
+				buffer.putDouble(set[i]);
+			}
+		}
+
+		if (plusPatterns != null) {
+			buffer.putInt(AIData.PLUS_PATTERN_SECTION);
+			buffer.putInt(plusBytes - AIData.SECTION_HEADER_BYTES);
+			plusPatterns.write(buffer);
+			buffer.position(buffer.limit());
+		}
+
+		/*
+		 * The checksum covers the sections, so it is written when they are
+		 * finished.
+		 */
+		buffer.position(AIData.HEADER_BYTES);
+		buffer.putInt(12, AIData.checksum(buffer));
+
+		return (buffer.array());
+	}
+
+	/**
+	 * Reads the numbers of each line of a text file.
+	 * 
+	 * @param name
+	 *            Name of the file.
+	 * 
+	 * @return Returns the numbers of each line which is not empty.
+	 * 
+	 * @throws IOException
+	 *             If the file can not be read.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static List<String[]> readLines(String name) throws IOException {
+		List<String[]> lines = new ArrayList<String[]>();
+
+		BufferedReader in = new BufferedReader(new FileReader(name));
+		try {
+			for (String line = in.readLine(); line != null; line = in
+					.readLine()) {
+				line = line.trim();
+				if (line.length() > 0) {
+					lines.add(line.split("[\\s|,]+"));
+				}
+			}
+		} finally {
+			in.close();
+		}
+
+		return (lines);
+	}
+
+	/**
+	 * Builds the AI data and writes it to a file.
+	 * 
+	 * @param args
+	 *            Optional -plus and name of the plus patterns file, name of
+	 *            the patterns file, optional name of the weights file and
+	 *            name of the data file.
+	 * 
+	 * @throws Exception
+	 *             If the data can not be read or written.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static void main(String args[]) throws Exception {
+		AIDataBuilder builder = new AIDataBuilder();
+
+		if (args.length > 2 && args[0].equals("-plus") == true) {
+			File file = new File(args[1]);
+			byte bytes[] = new byte[(int) file.length()];
+
+			FileInputStream in = new FileInputStream(file);
+			try {
+				int done = 0;
+				while (done < bytes.length) {
+					int read = in.read(bytes, done, bytes.length - done);
+					if (read < 0) {
+						throw (new IOException("Incorrect plus pattern file!"));
+					}
+					done += read;
+				}
+			} finally {
+				in.close();
+			}
+
+			builder.setPlusPatterns(PlusPatternTable.read(ByteBuffer
+					.wrap(bytes)));
+			args = Arrays.copyOfRange(args, 2, args.length);
+		}
+
+		if (args.length != 2 && args.length != 3) {
+			System.out.println("Usage: AIDataBuilder [-plus plus] patterns"
+					+ " [weights] file");
+			return;
+		}
+
+		List<String[]> rows = readLines(args[0]);
+		long pairs[] = new long[2 * rows.size()];
+		for (int r = 0; r < rows.size(); r++) {
+			pairs[2 * r] = Long.parseLong(rows.get(r)[0]);
+			pairs[2 * r + 1] = Long.parseLong(rows.get(r)[1]);
+		}
+		builder.setPatterns(new PatternTable(pairs));
+
+		if (args.length == 3) {
+			for (String set[] : readLines(args[1])) {
+				double weights[] = new double[set.length - 4];
+				for (int i = 0; i < weights.length; i++) {
+					weights[i] = Double.parseDouble(set[4 + i]);
+				}
+
+				builder.addWeights(Integer.parseInt(set[0]),
+						Integer.parseInt(set[1]), Integer.parseInt(set[2]),
+						Double.parseDouble(set[3]), weights);
+			}
+		}
+
+		byte data[] = builder.build();
+
+		OutputStream out = new FileOutputStream(args[args.length - 1]);
+		try {
+			out.write(data);
+		} finally {
+			out.close();
+		}
+
+		System.out.println(rows.size() + " patterns, "
+				+ builder.weightSets.size() + " weight sets and "
+				+ ((builder.plusPatterns == null) ? 0 : builder.plusPatterns
+						.size()) + " plus patterns written to "
+				+ args[args.length - 1]);
+	}
+}
@@ -0,0 +1,855 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Offline throughput measurements of the game logic. Random games are recorded
+ * once and then replayed on each engine, so all engines do exactly the same
+ * work and their final positions can be compared.
+ *
+ * Like the builders of the AI data, it is kept in the test sources, so it is
+ * not packed in the application. It runs on a desktop JVM with the compiled
+ * classes of the application and of the tests on the class path.
+ *
+ * @author Yuriy Stanchev
+ *
+ * @email i_stanchev@ml1.net
+ *
+ * @date 17 Oct 2026
+ */
+public class Benchmark {
+
+	/**
+	 * Number of recorded games used when nothing else is given.
+	 */
+	public static final int DEFAULT_GAMES = 2000;
+
+	/**
+	 * Games longer than this are cut, so one game can not dominate the run.
+	 */
+	public static final int MAX_GAME_LENGTH = 1000;
+
+	/**
+	 * Seed of the recorded games, so runs can be compared with each other.
+	 */
+	public static final long SEED = 20121103L;
+
+	/**
+	 * Number of timed rounds of the short measurements. The best round is
+	 * reported.
+	 */
+	public static final int ROUNDS = 5;
+
+	/**
+	 * Keeps the results of measured calculations alive, so the JIT can not
+	 * remove them.
+	 */
+	static volatile long sink = 0;
+
+	/**
+	 * Records random games. Each game is stored as a sequence of x * 8 + y
+	 * cell indices.
+	 *
+	 * @param games
+	 *            Number of games to be recorded.
+	 *
+	 * @param random
+	 *            Source of the random moves.
+	 *
+	 * @return Returns the recorded games.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	static int[][] recordGames(int games, Random random) {
+		int recorded[][] = new int[games][];
+		int moves[] = new int[MAX_GAME_LENGTH];
+
+		for (int g = 0; g < games; g++) {
+			Board board = new Board();
+			int length = 0;
+
+			while (board.end() == false && length < MAX_GAME_LENGTH) {
+				int x = random.nextInt(Board.BOARD_SIZE);
+				int y = random.nextInt(Board.BOARD_SIZE);
+
+				if (board.move(x, y, 0) == true) {
+					moves[length++] = x * Board.BOARD_SIZE + y;
+				}
+			}
+
+			recorded[g] = Arrays.copyOf(moves, length);
+		}
+
+		return (recorded);
+	}
+
+	/**
+	 * Replays the recorded games on both engines and reports the number of
+	 * moves per second of each of them.
+	 *
+	 * @param games
+	 *            Number of games to be played.
+	 *
+	 * @return Returns a human readable report.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public static String compareEngines(int games) {
+		int recorded[][] = recordGames(games, new Random(SEED));
+		long moves = 0;
+		for (int g = 0; g < recorded.length; g++) {
+			moves += recorded[g].length;
+		}
+
+		/*
+		 * Check that both engines reach the same positions. Board stops the
+		 * cascade of the winning move early, so only the winner is compared
+		 * after it.
+		 */
+		for (int g = 0; g < recorded.length; g++) {
+			Board board = new Board();
+			BitBoard bits = new BitBoard();
+			for (int m = 0; m < recorded[g].length; m++) {
+				int x = recorded[g][m] / Board.BOARD_SIZE;
+				int y = recorded[g][m] % Board.BOARD_SIZE;
+				board.move(x, y, 0);
+				bits.move(x, y, 0);
+
+				if (board.end() != bits.end()) {
+					return ("Engines differ in game " + g + "!");
+				}
+				if (board.end() == true
+						&& board.getWinner() != bits.getWinner()) {
+					return ("Engines differ in game " + g + "!");
+				}
+				if (board.end() == false
+						&& Arrays.deepEquals(board.getStones(),
+								bits.getStones()) == false) {
+					return ("Engines differ in game " + g + "!");
+				}
+			}
+		}
+
+		/*
+		 * Warm up the JIT before the measured runs.
+		 */
+		replayBoard(recorded, true);
+		replayBitBoard(recorded);
+
+		long boardNanos = replayBoard(recorded, true);
+		long bitsNanos = replayBitBoard(recorded);
+
+		return ("Games: " + recorded.length + ", moves: " + moves
+				+ "\nBoard:    " + perSecond(moves, boardNanos)
+				+ " moves/s\nBitBoard: " + perSecond(moves, bitsNanos)
+				+ " moves/s");
+	}
+
+	/**
+	 * Replays the recorded games on {@link Board}.
+	 *
+	 * @param recorded
+	 *            Games to be replayed.
+	 *
+	 * @param hashed
+	 *            If the boards update their Zobrist keys.
+	 *
+	 * @return Returns the elapsed time in nanoseconds.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	private static long replayBoard(int recorded[][], boolean hashed) {
+		long start = System.nanoTime();
+		for (int g = 0; g < recorded.length; g++) {
+			Board board = new Board();
+			board.hashed = hashed;
+			for (int m = 0; m < recorded[g].length; m++) {
+				board.move(recorded[g][m] / Board.BOARD_SIZE, recorded[g][m]
+						% Board.BOARD_SIZE, 0);
+			}
+		}
+		return (System.nanoTime() - start);
+	}
+
+	/**
+	 * Replays the recorded games on {@link BitBoard}.
+	 *
+	 * @param recorded
+	 *            Games to be replayed.
+	 *
+	 * @return Returns the elapsed time in nanoseconds.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	private static long replayBitBoard(int recorded[][]) {
+		long start = System.nanoTime();
+		for (int g = 0; g < recorded.length; g++) {
+			BitBoard board = new BitBoard();
+			for (int m = 0; m < recorded[g].length; m++) {
+				board.move(recorded[g][m] / Board.BOARD_SIZE, recorded[g][m]
+						% Board.BOARD_SIZE, 0);
+			}
+		}
+		return (System.nanoTime() - start);
+	}
+
+	/**
+	 * Checks the incrementally updated Zobrist key of {@link Board} against a
+	 * full calculation after every move of the recorded games, and measures
+	 * both ways of getting the key against moves which do not keep a key.
+	 *
+	 * @param games
+	 *            Number of games to be played.
+	 *
+	 * @return Returns a human readable report.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public static String compareKeys(int games) {
+		int recorded[][] = recordGames(games, new Random(SEED));
+		long moves = 0;
+
+		for (int g = 0; g < recorded.length; g++) {
+			Board board = new Board();
+			for (int m = 0; m < recorded[g].length; m++, moves++) {
+				board.makeMove(recorded[g][m]);
+				if (board.getKey() != board.computeKey()) {
+					return ("Keys differ in game " + g + " on move " + m + "!");
+				}
+			}
+			while (board.unmakeMove() == true) {
+				if (board.getKey() != board.computeKey()) {
+					return ("Keys differ in game " + g + " after undo!");
+				}
+			}
+		}
+
+		long plainNanos = Long.MAX_VALUE;
+		long incrementalNanos = Long.MAX_VALUE;
+		long fullNanos = Long.MAX_VALUE;
+		long sum = 0;
+
+		/*
+		 * The first rounds warm up the JIT, so the best round is taken. The
+		 * plain moves do not update the key at all.
+		 */
+		for (int round = 0; round < ROUNDS; round++) {
+			plainNanos = Math.min(plainNanos, replayBoard(recorded, false));
+			incrementalNanos = Math.min(incrementalNanos,
+					replayBoard(recorded, true));
+
+			long start = System.nanoTime();
+			for (int g = 0; g < recorded.length; g++) {
+				Board board = new Board();
+				board.hashed = false;
+				for (int m = 0; m < recorded[g].length; m++) {
+					board.move(recorded[g][m] / Board.BOARD_SIZE,
+							recorded[g][m] % Board.BOARD_SIZE, 0);
+					sum += board.computeKey();
+				}
+			}
+			fullNanos = Math.min(fullNanos, System.nanoTime() - start);
+		}
+
+		sink = sum;
+
+		return ("Keys checked on " + moves + " moves"
+				+ "\nmove without key:              "
+				+ perSecond(moves, plainNanos)
+				+ " moves/s\nmove with incremental key:     "
+				+ perSecond(moves, incrementalNanos) + " moves/s, "
+				+ overhead(incrementalNanos, plainNanos)
+				+ "\nmove and full key calculation: "
+				+ perSecond(moves, fullNanos) + " moves/s, "
+				+ overhead(fullNanos, plainNanos));
+	}
+
+	/**
+	 * Describes how much slower a measured run is than the baseline.
+	 *
+	 * @param nanos
+	 *            Elapsed time of the measured run in nanoseconds.
+	 *
+	 * @param baseline
+	 *            Elapsed time of the baseline in nanoseconds.
+	 *
+	 * @return Returns the overhead in percent of the baseline.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	static String overhead(long nanos, long baseline) {
+		return (Math.round(100.0 * (nanos - baseline) / Math.max(1, baseline))
+				+ "% over the plain move");
+	}
+
+	/**
+	 * The recursive refill which was used by {@link Board} before the queue
+	 * based one. It is kept only as a reference for the measurements and for
+	 * {@link RefillTest}.
+	 *
+	 * @param stones
+	 *            Values of the cells in the 2 dimensional board array.
+	 *
+	 * @param x
+	 *            index of a cell in the 2 dimensional board array.
+	 *
+	 * @param y
+	 *            index of a cell in the 2 dimensional board array.
+	 *
+	 * @param who
+	 *            The player on move.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	static void refillRecursive(int stones[][], int x, int y, int who) {
+		if (x < Board.BOARD_MIN_INDEX || y < Board.BOARD_MIN_INDEX) {
+			return;
+		}
+
+		if (x >= Board.BOARD_MAX_INDEX || y >= Board.BOARD_MAX_INDEX) {
+			return;
+		}
+
+		if (stones[x][y] * who < 0) {
+			stones[x][y] = -stones[x][y];
+		}
+
+		stones[x][y] += who;
+
+		if (Math.abs(stones[x][y]) == 4) {
+			stones[x][y] = Board.EMPTY_CELL;
+
+			refillRecursive(stones, x - 1, y, who);
+			refillRecursive(stones, x, y - 1, who);
+			refillRecursive(stones, x + 1, y, who);
+			refillRecursive(stones, x, y + 1, who);
+		}
+	}
+
+	/**
+	 * Measures the worst case chain reactions - the whole board is filled with
+	 * stones of size three and one of them is played, so every cell overflows
+	 * at least once. The recursive refill and the queue based refill of
+	 * {@link Board} are compared like for like - both start from a copied
+	 * array, the queue refill in the stones of the board, which also rebuilds
+	 * the stone counters. The cost of a whole move taken back with makeMove
+	 * and unmakeMove - the refill with the journal, the Zobrist key and the
+	 * counters - is reported on its own line.
+	 *
+	 * @param repetitions
+	 *            How many times each chain is played.
+	 *
+	 * @return Returns a human readable report.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public static String compareChains(int repetitions) {
+		int full[][] = new int[Board.BOARD_SIZE][Board.BOARD_SIZE];
+		for (int i = 0; i < Board.BOARD_SIZE; i++) {
+			Arrays.fill(full[i], Board.POSITIVE_PIECE_SIZE_3);
+		}
+
+		StringBuilder report = new StringBuilder();
+		int starts[] = { 0, Board.BOARD_SIZE / 2 };
+
+		for (int s = 0; s < starts.length; s++) {
+			int x = starts[s];
+			int y = starts[s];
+
+			/*
+			 * Both refills have to reach the same position.
+			 */
+			int expected[][] = new int[Board.BOARD_SIZE][];
+			for (int i = 0; i < Board.BOARD_SIZE; i++) {
+				expected[i] = full[i].clone();
+			}
+			refillRecursive(expected, x, y, Board.POSITIVE_PLAYER);
+			Board board = new Board(full, Board.POSITIVE_PLAYER,
+					Board.NUMBER_OF_DEPLOYMENT_MOVES);
+			board.move(x, y, 0);
+			if (Arrays.deepEquals(expected, board.getStones()) == false) {
+				return ("Refills differ for chain from " + x + ", " + y + "!");
+			}
+
+			int size = Board.BOARD_SIZE;
+			int flat[] = new int[size * size];
+			for (int i = 0; i < size; i++) {
+				System.arraycopy(full[i], 0, flat, i * size, size);
+			}
+			Board refilled = new Board(full, Board.POSITIVE_PLAYER,
+					Board.NUMBER_OF_DEPLOYMENT_MOVES);
+			refilled.refill(flat, x * size + y);
+			if (Arrays.deepEquals(expected, refilled.getStones()) == false) {
+				return ("Refills differ for chain from " + x + ", " + y + "!");
+			}
+
+			long recursiveNanos = Long.MAX_VALUE;
+			long queueNanos = Long.MAX_VALUE;
+			long moveNanos = Long.MAX_VALUE;
+			int stones[][] = new int[size][size];
+
+			/*
+			 * The first rounds warm up the JIT, so the best round is taken.
+			 */
+			for (int round = 0; round < ROUNDS; round++) {
+				long start = System.nanoTime();
+				for (int r = 0; r < repetitions; r++) {
+					for (int i = 0; i < size; i++) {
+						System.arraycopy(full[i], 0, stones[i], 0, size);
+					}
+					refillRecursive(stones, x, y, Board.POSITIVE_PLAYER);
+				}
+				recursiveNanos = Math.min(recursiveNanos, System.nanoTime()
+						- start);
+
+				start = System.nanoTime();
+				for (int r = 0; r < repetitions; r++) {
+					refilled.refill(flat, x * size + y);
+				}
+				queueNanos = Math.min(queueNanos, System.nanoTime() - start);
+
+				/*
+				 * The position is restored by taking the move back, the same
+				 * way a search does it.
+				 */
+				board = new Board(full, Board.POSITIVE_PLAYER,
+						Board.NUMBER_OF_DEPLOYMENT_MOVES);
+				start = System.nanoTime();
+				for (int r = 0; r < repetitions; r++) {
+					board.makeMove(x * size + y);
+					board.unmakeMove();
+				}
+				moveNanos = Math.min(moveNanos, System.nanoTime() - start);
+			}
+
+			report.append("Chain from " + x + ", " + y + ": recursive "
+					+ perSecond(repetitions, recursiveNanos)
+					+ " chains/s, queue " + perSecond(repetitions, queueNanos)
+					+ " chains/s\n");
+			report.append("Chain from " + x + ", " + y
+					+ ": makeMove and unmakeMove "
+					+ perSecond(repetitions, moveNanos) + " chains/s\n");
+		}
+
+		return (report.toString());
+	}
+
+	/**
+	 * Converts a count and elapsed time to a rate.
+	 *
+	 * @param count
+	 *            Number of operations done.
+	 *
+	 * @param nanos
+	 *            Elapsed time in nanoseconds.
+	 *
+	 * @return Returns the number of operations per second.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	static long perSecond(long count, long nanos) {
+		return (nanos > 0 ? count * 1000000000L / nanos : 0);
+	}
+
+	/**
+	 * Searches positions taken from random games with the look ahead AI and
+	 * reports its speed and the reached depth.
+	 *
+	 * @param positions
+	 *            Number of positions to be searched.
+	 *
+	 * @param timeBudget
+	 *            Time for each search in milliseconds.
+	 *
+	 * @return Returns a human readable report.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public static String searchSpeed(int positions, long timeBudget) {
+		int recorded[][] = recordGames(positions, new Random(SEED));
+		AlphaBetaAI ai = new AlphaBetaAI(timeBudget, new TranspositionTable(
+				AlphaBetaAI.DEFAULT_TABLE_SIZE));
+		long nodes = 0;
+		long nanos = 0;
+		long depths = 0;
+
+		for (int g = 0; g < recorded.length; g++) {
+			Board board = new Board();
+
+			/*
+			 * A position in the middle of the game, which is not decided yet.
+			 */
+			for (int m = 0; m < recorded[g].length / 2; m++) {
+				board.makeMove(recorded[g][m]);
+			}
+
+			long start = System.nanoTime();
+			sink = ai.search(board);
+			nanos += System.nanoTime() - start;
+			nodes += ai.getNodes();
+			depths += ai.getDepth();
+		}
+
+		return ("Search of " + positions + " positions, " + timeBudget
+				+ " ms each\n" + perSecond(nodes, nanos)
+				+ " nodes/s, average depth "
+				+ (double) depths / Math.max(1, positions));
+	}
+
+	/**
+	 * Searches a fixed suite of positions - the middle positions of the
+	 * recorded games - to a fixed depth with the look ahead AI on 1, 2, 4 and
+	 * one per processor threads, and reports the speedup of the time to reach
+	 * the depth. More threads than processors are measured too, so a run on a
+	 * small machine shows the cost of the threads instead of a speedup.
+	 *
+	 * @param positions
+	 *            Number of searched positions.
+	 *
+	 * @param depth
+	 *            Depth of each search.
+	 *
+	 * @return Returns the report.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public static String compareThreads(int positions, int depth) {
+		int recorded[][] = recordGames(positions, new Random(SEED));
+		int processors = Runtime.getRuntime().availableProcessors();
+		String report = "Search of " + positions + " positions to depth "
+				+ depth + " on " + processors + " processors";
+		long single = 0;
+
+		/*
+		 * The first count is searched twice and the first pass warms up the
+		 * JIT.
+		 */
+		int counts[] = { 1, 1, 2, 4, processors };
+		for (int c = 0; c < counts.length; c++) {
+			int threads = counts[c];
+
+			/*
+			 * One per processor is already measured on small machines.
+			 */
+			if (c == counts.length - 1 && threads <= counts[c - 1]) {
+				break;
+			}
+
+			AlphaBetaAI ai = new AlphaBetaAI(Long.MAX_VALUE / 2000000L,
+					new TranspositionTable(AlphaBetaAI.DEFAULT_TABLE_SIZE),
+					threads);
+			ai.setDepthLimit(depth);
+			long nodes = 0;
+			long nanos = 0;
+
+			for (int g = 0; g < recorded.length; g++) {
+				Board board = new Board();
+
+				for (int m = 0; m < recorded[g].length / 2; m++) {
+					board.makeMove(recorded[g][m]);
+				}
+
+				long start = System.nanoTime();
+				sink = ai.search(board);
+				nanos += System.nanoTime() - start;
+				nodes += ai.getNodes();
+			}
+			ai.shutdown();
+
+			if (c == 0) {
+				continue;
+			}
+
+			if (threads == 1) {
+				single = nanos;
+			}
+
+			report += "\n" + threads + " threads: " + nanos / 1000000L
+					+ " ms, " + perSecond(nodes, nanos) + " nodes/s, speedup "
+					+ Math.round(100.0 * single / Math.max(1, nanos)) / 100.0;
+		}
+
+		return (report);
+	}
+
+	/**
+	 * Measures the random games per second of the Monte Carlo search with one
+	 * thread and with one thread per processor.
+	 *
+	 * @param positions
+	 *            Number of searched positions.
+	 *
+	 * @param timeBudget
+	 *            Time for each search in milliseconds.
+	 *
+	 * @return Returns the report.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public static String playoutSpeed(int positions, long timeBudget) {
+		int recorded[][] = recordGames(positions, new Random(SEED));
+		int processors = Runtime.getRuntime().availableProcessors();
+		String report = "Monte Carlo search of " + positions + " positions, "
+				+ timeBudget + " ms each";
+
+		int counts[] = (processors > 1) ? new int[] { 1, processors }
+				: new int[] { 1 };
+
+		for (int threads : counts) {
+			MonteCarloAI ai = new MonteCarloAI(threads, timeBudget);
+			long playouts = 0;
+			long nanos = 0;
+
+			for (int g = 0; g < recorded.length; g++) {
+				Board board = new Board();
+
+				for (int m = 0; m < recorded[g].length / 2; m++) {
+					board.makeMove(recorded[g][m]);
+				}
+
+				long start = System.nanoTime();
+				sink = ai.search(board);
+				nanos += System.nanoTime() - start;
+				playouts += ai.getPlayouts();
+			}
+			ai.shutdown();
+
+			report += "\n" + threads + " threads: "
+					+ perSecond(playouts, nanos) + " playouts/s";
+		}
+
+		return (report);
+	}
+
+	/**
+	 * Plays the Monte Carlo AI against the look ahead AI, both with the same
+	 * time per move and the same number of threads - one, and one per
+	 * processor. Each game starts from the first deployment moves of a
+	 * recorded game and each start is played twice, with the colours
+	 * swapped. Games which reach the length limit are counted as draws.
+	 *
+	 * @param games
+	 *            Number of game pairs for each number of threads.
+	 *
+	 * @param timeBudget
+	 *            Time for each move in milliseconds.
+	 *
+	 * @return Returns the report.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public static String strengthMatch(int games, long timeBudget) {
+		int recorded[][] = recordGames(games, new Random(SEED));
+		int processors = Runtime.getRuntime().availableProcessors();
+		String report = "Monte Carlo against look ahead AI, " + 2 * games
+				+ " games, " + timeBudget + " ms per move, " + processors
+				+ " processors";
+
+		int counts[] = { 1, processors };
+		for (int c = 0; c < counts.length; c++) {
+			int threads = counts[c];
+
+			if (c > 0 && threads <= counts[c - 1]) {
+				break;
+			}
+
+			MonteCarloAI monteCarlo = new MonteCarloAI(threads, timeBudget);
+			AlphaBetaAI alphaBeta = new AlphaBetaAI(timeBudget,
+					new TranspositionTable(AlphaBetaAI.DEFAULT_TABLE_SIZE),
+					threads);
+			int wins = 0;
+			int losses = 0;
+			int draws = 0;
+
+			for (int g = 0; g < 2 * recorded.length; g++) {
+				Board board = new Board();
+				int start[] = recorded[g / 2];
+
+				for (int m = 0; m < Board.NUMBER_OF_DEPLOYMENT_MOVES - 2
+						&& m < start.length; m++) {
+					board.move(start[m]);
+				}
+
+				/*
+				 * The Monte Carlo AI plays the player on move in the even
+				 * games and the other player in the odd ones.
+				 */
+				int side = (g % 2 == 0) ? board.getWho() : -board.getWho();
+
+				for (int m = 0; board.end() == false
+						&& m < MAX_GAME_LENGTH; m++) {
+					AI ai = (board.getWho() == side) ? monteCarlo : alphaBeta;
+					int cell = ai.move(board);
+
+					if (board.move(cell) == false) {
+						board.move(board.randomMove(new Random(m)));
+					}
+				}
+
+				if (board.end() == false) {
+					draws++;
+				} else if (board.getWinner() * side > 0) {
+					wins++;
+				} else {
+					losses++;
+				}
+			}
+			monteCarlo.shutdown();
+			alphaBeta.shutdown();
+
+			report += "\n" + threads + " threads: Monte Carlo won " + wins
+					+ ", lost " + losses + ", drawn " + draws;
+		}
+
+		return (report);
+	}
+
+	/**
+	 * Measures the cold start of the AIs - mapping and checking the AI data,
+	 * the first time and on average over more times.
+	 *
+	 * @param file
+	 *            Name of the AI data file.
+	 *
+	 * @param times
+	 *            Number of times the data is mapped.
+	 *
+	 * @return Returns the report.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public static String dataLoad(String file, int times) {
+		long first = 0;
+		long total = 0;
+
+		try {
+			for (int i = 0; i < times; i++) {
+				AIData data = AIData.map(new File(file));
+				sink = new PatternTable(data.getPatterns()).coefficient(0);
+
+				if (i == 0) {
+					first = data.getLoadTime();
+				}
+				total += data.getLoadTime();
+			}
+		} catch (IOException e) {
+			return ("AI data of " + file + " can not be read: " + e.getMessage());
+		}
+
+		return ("AI data of " + file + ": first load " + first / 1000
+				+ " us, average of " + times + " loads " + total / times / 1000
+				+ " us");
+	}
+
+	/**
+	 * Runs all measurements and prints the results.
+	 *
+	 * @param args
+	 *            Optional number of games and optional name of the AI data
+	 *            file.
+	 *
+	 * @author Yuriy Stanchev
+	 *
+	 * @email i_stanchev@ml1.net
+	 *
+	 * @date 17 Oct 2026
+	 */
+	public static void main(String args[]) {
+		int games = (args.length > 0) ? Integer.parseInt(args[0])
+				: DEFAULT_GAMES;
+
+		System.out.println(compareEngines(games));
+		System.out.println(compareChains(games * 10));
+		System.out.println(compareKeys(games));
+		System.out.println(searchSpeed(20, 500));
+		System.out.println(compareThreads(20, 6));
+		System.out.println(playoutSpeed(20, 500));
+		System.out.println(strengthMatch(10, 200));
+
+		if (args.length > 1) {
+			System.out.println(dataLoad(args[1], 100));
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+
+package com.netsecl.stanchev;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks that {@link BitBoard} plays the same games as {@link Board}.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class BitBoardTest {
+
+	/**
+	 * Number of random games played on both engines.
+	 */
+	private static final int GAMES = 500;
+
+	/**
+	 * Tries the same random cells on both engines, the invalid ones included,
+	 * and compares the engines after each try. Board stops the cascade of the
+	 * winning move early, so only the winner is compared after it.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Test
+	public void playsLikeBoard() {
+		Random random = new Random(Benchmark.SEED);
+
+		for (int g = 0; g < GAMES; g++) {
+			Board board = new Board();
+			BitBoard bits = new BitBoard();
+
+			for (int m = 0; m < Benchmark.MAX_GAME_LENGTH
+					&& board.end() == false; m++) {
+				int x = random.nextInt(Board.BOARD_SIZE);
+				int y = random.nextInt(Board.BOARD_SIZE);
+
+				assertEquals("Move " + m + " of game " + g,
+						board.move(x, y, 0), bits.move(x, y, 0));
+				assertEquals(board.end(), bits.end());
+				assertEquals(board.getWho(), bits.getWho());
+				assertEquals(board.getTurn(), bits.getTurn());
+
+				if (board.end() == true) {
+					assertEquals(board.getWinner(), bits.getWinner());
+				} else {
+					assertArrayEquals("Move " + m + " of game " + g,
+							board.getStones(), bits.getStones());
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+
+package com.netsecl.stanchev;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks the compact codec which {@link Board} writes to a Parcel. A Parcel
+ * needs the Android runtime, so the round trip through a real one is checked
+ * by the instrumentation test BoardParcelTest.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class BoardCodecTest {
+
+	/**
+	 * Number of random games played.
+	 */
+	private static final int GAMES = 200;
+
+	/**
+	 * Compares two boards and then plays the same random moves on both, so
+	 * also the state which is rebuilt by the codec - the counters, the masks
+	 * and the key - has to match.
+	 * 
+	 * @param expected
+	 *            The original board.
+	 * 
+	 * @param actual
+	 *            The decoded board.
+	 * 
+	 * @param random
+	 *            Source of the random moves.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	static void assertPlaysLike(Board expected, Board actual, Random random) {
+		assertEquals(expected.getSize(), actual.getSize());
+
+		for (int m = 0; m < Benchmark.MAX_GAME_LENGTH; m++) {
+			assertArrayEquals(expected.getStones(), actual.getStones());
+			assertEquals(expected.getWho(), actual.getWho());
+			assertEquals(expected.getTurn(), actual.getTurn());
+			assertEquals(expected.getKey(), actual.getKey());
+			assertEquals(expected.end(), actual.end());
+			assertEquals(expected.getWinner(), actual.getWinner());
+			assertEquals(expected.getValidMoveCount(),
+					actual.getValidMoveCount());
+
+			if (expected.end() == true) {
+				break;
+			}
+
+			int cell = expected.randomMove(random);
+			expected.move(cell);
+			actual.move(cell);
+		}
+	}
+
+	/**
+	 * Encodes and decodes the positions of random games on boards of all
+	 * sizes, the odd ones included.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Test
+	public void roundTrip() {
+		Random random = new Random(Benchmark.SEED);
+
+		for (int g = 0; g < GAMES; g++) {
+			int size = Board.MIN_BOARD_SIZE
+					+ g % (Board.MAX_BOARD_SIZE - Board.MIN_BOARD_SIZE + 1);
+			Board board = new Board(size);
+			int moves = random.nextInt(4 * size * size);
+
+			for (int m = 0; m < moves && board.end() == false; m++) {
+				board.move(board.randomMove(random));
+			}
+
+			byte bytes[] = board.toBytes();
+			assertEquals(6 + (size * size + 1) / 2, bytes.length);
+
+			assertPlaysLike(board, Board.fromBytes(bytes), new Random(g));
+		}
+	}
+
+	/**
+	 * Damaged data has to be refused instead of giving a broken board.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Test
+	public void damagedData() {
+		byte good[] = new Board().toBytes();
+		byte damaged[][] = { null, new byte[3], good.clone(), good.clone(),
+				good.clone(), Arrays.copyOf(good, good.length - 1) };
+		damaged[2][1] = 0;
+		damaged[3][2] = (byte) 0x80;
+		damaged[4][good.length - 1] = (byte) 0xFF;
+
+		for (int i = 0; i < damaged.length; i++) {
+			try {
+				Board.fromBytes(damaged[i]);
+				fail("Damaged data " + i + " was accepted!");
+			} catch (IllegalArgumentException e) {
+			}
+		}
+	}
+}
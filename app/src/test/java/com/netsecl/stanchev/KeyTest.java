@@ -0,0 +1,111 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+
+package com.netsecl.stanchev;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks the incrementally updated Zobrist key of {@link Board} against a
+ * full calculation.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class KeyTest {
+
+	/**
+	 * Number of random games played.
+	 */
+	private static final int GAMES = 500;
+
+	/**
+	 * Plays random games with moves which can not be taken back.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Test
+	public void move() {
+		int recorded[][] = Benchmark.recordGames(GAMES, new Random(
+				Benchmark.SEED));
+
+		for (int g = 0; g < recorded.length; g++) {
+			Board board = new Board();
+			assertEquals(board.computeKey(), board.getKey());
+
+			for (int m = 0; m < recorded[g].length; m++) {
+				board.move(recorded[g][m]);
+				assertEquals("Move " + m + " of game " + g,
+						board.computeKey(), board.getKey());
+			}
+		}
+	}
+
+	/**
+	 * Plays random games with makeMove and takes all moves back with
+	 * unmakeMove, which has to restore the key of each earlier position.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Test
+	public void makeAndUnmakeMove() {
+		int recorded[][] = Benchmark.recordGames(GAMES, new Random(
+				Benchmark.SEED));
+
+		for (int g = 0; g < recorded.length; g++) {
+			Board board = new Board();
+			long keys[] = new long[recorded[g].length + 1];
+			keys[0] = board.getKey();
+
+			for (int m = 0; m < recorded[g].length; m++) {
+				board.makeMove(recorded[g][m]);
+				keys[m + 1] = board.getKey();
+				assertEquals("Move " + m + " of game " + g,
+						board.computeKey(), board.getKey());
+			}
+
+			for (int m = recorded[g].length; m > 0; m--) {
+				board.unmakeMove();
+				assertEquals("Undo of move " + (m - 1) + " of game " + g,
+						keys[m - 1], board.getKey());
+				assertEquals(board.computeKey(), board.getKey());
+			}
+		}
+	}
+}
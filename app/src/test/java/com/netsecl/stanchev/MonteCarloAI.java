@@ -0,0 +1,687 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Artificial Intelligence based on Monte Carlo Tree Search. Random games are
+ * played from the position and the tree of the most promising moves is grown
+ * with the UCT rule. The cascades make static evaluation unreliable, while the
+ * random games only need the rules.
+ * 
+ * The search is parallel at the root - each thread grows its own tree from
+ * the same position and the visits of the root moves are added at the end.
+ * The trees share nothing, so no locks and no virtual loss are needed.
+ * 
+ * It is not offered in the game. With the same time per move it loses almost
+ * every game to the look ahead AI, see Benchmark.strengthMatch, so it is kept
+ * in the test sources next to the measurements.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class MonteCarloAI extends AI {
+
+	/**
+	 * Default time for one move in milliseconds.
+	 */
+	public static final long DEFAULT_TIME_BUDGET = 1000;
+
+	/**
+	 * Longest random game. Longer games are decided by the stones on the
+	 * board.
+	 */
+	private static final int MAX_PLAYOUT_MOVES = 40;
+
+	/**
+	 * Weight of the exploration in the UCT rule.
+	 */
+	private static final double EXPLORATION = 1.0;
+
+	/**
+	 * Node of the search tree.
+	 */
+	private static final class Node {
+
+		/**
+		 * Cell of the move which leads to the node.
+		 */
+		final int move;
+
+		/**
+		 * Player who made the move which leads to the node.
+		 */
+		final int who;
+
+		/**
+		 * Node of the position before the move, null for the root.
+		 */
+		final Node parent;
+
+		/**
+		 * Valid moves of the position. Moves before index expanded have
+		 * children.
+		 */
+		int moves[] = null;
+
+		/**
+		 * Number of the moves which have children.
+		 */
+		int expanded = 0;
+
+		/**
+		 * Children of the node, in the order of the moves.
+		 */
+		Node children[] = null;
+
+		/**
+		 * Number of random games played through the node.
+		 */
+		int visits = 0;
+
+		/**
+		 * Random games through the node won by the player who moved into it.
+		 * Games decided by the stones count half.
+		 */
+		double wins = 0.0;
+
+		/**
+		 * Creates a node.
+		 * 
+		 * @param move
+		 *            Cell of the move which leads to the node.
+		 * 
+		 * @param who
+		 *            Player who made the move.
+		 * 
+		 * @param parent
+		 *            Node of the position before the move.
+		 * 
+		 * @author Yuriy Stanchev
+		 * 
+		 * @email i_stanchev@ml1.net
+		 * 
+		 * @date 17 Oct 2026
+		 */
+		Node(int move, int who, Node parent) {
+			this.move = move;
+			this.who = who;
+			this.parent = parent;
+		}
+	}
+
+	/**
+	 * Grows one search tree until the search ends.
+	 */
+	private final class Worker implements Callable<int[]> {
+
+		/**
+		 * Private copy of the searched position.
+		 */
+		private final Board board;
+
+		/**
+		 * Source of the random moves.
+		 */
+		private final Random random;
+
+		/**
+		 * Symmetries of the root position.
+		 */
+		private final int stabilizer;
+
+		/**
+		 * Creates a worker.
+		 * 
+		 * @param position
+		 *            The searched position. It is copied.
+		 * 
+		 * @param seed
+		 *            Seed of the random moves.
+		 * 
+		 * @author Yuriy Stanchev
+		 * 
+		 * @email i_stanchev@ml1.net
+		 * 
+		 * @date 17 Oct 2026
+		 */
+		Worker(Board position, long seed) {
+			board = new Board(position.getStones(), position.getWho(),
+					position.getTurn());
+			random = new Random(seed);
+			stabilizer = Symmetry.stabilizer(board);
+		}
+
+		/**
+		 * Generates the valid moves of the current position.
+		 * 
+		 * @param root
+		 *            True for the root position, where symmetric moves are
+		 *            skipped.
+		 * 
+		 * @return Returns the cells of the moves.
+		 * 
+		 * @author Yuriy Stanchev
+		 * 
+		 * @email i_stanchev@ml1.net
+		 * 
+		 * @date 17 Oct 2026
+		 */
+		private int[] generate(boolean root) {
+			int cells = board.getCellCount();
+			int list[] = new int[cells];
+			int who = board.getWho();
+			boolean deployment = (board.getTurn() < Board.NUMBER_OF_DEPLOYMENT_MOVES);
+			int count = 0;
+
+			for (int cell = 0; cell < cells; cell++) {
+				int value = board.stoneAt(cell);
+
+				if (deployment == true) {
+					if (value == Board.EMPTY_CELL
+							&& (root == false || Symmetry.isCanonicalMove(
+									board.getSize(), stabilizer, cell) == true)) {
+						list[count++] = cell;
+					}
+				} else if (value * who > 0) {
+					list[count++] = cell;
+				}
+			}
+
+			int moves[] = new int[count];
+			System.arraycopy(list, 0, moves, 0, count);
+
+			return (moves);
+		}
+
+		/**
+		 * Chooses the child with the best UCT value.
+		 * 
+		 * @param node
+		 *            Fully expanded node.
+		 * 
+		 * @return Returns the chosen child.
+		 * 
+		 * @author Yuriy Stanchev
+		 * 
+		 * @email i_stanchev@ml1.net
+		 * 
+		 * @date 17 Oct 2026
+		 */
+		private Node select(Node node) {
+			double logarithm = Math.log(node.visits);
+			Node best = null;
+			double bestValue = Double.NEGATIVE_INFINITY;
+
+			for (int i = 0; i < node.expanded; i++) {
+				Node child = node.children[i];
+				double value = child.wins / child.visits + EXPLORATION
+						* Math.sqrt(logarithm / child.visits);
+
+				if (value > bestValue) {
+					best = child;
+					bestValue = value;
+				}
+			}
+
+			return (best);
+		}
+
+		/**
+		 * Plays random moves until the game ends or gets too long, then takes
+		 * them back.
+		 * 
+		 * @return Returns the winner, or 0 if the stones on the board are
+		 *         equal.
+		 * 
+		 * @author Yuriy Stanchev
+		 * 
+		 * @email i_stanchev@ml1.net
+		 * 
+		 * @date 17 Oct 2026
+		 */
+		private int playout() {
+			int played = 0;
+
+			while (board.end() == false && played < MAX_PLAYOUT_MOVES) {
+				int move = board.randomMove(random);
+
+				/*
+				 * Of two random moves the larger stone is played - it is closer
+				 * to overflow, so the random games capture more like real ones.
+				 */
+				if (board.getTurn() >= Board.NUMBER_OF_DEPLOYMENT_MOVES) {
+					int other = board.randomMove(random);
+					if (Math.abs(board.stoneAt(other)) > Math.abs(board
+							.stoneAt(move))) {
+						move = other;
+					}
+				}
+
+				board.makeMove(move);
+				played++;
+			}
+
+			int winner = board.getWinner();
+			if (winner == 0) {
+				int mass = board.getMass(Board.POSITIVE_PLAYER)
+						- board.getMass(Board.NEGATIVE_PLAYER);
+				winner = (mass > 0) ? Board.POSITIVE_PLAYER
+						: (mass < 0) ? Board.NEGATIVE_PLAYER : 0;
+			}
+
+			for (; played > 0; played--) {
+				board.unmakeMove();
+			}
+
+			return (winner);
+		}
+
+		/**
+		 * Grows the tree until the time or the random games of the search are
+		 * used.
+		 * 
+		 * @return Returns the visits of each cell as a root move.
+		 * 
+		 * @author Yuriy Stanchev
+		 * 
+		 * @email i_stanchev@ml1.net
+		 * 
+		 * @date 17 Oct 2026
+		 */
+		public int[] call() {
+			Node root = new Node(NO_MOVE, -board.getWho(), null);
+			root.moves = generate(true);
+			root.children = new Node[root.moves.length];
+
+			while (cancelled == false && System.nanoTime() - deadline < 0
+					&& playouts.getAndIncrement() < playoutBudget) {
+				Node node = root;
+				int depth = 0;
+
+				/*
+				 * Selection - walk down the fully expanded nodes.
+				 */
+				while (node.moves != null && node.moves.length > 0
+						&& node.expanded == node.moves.length) {
+					node = select(node);
+					board.makeMove(node.move);
+					depth++;
+				}
+
+				/*
+				 * Expansion - add one random child.
+				 */
+				if (board.end() == false) {
+					if (node.moves == null) {
+						node.moves = generate(false);
+						node.children = new Node[node.moves.length];
+					}
+
+					if (node.expanded < node.moves.length) {
+						int pick = node.expanded
+								+ random.nextInt(node.moves.length
+										- node.expanded);
+						int move = node.moves[pick];
+						node.moves[pick] = node.moves[node.expanded];
+						node.moves[node.expanded] = move;
+
+						Node child = new Node(move, board.getWho(), node);
+						node.children[node.expanded++] = child;
+						node = child;
+						board.makeMove(move);
+						depth++;
+					}
+				}
+
+				/*
+				 * Simulation and back propagation.
+				 */
+				int winner = playout();
+				for (; node != null; node = node.parent) {
+					node.visits++;
+					if (winner == node.who) {
+						node.wins += 1.0;
+					} else if (winner == 0) {
+						node.wins += 0.5;
+					}
+				}
+
+				for (; depth > 0; depth--) {
+					board.unmakeMove();
+				}
+			}
+
+			int visits[] = new int[board.getCellCount()];
+			for (int i = 0; i < root.expanded; i++) {
+				visits[root.children[i].move] += root.children[i].visits;
+			}
+
+			/*
+			 * Without a single finished game any valid move will do.
+			 */
+			if (root.expanded == 0 && root.moves.length > 0) {
+				visits[root.moves[0]] = 1;
+			}
+
+			return (visits);
+		}
+	}
+
+	/**
+	 * Number of parallel search trees.
+	 */
+	private final int threads;
+
+	/**
+	 * Time for one move in milliseconds.
+	 */
+	private long timeBudget;
+
+	/**
+	 * Largest number of random games for one move, in all threads together.
+	 */
+	private int playoutBudget = Integer.MAX_VALUE;
+
+	/**
+	 * Threads of the search. Created with the first search.
+	 */
+	private ExecutorService pool = null;
+
+	/**
+	 * Time at which the search has to stop, from System.nanoTime().
+	 */
+	private volatile long deadline = 0;
+
+	/**
+	 * Set to stop the search before its time.
+	 */
+	private volatile boolean cancelled = false;
+
+	/**
+	 * Number of random games started by the current search.
+	 */
+	private final AtomicInteger playouts = new AtomicInteger();
+
+	/**
+	 * Number of random games played by the last search.
+	 */
+	private int played = 0;
+
+	/**
+	 * Duration of the last search in nanoseconds.
+	 */
+	private long elapsed = 0;
+
+	/**
+	 * Creates the AI with one search tree per processor and the default time
+	 * budget.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public MonteCarloAI() {
+		this(Runtime.getRuntime().availableProcessors(), DEFAULT_TIME_BUDGET);
+	}
+
+	/**
+	 * Creates the AI.
+	 * 
+	 * @param threads
+	 *            Number of parallel search trees.
+	 * 
+	 * @param timeBudget
+	 *            Time for one move in milliseconds.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public MonteCarloAI(int threads, long timeBudget) {
+		super();
+
+		if (threads < 1) {
+			throw (new IllegalArgumentException("Incorrect number of threads!"));
+		}
+
+		this.threads = threads;
+		this.timeBudget = timeBudget;
+	}
+
+	/**
+	 * Changes the time for one move.
+	 * 
+	 * @param timeBudget
+	 *            Time for one move in milliseconds.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Override
+	public void setTimeBudget(long timeBudget) {
+		this.timeBudget = timeBudget;
+	}
+
+	/**
+	 * Limits the number of random games for one move. The search stops at
+	 * the limit or at the end of its time, whichever comes first.
+	 * 
+	 * @param playoutBudget
+	 *            Number of random games in all threads together.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public void setPlayoutBudget(int playoutBudget) {
+		this.playoutBudget = playoutBudget;
+	}
+
+	/**
+	 * Number of random games played by the last search.
+	 * 
+	 * @return Returns the number of random games.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int getPlayouts() {
+		return (played);
+	}
+
+	/**
+	 * Speed of the last search.
+	 * 
+	 * @return Returns the random games per second.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public long getPlayoutsPerSecond() {
+		if (elapsed <= 0) {
+			return (0);
+		}
+
+		return (played * 1000000000L / elapsed);
+	}
+
+	/**
+	 * Stops the search in progress. The search returns the best move found
+	 * so far.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Override
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * Stops the threads of the search. The AI can not be used after that.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public synchronized void shutdown() {
+		cancelled = true;
+		if (pool != null) {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Searches a position with all threads until the time or the random games
+	 * are used.
+	 * 
+	 * @param board
+	 *            The position. Each thread searches its own copy.
+	 * 
+	 * @return Returns the index of the cell of the best move or NO_MOVE.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int search(Board board) {
+		long begin = System.nanoTime();
+
+		synchronized (this) {
+			if (pool == null) {
+				pool = Executors.newFixedThreadPool(threads,
+						new ThreadFactory() {
+							public Thread newThread(Runnable runnable) {
+								Thread thread = new Thread(runnable,
+										"MonteCarloAI");
+								thread.setDaemon(true);
+								return (thread);
+							}
+						});
+			}
+		}
+
+		deadline = begin + timeBudget * 1000000L;
+		cancelled = false;
+		playouts.set(0);
+
+		List<Future<int[]>> results = new ArrayList<Future<int[]>>();
+		for (int i = 0; i < threads; i++) {
+			results.add(pool.submit(new Worker(board, begin + i)));
+		}
+
+		int visits[] = new int[board.getCellCount()];
+		for (Future<int[]> result : results) {
+			try {
+				int tree[] = result.get();
+				for (int cell = 0; cell < visits.length; cell++) {
+					visits[cell] += tree[cell];
+				}
+			} catch (Exception exception) {
+				/*
+				 * A failed tree only loses its votes.
+				 */
+			}
+		}
+
+		played = Math.min(playouts.get(), playoutBudget);
+		elapsed = System.nanoTime() - begin;
+
+		/*
+		 * The most visited move is the most reliable one.
+		 */
+		int best = NO_MOVE;
+		for (int cell = 0; cell < visits.length; cell++) {
+			if (visits[cell] > 0
+					&& (best == NO_MOVE || visits[cell] > visits[best])) {
+				best = cell;
+			}
+		}
+
+		return (best);
+	}
+
+	/**
+	 * Implements the move of the Artificial Intelligence.
+	 * 
+	 * @param board
+	 *            The position with the AI on move. It is not changed.
+	 * 
+	 * @return Returns the cell on which the AI will move its piece, or
+	 *         NO_MOVE.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Override
+	public int move(Board board) {
+
+		/*
+		 * We check if the board has been incorrectly initialized.
+		 */
+		if (board == null) {
+			return (NO_MOVE);
+		}
+
+		return (search(board));
+	}
+}
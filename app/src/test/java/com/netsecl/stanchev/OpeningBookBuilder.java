@@ -0,0 +1,235 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Offline builder of the opening book. Plays the deployment phase of many
+ * games against itself. The move of each new position is found by a search of
+ * the look ahead AI, positions already in the book follow the book. Some moves
+ * are random, so the book also covers the other moves of the human.
+ * 
+ * Usage: OpeningBookBuilder games milliseconds file
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class OpeningBookBuilder {
+
+	/**
+	 * Part of the deployment moves which are random instead of the book move.
+	 */
+	public static final double EXPLORATION = 0.3;
+
+	/**
+	 * Seed of the random moves, so builds can be repeated.
+	 */
+	public static final long SEED = 20121103L;
+
+	/**
+	 * The book being built - move in the canonical position by canonical key.
+	 */
+	private final Map<Long, Integer> book = new ConcurrentHashMap<Long, Integer>();
+
+	/**
+	 * Time of one search in milliseconds.
+	 */
+	private final long timeBudget;
+
+	/**
+	 * Number of games which are not started yet.
+	 */
+	private final AtomicInteger remaining = new AtomicInteger();
+
+	/**
+	 * Creates a builder.
+	 * 
+	 * @param timeBudget
+	 *            Time of one search in milliseconds.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public OpeningBookBuilder(long timeBudget) {
+		this.timeBudget = timeBudget;
+	}
+
+	/**
+	 * Plays the deployment phase of one game and adds its new positions to
+	 * the book.
+	 * 
+	 * @param ai
+	 *            Search of this thread.
+	 * 
+	 * @param random
+	 *            Source of the random moves of this thread.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private void playGame(AlphaBetaAI ai, Random random) {
+		Board board = new Board();
+
+		while (board.getTurn() < Board.NUMBER_OF_DEPLOYMENT_MOVES) {
+			int size = board.getSize();
+			int transform = Symmetry.canonicalTransform(board);
+			long key = Symmetry.canonicalKey(board);
+
+			Integer known = book.get(key);
+			int move;
+			if (known == null) {
+				move = ai.search(board);
+				book.put(key, Symmetry.transformCell(size, transform, move));
+			} else {
+				move = Symmetry.transformCell(size,
+						Symmetry.inverse(transform), known);
+			}
+
+			if (random.nextDouble() < EXPLORATION) {
+				do {
+					move = random.nextInt(board.getCellCount());
+				} while (board.stoneAt(move) != Board.EMPTY_CELL);
+			}
+
+			board.makeMove(move);
+		}
+	}
+
+	/**
+	 * Builds the book with one thread per processor.
+	 * 
+	 * @param games
+	 *            Number of games.
+	 * 
+	 * @return Returns the book.
+	 * 
+	 * @throws Exception
+	 *             If a thread of the build fails.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public OpeningBook build(int games) throws Exception {
+		int threads = Runtime.getRuntime().availableProcessors();
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		List<Future<Object>> running = new ArrayList<Future<Object>>();
+
+		remaining.set(games);
+		for (int t = 0; t < threads; t++) {
+			final Random random = new Random(SEED + t);
+			running.add(pool.submit(new Callable<Object>() {
+				public Object call() {
+					AlphaBetaAI ai = new AlphaBetaAI(timeBudget,
+							new TranspositionTable(
+									AlphaBetaAI.DEFAULT_TABLE_SIZE));
+					while (remaining.getAndDecrement() > 0) {
+						playGame(ai, random);
+					}
+					return (null);
+				}
+			}));
+		}
+
+		for (Future<Object> result : running) {
+			result.get();
+		}
+		pool.shutdown();
+
+		long keys[] = new long[book.size()];
+		int count = 0;
+		for (Long key : book.keySet()) {
+			keys[count++] = key;
+		}
+		Arrays.sort(keys);
+
+		char moves[] = new char[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			moves[i] = (char) book.get(keys[i]).intValue();
+		}
+
+		return (new OpeningBook(Board.BOARD_SIZE, keys, moves));
+	}
+
+	/**
+	 * Builds the book and writes it to a file.
+	 * 
+	 * @param args
+	 *            Number of games, time of one search in milliseconds and name
+	 *            of the file.
+	 * 
+	 * @throws Exception
+	 *             If the book can not be built or written.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static void main(String args[]) throws Exception {
+		if (args.length != 3) {
+			System.out.println("Usage: OpeningBookBuilder games milliseconds file");
+			return;
+		}
+
+		int games = Integer.parseInt(args[0]);
+		long timeBudget = Long.parseLong(args[1]);
+
+		OpeningBook book = new OpeningBookBuilder(timeBudget).build(games);
+
+		OutputStream out = new FileOutputStream(args[2]);
+		try {
+			book.write(out);
+		} finally {
+			out.close();
+		}
+
+		System.out.println(book.size() + " positions written to " + args[2]);
+	}
+}
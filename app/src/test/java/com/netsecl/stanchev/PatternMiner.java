@@ -0,0 +1,368 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+import java.io.FileWriter;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Offline miner of the coefficients of the apertures of the Normal AI, in
+ * place of coefficients written by hand. Plays many games against itself on
+ * all processors and counts for each aperture of a move in the second phase
+ * how often the player of the move won. The moves of the second phase follow
+ * the counts so far, as the Normal AI follows its coefficients, and some are
+ * random, so all apertures are tried. The counts of the symmetric apertures are added together, so each
+ * aperture and its flips and rotations have one coefficient - the share of
+ * won games in thousandths.
+ * 
+ * Each thread counts in its own stripe of one array of atomic counters, so
+ * the threads do not contend for the same counters, and the stripes are added
+ * when the games are over.
+ * 
+ * The table is written one row per line - the combination and the
+ * coefficient, in the format read by AIDataBuilder.
+ * 
+ * Usage: PatternMiner games file
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class PatternMiner {
+
+	/**
+	 * Seed of the random moves, so the mining can be repeated.
+	 */
+	public static final long SEED = 20121103L;
+
+	/**
+	 * Least number of moves with an aperture or its symmetric apertures for
+	 * the aperture to be stored.
+	 */
+	public static final int MIN_PLAYS = 64;
+
+	/**
+	 * Games longer than this are left out, as they are not decided.
+	 */
+	public static final int MAX_TURNS = 2000;
+
+	/**
+	 * Part of the moves in the second phase which are random instead of the
+	 * best move by the counts so far.
+	 */
+	public static final double EXPLORATION = 0.25;
+
+	/**
+	 * Largest coefficient, as for the coefficients written by hand.
+	 */
+	public static final int MAX_COEFFICIENT = 1000;
+
+	/**
+	 * Number of aperture keys.
+	 */
+	private static final int KEYS = 1 << PatternTable.KEY_BITS;
+
+	/**
+	 * Number of games which are not started yet.
+	 */
+	private final AtomicInteger remaining = new AtomicInteger();
+
+	/**
+	 * Moves and won games of each aperture key, two counters per key, one
+	 * stripe of counters per thread.
+	 */
+	private AtomicLongArray counts = null;
+
+	/**
+	 * Plays one game and adds its moves to a stripe of the counters.
+	 * 
+	 * @param stripe
+	 *            First counter of the stripe of this thread.
+	 * 
+	 * @param random
+	 *            Source of the random moves of this thread.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private void playGame(int stripe, Random random) {
+		Board board = new Board();
+		int keys[] = new int[MAX_TURNS];
+		int players[] = new int[MAX_TURNS];
+		int moves = 0;
+
+		while (board.end() == false) {
+			if (board.getTurn() >= MAX_TURNS) {
+				return;
+			}
+
+			int move = board.randomMove(random);
+			if (move == Board.NO_MOVE) {
+				return;
+			}
+
+			if (board.getTurn() >= Board.NUMBER_OF_DEPLOYMENT_MOVES
+					&& random.nextDouble() >= EXPLORATION) {
+				move = bestMove(board, stripe);
+			}
+
+			if (board.getTurn() >= Board.NUMBER_OF_DEPLOYMENT_MOVES) {
+				keys[moves] = PatternTable.key(board, move);
+				players[moves] = board.getWho();
+				moves++;
+			}
+
+			board.move(move);
+		}
+
+		int winner = board.getWinner();
+		for (int m = 0; m < moves; m++) {
+			int counter = stripe + 2 * keys[m];
+
+			counts.incrementAndGet(counter);
+			if (players[m] == winner) {
+				counts.incrementAndGet(counter + 1);
+			}
+		}
+	}
+
+	/**
+	 * Finds the move whose aperture won most often so far in the games of
+	 * this thread.
+	 * 
+	 * @param board
+	 *            The position, in the second phase.
+	 * 
+	 * @param stripe
+	 *            First counter of the stripe of this thread.
+	 * 
+	 * @return Returns the cell of the move.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private int bestMove(Board board, int stripe) {
+		int best = Board.NO_MOVE;
+		double bestShare = -1;
+
+		for (int i = 0, count = board.getValidMoveCount(); i < count; i++) {
+			int cell = board.getValidMove(i);
+			int counter = stripe + 2 * PatternTable.key(board, cell);
+			double share = (counts.get(counter + 1) + 1.0)
+					/ (counts.get(counter) + 2.0);
+
+			if (share > bestShare) {
+				best = cell;
+				bestShare = share;
+			}
+		}
+
+		return (best);
+	}
+
+	/**
+	 * Finds the apertures symmetric to an aperture - the flips of the
+	 * combinations and the flips of the flips, which are the rotations.
+	 * 
+	 * @param key
+	 *            Key of the aperture.
+	 * 
+	 * @param orbit
+	 *            Receives the keys, each once, the key itself first. Has room
+	 *            for 8 keys.
+	 * 
+	 * @return Returns the number of keys.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	static int orbit(int key, int orbit[]) {
+		int size = 1;
+		orbit[0] = key;
+
+		for (int i = 0; i < size; i++) {
+			for (int c = 0; c < PatternTable.COMBINATIONS; c++) {
+				int next = PatternTable.combination(orbit[i], c);
+
+				boolean known = false;
+				for (int j = 0; j < size; j++) {
+					if (orbit[j] == next) {
+						known = true;
+						break;
+					}
+				}
+
+				if (known == false) {
+					orbit[size++] = next;
+				}
+			}
+		}
+
+		return (size);
+	}
+
+	/**
+	 * Plays the games with one thread per processor and calculates the
+	 * coefficients.
+	 * 
+	 * @param games
+	 *            Number of games.
+	 * 
+	 * @return Returns the coefficient of each aperture key, or
+	 *         PatternTable.NO_COEFFICIENT for the apertures seen less than
+	 *         MIN_PLAYS times.
+	 * 
+	 * @throws Exception
+	 *             If a thread of the mining fails.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public int[] mine(int games) throws Exception {
+		int threads = Runtime.getRuntime().availableProcessors();
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		List<Future<Object>> running = new ArrayList<Future<Object>>();
+
+		counts = new AtomicLongArray(threads * 2 * KEYS);
+		remaining.set(games);
+		for (int t = 0; t < threads; t++) {
+			final Random random = new Random(SEED + t);
+			final int stripe = t * 2 * KEYS;
+			running.add(pool.submit(new Callable<Object>() {
+				public Object call() {
+					while (remaining.getAndDecrement() > 0) {
+						playGame(stripe, random);
+					}
+					return (null);
+				}
+			}));
+		}
+
+		for (Future<Object> result : running) {
+			result.get();
+		}
+		pool.shutdown();
+
+		long plays[] = new long[KEYS];
+		long wins[] = new long[KEYS];
+		for (int t = 0; t < threads; t++) {
+			for (int key = 0; key < KEYS; key++) {
+				plays[key] += counts.get(t * 2 * KEYS + 2 * key);
+				wins[key] += counts.get(t * 2 * KEYS + 2 * key + 1);
+			}
+		}
+		counts = null;
+
+		/*
+		 * The share of won games is smoothed by one won and one lost game, so
+		 * it is never 0 - the coefficient of an unknown aperture.
+		 */
+		int coefficients[] = new int[KEYS];
+		int orbit[] = new int[8];
+		for (int key = 0; key < KEYS; key++) {
+			long played = 0;
+			long won = 0;
+
+			for (int i = 0, size = orbit(key, orbit); i < size; i++) {
+				played += plays[orbit[i]];
+				won += wins[orbit[i]];
+			}
+
+			if (played >= MIN_PLAYS) {
+				coefficients[key] = (int) Math.max(1, Math.round(MAX_COEFFICIENT
+						* (won + 1.0) / (played + 2.0)));
+			}
+		}
+
+		return (coefficients);
+	}
+
+	/**
+	 * Mines the coefficients and writes them to a file.
+	 * 
+	 * @param args
+	 *            Number of games and name of the file.
+	 * 
+	 * @throws Exception
+	 *             If the coefficients can not be mined or written.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static void main(String args[]) throws Exception {
+		if (args.length != 2) {
+			System.out.println("Usage: PatternMiner games file");
+			return;
+		}
+
+		int games = Integer.parseInt(args[0]);
+
+		long start = System.nanoTime();
+		int coefficients[] = new PatternMiner().mine(games);
+		long time = System.nanoTime() - start;
+
+		int rows = 0;
+		PrintWriter out = new PrintWriter(new FileWriter(args[1]));
+		try {
+			for (int key = 0; key < coefficients.length; key++) {
+				if (coefficients[key] != PatternTable.NO_COEFFICIENT) {
+					out.println(key + "|" + coefficients[key]);
+					rows++;
+				}
+			}
+		} finally {
+			out.close();
+		}
+
+		System.out.println(rows + " coefficients of " + games
+				+ " games written to " + args[1] + " in " + time / 1000000
+				+ " ms");
+	}
+}
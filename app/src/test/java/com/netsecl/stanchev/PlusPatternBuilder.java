@@ -0,0 +1,271 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+package com.netsecl.stanchev;
+
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Offline builder of the plus patterns of the Normal AI. Plays many games of
+ * random moves against itself and counts for each plus pattern of a move in
+ * the second phase how often the player of the move won. The coefficient of a
+ * pattern is its share of won games in thousandths, the scale of the
+ * coefficients of the apertures, and only patterns seen often enough are
+ * stored.
+ * 
+ * Usage: PlusPatternBuilder games file
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class PlusPatternBuilder {
+
+	/**
+	 * Seed of the random moves, so builds can be repeated.
+	 */
+	public static final long SEED = 20121103L;
+
+	/**
+	 * Least number of moves with a pattern for the pattern to be stored.
+	 */
+	public static final int MIN_PLAYS = 64;
+
+	/**
+	 * Games longer than this are left out, as they are not decided.
+	 */
+	public static final int MAX_TURNS = 2000;
+
+	/**
+	 * Largest coefficient, as for the apertures.
+	 */
+	public static final int MAX_COEFFICIENT = 1000;
+
+	/**
+	 * Moves and won games of each canonical plus pattern key.
+	 */
+	private final Map<Integer, long[]> statistics = new HashMap<Integer, long[]>();
+
+	/**
+	 * Number of games which are not started yet.
+	 */
+	private final AtomicInteger remaining = new AtomicInteger();
+
+	/**
+	 * Plays one game and counts its moves in the statistics of the thread.
+	 * 
+	 * @param counts
+	 *            Moves and won games of each pattern of this thread.
+	 * 
+	 * @param random
+	 *            Source of the random moves of this thread.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	private static void playGame(Map<Integer, long[]> counts, Random random) {
+		Board board = new Board();
+		int keys[] = new int[MAX_TURNS];
+		int players[] = new int[MAX_TURNS];
+		int moves = 0;
+
+		while (board.end() == false) {
+			if (board.getTurn() >= MAX_TURNS) {
+				return;
+			}
+
+			int move = board.randomMove(random);
+			if (move == Board.NO_MOVE) {
+				return;
+			}
+
+			if (board.getTurn() >= Board.NUMBER_OF_DEPLOYMENT_MOVES) {
+				keys[moves] = PlusPatternTable.canonical(PlusPatternTable.key(
+						board, move));
+				players[moves] = board.getWho();
+				moves++;
+			}
+
+			board.move(move);
+		}
+
+		int winner = board.getWinner();
+		for (int m = 0; m < moves; m++) {
+			long count[] = counts.get(keys[m]);
+			if (count == null) {
+				count = new long[2];
+				counts.put(keys[m], count);
+			}
+
+			count[0]++;
+			if (players[m] == winner) {
+				count[1]++;
+			}
+		}
+	}
+
+	/**
+	 * Plays the games with one thread per processor and builds the table of
+	 * the patterns seen at least MIN_PLAYS times.
+	 * 
+	 * @param games
+	 *            Number of games.
+	 * 
+	 * @return Returns the table.
+	 * 
+	 * @throws Exception
+	 *             If a thread of the build fails.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public PlusPatternTable build(int games) throws Exception {
+		int threads = Runtime.getRuntime().availableProcessors();
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		List<Future<Object>> running = new ArrayList<Future<Object>>();
+
+		remaining.set(games);
+		for (int t = 0; t < threads; t++) {
+			final Random random = new Random(SEED + t);
+			running.add(pool.submit(new Callable<Object>() {
+				public Object call() {
+					Map<Integer, long[]> counts = new HashMap<Integer, long[]>();
+					while (remaining.getAndDecrement() > 0) {
+						playGame(counts, random);
+					}
+
+					/*
+					 * The counts of the thread are added once, at the end.
+					 */
+					synchronized (statistics) {
+						for (Map.Entry<Integer, long[]> entry : counts
+								.entrySet()) {
+							long count[] = statistics.get(entry.getKey());
+							if (count == null) {
+								statistics.put(entry.getKey(), entry.getValue());
+							} else {
+								count[0] += entry.getValue()[0];
+								count[1] += entry.getValue()[1];
+							}
+						}
+					}
+					return (null);
+				}
+			}));
+		}
+
+		for (Future<Object> result : running) {
+			result.get();
+		}
+		pool.shutdown();
+
+		int size = 0;
+		for (long count[] : statistics.values()) {
+			if (count[0] >= MIN_PLAYS) {
+				size++;
+			}
+		}
+
+		/*
+		 * The share of won games is smoothed by one won and one lost game, so
+		 * it is never 0 - the coefficient of an unknown pattern.
+		 */
+		int keys[] = new int[size];
+		short coefficients[] = new short[size];
+		int k = 0;
+		for (Map.Entry<Integer, long[]> entry : statistics.entrySet()) {
+			long count[] = entry.getValue();
+			if (count[0] < MIN_PLAYS) {
+				continue;
+			}
+
+			keys[k] = entry.getKey();
+			coefficients[k] = (short) Math.max(1, Math.round(MAX_COEFFICIENT
+					* (count[1] + 1.0) / (count[0] + 2.0)));
+			k++;
+		}
+
+		return (PlusPatternTable.build(keys, coefficients));
+	}
+
+	/**
+	 * Builds the table and writes it to a file, to be added to the AI data by
+	 * AIDataBuilder.
+	 * 
+	 * @param args
+	 *            Number of games and name of the file.
+	 * 
+	 * @throws Exception
+	 *             If the table can not be built or written.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	public static void main(String args[]) throws Exception {
+		if (args.length != 2) {
+			System.out.println("Usage: PlusPatternBuilder games file");
+			return;
+		}
+
+		int games = Integer.parseInt(args[0]);
+
+		PlusPatternTable table = new PlusPatternBuilder().build(games);
+
+		ByteBuffer buffer = ByteBuffer.allocate(table.bytes()).order(
+				ByteOrder.LITTLE_ENDIAN);
+		table.write(buffer);
+
+		OutputStream out = new FileOutputStream(args[1]);
+		try {
+			out.write(buffer.array());
+		} finally {
+			out.close();
+		}
+
+		System.out.println(table.size() + " patterns written to " + args[1]);
+	}
+}
@@ -0,0 +1,123 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+
+package com.netsecl.stanchev;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks the queue based refill of {@link Board} against the recursive refill
+ * which it replaced.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class RefillTest {
+
+	/**
+	 * Number of random games played.
+	 */
+	private static final int GAMES = 500;
+
+	/**
+	 * Plays the regular moves of random games with both refills. A move which
+	 * decides the game stops the cascade of the board early, so the position
+	 * after it is not compared.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Test
+	public void randomGames() {
+		int recorded[][] = Benchmark.recordGames(GAMES, new Random(
+				Benchmark.SEED));
+
+		for (int g = 0; g < recorded.length; g++) {
+			Board board = new Board();
+
+			for (int m = 0; m < recorded[g].length; m++) {
+				int x = recorded[g][m] / Board.BOARD_SIZE;
+				int y = recorded[g][m] % Board.BOARD_SIZE;
+				int who = board.getWho();
+				int expected[][] = board.getStones();
+
+				board.move(x, y, 0);
+				if (m < Board.NUMBER_OF_DEPLOYMENT_MOVES
+						|| board.end() == true) {
+					continue;
+				}
+
+				Benchmark.refillRecursive(expected, x, y, who);
+				assertArrayEquals("Move " + m + " of game " + g, expected,
+						board.getStones());
+			}
+		}
+	}
+
+	/**
+	 * Plays each cell of a board full of stones of size three, so every cell
+	 * overflows at least once.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Test
+	public void fullBoard() {
+		int full[][] = new int[Board.BOARD_SIZE][Board.BOARD_SIZE];
+		for (int i = 0; i < Board.BOARD_SIZE; i++) {
+			Arrays.fill(full[i], Board.POSITIVE_PIECE_SIZE_3);
+		}
+
+		for (int x = 0; x < Board.BOARD_SIZE; x++) {
+			for (int y = 0; y < Board.BOARD_SIZE; y++) {
+				int expected[][] = new int[Board.BOARD_SIZE][];
+				for (int i = 0; i < Board.BOARD_SIZE; i++) {
+					expected[i] = full[i].clone();
+				}
+				Benchmark.refillRecursive(expected, x, y,
+						Board.POSITIVE_PLAYER);
+
+				Board board = new Board(full, Board.POSITIVE_PLAYER,
+						Board.NUMBER_OF_DEPLOYMENT_MOVES);
+				board.move(x, y, 0);
+				assertArrayEquals("Chain from " + x + ", " + y, expected,
+						board.getStones());
+			}
+		}
+	}
+}
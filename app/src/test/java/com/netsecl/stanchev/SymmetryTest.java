@@ -0,0 +1,158 @@
+/*==============================================================================
+ =                                                                             =
+ = Overflow is very simple but very addictive board game. The game is for two  =
+ = players who try to conquer all stones of the opposite player. The game was  =
+ = developed as master thesis in New Bulgarian University, Sofia, Bulgaria.    =
+ =                                                                             =
+ = Copyright (C) 2012 by Yuriy Stanchev  ( i_stanchev@ml1.net )                =
+ =                                                                             =
+ = This program is free software: you can redistribute it and/or modify        =
+ = it under the terms of the GNU General Public License as published by        =
+ = the Free Software Foundation, either version 3 of the License, or           =
+ = (at your option) any later version.                                         =
+ =                                                                             =
+ = This program is distributed in the hope that it will be useful,             =
+ = but WITHOUT ANY WARRANTY; without even the implied warranty of              =
+ = MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the               =
+ = GNU General Public License for more details.                                =
+ =                                                                             =
+ = You should have received a copy of the GNU General Public License           =
+ = along with this program. If not, see <http://www.gnu.org/licenses/>.        =
+ =                                                                             =
+ =============================================================================*/
+
+
+package com.netsecl.stanchev;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks the symmetries of the board in {@link Symmetry}.
+ * 
+ * @author Yuriy Stanchev
+ * 
+ * @email i_stanchev@ml1.net
+ * 
+ * @date 17 Oct 2026
+ */
+public class SymmetryTest {
+
+	/**
+	 * Number of random positions checked.
+	 */
+	private static final int POSITIONS = 200;
+
+	/**
+	 * Copies a position with its cells moved by a transform.
+	 * 
+	 * @param board
+	 *            The position.
+	 * 
+	 * @param transform
+	 *            Transform from 0 to TRANSFORMS - 1.
+	 * 
+	 * @return Returns the transformed copy.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	static Board transform(Board board, int transform) {
+		int size = board.getSize();
+		int stones[][] = new int[size][size];
+
+		for (int cell = 0; cell < size * size; cell++) {
+			int moved = Symmetry.transformCell(size, transform, cell);
+			stones[moved / size][moved % size] = board.stoneAt(cell);
+		}
+
+		return (new Board(stones, board.getWho(), board.getTurn()));
+	}
+
+	/**
+	 * Each transform is a permutation of the cells and its inverse takes
+	 * every cell back, on all board sizes.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Test
+	public void inverses() {
+		for (int size = Board.MIN_BOARD_SIZE; size <= Board.MAX_BOARD_SIZE; size++) {
+			for (int t = 0; t < Symmetry.TRANSFORMS; t++) {
+				int inverse = Symmetry.inverse(t);
+				boolean used[] = new boolean[size * size];
+
+				assertEquals(t, Symmetry.inverse(inverse));
+
+				for (int cell = 0; cell < size * size; cell++) {
+					int moved = Symmetry.transformCell(size, t, cell);
+
+					assertTrue(used[moved] == false);
+					used[moved] = true;
+					assertEquals("Transform " + t + " on size " + size, cell,
+							Symmetry.transformCell(size, inverse, moved));
+				}
+			}
+		}
+	}
+
+	/**
+	 * All symmetric copies of a position have the same canonical key, and
+	 * the copy made by the canonical transform has exactly that key.
+	 * Symmetric moves played on symmetric copies keep them symmetric.
+	 * 
+	 * @author Yuriy Stanchev
+	 * 
+	 * @email i_stanchev@ml1.net
+	 * 
+	 * @date 17 Oct 2026
+	 */
+	@Test
+	public void canonicalKeys() {
+		Random random = new Random(Benchmark.SEED);
+
+		for (int p = 0; p < POSITIONS; p++) {
+			int size = (p % 2 == 0) ? Board.BOARD_SIZE : Board.MIN_BOARD_SIZE
+					+ 1;
+			Board board = new Board(size);
+			int moves = random.nextInt(4 * size * size);
+
+			for (int m = 0; m < moves && board.end() == false; m++) {
+				board.move(board.randomMove(random));
+			}
+
+			long key = Symmetry.canonicalKey(board);
+			assertEquals(key,
+					transform(board, Symmetry.canonicalTransform(board))
+							.getKey());
+
+			if (board.end() == true) {
+				continue;
+			}
+			int cell = board.randomMove(random);
+
+			for (int t = 0; t < Symmetry.TRANSFORMS; t++) {
+				Board copy = transform(board, t);
+				assertEquals("Position " + p + ", transform " + t, key,
+						Symmetry.canonicalKey(copy));
+
+				Board next = transform(board, Symmetry.IDENTITY);
+				next.move(cell);
+				copy.move(Symmetry.transformCell(size, t, cell));
+				assertEquals(Symmetry.canonicalKey(next),
+						Symmetry.canonicalKey(copy));
+			}
+		}
+	}
+}